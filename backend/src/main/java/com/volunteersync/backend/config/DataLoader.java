@@ -8,6 +8,7 @@ import org.springframework.boot.CommandLineRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import javax.sql.DataSource;
 import java.time.LocalDateTime;
 import java.time.LocalDate;
 import java.util.*;
@@ -27,6 +28,12 @@ public class DataLoader implements CommandLineRunner {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private DatabaseSnapshot databaseSnapshot;
+
+    @Autowired
+    private DataSource dataSource;
+
     private final Random random = new Random();
 
     // Organization names (150 total to ensure variety)
@@ -306,6 +313,9 @@ public class DataLoader implements CommandLineRunner {
             loadMockData();
             System.out.println("✅ Mock data loaded successfully!");
             System.out.println("📊 Created: 200 organizations and 500 events covering ALL 25 event types");
+            if (databaseSnapshot.isEnabled()) {
+                databaseSnapshot.write(dataSource);
+            }
         } else {
             System.out.println("📋 Data already exists, skipping mock data load");
         }
@@ -323,11 +333,14 @@ public class DataLoader implements CommandLineRunner {
     private List<User> createOrganizationUsers() {
         List<User> users = new ArrayList<>();
 
+        // Every mock account shares the password - hash it once, BCrypt is deliberately slow
+        String encodedPassword = passwordEncoder.encode("password123");
+
         // Create 200 organization users
         for (int i = 0; i < 200; i++) {
             User user = new User();
             user.setEmail("org" + i + "@volunteersync.example.com");
-            user.setPassword(passwordEncoder.encode("password123"));
+            user.setPassword(encodedPassword);
             user.setUserType(UserType.ORGANIZATION);
             user.setIsActive(true);
             user.setEmailVerified(random.nextBoolean());
@@ -0,0 +1,99 @@
+package com.volunteersync.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Seed snapshot for fast startup - a gzipped H2 SCRIPT of the database right after DataLoader seeded it.
+ * Restoring it into an empty database (RUNSCRIPT) replaces row-by-row seeding; it includes the Flyway
+ * history, so migrations added since it was written still run afterwards. H2 only.
+ */
+@Component
+public class DatabaseSnapshot {
+
+    @Value("${app.database.snapshot.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.database.snapshot.path:./data/seed-snapshot.sql.gz}")
+    private String path;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Load the snapshot into an empty database
+     *
+     * @return false when there is no snapshot yet or the database is not H2
+     */
+    public boolean restore(DataSource dataSource) {
+        Path snapshot = Path.of(path).toAbsolutePath();
+        if (!Files.exists(snapshot)) {
+            System.out.println("No seed snapshot at " + snapshot + " yet - it is written after seeding");
+            return false;
+        }
+        long started = System.currentTimeMillis();
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            if (!isH2(connection)) {
+                return false;
+            }
+            statement.execute("RUNSCRIPT FROM " + quote(snapshot) + " COMPRESSION GZIP");
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not restore seed snapshot " + snapshot, e);
+        }
+        System.out.println("Restored seed snapshot " + snapshot + " in " + (System.currentTimeMillis() - started) + "ms");
+        return true;
+    }
+
+    /**
+     * Write the current database as the snapshot, replacing any previous one
+     */
+    public void write(DataSource dataSource) {
+        Path snapshot = Path.of(path).toAbsolutePath();
+        long started = System.currentTimeMillis();
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            if (!isH2(connection)) {
+                return;
+            }
+            Files.createDirectories(snapshot.getParent());
+            Path temporary = Files.createTempFile(snapshot.getParent(), "seed-snapshot-", ".part");
+            try {
+                statement.execute("SCRIPT TO " + quote(temporary) + " COMPRESSION GZIP");
+                Files.move(temporary, snapshot, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not write seed snapshot " + snapshot, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write seed snapshot " + snapshot, e);
+        }
+        System.out.println("Wrote seed snapshot " + snapshot + " in " + (System.currentTimeMillis() - started) + "ms");
+    }
+
+    // ==========================================
+    // HELPER METHODS
+    // ==========================================
+
+    private boolean isH2(Connection connection) throws SQLException {
+        if ("H2".equals(connection.getMetaData().getDatabaseProductName())) {
+            return true;
+        }
+        System.out.println("Seed snapshots need H2, skipping");
+        return false;
+    }
+
+    private String quote(Path file) {
+        return "'" + file.toString().replace("'", "''") + "'";
+    }
+}
@@ -0,0 +1,47 @@
+package com.volunteersync.backend.config;
+
+import org.flywaydb.core.api.FlywayException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Flyway Configuration - schema comes from versioned migrations in db/migration.
+ * With app.database.reset-on-startup the schema is cleaned before migrating, which
+ * keeps the old create-drop behaviour (fresh, re-seeded database on every start).
+ * With app.database.snapshot.enabled an empty database is restored from the seed snapshot
+ * first, so DataLoader finds data and skips seeding.
+ */
+@Configuration
+public class FlywayConfig {
+
+    @Value("${app.database.reset-on-startup:false}")
+    private boolean resetOnStartup;
+
+    @Autowired
+    private DatabaseSnapshot databaseSnapshot;
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy() {
+        return flyway -> {
+            if (resetOnStartup) {
+                System.out.println("Resetting database schema before migration");
+                flyway.clean();
+            }
+            if (databaseSnapshot.isEnabled() && flyway.info().applied().length == 0
+                    && databaseSnapshot.restore(flyway.getConfiguration().getDataSource())) {
+                try {
+                    flyway.migrate();
+                    return;
+                } catch (FlywayException e) {
+                    // Written before a migration changed - start over; DataLoader seeds and rewrites it
+                    System.out.println("Seed snapshot does not match the migrations, seeding instead: " + e.getMessage());
+                    flyway.clean();
+                }
+            }
+            flyway.migrate();
+        };
+    }
+}
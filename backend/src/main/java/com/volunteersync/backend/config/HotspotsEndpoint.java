@@ -0,0 +1,32 @@
+package com.volunteersync.backend.config;
+
+import com.volunteersync.backend.service.ContinuousProfiler;
+import com.volunteersync.backend.service.ContinuousProfiler.ProfileSummary;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hotspots endpoint - hot methods, allocation sites and our JFR operation timings over the last
+ * app.profiling.summary-window, summarised live from the JFR event stream.
+ * GET /actuator/hotspots?top=20 (management credential)
+ */
+@Component
+@Endpoint(id = "hotspots")
+public class HotspotsEndpoint {
+
+    private static final int DEFAULT_TOP = 20;
+    private static final int MAX_TOP = 100;
+
+    @Autowired
+    private ContinuousProfiler continuousProfiler;
+
+    @ReadOperation
+    public ProfileSummary hotspots(@Nullable Integer top) {
+        int limit = top != null ? Math.max(1, Math.min(top, MAX_TOP)) : DEFAULT_TOP;
+        return continuousProfiler.summary(limit);
+    }
+}
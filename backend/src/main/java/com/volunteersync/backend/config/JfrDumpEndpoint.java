@@ -0,0 +1,48 @@
+package com.volunteersync.backend.config;
+
+import com.volunteersync.backend.service.ContinuousProfiler;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * JFR dump endpoint - the last N minutes of the continuous recording as a .jfr file (open it in JMC).
+ * GET /actuator/jfr?minutes=5 (management credential; minutes defaults to 5, capped by app.profiling.max-age)
+ */
+@Component
+@Endpoint(id = "jfr")
+public class JfrDumpEndpoint {
+
+    private static final int DEFAULT_MINUTES = 5;
+
+    @Autowired
+    private ContinuousProfiler continuousProfiler;
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> dump(@Nullable Integer minutes) throws IOException {
+        if (!continuousProfiler.isRunning()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+        }
+        int window = minutes != null ? minutes : DEFAULT_MINUTES;
+        if (window <= 0) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        Path file = continuousProfiler.dump(Duration.ofMinutes(window));
+        try {
+            return new WebEndpointResponse<>(new ByteArrayResource(Files.readAllBytes(file)));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.volunteersync.backend.config;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.util.ClassUtils;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Native image hints - what Spring AOT cannot infer on its own (mvn -Pnative native:compile).
+ * Controllers return ResponseEntity<?>, so the DTOs and the request/response classes nested in the
+ * services and controllers are registered for Jackson binding explicitly. JJWT creates its
+ * implementation classes reflectively and finds its Jackson serializer through ServiceLoader;
+ * Hikari loads the H2 driver by name (H2 ships the rest of its own native metadata).
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.Hints.class)
+public class NativeHintsConfig {
+
+    static class Hints implements RuntimeHintsRegistrar {
+
+        private static final String BASE_PACKAGE = "com.volunteersync.backend";
+
+        // Every type in these packages
+        private static final String[] MODEL_PACKAGES = {
+                BASE_PACKAGE + ".dto", BASE_PACKAGE + ".entity", BASE_PACKAGE + ".enums"
+        };
+
+        // Only the nested request/response types in these
+        private static final String[] NESTED_TYPE_PACKAGES = { BASE_PACKAGE + ".service", BASE_PACKAGE + ".controller" };
+
+        private static final String[] JJWT_CLASSES = {
+                "io.jsonwebtoken.impl.DefaultJwtBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtParser",
+                "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+                "io.jsonwebtoken.impl.DefaultClaims",
+                "io.jsonwebtoken.impl.DefaultHeader",
+                "io.jsonwebtoken.impl.DefaultJwsHeader",
+                "io.jsonwebtoken.impl.compression.DeflateCompressionCodec",
+                "io.jsonwebtoken.impl.compression.GzipCompressionCodec",
+                "io.jsonwebtoken.jackson.io.JacksonSerializer",
+                "io.jsonwebtoken.jackson.io.JacksonDeserializer"
+        };
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            registerBindingTypes(hints, classLoader);
+
+            for (String className : JJWT_CLASSES) {
+                hints.reflection().registerType(TypeReference.of(className),
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+            hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+
+            hints.reflection().registerType(TypeReference.of("org.h2.Driver"),
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            hints.resources().registerPattern("META-INF/services/java.sql.Driver");
+        }
+
+        /**
+         * Getters, setters and constructors for Jackson, plus Java serialization where the type is Serializable
+         */
+        private void registerBindingTypes(RuntimeHints hints, ClassLoader classLoader) {
+            BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+            for (String basePackage : MODEL_PACKAGES) {
+                for (Class<?> type : findTypes(basePackage, false, classLoader)) {
+                    registerBindingType(hints, bindingRegistrar, type);
+                }
+            }
+            for (String basePackage : NESTED_TYPE_PACKAGES) {
+                for (Class<?> type : findTypes(basePackage, true, classLoader)) {
+                    registerBindingType(hints, bindingRegistrar, type);
+                }
+            }
+        }
+
+        private void registerBindingType(RuntimeHints hints, BindingReflectionHintsRegistrar bindingRegistrar,
+                Class<?> type) {
+            bindingRegistrar.registerReflectionHints(hints.reflection(), type);
+            if (Serializable.class.isAssignableFrom(type)) {
+                hints.serialization().registerType(type.asSubclass(Serializable.class));
+            }
+        }
+
+        /**
+         * Classes, records and enums in a package, read from the class files at build time
+         */
+        private List<Class<?>> findTypes(String basePackage, boolean nestedOnly, ClassLoader classLoader) {
+            ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+                @Override
+                protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                    AnnotationMetadata metadata = beanDefinition.getMetadata();
+                    return metadata.isIndependent() && !metadata.isInterface()
+                            && (!nestedOnly || metadata.hasEnclosingClass());
+                }
+            };
+            scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+
+            List<Class<?>> types = new ArrayList<>();
+            for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+                types.add(ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader));
+            }
+            return types;
+        }
+    }
+}
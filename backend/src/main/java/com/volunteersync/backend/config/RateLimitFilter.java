@@ -0,0 +1,148 @@
+package com.volunteersync.backend.config;
+
+import com.volunteersync.backend.config.RateLimitProperties.Route;
+import com.volunteersync.backend.config.TokenBuckets.Decision;
+import com.volunteersync.backend.entity.User;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate Limit Filter - token bucket per route and client on the configured routes.
+ * Runs after JwtAuthenticationFilter so signed-in users are limited by user id;
+ * anonymous callers are limited by client IP.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private RateLimitProperties properties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private TokenBuckets buckets;
+
+    @PostConstruct
+    public void init() {
+        buckets = new TokenBuckets(properties.getStripes());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        Route route = matchRoute(request);
+        if (route == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Decision decision = buckets.tryConsume(
+                route.getName() + "|" + clientKey(request), route.getBurst(), route.getPerSecond());
+
+        response.setHeader("X-RateLimit-Limit", String.valueOf(route.getBurst()));
+        response.setHeader("X-RateLimit-Remaining", String.valueOf(decision.remaining()));
+        response.setHeader("X-RateLimit-Reset", String.valueOf(toSeconds(decision.resetNanos())));
+
+        if (!decision.allowed()) {
+            Counter.builder("ratelimit.rejected")
+                    .description("Requests rejected by the rate limiter")
+                    .tag("route", route.getName())
+                    .register(meterRegistry)
+                    .increment();
+
+            response.setStatus(429);
+            response.setHeader("Retry-After", String.valueOf(toSeconds(decision.retryAfterNanos())));
+            response.setContentType("application/json");
+            response.getWriter().write(
+                "{\"error\":\"Too many requests\",\"timestamp\":" + System.currentTimeMillis() + "}"
+            );
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
+        return !properties.isEnabled() || request.getMethod().equals("OPTIONS");
+    }
+
+    /**
+     * Drop buckets that have been full (unused) for the idle period
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        int evicted = buckets.evictIdle(TimeUnit.MILLISECONDS.toNanos(properties.getIdleEvictionMs()));
+        if (evicted > 0) {
+            System.out.println("Rate limiter evicted " + evicted + " idle buckets (" + buckets.size() + " active)");
+        }
+    }
+
+    // ==========================================
+    // HELPER METHODS
+    // ==========================================
+
+    private Route matchRoute(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        for (Route route : properties.getRoutes()) {
+            if (route.getPath() != null && pathMatcher.match(route.getPath(), path) && paramMatches(route, request)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private boolean paramMatches(Route route, HttpServletRequest request) {
+        if (route.getParam() == null || route.getParam().isBlank()) {
+            return true;
+        }
+        String[] nameAndValue = route.getParam().split("=", 2);
+        String actual = request.getParameter(nameAndValue[0].trim());
+        if (nameAndValue.length == 1) {
+            return actual != null;
+        }
+        return actual != null && actual.equalsIgnoreCase(nameAndValue[1].trim());
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User user && user.getId() != null) {
+            return "user:" + user.getId();
+        }
+
+        if (properties.isTrustForwardedFor()) {
+            String forwardedFor = request.getHeader("X-Forwarded-For");
+            if (forwardedFor != null && !forwardedFor.isBlank()) {
+                return "ip:" + forwardedFor.split(",")[0].trim();
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private long toSeconds(long nanos) {
+        return Math.max(0L, (nanos + 999_999_999L) / 1_000_000_000L);
+    }
+}
@@ -0,0 +1,62 @@
+package com.volunteersync.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rate Limit Properties - app.rate-limit.* (routes are checked in order, first match wins)
+ */
+@Component
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private int stripes = 16;
+    private long idleEvictionMs = 600000;
+    private boolean trustForwardedFor = false;
+    private List<Route> routes = new ArrayList<>();
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public int getStripes() { return stripes; }
+    public void setStripes(int stripes) { this.stripes = stripes; }
+
+    public long getIdleEvictionMs() { return idleEvictionMs; }
+    public void setIdleEvictionMs(long idleEvictionMs) { this.idleEvictionMs = idleEvictionMs; }
+
+    public boolean isTrustForwardedFor() { return trustForwardedFor; }
+    public void setTrustForwardedFor(boolean trustForwardedFor) { this.trustForwardedFor = trustForwardedFor; }
+
+    public List<Route> getRoutes() { return routes; }
+    public void setRoutes(List<Route> routes) { this.routes = routes; }
+
+    /**
+     * One limited route: Ant-style path, optional name=value query parameter, burst and sustained rate
+     */
+    public static class Route {
+        private String name;
+        private String path;
+        private String param;
+        private int burst = 10;
+        private double perSecond = 1.0;
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+
+        public String getPath() { return path; }
+        public void setPath(String path) { this.path = path; }
+
+        public String getParam() { return param; }
+        public void setParam(String param) { this.param = param; }
+
+        public int getBurst() { return burst; }
+        public void setBurst(int burst) { this.burst = burst; }
+
+        public double getPerSecond() { return perSecond; }
+        public void setPerSecond(double perSecond) { this.perSecond = perSecond; }
+    }
+}
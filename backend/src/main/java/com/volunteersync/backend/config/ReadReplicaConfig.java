@@ -0,0 +1,71 @@
+package com.volunteersync.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read Replica Configuration - primary pool from spring.datasource.*, one read-only pool per
+ * URL in app.datasource.replicas.urls, routed by ReplicaRoutingDataSource.
+ * Only active with app.datasource.replicas.enabled=true; otherwise Boot's single pool is used.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replicas.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Value("${app.datasource.replicas.urls:}")
+    private List<String> replicaUrls;
+
+    @Value("${app.datasource.replicas.pool-size:5}")
+    private int replicaPoolSize;
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties properties) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primary.setPoolName("primary");
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String url : replicaUrls) {
+            if (url == null || url.isBlank()) {
+                continue;
+            }
+            String name = "replica-" + (replicas.size() + 1);
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName(name);
+            replica.setJdbcUrl(url.trim());
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setUsername(properties.determineUsername());
+            replica.setPassword(properties.determinePassword());
+            replica.setMaximumPoolSize(replicaPoolSize);
+            replica.setReadOnly(true);
+            // Do not block startup on a replica that is not up yet; the health monitor brings it in
+            replica.setInitializationFailTimeout(-1);
+            replicas.put(name, replica);
+        }
+
+        System.out.println("Read replicas enabled: " + replicas.keySet());
+        return new ReplicaRoutingDataSource(primary, replicas);
+    }
+
+    /**
+     * The DataSource JPA, Flyway and JDBC use; lazy so routing sees the transaction's read-only flag
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
@@ -0,0 +1,107 @@
+package com.volunteersync.backend.config;
+
+import com.volunteersync.backend.config.ReplicaRoutingDataSource.Replica;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Replica Health Monitor - writes the heartbeat row on the primary and reads it back from
+ * every replica. A replica is routable while it answers and its lag stays under max-lag-ms;
+ * after failure-threshold failed probes in a row it is taken out until a probe succeeds again.
+ */
+@Component
+@ConditionalOnProperty(name = "app.datasource.replicas.enabled", havingValue = "true")
+public class ReplicaHealthMonitor implements HealthIndicator {
+
+    @Autowired
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @Value("${app.datasource.replicas.max-lag-ms:5000}")
+    private long maxLagMillis;
+
+    @Value("${app.datasource.replicas.failure-threshold:3}")
+    private int failureThreshold;
+
+    @Value("${app.datasource.replicas.probe-timeout-seconds:2}")
+    private int probeTimeoutSeconds;
+
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.health-check-interval-ms:1000}")
+    public void checkReplicas() {
+        writeHeartbeat();
+        for (Replica replica : routingDataSource.getReplicas()) {
+            if (!replica.isSyncing()) {
+                probe(replica);
+            }
+        }
+        routingDataSource.pruneCaughtUpWrites();
+    }
+
+    private void writeHeartbeat() {
+        try {
+            new JdbcTemplate(routingDataSource.getPrimary())
+                    .update("UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1",
+                            new Timestamp(System.currentTimeMillis()));
+        } catch (Exception e) {
+            System.out.println("Could not write replication heartbeat: " + e.getMessage());
+        }
+    }
+
+    private void probe(Replica replica) {
+        try {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(replica.getDataSource());
+            jdbcTemplate.setQueryTimeout(probeTimeoutSeconds);
+            Timestamp beatAt = jdbcTemplate.queryForObject(
+                    "SELECT beat_at FROM replication_heartbeat WHERE id = 1", Timestamp.class);
+
+            long replicatedUpTo = beatAt != null ? beatAt.getTime() : 0L;
+            long lag = Math.max(0L, System.currentTimeMillis() - replicatedUpTo);
+            replica.setReplicatedUpTo(replicatedUpTo);
+            replica.setLagMillis(lag);
+            replica.getConsecutiveFailures().set(0);
+            setHealthy(replica, lag <= maxLagMillis, "lag " + lag + "ms");
+        } catch (Exception e) {
+            int failures = replica.getConsecutiveFailures().incrementAndGet();
+            if (failures >= failureThreshold) {
+                setHealthy(replica, false, failures + " failed probes: " + e.getMessage());
+            }
+        }
+    }
+
+    private void setHealthy(Replica replica, boolean healthy, String reason) {
+        if (replica.isHealthy() != healthy) {
+            System.out.println("Replica " + replica.getName() + (healthy ? " back in rotation (" : " out of rotation (")
+                    + reason + ")");
+        }
+        replica.setHealthy(healthy);
+    }
+
+    @Override
+    public Health health() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        boolean anyAvailable = false;
+        for (Replica replica : routingDataSource.getReplicas()) {
+            Map<String, Object> state = new LinkedHashMap<>();
+            state.put("healthy", replica.isHealthy());
+            state.put("syncing", replica.isSyncing());
+            state.put("lagMillis", replica.getLagMillis());
+            details.put(replica.getName(), state);
+            anyAvailable |= replica.isAvailable();
+        }
+        details.put("pendingReadYourWrites", routingDataSource.getPendingWriteCount());
+
+        // Reads fall back to the primary, so no available replica is degraded rather than down
+        Health.Builder builder = anyAvailable ? Health.up() : Health.status("DEGRADED");
+        return builder.withDetails(details).build();
+    }
+}
@@ -0,0 +1,311 @@
+package com.volunteersync.backend.config;
+
+import com.volunteersync.backend.entity.User;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Routes read-only transactions to a healthy replica and everything else to the primary.
+ *
+ * Must sit behind a LazyConnectionDataSourceProxy so the connection is fetched on the first
+ * statement, after the transaction's read-only flag has been bound to the thread.
+ *
+ * Read-your-writes: when a user's read-write transaction commits after changing at least
+ * one row, the commit time is remembered. That user's reads only go to replicas whose
+ * heartbeat shows they have replicated past it; until then they stay on the primary.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    // user key -> epoch millis of that user's last committed write
+    private final Map<String, Long> lastWriteByUser = new ConcurrentHashMap<>();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicaDataSources) {
+        this.primary = primary;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        List<Replica> replicaList = new ArrayList<>();
+        replicaDataSources.forEach((name, dataSource) -> {
+            targets.put(name, dataSource);
+            replicaList.add(new Replica(name, dataSource));
+        });
+        this.replicas = Collections.unmodifiableList(replicaList);
+
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    // ==========================================
+    // ROUTING
+    // ==========================================
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+
+        String userKey = currentUserKey();
+        Long lastWrite = userKey != null ? lastWriteByUser.get(userKey) : null;
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(1, size));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.isAvailable() && (lastWrite == null || replica.getReplicatedUpTo() > lastWrite)) {
+                return replica.getName();
+            }
+        }
+        return PRIMARY;
+    }
+
+    /**
+     * Failover: a replica that refuses a connection is marked down and the primary serves the read
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object key = determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                    ? primary.getConnection()
+                    : trackWrites(primary.getConnection());
+        }
+
+        Replica replica = findReplica(key);
+        try {
+            Connection connection = replica.getDataSource().getConnection();
+            if (!replica.isAvailable()) {
+                // Taken out of rotation between the routing decision and checkout
+                connection.close();
+                return primary.getConnection();
+            }
+            return connection;
+        } catch (SQLException e) {
+            System.out.println("Replica " + replica.getName() + " unavailable, reading from primary: " + e.getMessage());
+            replica.markDown();
+            return primary.getConnection();
+        }
+    }
+
+    private Replica findReplica(Object key) {
+        for (Replica replica : replicas) {
+            if (replica.getName().equals(key)) {
+                return replica;
+            }
+        }
+        throw new IllegalStateException("Unknown replica: " + key);
+    }
+
+    // ==========================================
+    // READ-YOUR-WRITES
+    // ==========================================
+
+    /**
+     * Remember the commit time for the current user if the transaction changed any rows
+     * through this connection; read-write transactions that only read leave no mark.
+     */
+    private Connection trackWrites(Connection connection) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return connection;
+        }
+        String userKey = currentUserKey();
+        if (userKey == null) {
+            return connection;
+        }
+        AtomicBoolean wrote = new AtomicBoolean();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                if (wrote.get()) {
+                    lastWriteByUser.put(userKey, System.currentTimeMillis());
+                }
+            }
+        });
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, new WriteTrackingHandler(connection, wrote));
+    }
+
+    /**
+     * Hands out statements that flag the transaction once an update, batch or DML execute
+     * reports affected rows
+     */
+    private static class WriteTrackingHandler implements InvocationHandler {
+        private final Connection connection;
+        private final AtomicBoolean wrote;
+
+        WriteTrackingHandler(Connection connection, AtomicBoolean wrote) {
+            this.connection = connection;
+            this.wrote = wrote;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = invokeTarget(connection, method, args);
+            if (result instanceof Statement statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                return Proxy.newProxyInstance(Statement.class.getClassLoader(),
+                        new Class<?>[] {method.getReturnType()},
+                        (statementProxy, statementMethod, statementArgs) -> {
+                            if (statementMethod.getName().equals("getConnection")) {
+                                return proxy;
+                            }
+                            Object outcome = invokeTarget(statement, statementMethod, statementArgs);
+                            if (changedRows(statement, statementMethod.getName(), outcome)) {
+                                wrote.set(true);
+                            }
+                            return outcome;
+                        });
+            }
+            return result;
+        }
+
+        private static boolean changedRows(Statement statement, String method, Object outcome) throws SQLException {
+            switch (method) {
+                case "executeUpdate", "executeLargeUpdate":
+                    return ((Number) outcome).longValue() != 0;
+                case "executeBatch":
+                    return Arrays.stream((int[]) outcome).anyMatch(count -> count != 0);
+                case "executeLargeBatch":
+                    return Arrays.stream((long[]) outcome).anyMatch(count -> count != 0);
+                case "execute":
+                    return !((Boolean) outcome) && statement.getUpdateCount() > 0;
+                default:
+                    return false;
+            }
+        }
+
+        private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    /**
+     * Drop read-your-writes entries every available replica has already caught up with
+     */
+    public void pruneCaughtUpWrites() {
+        long caughtUpTo = Long.MAX_VALUE;
+        for (Replica replica : replicas) {
+            if (replica.isAvailable()) {
+                caughtUpTo = Math.min(caughtUpTo, replica.getReplicatedUpTo());
+            }
+        }
+        if (caughtUpTo == Long.MAX_VALUE) {
+            return;
+        }
+        long threshold = caughtUpTo;
+        lastWriteByUser.values().removeIf(lastWrite -> lastWrite < threshold);
+    }
+
+    public int getPendingWriteCount() {
+        return lastWriteByUser.size();
+    }
+
+    private String currentUserKey() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        if (authentication.getPrincipal() instanceof User user) {
+            return "user:" + user.getId();
+        }
+        return authentication.getName();
+    }
+
+    /**
+     * Close the underlying pools (called by Spring on shutdown)
+     */
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.getDataSource() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    public DataSource getPrimary() {
+        return primary;
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    // ==========================================
+    // REPLICA STATE
+    // ==========================================
+
+    /**
+     * One replica pool plus the state the health monitor keeps for it
+     */
+    public static class Replica {
+        private final String name;
+        private final DataSource dataSource;
+
+        private volatile boolean healthy = false;
+        private volatile boolean syncing = false;
+        private volatile long replicatedUpTo = 0L;
+        private volatile long lagMillis = -1L;
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+        public Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public boolean isAvailable() {
+            return healthy && !syncing;
+        }
+
+        public void markDown() {
+            healthy = false;
+        }
+
+        public String getName() { return name; }
+        public DataSource getDataSource() { return dataSource; }
+        public boolean isHealthy() { return healthy; }
+        public void setHealthy(boolean healthy) { this.healthy = healthy; }
+        public boolean isSyncing() { return syncing; }
+        public void setSyncing(boolean syncing) { this.syncing = syncing; }
+        public long getReplicatedUpTo() { return replicatedUpTo; }
+        public void setReplicatedUpTo(long replicatedUpTo) { this.replicatedUpTo = replicatedUpTo; }
+        public long getLagMillis() { return lagMillis; }
+        public void setLagMillis(long lagMillis) { this.lagMillis = lagMillis; }
+        public AtomicInteger getConsecutiveFailures() { return consecutiveFailures; }
+    }
+}
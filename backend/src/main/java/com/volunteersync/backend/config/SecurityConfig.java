@@ -3,13 +3,19 @@ package com.volunteersync.backend.config;
 import jakarta.servlet.http.HttpServletResponse;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -26,6 +32,47 @@ public class SecurityConfig {
     @Autowired
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    @Autowired
+    private RateLimitFilter rateLimitFilter;
+
+    // Management credential for the profiling endpoints; a blank password keeps them closed
+    @Value("${app.profiling.username:profiler}")
+    private String profilingUsername;
+
+    @Value("${app.profiling.password:}")
+    private String profilingPassword;
+
+    /**
+     * Profiling endpoints - recordings include system properties and environment, so they take
+     * HTTP Basic with the management credential rather than a volunteer or organization JWT
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain profilingFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatcher("/actuator/jfr", "/actuator/hotspots")
+                .csrf(csrf -> csrf.disable())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .userDetailsService(profilingUsers())
+                .httpBasic(basic -> basic.authenticationEntryPoint((request, response, authException) -> {
+                    response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+                    response.setHeader("WWW-Authenticate", "Basic realm=\"profiling\"");
+                    response.setContentType("application/json");
+                    response.getWriter().write(
+                        "{\"error\":\"Profiling credentials required\",\"timestamp\":" + System.currentTimeMillis() + "}"
+                    );
+                }))
+                .authorizeHttpRequests(authz -> {
+                    if (profilingPassword.isBlank()) {
+                        authz.anyRequest().denyAll();
+                    } else {
+                        authz.anyRequest().hasRole("PROFILER");
+                    }
+                });
+
+        return http.build();
+    }
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -35,6 +82,9 @@ public class SecurityConfig {
                 
                 // 🔧 FIXED: Add JWT authentication filter
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+
+                // Rate limiting needs the authenticated user, so it runs right after the JWT filter
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class)
                 
                 .authorizeHttpRequests(authz -> authz
                         // Public endpoints - authentication/registration
@@ -44,6 +94,8 @@ public class SecurityConfig {
                         .requestMatchers("/api/events/public/**").permitAll()
                         .requestMatchers("/api/organizations/public/**").permitAll()
                         .requestMatchers("/api/search/**").permitAll()
+                        .requestMatchers("/api/suggest", "/api/suggest/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/images/**").permitAll()
                         
                         // Development endpoints
                         .requestMatchers("/h2-console/**").permitAll()
@@ -117,6 +169,9 @@ public class SecurityConfig {
         // Allow all headers
         configuration.setAllowedHeaders(List.of("*"));
 
+        // Let clients see when a response was replayed for an Idempotency-Key retry
+        configuration.setExposedHeaders(List.of("Idempotent-Replayed"));
+
         // Allow credentials (cookies, authorization headers)
         configuration.setAllowCredentials(true);
 
@@ -127,6 +182,16 @@ public class SecurityConfig {
         return source;
     }
 
+    private UserDetailsService profilingUsers() {
+        if (profilingPassword.isBlank()) {
+            return new InMemoryUserDetailsManager();
+        }
+        return new InMemoryUserDetailsManager(User.withUsername(profilingUsername)
+                .password(passwordEncoder().encode(profilingPassword))
+                .roles("PROFILER")
+                .build());
+    }
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
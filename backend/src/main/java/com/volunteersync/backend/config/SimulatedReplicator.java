@@ -0,0 +1,93 @@
+package com.volunteersync.backend.config;
+
+import com.volunteersync.backend.config.ReplicaRoutingDataSource.Replica;
+import com.zaxxer.hikari.HikariDataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Simulated Replicator - local stand-in for database replication between H2 instances.
+ * Takes an H2 SCRIPT snapshot of the primary every sync interval and loads it into every
+ * replica once it is replication-delay-ms old, so replicas are really behind the primary.
+ * Development only: replicas are rebuilt from scratch and skipped by routing while loading.
+ */
+@Component
+@ConditionalOnProperty(name = "app.datasource.replicas.simulate-replication", havingValue = "true")
+public class SimulatedReplicator {
+
+    @Autowired
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @Value("${app.datasource.replicas.simulated-delay-ms:2000}")
+    private long delayMillis;
+
+    private static final long DRAIN_TIMEOUT_MS = 5000;
+
+    private final Deque<Snapshot> pending = new ArrayDeque<>();
+
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.simulated-sync-interval-ms:500}")
+    public void replicate() {
+        try {
+            List<String> statements = new JdbcTemplate(routingDataSource.getPrimary())
+                    .queryForList("SCRIPT NOPASSWORDS NOSETTINGS", String.class);
+            pending.addLast(new Snapshot(System.currentTimeMillis(), statements));
+        } catch (Exception e) {
+            System.out.println("Simulated replication could not snapshot primary: " + e.getMessage());
+        }
+
+        // Apply only the newest snapshot that has aged past the delay
+        long cutoff = System.currentTimeMillis() - delayMillis;
+        Snapshot ready = null;
+        while (!pending.isEmpty() && pending.peekFirst().capturedAt() <= cutoff) {
+            ready = pending.pollFirst();
+        }
+        if (ready != null) {
+            for (Replica replica : routingDataSource.getReplicas()) {
+                apply(replica, ready);
+            }
+        }
+    }
+
+    private void apply(Replica replica, Snapshot snapshot) {
+        replica.setSyncing(true);
+        try {
+            awaitIdle(replica);
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(replica.getDataSource());
+            jdbcTemplate.execute("DROP ALL OBJECTS");
+            for (String statement : snapshot.statements()) {
+                jdbcTemplate.execute(statement);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            System.out.println("Simulated replication to " + replica.getName() + " failed: " + e.getMessage());
+        } finally {
+            replica.setSyncing(false);
+        }
+    }
+
+    /**
+     * Let reads that checked out a replica connection before it left rotation finish first
+     */
+    private void awaitIdle(Replica replica) throws InterruptedException {
+        if (!(replica.getDataSource() instanceof HikariDataSource pool) || pool.getHikariPoolMXBean() == null) {
+            return;
+        }
+        long deadline = System.currentTimeMillis() + DRAIN_TIMEOUT_MS;
+        while (pool.getHikariPoolMXBean().getActiveConnections() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private record Snapshot(long capturedAt, List<String> statements) {
+    }
+}
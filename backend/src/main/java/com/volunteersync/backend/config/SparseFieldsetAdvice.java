@@ -0,0 +1,33 @@
+package com.volunteersync.backend.config;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.util.Set;
+
+/**
+ * Applies ?fields= to the JSON body of our controllers. Only @JsonFilter(SparseFieldsets.FILTER_ID)
+ * types are trimmed, so wrappers (lists, pages, batch responses) and error bodies stay intact.
+ */
+@RestControllerAdvice(basePackages = "com.volunteersync.backend.controller")
+public class SparseFieldsetAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+            MethodParameter returnType, ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+        String[] values = servletRequest.getServletRequest().getParameterValues(SparseFieldsets.PARAMETER);
+        Set<String> fields = SparseFieldsets.parse(values != null ? String.join(",", values) : null);
+        if (!fields.isEmpty()) {
+            bodyContainer.setFilters(SparseFieldsets.only(fields));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.volunteersync.backend.config;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Sparse fieldsets - ?fields=id,title,startDate on any endpoint returning EventDTO or
+ * OrganizationProfileDTO serializes only those properties (id is always kept). The DTOs carry
+ * @JsonFilter(FILTER_ID); SparseFieldsetAdvice swaps in a filter per request, and the default
+ * filter registered here writes every property when no fields are asked for.
+ */
+@Configuration
+public class SparseFieldsets {
+
+    public static final String FILTER_ID = "sparseFieldset";
+    public static final String PARAMETER = "fields";
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer sparseFieldsetFilterCustomizer() {
+        return builder -> builder.filters(everyField());
+    }
+
+    static SimpleFilterProvider everyField() {
+        return new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll());
+    }
+
+    static SimpleFilterProvider only(Set<String> fields) {
+        return new SimpleFilterProvider().addFilter(FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(fields));
+    }
+
+    /**
+     * The requested property names plus id, in request order; empty when no fields were given
+     */
+    public static Set<String> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return Collections.emptySet();
+        }
+        Set<String> names = new LinkedHashSet<>();
+        names.add("id");
+        for (String name : fields.split(",")) {
+            if (!name.isBlank()) {
+                names.add(name.trim());
+            }
+        }
+        return names;
+    }
+}
@@ -0,0 +1,67 @@
+package com.volunteersync.backend.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Startup modes.
+ * With spring.main.lazy-initialization (the fast-startup profile) beans are created on first use,
+ * except beans with background work - @Scheduled jobs and event listeners have to exist from the start.
+ * app.startup.training-run exits as soon as the application is ready; it is the AppCDS training
+ * run of the cds Maven profile.
+ */
+@Configuration
+public class StartupConfig {
+
+    @Value("${app.startup.training-run:false}")
+    private boolean trainingRun;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Bean
+    static LazyInitializationExcludeFilter backgroundWorkExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> hasBackgroundWork(beanType);
+    }
+
+    /**
+     * Readiness flips to ACCEPTING_TRAFFIC after every ApplicationReadyEvent listener has run
+     */
+    @EventListener
+    public void onReadinessChanged(AvailabilityChangeEvent<ReadinessState> event) {
+        if (event.getState() != ReadinessState.ACCEPTING_TRAFFIC) {
+            return;
+        }
+        System.out.println("Ready to accept traffic " + ManagementFactory.getRuntimeMXBean().getUptime()
+                + "ms after JVM start");
+        if (trainingRun) {
+            System.out.println("Training run complete, exiting");
+            System.exit(SpringApplication.exit(applicationContext));
+        }
+    }
+
+    private static boolean hasBackgroundWork(Class<?> beanType) {
+        if (beanType == null) {
+            return false;
+        }
+        AtomicBoolean found = new AtomicBoolean();
+        ReflectionUtils.doWithMethods(beanType, method -> found.set(true),
+                method -> AnnotatedElementUtils.hasAnnotation(method, Scheduled.class)
+                        || AnnotatedElementUtils.hasAnnotation(method, EventListener.class));
+        return found.get();
+    }
+}
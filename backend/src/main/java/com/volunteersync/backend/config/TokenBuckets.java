@@ -0,0 +1,108 @@
+package com.volunteersync.backend.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets keyed by client, spread over a fixed number of map stripes so the idle
+ * sweep walks one stripe at a time instead of one big map.
+ *
+ * Each bucket is a single AtomicLong holding its "theoretical arrival time" (the GCRA form
+ * of a token bucket): the instant the bucket would be full again. Taking a token is one CAS,
+ * and a bucket whose full-again time has passed is identical to a new one, so evicting it
+ * loses nothing.
+ */
+public class TokenBuckets {
+
+    private final Map<String, Bucket>[] stripes;
+    private final int mask;
+
+    @SuppressWarnings("unchecked")
+    public TokenBuckets(int stripeCount) {
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1) << 1);
+        this.stripes = new Map[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * Take one token from the key's bucket (burst = capacity, perSecond = refill rate)
+     */
+    public Decision tryConsume(String key, int burst, double perSecond) {
+        long now = System.nanoTime();
+        Bucket bucket = stripeFor(key).computeIfAbsent(key, k -> new Bucket(now));
+        return bucket.tryConsume(now, Math.max(1, burst), perSecond);
+    }
+
+    /**
+     * Remove buckets that have been full for at least idleNanos
+     */
+    public int evictIdle(long idleNanos) {
+        long now = System.nanoTime();
+        int evicted = 0;
+        for (Map<String, Bucket> stripe : stripes) {
+            int before = stripe.size();
+            stripe.values().removeIf(bucket -> bucket.fullSince(now) >= idleNanos);
+            evicted += before - stripe.size();
+        }
+        return evicted;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Map<String, Bucket> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private Map<String, Bucket> stripeFor(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & mask];
+    }
+
+    // ==========================================
+    // BUCKET
+    // ==========================================
+
+    static final class Bucket {
+        private final AtomicLong fullAt;
+
+        Bucket(long now) {
+            this.fullAt = new AtomicLong(now);
+        }
+
+        Decision tryConsume(long now, int burst, double perSecond) {
+            long interval = Math.max(1L, (long) (1_000_000_000L / perSecond));
+            long capacity = interval * burst;
+
+            while (true) {
+                long current = fullAt.get();
+                long base = current - now > 0 ? current : now;
+                long next = base + interval;
+                long backlog = next - now;
+
+                if (backlog > capacity) {
+                    return new Decision(false, 0, backlog - capacity, base - now);
+                }
+                if (fullAt.compareAndSet(current, next)) {
+                    int remaining = (int) ((capacity - backlog) / interval);
+                    return new Decision(true, remaining, 0L, backlog);
+                }
+            }
+        }
+
+        long fullSince(long now) {
+            return now - fullAt.get();
+        }
+    }
+
+    /**
+     * Outcome of one tryConsume; retryAfter and reset are nanoseconds from now
+     */
+    public record Decision(boolean allowed, int remaining, long retryAfterNanos, long resetNanos) {
+    }
+}
@@ -2,6 +2,7 @@
 package com.volunteersync.backend.controller;
 
 import com.volunteersync.backend.service.ApplicationService;
+import com.volunteersync.backend.service.IdempotencyService;
 import com.volunteersync.backend.dto.ApplicationDTO;
 import com.volunteersync.backend.entity.Application;
 import com.volunteersync.backend.enums.ApplicationStatus;
@@ -30,6 +31,9 @@ public class ApplicationController {
     @Autowired
     private ApplicationService applicationService;
 
+    @Autowired
+    private IdempotencyService idempotencyService;
+
     // ==========================================
     // VOLUNTEER APPLICATION OPERATIONS
     // ==========================================
@@ -37,14 +41,18 @@ public class ApplicationController {
     /**
      * Submit application for an event
      * POST /api/applications
+     * With an Idempotency-Key header, retries replay the first successful response.
      */
     @PostMapping
     public ResponseEntity<?> submitApplication(@Valid @RequestBody SubmitApplicationRequest request,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             Authentication authentication) {
         try {
             Long volunteerId = getCurrentUserId(authentication);
-            ApplicationDTO application = applicationService.submitApplication(request, volunteerId);
-            return ResponseEntity.status(HttpStatus.CREATED).body(application);
+            return idempotencyService.execute("applications.submit", volunteerId, idempotencyKey, request, () -> {
+                ApplicationDTO application = applicationService.submitApplication(request, volunteerId);
+                return ResponseEntity.status(HttpStatus.CREATED).body(application);
+            });
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
         }
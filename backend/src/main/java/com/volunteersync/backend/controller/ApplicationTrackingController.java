@@ -33,6 +33,7 @@ public class ApplicationTrackingController {
     /**
      * Get all applications for a volunteer with filtering and pagination
      * GET /api/applications/tracking/volunteer/{volunteerId}
+     * Pass the previous response's nextCursor as ?cursor= for keyset paging
      */
     @GetMapping("/volunteer/{volunteerId}")
     public ResponseEntity<VolunteerApplicationsResponse> getVolunteerApplications(
@@ -42,7 +43,8 @@ public class ApplicationTrackingController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
             @RequestParam(required = false) String eventTitleSearch,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor) {
         
         try {
             // Create filter object
@@ -57,7 +59,7 @@ public class ApplicationTrackingController {
             
             // Get applications
             VolunteerApplicationsResponse response = applicationTrackingService
-                    .getVolunteerApplications(volunteerId, filter, pageable);
+                    .getVolunteerApplications(volunteerId, filter, pageable, cursor);
             
             return ResponseEntity.ok(response);
             
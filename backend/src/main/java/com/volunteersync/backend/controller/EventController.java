@@ -2,10 +2,13 @@
 package com.volunteersync.backend.controller;
 
 import com.volunteersync.backend.service.EventService;
+import com.volunteersync.backend.service.IdempotencyService;
+import com.volunteersync.backend.service.JfrEvents;
 import com.volunteersync.backend.dto.EventDTO;
 import com.volunteersync.backend.service.EventService.CreateEventRequest;
 import com.volunteersync.backend.service.EventService.UpdateEventRequest;
 import com.volunteersync.backend.service.EventService.EventSearchRequest;
+import com.volunteersync.backend.service.EventService.FacetedSearchResponse;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
@@ -34,6 +37,9 @@ public class EventController {
     @Autowired
     private EventService eventService;
 
+    @Autowired
+    private IdempotencyService idempotencyService;
+
     // ==========================================
     // EVENT CRUD OPERATIONS
     // ==========================================
@@ -149,6 +155,19 @@ public class EventController {
         }
     }
 
+    /**
+     * Get several events by ID in one request, in request order with not-found entries
+     * GET /api/events/batch?ids=12,3,40
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<?> getEventsByIds(@RequestParam List<Long> ids) {
+        try {
+            return ResponseEntity.ok(eventService.getEventsByIds(ids));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+
     /**
      * Get event by ID
      * GET /api/events/{id}
@@ -225,8 +244,15 @@ public class EventController {
 
             System.out.println("Sanitized search request: " + request.toString());
 
-            List<EventDTO> events = eventService.searchEvents(request);
-            return ResponseEntity.ok(events);
+            JfrEvents.SearchRequest searchEvent = JfrEvents.SearchRequest.start("search", request.getSearchTerm());
+            int results = 0;
+            try {
+                List<EventDTO> events = eventService.searchEvents(request);
+                results = events.size();
+                return ResponseEntity.ok(events);
+            } finally {
+                searchEvent.finish(results);
+            }
 
         } catch (IllegalArgumentException e) {
             System.err.println("Invalid search request: " + e.getMessage());
@@ -309,20 +335,19 @@ public class EventController {
     }
 
     /**
-     * Get upcoming events for dashboard
-     * GET /api/events/upcoming
+     * Get upcoming events for dashboard, optionally by date window and availability
+     * GET /api/events/upcoming?window=this-weekend&availability=almost-full&limit=10
      */
     @GetMapping("/upcoming")
-    public ResponseEntity<?> getUpcomingEvents(@RequestParam(defaultValue = "10") int limit) {
+    public ResponseEntity<?> getUpcomingEvents(
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) String window,
+            @RequestParam(required = false) String availability) {
         try {
-            System.out.println("Fetching upcoming events with limit: " + limit);
+            System.out.println("Fetching upcoming events with limit: " + limit
+                    + " (window: " + window + ", availability: " + availability + ")");
 
-            List<EventDTO> events = eventService.getAllEvents();
-
-            // Limit the results
-            if (events.size() > limit) {
-                events = events.subList(0, limit);
-            }
+            List<EventDTO> events = eventService.getUpcomingEvents(window, availability, limit);
 
             return ResponseEntity.ok(events);
 
@@ -332,6 +357,60 @@ public class EventController {
         }
     }
 
+    /**
+     * Faceted event browse - matching events plus counts for every facet value
+     * GET /api/events/faceted?eventType=ENVIRONMENTAL,EDUCATION&format=VIRTUAL&schedule=WEEKEND&page=0&size=20
+     * Facets: eventType, skillLevel, duration, timeOfDay, format (VIRTUAL, IN_PERSON), schedule (WEEKDAY, WEEKEND)
+     */
+    @GetMapping("/faceted")
+    public ResponseEntity<?> getFacetedEvents(
+            @RequestParam(required = false) String eventType,
+            @RequestParam(required = false) String skillLevel,
+            @RequestParam(required = false) String duration,
+            @RequestParam(required = false) String timeOfDay,
+            @RequestParam(required = false) String format,
+            @RequestParam(required = false) String schedule,
+            @RequestParam(required = false) String searchTerm,
+            @RequestParam(required = false) String location,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            Map<String, String> facetValues = new HashMap<>();
+            facetValues.put("eventType", eventType);
+            facetValues.put("skillLevel", skillLevel);
+            facetValues.put("duration", duration);
+            facetValues.put("timeOfDay", timeOfDay);
+            facetValues.put("format", format);
+            facetValues.put("schedule", schedule);
+
+            JfrEvents.SearchRequest searchEvent = JfrEvents.SearchRequest.start("faceted", searchTerm);
+            int results = 0;
+            try {
+                FacetedSearchResponse response = eventService.getFacetedEvents(facetValues, searchTerm, location, page, size);
+                results = response.getTotal();
+                return ResponseEntity.ok(response);
+            } finally {
+                searchEvent.finish(results);
+            }
+        } catch (Exception e) {
+            System.err.println("Faceted search error: " + e.getMessage());
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+
+    /**
+     * Get platform event statistics
+     * GET /api/events/stats
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<?> getEventStatistics() {
+        try {
+            return ResponseEntity.ok(eventService.getEventStatistics());
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+
     // ==========================================
     // VOLUNTEER REGISTRATION
     // ==========================================
@@ -339,13 +418,18 @@ public class EventController {
     /**
      * Register for event
      * POST /api/events/{id}/register
+     * With an Idempotency-Key header, retries replay the first successful response.
      */
     @PostMapping("/{id}/register")
-    public ResponseEntity<?> registerForEvent(@PathVariable Long id, Authentication authentication) {
+    public ResponseEntity<?> registerForEvent(@PathVariable Long id,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            Authentication authentication) {
         try {
             Long volunteerId = getCurrentUserId(authentication);
-            String message = eventService.registerForEvent(id, volunteerId);
-            return ResponseEntity.ok(new SuccessResponse(message));
+            return idempotencyService.execute("events.register", volunteerId, idempotencyKey, id, () -> {
+                String message = eventService.registerForEvent(id, volunteerId);
+                return ResponseEntity.ok(new SuccessResponse(message));
+            });
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
         }
@@ -388,7 +472,15 @@ public class EventController {
             request.setLocation(location);
             request.setSkillLevel(skillLevel);
 
-            List<EventDTO> events = eventService.searchEvents(request);
+            JfrEvents.SearchRequest searchEvent = JfrEvents.SearchRequest.start("realtime", searchTerm);
+            List<EventDTO> events;
+            int results = 0;
+            try {
+                events = eventService.searchEvents(request);
+                results = events.size();
+            } finally {
+                searchEvent.finish(results);
+            }
 
             // Limit results
             if (events.size() > limit) {
@@ -0,0 +1,142 @@
+package com.volunteersync.backend.controller;
+
+import com.volunteersync.backend.service.ExportService;
+import com.volunteersync.backend.service.ExportService.ExportFormat;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+
+/**
+ * Export Controller - streaming CSV/NDJSON downloads for organization reports and admins
+ * All endpoints take format=csv|ndjson (default csv) and gzip=true|false (default false).
+ * Exports run as WebAsyncTasks with their own timeout (app.export.timeout-ms) rather than the
+ * application-wide async timeout; errors found before streaming starts come back as JSON.
+ */
+@RestController
+@RequestMapping("/api/exports")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class ExportController extends BaseController {
+
+    @Autowired
+    private ExportService exportService;
+
+    // ==========================================
+    // ORGANIZATION EXPORTS
+    // ==========================================
+
+    /**
+     * Export all applications to my organization's events
+     * GET /api/exports/organization/applications?format=csv&gzip=true
+     */
+    @GetMapping("/organization/applications")
+    public WebAsyncTask<ResponseEntity<?>> exportApplications(Authentication authentication,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response) {
+        return export("applications", format, gzip, response, exportFormat ->
+                exportService.exportOrganizationApplications(getCurrentUserId(authentication), exportFormat, gzip));
+    }
+
+    /**
+     * Export the roster (accepted and attended volunteers) of one of my events
+     * GET /api/exports/organization/events/{eventId}/roster?format=ndjson
+     */
+    @GetMapping("/organization/events/{eventId}/roster")
+    public WebAsyncTask<ResponseEntity<?>> exportRoster(@PathVariable Long eventId, Authentication authentication,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response) {
+        return export("event-" + eventId + "-roster", format, gzip, response, exportFormat ->
+                exportService.exportEventRoster(eventId, getCurrentUserId(authentication), exportFormat, gzip));
+    }
+
+    /**
+     * Export volunteer hours logged at my organization's events
+     * GET /api/exports/organization/hours
+     */
+    @GetMapping("/organization/hours")
+    public WebAsyncTask<ResponseEntity<?>> exportHours(Authentication authentication,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response) {
+        return export("volunteer-hours", format, gzip, response, exportFormat ->
+                exportService.exportOrganizationHours(getCurrentUserId(authentication), exportFormat, gzip));
+    }
+
+    // ==========================================
+    // ADMIN EXPORTS
+    // ==========================================
+
+    /**
+     * Export all users (admin only)
+     * GET /api/exports/admin/users?format=csv&gzip=true
+     */
+    @GetMapping("/admin/users")
+    public WebAsyncTask<ResponseEntity<?>> exportUsers(Authentication authentication,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response) {
+        if (!isAdmin(authentication)) {
+            return new WebAsyncTask<>(() -> ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(new ErrorResponse("Only administrators can export users")));
+        }
+        return export("users", format, gzip, response, exportFormat -> exportService.exportUsers(exportFormat, gzip));
+    }
+
+    // ==========================================
+    // HELPER METHODS
+    // ==========================================
+
+    /**
+     * Checks access and streams the export on the async thread while holding one of the export
+     * slots. Setup errors come back as JSON; once the download starts it is written straight to
+     * the response and the task returns null (the response is already complete).
+     */
+    private WebAsyncTask<ResponseEntity<?>> export(String name, String format, boolean gzip,
+            HttpServletResponse response, ExportSource source) {
+        return new WebAsyncTask<>(exportService.getTimeoutMillis(), () -> {
+            if (!exportService.tryStartExport()) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "30")
+                        .body(new ErrorResponse("Too many exports are running, try again shortly"));
+            }
+            try {
+                ExportFormat exportFormat;
+                StreamingResponseBody body;
+                try {
+                    exportFormat = ExportFormat.fromParam(format);
+                    body = source.open(exportFormat);
+                } catch (Exception e) {
+                    return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+                }
+
+                String filename = name + "-" + LocalDate.now() + "." + exportFormat.getExtension() + (gzip ? ".gz" : "");
+                response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"");
+                response.setContentType(gzip ? "application/gzip" : exportFormat.getContentType());
+                body.writeTo(response.getOutputStream());
+                response.flushBuffer();
+                return null;
+            } finally {
+                exportService.finishExport();
+            }
+        });
+    }
+
+    /**
+     * Access checks plus the body of one export, run once the request is on the async thread
+     */
+    @FunctionalInterface
+    private interface ExportSource {
+        StreamingResponseBody open(ExportFormat format);
+    }
+}
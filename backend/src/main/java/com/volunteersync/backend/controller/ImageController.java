@@ -0,0 +1,243 @@
+package com.volunteersync.backend.controller;
+
+import com.volunteersync.backend.enums.ImageVariant;
+import com.volunteersync.backend.service.ImageStorageService;
+import com.volunteersync.backend.service.ImageStorageService.ImageFile;
+import com.volunteersync.backend.service.ImageStorageService.StoredImage;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Image Controller - uploads to the content-addressed image store and serves originals and derivatives.
+ * Uploads need an authenticated user; images are public, since browse pages reference them.
+ *
+ * Served files never change (the URL names their content), so they get strong ETags and a one-year
+ * immutable Cache-Control. Bodies go out zero-copy: through Tomcat's sendfile when the connector
+ * supports it, otherwise FileChannel.transferTo onto the response stream. Single byte ranges are
+ * honoured (206); multiple ranges get the whole file.
+ */
+@RestController
+@RequestMapping("/api/images")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class ImageController extends BaseController {
+
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    // Tomcat sendfile request attributes (org.apache.coyote.Constants)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    @Autowired
+    private ImageStorageService imageStorageService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Upload an image (JPEG, PNG, GIF or BMP); returns its hash and the original and derivative URLs
+     * POST /api/images (multipart, field "file")
+     */
+    @PostMapping
+    public ResponseEntity<?> uploadImage(@RequestParam("file") MultipartFile file, Authentication authentication) {
+        try {
+            Long userId = getCurrentUserId(authentication);
+            StoredImage image = imageStorageService.store(file, userId);
+            return ResponseEntity.status(HttpStatus.CREATED).body(image);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+
+    /**
+     * Get an original as uploaded
+     * GET /api/images/{hash}
+     */
+    @GetMapping("/{hash}")
+    public ResponseEntity<?> getOriginal(@PathVariable String hash, HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        Optional<ImageFile> image = imageStorageService.findOriginal(hash);
+        if (image.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ErrorResponse("Image not found"));
+        }
+        return serve(image.get(), request, response);
+    }
+
+    /**
+     * Get a derivative - thumbnail, card or full
+     * GET /api/images/{hash}/thumbnail
+     */
+    @GetMapping("/{hash}/{variant}")
+    public ResponseEntity<?> getDerivative(@PathVariable String hash, @PathVariable String variant,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Optional<ImageFile> image;
+        try {
+            image = imageStorageService.findDerivative(hash, ImageVariant.fromPathName(variant));
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(new ErrorResponse("Image is being processed, try again shortly"));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ErrorResponse(e.getMessage()));
+        }
+        if (image.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ErrorResponse("Image not found"));
+        }
+        return serve(image.get(), request, response);
+    }
+
+    // ==========================================
+    // SERVING
+    // ==========================================
+
+    /**
+     * Write the file (or the requested range) straight to the response.
+     * Returns null once the body is written, so Spring leaves the response alone.
+     */
+    private ResponseEntity<?> serve(ImageFile image, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        long length = Files.size(image.path());
+
+        response.setHeader(HttpHeaders.ETAG, image.etag());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (matchesAny(request.getHeader(HttpHeaders.IF_NONE_MATCH), image.etag())) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return null;
+        }
+
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (range != null && (ifRange == null || ifRange.equals(image.etag()))) {
+            long[] bounds = parseRange(range, length);
+            if (bounds != null && bounds.length == 0) {
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return null;
+            }
+            if (bounds != null) {
+                start = bounds[0];
+                end = bounds[1];
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentType(image.contentType());
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count == 0) {
+            return null;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            // Tomcat transfers the file from the page cache to the socket after this returns
+            request.setAttribute(SENDFILE_FILENAME, image.path().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            recordTransfer("sendfile");
+            return null;
+        }
+
+        try (FileChannel channel = FileChannel.open(image.path(), StandardOpenOption.READ)) {
+            WritableByteChannel output = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position <= end) {
+                long sent = channel.transferTo(position, end + 1 - position, output);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+            }
+        }
+        recordTransfer("channel");
+        return null;
+    }
+
+    /**
+     * A single "bytes=" range as {start, end} inclusive; null to serve the whole file (no range,
+     * several ranges or a malformed header), an empty array when it cannot be satisfied
+     */
+    private long[] parseRange(String header, long length) {
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return null;
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                // Suffix range: the last N bytes
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0 || length == 0) {
+                    return new long[0];
+                }
+                return new long[] { Math.max(0, length - suffix), length - 1 };
+            }
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? length - 1 : Long.parseLong(last);
+            if (start >= length) {
+                return new long[0];
+            }
+            if (start < 0 || end < start) {
+                return null;
+            }
+            return new long[] { start, Math.min(end, length - 1) };
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * If-None-Match uses weak comparison: W/"x" matches "x"
+     */
+    private boolean matchesAny(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(etag) || tag.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void recordTransfer(String transfer) {
+        Counter.builder("images.served")
+                .description("Image responses with a body, by transfer path")
+                .tag("transfer", transfer)
+                .register(meterRegistry)
+                .increment();
+    }
+}
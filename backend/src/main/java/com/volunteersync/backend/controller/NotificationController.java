@@ -0,0 +1,95 @@
+package com.volunteersync.backend.controller;
+
+import com.volunteersync.backend.entity.Notification;
+import com.volunteersync.backend.service.NotificationService;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Notification Controller - the current user's notification inbox
+ */
+@RestController
+@RequestMapping("/api/notifications")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class NotificationController extends BaseController {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    /**
+     * Get my notifications, newest first
+     * GET /api/notifications?page=0&size=20
+     */
+    @GetMapping
+    public ResponseEntity<?> getNotifications(Authentication authentication,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+                throw new RuntimeException("page must be >= 0 and size between 1 and " + MAX_PAGE_SIZE);
+            }
+            Page<Notification> notifications = notificationService.getNotifications(getCurrentUserId(authentication),
+                    page, size);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("notifications", notifications.getContent());
+            response.put("page", notifications.getNumber());
+            response.put("size", notifications.getSize());
+            response.put("totalElements", notifications.getTotalElements());
+            response.put("totalPages", notifications.getTotalPages());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+
+    /**
+     * Get my unread notification count
+     * GET /api/notifications/unread-count
+     */
+    @GetMapping("/unread-count")
+    public ResponseEntity<?> getUnreadCount(Authentication authentication) {
+        try {
+            return ResponseEntity.ok(Map.of("unread", notificationService.getUnreadCount(getCurrentUserId(authentication))));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+
+    /**
+     * Mark one notification as read
+     * PUT /api/notifications/{id}/read
+     */
+    @PutMapping("/{id}/read")
+    public ResponseEntity<?> markRead(@PathVariable Long id, Authentication authentication) {
+        try {
+            notificationService.markRead(id, getCurrentUserId(authentication));
+            return ResponseEntity.ok(new SuccessResponse("Notification marked as read"));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+
+    /**
+     * Mark all my notifications as read
+     * PUT /api/notifications/read-all
+     */
+    @PutMapping("/read-all")
+    public ResponseEntity<?> markAllRead(Authentication authentication) {
+        try {
+            int updated = notificationService.markAllRead(getCurrentUserId(authentication));
+            return ResponseEntity.ok(Map.of("updated", updated));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+}
@@ -2,7 +2,9 @@
 package com.volunteersync.backend.controller;
 
 import com.volunteersync.backend.service.OrganizationProfileService;
+import com.volunteersync.backend.dto.IncompleteProfileDTO;
 import com.volunteersync.backend.dto.OrganizationProfileDTO;
+import com.volunteersync.backend.entity.ProfileCompleteness;
 import com.volunteersync.backend.service.OrganizationProfileService.CreateOrganizationProfileRequest;
 import com.volunteersync.backend.service.OrganizationProfileService.UpdateOrganizationProfileRequest;
 import com.volunteersync.backend.service.OrganizationProfileService.OrganizationSearchRequest;
@@ -554,6 +556,32 @@ public class OrganizationProfileController extends BaseController {
         }
     }
 
+    /**
+     * Get organization profiles in a completeness score band, least complete first (Admin only)
+     * GET /api/organization-profiles/admin/incomplete?minScore=0&maxScore=79&page=0&size=20
+     */
+    @GetMapping("/admin/incomplete")
+    public ResponseEntity<?> getIncompleteProfiles(Authentication authentication,
+            @RequestParam(defaultValue = "0") int minScore,
+            @RequestParam(defaultValue = "" + (ProfileCompleteness.COMPLETE_SCORE - 1)) int maxScore,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            if (!isAdmin(authentication)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(new ErrorResponse("Only administrators can list incomplete profiles"));
+            }
+            if (page < 0 || size < 1 || size > 100) {
+                throw new RuntimeException("Page must be >= 0 and size between 1 and 100");
+            }
+            Page<IncompleteProfileDTO> profiles = organizationProfileService.getIncompleteProfiles(minScore, maxScore,
+                    PageRequest.of(page, size));
+            return ResponseEntity.ok(profiles);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+
     // ==========================================
     // HELPER METHODS
     // ==========================================
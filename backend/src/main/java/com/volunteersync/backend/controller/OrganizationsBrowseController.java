@@ -1,5 +1,6 @@
 package com.volunteersync.backend.controller;
 
+import com.volunteersync.backend.config.SparseFieldsets;
 import com.volunteersync.backend.dto.OrganizationProfileDTO;
 import com.volunteersync.backend.service.OrganizationProfileService;
 import com.volunteersync.backend.service.OrganizationProfileService.OrganizationSearchRequest;
@@ -339,13 +340,16 @@ public class OrganizationsBrowseController {
 
     /**
      * ENHANCED: Get all public organizations with cache control
-     * GET /api/organizations
+     * GET /api/organizations?fields=organizationName,city,state,profileImageThumbnailUrl
      */
     @GetMapping
-    public ResponseEntity<List<OrganizationProfileDTO>> getAllOrganizations() {
+    public ResponseEntity<List<OrganizationProfileDTO>> getAllOrganizations(
+            @RequestParam(required = false) String fields) {
         try {
-            // Return verified organizations for public browsing with cache control
-            List<OrganizationProfileDTO> organizations = organizationProfileService.getVerifiedOrganizations();
+            // Return verified organizations for public browsing with cache control; with fields=
+            // only those columns are read (SparseFieldsetAdvice trims the JSON to match)
+            List<OrganizationProfileDTO> organizations = organizationProfileService
+                    .getVerifiedOrganizations(SparseFieldsets.parse(fields));
             
             return ResponseEntity.ok()
                     .cacheControl(CacheControl.maxAge(30, TimeUnit.SECONDS)) // 30 second cache
@@ -495,6 +499,19 @@ public class OrganizationsBrowseController {
         }
     }
 
+    /**
+     * Get several organizations by ID in one request, in request order with not-found entries
+     * GET /api/organizations/batch?ids=12,3,40
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<?> getOrganizationsByIds(@RequestParam List<Long> ids) {
+        try {
+            return ResponseEntity.ok(organizationProfileService.getProfilesByIds(ids));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     /**
      * Get organization by ID
      * GET /api/organizations/{id}
@@ -583,7 +600,7 @@ public class OrganizationsBrowseController {
             String size = convertEmployeeCountToSize(minEmployees, maxEmployees);
             if (size.isEmpty()) {
                 // Return all organizations if no size specified
-                return getAllOrganizations();
+                return getAllOrganizations(null);
             }
 
             List<OrganizationProfileDTO> organizations = organizationProfileService.getOrganizationsBySize(size);
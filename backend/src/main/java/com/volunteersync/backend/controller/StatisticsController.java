@@ -0,0 +1,94 @@
+// backend/src/main/java/com/volunteersync/backend/controller/StatisticsController.java
+package com.volunteersync.backend.controller;
+
+import com.volunteersync.backend.enums.RollupGranularity;
+import com.volunteersync.backend.service.TimeSeriesRollupService;
+import com.volunteersync.backend.service.TimeSeriesRollupService.BackfillResult;
+import com.volunteersync.backend.service.TimeSeriesRollupService.RollupPoint;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Statistics Controller - platform trend endpoints backed by time-series rollups
+ */
+@RestController
+@RequestMapping("/api/statistics")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class StatisticsController extends BaseController {
+
+    @Autowired
+    private TimeSeriesRollupService timeSeriesRollupService;
+
+    // ==========================================
+    // TRENDS
+    // ==========================================
+
+    /**
+     * Get a trend series for a metric
+     * GET /api/statistics/trends/{metric}?granularity=DAY&from=...&to=...
+     * Metrics: users.registered, events.created, badges.earned, applications.submitted
+     */
+    @GetMapping("/trends/{metric}")
+    public ResponseEntity<?> getTrend(@PathVariable String metric,
+            @RequestParam(defaultValue = "DAY") RollupGranularity granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        try {
+            LocalDateTime end = to != null ? to : LocalDateTime.now();
+            LocalDateTime start = from != null ? from : defaultStart(granularity, end);
+            if (!start.isBefore(end)) {
+                throw new RuntimeException("'from' must be before 'to'");
+            }
+
+            List<RollupPoint> series = timeSeriesRollupService.getSeries(metric, granularity, start, end);
+            return ResponseEntity.ok(series);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+
+    // ==========================================
+    // ADMIN OPERATIONS
+    // ==========================================
+
+    /**
+     * Rebuild all rollups from history (admin only)
+     * POST /api/statistics/rollups/rebuild
+     */
+    @PostMapping("/rollups/rebuild")
+    public ResponseEntity<?> rebuildRollups(Authentication authentication) {
+        try {
+            if (!isAdmin(authentication)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(new ErrorResponse("Only administrators can rebuild rollups"));
+            }
+            BackfillResult result = timeSeriesRollupService.rebuildAll();
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+
+    // ==========================================
+    // HELPER METHODS
+    // ==========================================
+
+    /**
+     * Default window: 2 days of hours, 30 days, or 12 months
+     */
+    private LocalDateTime defaultStart(RollupGranularity granularity, LocalDateTime end) {
+        return switch (granularity) {
+            case HOUR -> end.minusHours(48);
+            case DAY -> end.minusDays(30);
+            case MONTH -> end.minusMonths(12);
+        };
+    }
+}
@@ -0,0 +1,106 @@
+package com.volunteersync.backend.controller;
+
+import com.volunteersync.backend.service.SuggestService;
+import com.volunteersync.backend.service.SuggestService.SuggestType;
+import com.volunteersync.backend.service.SuggestTrie.Suggestion;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Suggest Controller - typeahead for organization names, event titles, cities and skills
+ */
+@RestController
+@RequestMapping("/api/suggest")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class SuggestController extends BaseController {
+
+    @Autowired
+    private SuggestService suggestService;
+
+    /**
+     * Get suggestions for a prefix, most popular first
+     * GET /api/suggest?prefix=foo&type=organization&limit=5
+     * Types: organization, event, city, skill. Without a type, returns every type keyed by name.
+     */
+    @GetMapping
+    public ResponseEntity<?> suggest(@RequestParam String prefix,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            if (prefix.isBlank()) {
+                throw new RuntimeException("Prefix is required");
+            }
+            int max = limit != null ? limit : suggestService.getTopK();
+            if (max < 1 || max > suggestService.getTopK()) {
+                throw new RuntimeException("Limit must be between 1 and " + suggestService.getTopK());
+            }
+
+            if (type != null && !type.isBlank()) {
+                SuggestType suggestType = SuggestType.fromParam(type);
+                return ResponseEntity.ok(toResponses(suggestType, suggestService.suggest(suggestType, prefix, max)));
+            }
+
+            Map<String, List<SuggestionResponse>> byType = new LinkedHashMap<>();
+            suggestService.suggestAll(prefix, max).forEach((suggestType, suggestions) ->
+                    byType.put(typeName(suggestType), toResponses(suggestType, suggestions)));
+            return ResponseEntity.ok(byType);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+
+    // ==========================================
+    // HELPER METHODS
+    // ==========================================
+
+    private List<SuggestionResponse> toResponses(SuggestType type, List<Suggestion> suggestions) {
+        return suggestions.stream()
+                .map(suggestion -> new SuggestionResponse(suggestion.text(), typeName(type),
+                        suggestion.id(), suggestion.weight()))
+                .toList();
+    }
+
+    private String typeName(SuggestType type) {
+        return type.name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * One suggestion; id is set for organizations and events
+     */
+    public static class SuggestionResponse {
+        private String text;
+        private String type;
+        private Long id;
+        private long weight;
+
+        public SuggestionResponse(String text, String type, Long id, long weight) {
+            this.text = text;
+            this.type = type;
+            this.id = id;
+            this.weight = weight;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public long getWeight() {
+            return weight;
+        }
+    }
+}
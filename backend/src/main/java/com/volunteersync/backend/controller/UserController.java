@@ -1,6 +1,9 @@
 // backend/src/main/java/com/volunteersync/backend/controller/UserController.java
 package com.volunteersync.backend.controller;
 
+import com.volunteersync.backend.enums.RollupGranularity;
+import com.volunteersync.backend.service.PlatformStatisticsService;
+import com.volunteersync.backend.service.TimeSeriesRollupService;
 import com.volunteersync.backend.service.UserService;
 import com.volunteersync.backend.dto.UserDTO;
 import com.volunteersync.backend.entity.User;
@@ -18,6 +21,7 @@ import jakarta.validation.Valid;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * User Controller - handles user management endpoints
@@ -34,6 +38,12 @@ public class UserController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private PlatformStatisticsService platformStatisticsService;
+
+    @Autowired
+    private TimeSeriesRollupService timeSeriesRollupService;
+
     // ==========================================
     // USER PROFILE OPERATIONS
     // ==========================================
@@ -98,9 +108,11 @@ public class UserController {
             Optional<User> userOpt = userService.findById(userId);
             if (userOpt.isPresent()) {
                 User user = userOpt.get();
+                List<String> statisticKeysBefore = platformStatisticsService.keysFor(user);
                 user.setEmail(request.getNewEmail());
                 user.setEmailVerified(false); // Reset verification when email changes
                 userRepository.save(user);
+                platformStatisticsService.recordUpdated(statisticKeysBefore, user);
                 
                 UserDTO userDTO = userService.convertToDTO(user);
                 return ResponseEntity.ok(userDTO);
@@ -247,25 +259,34 @@ public class UserController {
         try {
             UserStatsResponse stats = new UserStatsResponse();
             
-            // Basic counts
-            stats.setTotalUsers(userRepository.count());
-            stats.setActiveUsers(userRepository.countByIsActiveTrue());
-            stats.setVerifiedUsers(userRepository.countByEmailVerifiedTrue());
+            // Basic counts (maintained counters)
+            stats.setTotalUsers(platformStatisticsService.getCount(PlatformStatisticsService.USERS_TOTAL));
+            stats.setActiveUsers(platformStatisticsService.getCount(PlatformStatisticsService.USERS_ACTIVE));
+            stats.setVerifiedUsers(platformStatisticsService.getCount(PlatformStatisticsService.USERS_VERIFIED));
             
             // User type counts
-            stats.setVolunteers(userRepository.countByUserType(UserType.VOLUNTEER));
-            stats.setOrganizations(userRepository.countByUserType(UserType.ORGANIZATION));
+            stats.setVolunteers(platformStatisticsService.getCount(
+                    PlatformStatisticsService.USERS_BY_TYPE, UserType.VOLUNTEER.name()));
+            stats.setOrganizations(platformStatisticsService.getCount(
+                    PlatformStatisticsService.USERS_BY_TYPE, UserType.ORGANIZATION.name()));
             
-            // Recent registrations
-            LocalDateTime weekAgo = LocalDateTime.now().minusDays(7);
-            LocalDateTime monthAgo = LocalDateTime.now().minusDays(30);
+            // Recent registrations (hourly/daily rollups)
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime weekAgo = now.minusDays(7);
+            LocalDateTime monthAgo = now.minusDays(30);
             
-            stats.setNewUsersThisWeek(userRepository.countRegistrationsBetween(weekAgo, LocalDateTime.now()));
-            stats.setNewUsersThisMonth(userRepository.countRegistrationsBetween(monthAgo, LocalDateTime.now()));
+            stats.setNewUsersThisWeek(timeSeriesRollupService.countBetween(
+                    TimeSeriesRollupService.USERS_REGISTERED, weekAgo, now));
+            stats.setNewUsersThisMonth(timeSeriesRollupService.countBetween(
+                    TimeSeriesRollupService.USERS_REGISTERED, monthAgo, now));
             
-            // Growth data
-            LocalDateTime threeMonthsAgo = LocalDateTime.now().minusDays(90);
-            stats.setGrowthData(userRepository.getUserGrowthStats(threeMonthsAgo));
+            // Growth data - [date, count] for each day with registrations
+            LocalDateTime threeMonthsAgo = now.minusDays(90);
+            stats.setGrowthData(timeSeriesRollupService.getSeries(TimeSeriesRollupService.USERS_REGISTERED,
+                            RollupGranularity.DAY, threeMonthsAgo, now).stream()
+                    .filter(point -> point.getCount() > 0)
+                    .map(point -> new Object[] { point.getBucketStart().toLocalDate(), point.getCount() })
+                    .collect(Collectors.toList()));
             
             return ResponseEntity.ok(stats);
         } catch (Exception e) {
@@ -283,17 +304,17 @@ public class UserController {
             UserActivityStatsResponse stats = new UserActivityStatsResponse();
             
             // Email verification status
-            long totalUsers = userRepository.count();
-            long verifiedUsers = userRepository.countByEmailVerifiedTrue();
+            long totalUsers = platformStatisticsService.getCount(PlatformStatisticsService.USERS_TOTAL);
+            long verifiedUsers = platformStatisticsService.getCount(PlatformStatisticsService.USERS_VERIFIED);
             stats.setEmailVerificationRate(totalUsers > 0 ? (double) verifiedUsers / totalUsers * 100 : 0);
             
             // Active vs inactive users
-            long activeUsers = userRepository.countByIsActiveTrue();
+            long activeUsers = platformStatisticsService.getCount(PlatformStatisticsService.USERS_ACTIVE);
             stats.setActiveUserRate(totalUsers > 0 ? (double) activeUsers / totalUsers * 100 : 0);
             
             // Users needing verification
-            List<User> unverifiedUsers = userRepository.findByEmailVerifiedFalseAndIsActiveTrue();
-            stats.setUsersNeedingVerification(unverifiedUsers.size());
+            stats.setUsersNeedingVerification(platformStatisticsService.getCount(
+                    PlatformStatisticsService.USERS_PENDING_VERIFICATION));
             
             return ResponseEntity.ok(stats);
         } catch (Exception e) {
@@ -4,7 +4,9 @@ import com.volunteersync.backend.entity.VolunteerProfile;
 import com.volunteersync.backend.entity.OrganizationProfile;
 import com.volunteersync.backend.repository.VolunteerProfileRepository;
 import com.volunteersync.backend.repository.OrganizationProfileRepository;
+import com.volunteersync.backend.service.HomeFeedService;
 import com.volunteersync.backend.service.JwtService;
+import com.volunteersync.backend.service.SuggestService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -34,6 +36,12 @@ public class VolunteerFollowController {
     @Autowired
     private JwtService jwtService;
 
+    @Autowired
+    private HomeFeedService homeFeedService;
+
+    @Autowired
+    private SuggestService suggestService;
+
     /**
      * Toggle follow status for an organization
      * PUT /api/volunteer-profiles/me/follow/{organizationId}
@@ -63,6 +71,8 @@ public class VolunteerFollowController {
             volunteerProfileRepository.save(volunteer);
             
             boolean isNowFollowing = !wasFollowing;
+            homeFeedService.onFollowChanged(userId, organizationId, isNowFollowing);
+            suggestService.onFollowChanged(organizationId, isNowFollowing);
             String message = isNowFollowing ? "Successfully followed organization" : "Successfully unfollowed organization";
 
             return ResponseEntity.ok(Map.of(
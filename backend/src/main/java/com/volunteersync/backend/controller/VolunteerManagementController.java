@@ -4,6 +4,7 @@ package com.volunteersync.backend.controller;
 import com.volunteersync.backend.service.VolunteerManagementService;
 import com.volunteersync.backend.service.VolunteerManagementService.*;
 import com.volunteersync.backend.entity.User;
+import com.volunteersync.backend.enums.ApplicationStatus;
 import com.volunteersync.backend.enums.UserType;
 import com.volunteersync.backend.repository.UserRepository;
 
@@ -18,7 +19,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
-import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -57,8 +58,8 @@ public class VolunteerManagementController {
             Long organizationId = getCurrentUserId(authentication);
             validateOrganizationUser(organizationId);
 
-            // Create pagination with sorting
-            Sort sort = Sort.by(Sort.Direction.fromString(sortDir), sortBy);
+            // Create pagination with sorting (allow-listed keys only)
+            Sort sort = VolunteerManagementService.rosterSort(sortBy, sortDir);
             Pageable pageable = PageRequest.of(page, size, sort);
 
             VolunteerManagementResponse response = volunteerManagementService
@@ -157,8 +158,8 @@ public class VolunteerManagementController {
             Long organizationId = getCurrentUserId(authentication);
             validateOrganizationUser(organizationId);
 
-            // Create pagination with sorting
-            Sort sort = Sort.by(Sort.Direction.fromString(sortDir), sortBy);
+            // Create pagination with sorting (allow-listed keys only)
+            Sort sort = VolunteerManagementService.searchSort(sortBy, sortDir);
             Pageable pageable = PageRequest.of(page, size, sort);
 
             VolunteerSearchResponse response = volunteerManagementService
@@ -193,7 +194,7 @@ public class VolunteerManagementController {
             }
 
             // Create pagination
-            Pageable pageable = PageRequest.of(page, size, Sort.by("appliedAt").descending());
+            Pageable pageable = PageRequest.of(page, size, VolunteerManagementService.searchSort("lastName", "asc"));
 
             VolunteerSearchResponse response = volunteerManagementService
                     .searchVolunteers(searchRequest, organizationId, pageable);
@@ -218,24 +219,19 @@ public class VolunteerManagementController {
             Long organizationId = getCurrentUserId(authentication);
             validateOrganizationUser(organizationId);
 
-            // Get basic volunteer overview
-            Pageable pageable = PageRequest.of(0, Integer.MAX_VALUE); // Get all for stats
-            VolunteerManagementResponse response = volunteerManagementService
-                    .getOrganizationVolunteers(organizationId, pageable);
+            // Counts per status from one grouped query
+            Map<ApplicationStatus, Integer> statusCounts = volunteerManagementService
+                    .getApplicationStatusCounts(organizationId);
 
             // Create a simplified stats response
             VolunteerStatsResponse stats = new VolunteerStatsResponse();
-            stats.setTotalVolunteers(response.getTotalVolunteers());
-            stats.setActiveVolunteers(response.getActiveVolunteers());
-            stats.setPendingApplications(response.getPendingApplications());
-
-            // Calculate additional stats from the volunteers by status
-            int totalAccepted = response.getVolunteersByStatus()
-                    .getOrDefault(com.volunteersync.backend.enums.ApplicationStatus.ACCEPTED, List.of()).size();
-            int totalAttended = response.getVolunteersByStatus()
-                    .getOrDefault(com.volunteersync.backend.enums.ApplicationStatus.ATTENDED, List.of()).size();
-            int totalNoShows = response.getVolunteersByStatus()
-                    .getOrDefault(com.volunteersync.backend.enums.ApplicationStatus.NO_SHOW, List.of()).size();
+            stats.setTotalVolunteers(statusCounts.values().stream().mapToInt(Integer::intValue).sum());
+            stats.setActiveVolunteers(statusCounts.get(ApplicationStatus.ACCEPTED));
+            stats.setPendingApplications(statusCounts.get(ApplicationStatus.PENDING));
+
+            int totalAccepted = statusCounts.get(ApplicationStatus.ACCEPTED);
+            int totalAttended = statusCounts.get(ApplicationStatus.ATTENDED);
+            int totalNoShows = statusCounts.get(ApplicationStatus.NO_SHOW);
 
             stats.setTotalAccepted(totalAccepted);
             stats.setTotalAttended(totalAttended);
@@ -3,10 +3,13 @@ package com.volunteersync.backend.controller;
 
 import com.volunteersync.backend.service.VolunteerProfileService;
 import com.volunteersync.backend.service.BadgeService;
+import com.volunteersync.backend.service.EventService;
 import com.volunteersync.backend.repository.UserRepository;
 import com.volunteersync.backend.entity.User;
 import com.volunteersync.backend.dto.BadgeDTO;
 import com.volunteersync.backend.dto.VolunteerProfileDTO;
+import com.volunteersync.backend.dto.IncompleteProfileDTO;
+import com.volunteersync.backend.entity.ProfileCompleteness;
 import com.volunteersync.backend.service.VolunteerProfileService.CreateVolunteerProfileRequest;
 import com.volunteersync.backend.service.VolunteerProfileService.UpdateVolunteerProfileRequest;
 import com.volunteersync.backend.service.VolunteerProfileService.VolunteerSearchRequest;
@@ -15,6 +18,9 @@ import com.volunteersync.backend.service.VolunteerProfileService.ProfileCompleti
 import com.volunteersync.backend.service.VolunteerProfileService.IndividualVolunteerStats;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -22,6 +28,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
+import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.List;
@@ -41,6 +48,9 @@ public class VolunteerProfileController extends BaseController {
     @Autowired
     private BadgeService badgeService;
 
+    @Autowired
+    private EventService eventService;
+
     @Autowired
     private UserRepository userRepository;
 
@@ -208,6 +218,19 @@ public class VolunteerProfileController extends BaseController {
         }
     }
 
+    /**
+     * Get several volunteer profiles by ID in one request, in request order with not-found entries
+     * GET /api/volunteer-profiles/batch?ids=12,3,40
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<?> getProfilesByIds(@RequestParam List<Long> ids) {
+        try {
+            return ResponseEntity.ok(volunteerProfileService.getProfilesByIds(ids));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+
     /**
      * Get volunteer profile by ID
      * GET /api/volunteer-profiles/{id}
@@ -403,6 +426,32 @@ public class VolunteerProfileController extends BaseController {
         }
     }
 
+    /**
+     * Get volunteer profiles in a completeness score band, least complete first (Admin only)
+     * GET /api/volunteer-profiles/admin/incomplete?minScore=0&maxScore=79&page=0&size=20
+     */
+    @GetMapping("/admin/incomplete")
+    public ResponseEntity<?> getIncompleteProfiles(Authentication authentication,
+            @RequestParam(defaultValue = "0") int minScore,
+            @RequestParam(defaultValue = "" + (ProfileCompleteness.COMPLETE_SCORE - 1)) int maxScore,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            if (!isAdmin(authentication)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(new ErrorResponse("Only administrators can list incomplete profiles"));
+            }
+            if (page < 0 || size < 1 || size > 100) {
+                throw new RuntimeException("Page must be >= 0 and size between 1 and 100");
+            }
+            Page<IncompleteProfileDTO> profiles = volunteerProfileService.getIncompleteProfiles(minScore, maxScore,
+                    PageRequest.of(page, size));
+            return ResponseEntity.ok(profiles);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+
     /**
      * Get individual volunteer statistics
      * GET /api/volunteer-profiles/stats/me
@@ -418,6 +467,46 @@ public class VolunteerProfileController extends BaseController {
         }
     }
 
+    /**
+     * Get hours credited to the current volunteer in a date range (defaults to this month)
+     * GET /api/volunteer-profiles/me/hours?from=...&to=...
+     */
+    @GetMapping("/me/hours")
+    public ResponseEntity<?> getMyHours(Authentication authentication,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        try {
+            Long userId = getCurrentUserId(authentication);
+            LocalDateTime end = to != null ? to : LocalDateTime.now();
+            LocalDateTime start = from != null ? from : end.toLocalDate().withDayOfMonth(1).atStartOfDay();
+            if (!start.isBefore(end)) {
+                throw new RuntimeException("'from' must be before 'to'");
+            }
+            return ResponseEntity.ok(volunteerProfileService.getHoursForPeriod(userId, start, end));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+
+    /**
+     * Home feed - newest events from followed organizations, cursor-paginated
+     * GET /api/volunteer-profiles/me/feed?cursor=...&limit=20
+     */
+    @GetMapping("/me/feed")
+    public ResponseEntity<?> getMyFeed(Authentication authentication,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        try {
+            Long userId = getCurrentUserId(authentication);
+            if (limit < 1 || limit > 50) {
+                throw new RuntimeException("limit must be between 1 and 50");
+            }
+            return ResponseEntity.ok(eventService.getHomeFeed(userId, cursor, limit));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+    }
+
     // Add these methods to your existing VolunteerProfileController.java file:
 
     /**
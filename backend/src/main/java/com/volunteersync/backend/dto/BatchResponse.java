@@ -0,0 +1,92 @@
+package com.volunteersync.backend.dto;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Batch multi-get response - one item per requested id, in request order. Ids that do not
+ * exist get an item with found=false and no data instead of failing the whole batch.
+ */
+public class BatchResponse<T> {
+
+    private final int requested;
+    private final int found;
+    private final List<Item<T>> items;
+
+    private BatchResponse(int requested, int found, List<Item<T>> items) {
+        this.requested = requested;
+        this.found = found;
+        this.items = items;
+    }
+
+    /**
+     * Lay out the loaded DTOs (by id) in the order of the requested ids
+     */
+    public static <T> BatchResponse<T> of(List<Long> ids, Map<Long, T> loaded) {
+        List<Item<T>> items = new ArrayList<>(ids.size());
+        int found = 0;
+        for (Long id : ids) {
+            T data = loaded.get(id);
+            if (data != null) {
+                found++;
+            }
+            items.add(new Item<>(id, data != null, data));
+        }
+        return new BatchResponse<>(ids.size(), found, items);
+    }
+
+    /**
+     * The distinct ids to load, checked against the batch cap
+     */
+    public static Collection<Long> distinctIds(List<Long> ids, int maxIds) {
+        if (ids == null || ids.isEmpty()) {
+            throw new RuntimeException("At least one id is required");
+        }
+        if (ids.size() > maxIds) {
+            throw new RuntimeException("At most " + maxIds + " ids per batch, got " + ids.size());
+        }
+        if (ids.contains(null)) {
+            throw new RuntimeException("Ids must be numbers");
+        }
+        return new LinkedHashSet<>(ids);
+    }
+
+    public int getRequested() {
+        return requested;
+    }
+
+    public int getFound() {
+        return found;
+    }
+
+    public List<Item<T>> getItems() {
+        return items;
+    }
+
+    public static class Item<T> {
+        private final Long id;
+        private final boolean found;
+        private final T data;
+
+        public Item(Long id, boolean found, T data) {
+            this.id = id;
+            this.found = found;
+            this.data = data;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public boolean isFound() {
+            return found;
+        }
+
+        public T getData() {
+            return data;
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package com.volunteersync.backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.volunteersync.backend.config.SparseFieldsets;
 import com.volunteersync.backend.enums.EventStatus;
 import com.volunteersync.backend.enums.EventType;
 import com.volunteersync.backend.enums.SkillLevel;
 import com.volunteersync.backend.enums.EventDuration;
 import java.time.LocalDateTime;
 
+@JsonFilter(SparseFieldsets.FILTER_ID)
 public class EventDTO {
     
     // =====================================================
@@ -34,6 +37,7 @@ public class EventDTO {
     private String contactEmail;
     private String contactPhone;
     private String imageUrl;
+    private String imageThumbnailUrl;
     private Boolean isFull;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
@@ -414,6 +418,14 @@ public class EventDTO {
         this.imageUrl = imageUrl;
     }
 
+    public String getImageThumbnailUrl() {
+        return imageThumbnailUrl;
+    }
+
+    public void setImageThumbnailUrl(String imageThumbnailUrl) {
+        this.imageThumbnailUrl = imageThumbnailUrl;
+    }
+
     public Boolean getIsFull() {
         return isFull;
     }
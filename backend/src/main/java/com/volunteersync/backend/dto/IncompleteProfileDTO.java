@@ -0,0 +1,84 @@
+package com.volunteersync.backend.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class IncompleteProfileDTO {
+    private Long profileId;
+    private Long userId;
+    private String profileType;
+    private String name;
+    private String email;
+    private Integer completenessScore;
+    private List<String> missingFields;
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public IncompleteProfileDTO() {
+    }
+
+    // Getters and Setters
+    public Long getProfileId() {
+        return profileId;
+    }
+
+    public void setProfileId(Long profileId) {
+        this.profileId = profileId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public String getProfileType() {
+        return profileType;
+    }
+
+    public void setProfileType(String profileType) {
+        this.profileType = profileType;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public Integer getCompletenessScore() {
+        return completenessScore;
+    }
+
+    public void setCompletenessScore(Integer completenessScore) {
+        this.completenessScore = completenessScore;
+    }
+
+    public List<String> getMissingFields() {
+        return missingFields;
+    }
+
+    public void setMissingFields(List<String> missingFields) {
+        this.missingFields = missingFields;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -1,12 +1,16 @@
 package com.volunteersync.backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.volunteersync.backend.config.SparseFieldsets;
 import java.time.LocalDateTime;
 import java.util.List;
 
 import com.volunteersync.backend.dto.VolunteerProfileDTO.ActivityEntry;
 
 import java.util.ArrayList;
+import java.util.stream.Collectors;
 
+@JsonFilter(SparseFieldsets.FILTER_ID)
 public class OrganizationProfileDTO {
 
     // =====================================================
@@ -26,6 +30,7 @@ public class OrganizationProfileDTO {
     private String zipCode;
     private String fullAddress;
     private String profileImageUrl;
+    private String profileImageThumbnailUrl;
     private Boolean isVerified;
     private Integer totalEventsHosted;
     private Integer totalVolunteersServed;
@@ -62,6 +67,7 @@ public class OrganizationProfileDTO {
     private Boolean wasRecentlyUpdated;
 
     private String coverImageUrl;
+    private String coverImageCardUrl;
     private List<String> services;
     private List<String> causes;
     private Integer fundingGoal;
@@ -119,6 +125,71 @@ public class OrganizationProfileDTO {
         updateComputedFields();
     }
 
+    /**
+     * Copy constructor - lists and their entries are copied as well, so the copy shares nothing
+     * mutable with the original (coalesced reads hand each caller its own copy)
+     */
+    public OrganizationProfileDTO(OrganizationProfileDTO other) {
+        this.id = other.id;
+        this.userId = other.userId;
+        this.organizationName = other.organizationName;
+        this.description = other.description;
+        this.missionStatement = other.missionStatement;
+        this.website = other.website;
+        this.phoneNumber = other.phoneNumber;
+        this.address = other.address;
+        this.city = other.city;
+        this.state = other.state;
+        this.zipCode = other.zipCode;
+        this.fullAddress = other.fullAddress;
+        this.profileImageUrl = other.profileImageUrl;
+        this.profileImageThumbnailUrl = other.profileImageThumbnailUrl;
+        this.isVerified = other.isVerified;
+        this.totalEventsHosted = other.totalEventsHosted;
+        this.totalVolunteersServed = other.totalVolunteersServed;
+        this.createdAt = other.createdAt;
+        this.updatedAt = other.updatedAt;
+        this.categories = other.categories;
+        this.primaryCategory = other.primaryCategory;
+        this.organizationType = other.organizationType;
+        this.organizationSize = other.organizationSize;
+        this.employeeCount = other.employeeCount;
+        this.country = other.country;
+        this.languagesSupported = other.languagesSupported;
+        this.foundedYear = other.foundedYear;
+        this.taxExemptStatus = other.taxExemptStatus;
+        this.verificationLevel = other.verificationLevel;
+        this.locationString = other.locationString;
+        this.sizeDisplayName = other.sizeDisplayName;
+        this.organizationAge = other.organizationAge;
+        this.isNonProfit = other.isNonProfit;
+        this.isHighlyVerified = other.isHighlyVerified;
+        this.isInternational = other.isInternational;
+        this.wasRecentlyUpdated = other.wasRecentlyUpdated;
+        this.coverImageUrl = other.coverImageUrl;
+        this.coverImageCardUrl = other.coverImageCardUrl;
+        this.fundingGoal = other.fundingGoal;
+        this.fundingRaised = other.fundingRaised;
+        this.ein = other.ein;
+        this.founded = other.founded;
+        this.categoryList = copyList(other.categoryList);
+        this.languageList = copyList(other.languageList);
+        this.services = copyList(other.services);
+        this.causes = copyList(other.causes);
+        this.achievements = other.achievements == null ? null
+                : other.achievements.stream().map(Achievement::new).collect(Collectors.toList());
+        this.partnerships = other.partnerships == null ? null
+                : other.partnerships.stream().map(Partnership::new).collect(Collectors.toList());
+        this.volunteers = other.volunteers == null ? null
+                : other.volunteers.stream().map(VolunteerSummary::new).collect(Collectors.toList());
+        this.recentActivity = other.recentActivity == null ? null
+                : other.recentActivity.stream().map(ActivityEntry::new).collect(Collectors.toList());
+    }
+
+    private static List<String> copyList(List<String> list) {
+        return list == null ? null : new ArrayList<>(list);
+    }
+
     // =====================================================
     // COMPUTED FIELD UPDATES
     // =====================================================
@@ -324,6 +395,14 @@ public class OrganizationProfileDTO {
         this.profileImageUrl = profileImageUrl;
     }
 
+    public String getProfileImageThumbnailUrl() {
+        return profileImageThumbnailUrl;
+    }
+
+    public void setProfileImageThumbnailUrl(String profileImageThumbnailUrl) {
+        this.profileImageThumbnailUrl = profileImageThumbnailUrl;
+    }
+
     public Boolean getIsVerified() {
         return isVerified;
     }
@@ -611,6 +690,13 @@ public class OrganizationProfileDTO {
         public Achievement() {
         }
 
+        public Achievement(Achievement other) {
+            this.id = other.id;
+            this.name = other.name;
+            this.icon = other.icon;
+            this.description = other.description;
+        }
+
         public Achievement(Long id, String name, String icon, String description) {
             this.id = id;
             this.name = name;
@@ -662,6 +748,14 @@ public class OrganizationProfileDTO {
         public Partnership() {
         }
 
+        public Partnership(Partnership other) {
+            this.id = other.id;
+            this.name = other.name;
+            this.type = other.type;
+            this.since = other.since;
+            this.logo = other.logo;
+        }
+
         public Partnership(Long id, String name, String type, String since, String logo) {
             this.id = id;
             this.name = name;
@@ -722,6 +816,14 @@ public class OrganizationProfileDTO {
         public VolunteerSummary() {
         }
 
+        public VolunteerSummary(VolunteerSummary other) {
+            this.id = other.id;
+            this.name = other.name;
+            this.role = other.role;
+            this.hoursContributed = other.hoursContributed;
+            this.avatar = other.avatar;
+        }
+
         public VolunteerSummary(Long id, String name, String role, Integer hoursContributed, String avatar) {
             this.id = id;
             this.name = name;
@@ -783,6 +885,15 @@ public class OrganizationProfileDTO {
         public ActivityEntry() {
         }
 
+        public ActivityEntry(ActivityEntry other) {
+            this.id = other.id;
+            this.type = other.type;
+            this.title = other.title;
+            this.date = other.date;
+            this.organization = other.organization;
+            this.volunteers = other.volunteers;
+        }
+
         public ActivityEntry(Long id, String type, String title, String date, Integer volunteers) {
             this.id = id;
             this.type = type;
@@ -849,6 +960,14 @@ public class OrganizationProfileDTO {
         this.coverImageUrl = coverImageUrl;
     }
 
+    public String getCoverImageCardUrl() {
+        return coverImageCardUrl;
+    }
+
+    public void setCoverImageCardUrl(String coverImageCardUrl) {
+        this.coverImageCardUrl = coverImageCardUrl;
+    }
+
     public List<String> getServices() {
         return services;
     }
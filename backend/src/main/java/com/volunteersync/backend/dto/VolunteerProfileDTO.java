@@ -13,6 +13,7 @@ public class VolunteerProfileDTO {
     private String location;
     private String phoneNumber;
     private String profileImageUrl;
+    private String profileImageThumbnailUrl;
     private Integer totalVolunteerHours;
     private Integer eventsParticipated;
     private Boolean isAvailable;
@@ -270,6 +271,14 @@ public class VolunteerProfileDTO {
         this.profileImageUrl = profileImageUrl;
     }
 
+    public String getProfileImageThumbnailUrl() {
+        return profileImageThumbnailUrl;
+    }
+
+    public void setProfileImageThumbnailUrl(String profileImageThumbnailUrl) {
+        this.profileImageThumbnailUrl = profileImageThumbnailUrl;
+    }
+
     public Integer getTotalVolunteerHours() {
         return totalVolunteerHours;
     }
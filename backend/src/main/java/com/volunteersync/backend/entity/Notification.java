@@ -0,0 +1,130 @@
+package com.volunteersync.backend.entity;
+
+import com.volunteersync.backend.enums.NotificationStatus;
+import com.volunteersync.backend.enums.NotificationType;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * One notification in a user's inbox. Rows are written in bulk by the outbox fan-out
+ * (at most once per outbox record and user) and then delivered through the configured
+ * NotificationChannel, retried with backoff until SENT or FAILED.
+ */
+@Entity
+@Table(name = "notifications",
+       uniqueConstraints = @UniqueConstraint(name = "uk_notifications_outbox_user", columnNames = { "outbox_id", "user_id" }),
+       indexes = {
+              @Index(name = "idx_notifications_user_created", columnList = "user_id, created_at"),
+              @Index(name = "idx_notifications_delivery", columnList = "delivery_status, next_attempt_at")
+       })
+public class Notification {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "outbox_id")
+    private Long outboxId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false)
+    private NotificationType type;
+
+    @Column(name = "organization_id")
+    private Long organizationId;
+
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Column(name = "title", nullable = false)
+    private String title;
+
+    @Column(name = "message", length = 1000)
+    private String message;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "delivery_status", nullable = false)
+    private NotificationStatus deliveryStatus = NotificationStatus.PENDING;
+
+    @Column(name = "delivery_attempts", nullable = false)
+    private Integer deliveryAttempts = 0;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "delivered_at")
+    private LocalDateTime deliveredAt;
+
+    @Column(name = "read_at")
+    private LocalDateTime readAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    // Constructors
+    public Notification() {}
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getOutboxId() {
+        return outboxId;
+    }
+
+    public NotificationType getType() {
+        return type;
+    }
+
+    public Long getOrganizationId() {
+        return organizationId;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public NotificationStatus getDeliveryStatus() {
+        return deliveryStatus;
+    }
+
+    public Integer getDeliveryAttempts() {
+        return deliveryAttempts;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public LocalDateTime getDeliveredAt() {
+        return deliveredAt;
+    }
+
+    public LocalDateTime getReadAt() {
+        return readAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public boolean isRead() {
+        return readAt != null;
+    }
+}
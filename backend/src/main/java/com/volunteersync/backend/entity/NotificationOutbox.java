@@ -0,0 +1,131 @@
+package com.volunteersync.backend.entity;
+
+import com.volunteersync.backend.enums.NotificationType;
+import com.volunteersync.backend.enums.OutboxStatus;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Outbox record for a notification to every follower of an organization, written in the same
+ * transaction as the change that caused it (e.g. a new event). NotificationDispatcher fans it
+ * out to the notifications inbox in batches of followers ordered by volunteer profile id;
+ * fanoutCursor is the last id done, so a retried fan-out resumes where it stopped.
+ */
+@Entity
+@Table(name = "notification_outbox",
+       indexes = @Index(name = "idx_notification_outbox_due", columnList = "status, next_attempt_at"))
+public class NotificationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false)
+    private NotificationType type;
+
+    @Column(name = "organization_id", nullable = false)
+    private Long organizationId;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(name = "title", nullable = false)
+    private String title;
+
+    @Column(name = "message", length = 1000)
+    private String message;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    @Column(name = "fanout_cursor", nullable = false)
+    private Long fanoutCursor = 0L;
+
+    @Column(name = "recipients", nullable = false)
+    private Integer recipients = 0;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt = LocalDateTime.now();
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    // Constructors
+    public NotificationOutbox() {}
+
+    public NotificationOutbox(NotificationType type, Long organizationId, Long eventId, String title, String message) {
+        this.type = type;
+        this.organizationId = organizationId;
+        this.eventId = eventId;
+        this.title = title;
+        this.message = message;
+    }
+
+    // Getters (progress is moved by guarded UPDATEs in NotificationOutboxRepository)
+    public Long getId() {
+        return id;
+    }
+
+    public NotificationType getType() {
+        return type;
+    }
+
+    public Long getOrganizationId() {
+        return organizationId;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public OutboxStatus getStatus() {
+        return status;
+    }
+
+    public Long getFanoutCursor() {
+        return fanoutCursor;
+    }
+
+    public Integer getRecipients() {
+        return recipients;
+    }
+
+    public Integer getAttempts() {
+        return attempts;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public LocalDateTime getProcessedAt() {
+        return processedAt;
+    }
+}
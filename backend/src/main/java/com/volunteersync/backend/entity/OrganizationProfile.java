@@ -142,6 +142,10 @@ public class OrganizationProfile {
     @Column(name = "funding_raised")
     private Integer fundingRaised;
 
+    // Weighted 0-100 score from ProfileCompleteness.ORGANIZATION_RULES, recomputed on every write
+    @Column(name = "profile_completeness", nullable = false)
+    private Integer profileCompleteness = 0;
+
     @Column(name = "ein")
     private String ein; // Separate EIN field
 
@@ -645,10 +649,22 @@ public class OrganizationProfile {
     // JPA LIFECYCLE METHODS
     // =====================================================
 
+    public Integer getProfileCompleteness() {
+        return profileCompleteness;
+    }
+
+    /**
+     * Recompute the stored completeness score from the current field values
+     */
+    public void updateProfileCompleteness() {
+        this.profileCompleteness = ProfileCompleteness.score(ProfileCompleteness.ORGANIZATION_RULES, this);
+    }
+
     @PreUpdate
     public void preUpdate() {
         this.updatedAt = LocalDateTime.now();
         this.updateOrganizationSize();
+        this.updateProfileCompleteness();
     }
 
     @PrePersist
@@ -664,6 +680,7 @@ public class OrganizationProfile {
         if (verificationLevel == null) {
             verificationLevel = "Unverified";
         }
+        this.updateProfileCompleteness();
     }
 
     @Override
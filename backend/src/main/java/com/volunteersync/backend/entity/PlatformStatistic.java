@@ -0,0 +1,63 @@
+package com.volunteersync.backend.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Materialized platform counter - one row per statistic key
+ * Keys are either plain counters ("users.total") or distribution buckets
+ * ("organizations.category:Education"), maintained incrementally by
+ * PlatformStatisticsService and reconciled by a periodic full recount.
+ */
+@Entity
+@Table(name = "platform_statistics")
+public class PlatformStatistic {
+
+    @Id
+    @Column(name = "stat_key", length = 255)
+    private String statKey;
+
+    @Column(name = "stat_value", nullable = false)
+    private Long statValue = 0L;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    // Constructors
+    public PlatformStatistic() {}
+
+    public PlatformStatistic(String statKey, Long statValue) {
+        this.statKey = statKey;
+        this.statValue = statValue;
+    }
+
+    // Getters and Setters
+    public String getStatKey() {
+        return statKey;
+    }
+
+    public void setStatKey(String statKey) {
+        this.statKey = statKey;
+    }
+
+    public Long getStatValue() {
+        return statValue;
+    }
+
+    public void setStatValue(Long statValue) {
+        this.statValue = statValue;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @PreUpdate
+    public void preUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
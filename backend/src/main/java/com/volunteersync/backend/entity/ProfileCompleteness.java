@@ -0,0 +1,106 @@
+package com.volunteersync.backend.entity;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Profile completeness rules - each rule is a field and the weight it adds to the 0-100 score
+ * when filled in. Profiles store their score (profile_completeness) on every insert/update,
+ * so completion stats and "incomplete profile" lists are queries over an indexed column.
+ * Changing a weight here is picked up for existing rows by ProfileCompletenessService at startup.
+ */
+public final class ProfileCompleteness {
+
+    /**
+     * Score at or above which a profile counts as complete
+     */
+    public static final int COMPLETE_SCORE = 80;
+
+    public static final List<Rule<VolunteerProfile>> VOLUNTEER_RULES = List.of(
+            new Rule<>("firstName", 15, profile -> hasText(profile.getFirstName())),
+            new Rule<>("lastName", 15, profile -> hasText(profile.getLastName())),
+            new Rule<>("bio", 15, profile -> hasText(profile.getBio())),
+            new Rule<>("location", 15, profile -> hasText(profile.getLocation())),
+            new Rule<>("skills", 10, profile -> hasText(profile.getSkills())),
+            new Rule<>("interests", 10, profile -> hasText(profile.getInterests())),
+            new Rule<>("profileImageUrl", 10, profile -> hasText(profile.getProfileImageUrl())),
+            new Rule<>("phoneNumber", 5, profile -> hasText(profile.getPhoneNumber())),
+            new Rule<>("availabilityPreference", 5, profile -> hasText(profile.getAvailabilityPreference())));
+
+    public static final List<Rule<OrganizationProfile>> ORGANIZATION_RULES = List.of(
+            new Rule<>("organizationName", 15, profile -> hasText(profile.getOrganizationName())),
+            new Rule<>("description", 15, profile -> hasText(profile.getDescription())),
+            new Rule<>("missionStatement", 10, profile -> hasText(profile.getMissionStatement())),
+            new Rule<>("primaryCategory", 10, profile -> hasText(profile.getPrimaryCategory())),
+            new Rule<>("location", 10, profile -> hasText(profile.getCity()) && hasText(profile.getState())),
+            new Rule<>("profileImageUrl", 10, profile -> hasText(profile.getProfileImageUrl())),
+            new Rule<>("website", 5, profile -> hasText(profile.getWebsite())),
+            new Rule<>("phoneNumber", 5, profile -> hasText(profile.getPhoneNumber())),
+            new Rule<>("organizationType", 5, profile -> hasText(profile.getOrganizationType())),
+            new Rule<>("services", 5, profile -> hasText(profile.getServices())),
+            new Rule<>("foundedYear", 5, profile -> profile.getFoundedYear() != null),
+            new Rule<>("coverImageUrl", 5, profile -> hasText(profile.getCoverImageUrl())));
+
+    static {
+        checkWeights(VOLUNTEER_RULES);
+        checkWeights(ORGANIZATION_RULES);
+    }
+
+    private ProfileCompleteness() {
+    }
+
+    /**
+     * Sum of the weights of the rules the profile satisfies (0-100)
+     */
+    public static <T> int score(List<Rule<T>> rules, T profile) {
+        int score = 0;
+        for (Rule<T> rule : rules) {
+            if (rule.isFilled(profile)) {
+                score += rule.weight();
+            }
+        }
+        return score;
+    }
+
+    /**
+     * Fields the profile is missing, heaviest first (rule order among equal weights)
+     */
+    public static <T> List<String> missingFields(List<Rule<T>> rules, T profile) {
+        return rules.stream()
+                .filter(rule -> !rule.isFilled(profile))
+                .sorted(Comparator.comparingInt(Rule<T>::weight).reversed())
+                .map(Rule::field)
+                .toList();
+    }
+
+    /**
+     * Reject a score band outside 0 <= minScore <= maxScore <= 100
+     */
+    public static void checkScoreBand(int minScore, int maxScore) {
+        if (minScore < 0 || maxScore > 100 || minScore > maxScore) {
+            throw new RuntimeException("Score band must satisfy 0 <= minScore <= maxScore <= 100");
+        }
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+
+    private static void checkWeights(List<? extends Rule<?>> rules) {
+        int total = rules.stream().mapToInt(Rule::weight).sum();
+        if (total != 100) {
+            throw new IllegalStateException("Profile completeness weights must add up to 100, got " + total);
+        }
+    }
+
+    /**
+     * One weighted field check
+     */
+    public record Rule<T>(String field, int weight, Predicate<T> filled) {
+
+        public boolean isFilled(T profile) {
+            return filled.test(profile);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.volunteersync.backend.entity;
+
+import com.volunteersync.backend.enums.RollupGranularity;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Pre-aggregated time-series bucket - the number of occurrences of a metric
+ * (e.g. "users.registered") within one hour, day or month. Maintained
+ * incrementally by TimeSeriesRollupService and rebuilt by its backfill job.
+ */
+@Entity
+@Table(name = "time_series_rollups",
+       uniqueConstraints = @UniqueConstraint(name = "uk_rollup_bucket",
+               columnNames = {"metric", "granularity", "bucket_start"}))
+public class TimeSeriesRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "metric", nullable = false, length = 100)
+    private String metric;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", nullable = false, length = 10)
+    private RollupGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "bucket_count", nullable = false)
+    private Long bucketCount = 0L;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    // Constructors
+    public TimeSeriesRollup() {}
+
+    public TimeSeriesRollup(String metric, RollupGranularity granularity, LocalDateTime bucketStart, Long bucketCount) {
+        this.metric = metric;
+        this.granularity = granularity;
+        this.bucketStart = bucketStart;
+        this.bucketCount = bucketCount;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getMetric() {
+        return metric;
+    }
+
+    public void setMetric(String metric) {
+        this.metric = metric;
+    }
+
+    public RollupGranularity getGranularity() {
+        return granularity;
+    }
+
+    public void setGranularity(RollupGranularity granularity) {
+        this.granularity = granularity;
+    }
+
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public void setBucketStart(LocalDateTime bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+
+    public Long getBucketCount() {
+        return bucketCount;
+    }
+
+    public void setBucketCount(Long bucketCount) {
+        this.bucketCount = bucketCount;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @PreUpdate
+    public void preUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -20,6 +20,12 @@ public class User {
     @Column(unique = true, nullable = false)
     private String email;
 
+    /**
+     * Lower-cased, trimmed copy of email - the lookup key for login and registration
+     */
+    @Column(name = "email_normalized", unique = true, nullable = false)
+    private String emailNormalized;
+
     @NotBlank
     @Size(min = 6)
     @Column(nullable = false)
@@ -46,7 +52,7 @@ public class User {
     }
 
     public User(String email, String password, UserType userType) {
-        this.email = email;
+        setEmail(email);
         this.password = password;
         this.userType = userType;
     }
@@ -66,6 +72,15 @@ public class User {
 
     public void setEmail(String email) {
         this.email = email;
+        this.emailNormalized = normalizeEmail(email);
+    }
+
+    public String getEmailNormalized() {
+        return emailNormalized;
+    }
+
+    public static String normalizeEmail(String email) {
+        return email != null ? email.trim().toLowerCase() : null;
     }
 
     public String getPassword() {
@@ -116,8 +131,14 @@ public class User {
         this.updatedAt = updatedAt;
     }
 
+    @PrePersist
+    public void prePersist() {
+        this.emailNormalized = normalizeEmail(email);
+    }
+
     @PreUpdate
     public void preUpdate() {
+        this.emailNormalized = normalizeEmail(email);
         this.updatedAt = LocalDateTime.now();
     }
 }
\ No newline at end of file
@@ -0,0 +1,109 @@
+package com.volunteersync.backend.entity;
+
+import com.volunteersync.backend.enums.HoursEntryType;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * One row of the append-only volunteer hours ledger - the hours and events credited by an
+ * attended application (at most once per application) or a manual adjustment. The totals on
+ * VolunteerProfile are running sums of these rows, checked by VolunteerHoursLedgerService.
+ */
+@Entity
+@Table(name = "volunteer_hours_ledger",
+       uniqueConstraints = @UniqueConstraint(name = "uk_hours_ledger_application", columnNames = "application_id"),
+       indexes = @Index(name = "idx_hours_ledger_volunteer_recorded", columnList = "volunteer_profile_id, recorded_at"))
+public class VolunteerHoursEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "volunteer_profile_id", nullable = false)
+    private Long volunteerProfileId;
+
+    @Column(name = "application_id")
+    private Long applicationId;
+
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type", nullable = false)
+    private HoursEntryType entryType;
+
+    @Column(name = "hours", nullable = false)
+    private Integer hours = 0;
+
+    @Column(name = "events", nullable = false)
+    private Integer events = 0;
+
+    @Column(name = "note")
+    private String note;
+
+    @Column(name = "recorded_at", nullable = false, updatable = false)
+    private LocalDateTime recordedAt = LocalDateTime.now();
+
+    // Constructors
+    public VolunteerHoursEntry() {}
+
+    public VolunteerHoursEntry(Long volunteerProfileId, HoursEntryType entryType, Integer hours, Integer events) {
+        this.volunteerProfileId = volunteerProfileId;
+        this.entryType = entryType;
+        this.hours = hours;
+        this.events = events;
+    }
+
+    // Getters (rows are never updated once written)
+    public Long getId() {
+        return id;
+    }
+
+    public Long getVolunteerProfileId() {
+        return volunteerProfileId;
+    }
+
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    public void setApplicationId(Long applicationId) {
+        this.applicationId = applicationId;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public HoursEntryType getEntryType() {
+        return entryType;
+    }
+
+    public Integer getHours() {
+        return hours;
+    }
+
+    public Integer getEvents() {
+        return events;
+    }
+
+    public String getNote() {
+        return note;
+    }
+
+    public void setNote(String note) {
+        this.note = note;
+    }
+
+    public LocalDateTime getRecordedAt() {
+        return recordedAt;
+    }
+
+    public void setRecordedAt(LocalDateTime recordedAt) {
+        this.recordedAt = recordedAt;
+    }
+}
@@ -64,6 +64,10 @@ public class VolunteerProfile {
     @Column(name = "followed_organizations")
     private String followedOrganizations; // "1,5,10,25"
 
+    // Weighted 0-100 score from ProfileCompleteness.VOLUNTEER_RULES, recomputed on every write
+    @Column(name = "profile_completeness", nullable = false)
+    private Integer profileCompleteness = 0;
+
     // =====================================================
     // FOLLOWED ORGANIZATIONS METHODS
     // =====================================================
@@ -320,8 +324,25 @@ public class VolunteerProfile {
         this.updatedAt = updatedAt;
     }
 
+    public Integer getProfileCompleteness() {
+        return profileCompleteness;
+    }
+
+    /**
+     * Recompute the stored completeness score from the current field values
+     */
+    public void updateProfileCompleteness() {
+        this.profileCompleteness = ProfileCompleteness.score(ProfileCompleteness.VOLUNTEER_RULES, this);
+    }
+
+    @PrePersist
+    public void prePersist() {
+        this.updateProfileCompleteness();
+    }
+
     @PreUpdate
     public void preUpdate() {
         this.updatedAt = LocalDateTime.now();
+        this.updateProfileCompleteness();
     }
 }
\ No newline at end of file
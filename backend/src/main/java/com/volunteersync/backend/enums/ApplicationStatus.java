@@ -1,5 +1,7 @@
 package com.volunteersync.backend.enums;
 
+import java.util.List;
+
 public enum ApplicationStatus {
     PENDING("Pending Review"),
     ACCEPTED("Accepted"),
@@ -29,4 +31,23 @@ public enum ApplicationStatus {
     public boolean isCompleted() {
         return this == ATTENDED || this == NO_SHOW;
     }
-}
\ No newline at end of file
+
+    /**
+     * Statuses an application may move from into this status
+     */
+    public List<ApplicationStatus> getAllowedPreviousStatuses() {
+        return switch (this) {
+            case PENDING -> List.of(REJECTED);
+            case ACCEPTED, REJECTED -> List.of(PENDING);
+            case WITHDRAWN -> List.of(PENDING, ACCEPTED);
+            case ATTENDED, NO_SHOW -> List.of(ACCEPTED);
+        };
+    }
+
+    /**
+     * Whether an application in this status occupies a volunteer spot on its event
+     */
+    public boolean holdsVolunteerSpot() {
+        return this == ACCEPTED || this == ATTENDED;
+    }
+}
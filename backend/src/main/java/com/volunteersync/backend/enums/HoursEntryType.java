@@ -0,0 +1,16 @@
+package com.volunteersync.backend.enums;
+
+public enum HoursEntryType {
+    ATTENDANCE("Attendance"),
+    ADJUSTMENT("Adjustment");
+
+    private final String displayName;
+
+    HoursEntryType(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
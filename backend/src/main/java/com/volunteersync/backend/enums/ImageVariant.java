@@ -0,0 +1,32 @@
+package com.volunteersync.backend.enums;
+
+public enum ImageVariant {
+    THUMBNAIL("thumbnail", 160),
+    CARD("card", 480),
+    FULL("full", 1600);
+
+    private final String pathName;
+    private final int maxDimension;
+
+    ImageVariant(String pathName, int maxDimension) {
+        this.pathName = pathName;
+        this.maxDimension = maxDimension;
+    }
+
+    public String getPathName() {
+        return pathName;
+    }
+
+    public int getMaxDimension() {
+        return maxDimension;
+    }
+
+    public static ImageVariant fromPathName(String pathName) {
+        for (ImageVariant variant : values()) {
+            if (variant.pathName.equalsIgnoreCase(pathName)) {
+                return variant;
+            }
+        }
+        throw new RuntimeException("Unknown image variant: " + pathName);
+    }
+}
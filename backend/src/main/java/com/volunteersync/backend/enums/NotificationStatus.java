@@ -0,0 +1,17 @@
+package com.volunteersync.backend.enums;
+
+public enum NotificationStatus {
+    PENDING("Pending"),
+    SENT("Sent"),
+    FAILED("Failed");
+
+    private final String displayName;
+
+    NotificationStatus(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
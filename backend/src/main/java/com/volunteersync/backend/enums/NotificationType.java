@@ -0,0 +1,15 @@
+package com.volunteersync.backend.enums;
+
+public enum NotificationType {
+    NEW_EVENT("New Event");
+
+    private final String displayName;
+
+    NotificationType(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,17 @@
+package com.volunteersync.backend.enums;
+
+public enum OutboxStatus {
+    PENDING("Pending"),
+    DONE("Done"),
+    FAILED("Failed");
+
+    private final String displayName;
+
+    OutboxStatus(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,42 @@
+package com.volunteersync.backend.enums;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+public enum RollupGranularity {
+    HOUR("Hourly"),
+    DAY("Daily"),
+    MONTH("Monthly");
+
+    private final String displayName;
+
+    RollupGranularity(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Start of the bucket containing the given timestamp
+     */
+    public LocalDateTime truncate(LocalDateTime timestamp) {
+        return switch (this) {
+            case HOUR -> timestamp.truncatedTo(ChronoUnit.HOURS);
+            case DAY -> timestamp.truncatedTo(ChronoUnit.DAYS);
+            case MONTH -> timestamp.truncatedTo(ChronoUnit.DAYS).withDayOfMonth(1);
+        };
+    }
+
+    /**
+     * Start of the bucket following the one starting at bucketStart
+     */
+    public LocalDateTime next(LocalDateTime bucketStart) {
+        return switch (this) {
+            case HOUR -> bucketStart.plusHours(1);
+            case DAY -> bucketStart.plusDays(1);
+            case MONTH -> bucketStart.plusMonths(1);
+        };
+    }
+}
@@ -4,12 +4,16 @@ import com.volunteersync.backend.entity.Application;
 import com.volunteersync.backend.entity.Event;
 import com.volunteersync.backend.entity.VolunteerProfile;
 import com.volunteersync.backend.enums.ApplicationStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -42,6 +46,79 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
 
         boolean existsByVolunteerAndEvent(VolunteerProfile volunteer, Event event);
 
+        /**
+         * Page through a volunteer's applications, newest first, with optional filters
+         * Served by the (volunteer_id, applied_at) index; event and organization are
+         * fetched in the same query for the tracking DTOs
+         */
+        @Query(value = "SELECT a FROM Application a JOIN FETCH a.event e JOIN FETCH e.organization " +
+                        "WHERE a.volunteer = :volunteer " +
+                        "AND (:status IS NULL OR a.status = :status) " +
+                        "AND (:startDate IS NULL OR a.appliedAt >= :startDate) " +
+                        "AND (:endDate IS NULL OR a.appliedAt <= :endDate) " +
+                        "AND (:titleSearch IS NULL OR LOWER(e.title) LIKE LOWER(CONCAT('%', :titleSearch, '%'))) " +
+                        "ORDER BY a.appliedAt DESC, a.id DESC",
+                        countQuery = "SELECT COUNT(a) FROM Application a JOIN a.event e " +
+                        "WHERE a.volunteer = :volunteer " +
+                        "AND (:status IS NULL OR a.status = :status) " +
+                        "AND (:startDate IS NULL OR a.appliedAt >= :startDate) " +
+                        "AND (:endDate IS NULL OR a.appliedAt <= :endDate) " +
+                        "AND (:titleSearch IS NULL OR LOWER(e.title) LIKE LOWER(CONCAT('%', :titleSearch, '%')))")
+        Page<Application> findVolunteerApplicationsPage(@Param("volunteer") VolunteerProfile volunteer,
+                        @Param("status") ApplicationStatus status,
+                        @Param("startDate") LocalDateTime startDate,
+                        @Param("endDate") LocalDateTime endDate,
+                        @Param("titleSearch") String titleSearch,
+                        Pageable pageable);
+
+        /**
+         * Keyset page of a volunteer's applications strictly after (appliedAt, id)
+         * in newest-first order - cost does not grow with the page number
+         */
+        @Query("SELECT a FROM Application a JOIN FETCH a.event e JOIN FETCH e.organization " +
+                        "WHERE a.volunteer = :volunteer " +
+                        "AND (a.appliedAt < :cursorAppliedAt OR (a.appliedAt = :cursorAppliedAt AND a.id < :cursorId)) " +
+                        "AND (:status IS NULL OR a.status = :status) " +
+                        "AND (:startDate IS NULL OR a.appliedAt >= :startDate) " +
+                        "AND (:endDate IS NULL OR a.appliedAt <= :endDate) " +
+                        "AND (:titleSearch IS NULL OR LOWER(e.title) LIKE LOWER(CONCAT('%', :titleSearch, '%'))) " +
+                        "ORDER BY a.appliedAt DESC, a.id DESC")
+        List<Application> findVolunteerApplicationsAfter(@Param("volunteer") VolunteerProfile volunteer,
+                        @Param("cursorAppliedAt") LocalDateTime cursorAppliedAt,
+                        @Param("cursorId") Long cursorId,
+                        @Param("status") ApplicationStatus status,
+                        @Param("startDate") LocalDateTime startDate,
+                        @Param("endDate") LocalDateTime endDate,
+                        @Param("titleSearch") String titleSearch,
+                        Pageable pageable);
+
+        /**
+         * Count a volunteer's applications matching the tracking filters
+         */
+        @Query("SELECT COUNT(a) FROM Application a JOIN a.event e " +
+                        "WHERE a.volunteer = :volunteer " +
+                        "AND (:status IS NULL OR a.status = :status) " +
+                        "AND (:startDate IS NULL OR a.appliedAt >= :startDate) " +
+                        "AND (:endDate IS NULL OR a.appliedAt <= :endDate) " +
+                        "AND (:titleSearch IS NULL OR LOWER(e.title) LIKE LOWER(CONCAT('%', :titleSearch, '%')))")
+        long countVolunteerApplications(@Param("volunteer") VolunteerProfile volunteer,
+                        @Param("status") ApplicationStatus status,
+                        @Param("startDate") LocalDateTime startDate,
+                        @Param("endDate") LocalDateTime endDate,
+                        @Param("titleSearch") String titleSearch);
+
+        /**
+         * Per-status summary of a volunteer's applications in one pass:
+         * [status, count, applied since :appliedSince, updated since :activitySince]
+         */
+        @Query("SELECT a.status, COUNT(a), " +
+                        "SUM(CASE WHEN a.appliedAt > :appliedSince THEN 1 ELSE 0 END), " +
+                        "SUM(CASE WHEN COALESCE(a.respondedAt, a.appliedAt) > :activitySince THEN 1 ELSE 0 END) " +
+                        "FROM Application a WHERE a.volunteer = :volunteer GROUP BY a.status")
+        List<Object[]> getVolunteerStatusSummary(@Param("volunteer") VolunteerProfile volunteer,
+                        @Param("appliedSince") LocalDateTime appliedSince,
+                        @Param("activitySince") LocalDateTime activitySince);
+
         // =====================================================
         // EVENT APPLICATION QUERIES
         // =====================================================
@@ -98,6 +175,21 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
         List<Application> findApplicationsByOrganizationAndStatus(@Param("orgId") Long organizationId,
                         @Param("status") ApplicationStatus status);
 
+        /**
+         * Count an organization's applications per status in one pass
+         */
+        @Query("SELECT a.status, COUNT(a) FROM Application a WHERE a.event.organization.id = :orgId " +
+                        "GROUP BY a.status")
+        List<Object[]> countApplicationsByOrganizationGroupByStatus(@Param("orgId") Long organizationId);
+
+        /**
+         * Applications of one volunteer to an organization's events
+         */
+        @Query("SELECT a FROM Application a JOIN FETCH a.event e " +
+                        "WHERE a.volunteer = :volunteer AND e.organization.id = :orgId ORDER BY a.appliedAt DESC")
+        List<Application> findByVolunteerAndOrganization(@Param("volunteer") VolunteerProfile volunteer,
+                        @Param("orgId") Long organizationId);
+
         // =====================================================
         // STATUS-BASED QUERIES
         // =====================================================
@@ -119,6 +211,55 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
                         "ORDER BY a.appliedAt ASC")
         List<Application> findRecentPendingApplications(@Param("since") LocalDateTime since);
 
+        // =====================================================
+        // BULK STATUS TRANSITIONS
+        // =====================================================
+
+        /**
+         * Count how many of the given applications belong to an organization's events
+         */
+        @Query("SELECT COUNT(a) FROM Application a WHERE a.id IN :ids AND a.event.organization.id = :orgId")
+        long countOwnedApplications(@Param("ids") Collection<Long> ids, @Param("orgId") Long organizationId);
+
+        /**
+         * Ids from the given list that exist at all (distinguishes missing from foreign rows)
+         */
+        @Query("SELECT a.id FROM Application a WHERE a.id IN :ids")
+        List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+        /**
+         * Transition inputs without loading entities:
+         * [id, status, eventId, maxVolunteers, currentVolunteers, estimatedHours, volunteerProfileId]
+         */
+        @Query("SELECT a.id, a.status, e.id, e.maxVolunteers, e.currentVolunteers, e.estimatedHours, v.id " +
+                        "FROM Application a JOIN a.event e JOIN a.volunteer v WHERE a.id IN :ids")
+        List<Object[]> findTransitionCandidates(@Param("ids") Collection<Long> ids);
+
+        /**
+         * Move applications to a new status in one statement; rows no longer in an
+         * allowed source status are left untouched. Null arguments keep the current value.
+         */
+        @Modifying
+        @Query("UPDATE Application a SET a.status = :newStatus, " +
+                        "a.organizationNotes = COALESCE(:notes, a.organizationNotes), " +
+                        "a.respondedAt = COALESCE(:respondedAt, a.respondedAt), " +
+                        "a.completedAt = COALESCE(:completedAt, a.completedAt), " +
+                        "a.hoursCompleted = COALESCE(:hoursCompleted, a.hoursCompleted) " +
+                        "WHERE a.id IN :ids AND a.status IN :fromStatuses")
+        int transitionStatus(@Param("ids") Collection<Long> ids,
+                        @Param("fromStatuses") Collection<ApplicationStatus> fromStatuses,
+                        @Param("newStatus") ApplicationStatus newStatus,
+                        @Param("notes") String notes,
+                        @Param("respondedAt") LocalDateTime respondedAt,
+                        @Param("completedAt") LocalDateTime completedAt,
+                        @Param("hoursCompleted") Integer hoursCompleted);
+
+        /**
+         * Ids from the given list currently in a status (re-check after a short update count)
+         */
+        @Query("SELECT a.id FROM Application a WHERE a.id IN :ids AND a.status = :status")
+        List<Long> findIdsWithStatus(@Param("ids") Collection<Long> ids, @Param("status") ApplicationStatus status);
+
         // =====================================================
         // VOLUNTEER HOURS AND STATISTICS
         // =====================================================
@@ -160,6 +301,12 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
         @Query("SELECT a.status, COUNT(a) FROM Application a WHERE a.event.id = :eventId GROUP BY a.status")
         List<Object[]> getEventApplicationStats(@Param("eventId") Long eventId);
 
+        /**
+         * Application count per event (suggestion popularity)
+         */
+        @Query("SELECT a.event.id, COUNT(a) FROM Application a GROUP BY a.event.id")
+        List<Object[]> countApplicationsByEvent();
+
         // =====================================================
         // PLATFORM STATISTICS
         // =====================================================
@@ -176,12 +323,23 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
         Object[] getPlatformApplicationStats();
 
         /**
-         * Get monthly application statistics
+         * Get earliest and latest application time (rollup backfill bounds)
+         */
+        @Query("SELECT MIN(a.appliedAt) FROM Application a")
+        LocalDateTime findEarliestAppliedAt();
+
+        @Query("SELECT MAX(a.appliedAt) FROM Application a")
+        LocalDateTime findLatestAppliedAt();
+
+        /**
+         * Applications in [from, to) per hour: [year, month, day, hour, count] - rollup backfill source
          */
-        @Query("SELECT YEAR(a.appliedAt), MONTH(a.appliedAt), COUNT(a) FROM Application a " +
-                        "WHERE a.appliedAt >= :since GROUP BY YEAR(a.appliedAt), MONTH(a.appliedAt) " +
-                        "ORDER BY YEAR(a.appliedAt), MONTH(a.appliedAt)")
-        List<Object[]> getMonthlyApplicationStats(@Param("since") LocalDateTime since);
+        @Query("SELECT EXTRACT(YEAR FROM a.appliedAt), EXTRACT(MONTH FROM a.appliedAt), EXTRACT(DAY FROM a.appliedAt), " +
+                        "EXTRACT(HOUR FROM a.appliedAt), COUNT(a) FROM Application a " +
+                        "WHERE a.appliedAt >= :from AND a.appliedAt < :to " +
+                        "GROUP BY EXTRACT(YEAR FROM a.appliedAt), EXTRACT(MONTH FROM a.appliedAt), " +
+                        "EXTRACT(DAY FROM a.appliedAt), EXTRACT(HOUR FROM a.appliedAt)")
+        List<Object[]> countAppliedPerHour(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 
         /**
          * Find applications in date range
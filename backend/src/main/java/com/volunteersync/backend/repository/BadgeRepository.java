@@ -41,6 +41,15 @@ public interface BadgeRepository extends JpaRepository<Badge, Long> {
 
        boolean existsByUserAndBadgeType(User user, BadgeType badgeType);
 
+       /**
+        * Id-based variants used when the badge progress cache already knows the user
+        */
+       List<Badge> findByUserId(Long userId);
+
+       List<Badge> findByUserIdAndIsFeaturedTrue(Long userId);
+
+       Optional<Badge> findByUserIdAndBadgeType(Long userId, BadgeType badgeType);
+
        // =====================================================
        // BADGE TYPE QUERIES
        // =====================================================
@@ -81,8 +90,9 @@ public interface BadgeRepository extends JpaRepository<Badge, Long> {
        /**
         * Find users who earned badge today
         */
-       @Query("SELECT b FROM Badge b WHERE DATE(b.earnedAt) = DATE(:today)")
-       List<Badge> findBadgesEarnedToday(@Param("today") LocalDateTime today);
+       @Query("SELECT b FROM Badge b WHERE b.earnedAt >= :dayStart AND b.earnedAt < :dayEnd")
+       List<Badge> findBadgesEarnedToday(@Param("dayStart") LocalDateTime dayStart,
+                     @Param("dayEnd") LocalDateTime dayEnd);
 
        // =====================================================
        // STATISTICS QUERIES
@@ -110,12 +120,23 @@ public interface BadgeRepository extends JpaRepository<Badge, Long> {
        List<Object[]> getBadgeDistributionStats();
 
        /**
-        * Get monthly badge earning statistics
+        * Get earliest and latest badge earning time (rollup backfill bounds)
+        */
+       @Query("SELECT MIN(b.earnedAt) FROM Badge b")
+       LocalDateTime findEarliestEarnedAt();
+
+       @Query("SELECT MAX(b.earnedAt) FROM Badge b")
+       LocalDateTime findLatestEarnedAt();
+
+       /**
+        * Badges earned in [from, to) per hour: [year, month, day, hour, count] - rollup backfill source
         */
-       @Query("SELECT YEAR(b.earnedAt), MONTH(b.earnedAt), COUNT(b) FROM Badge b " +
-                     "WHERE b.earnedAt >= :since GROUP BY YEAR(b.earnedAt), MONTH(b.earnedAt) " +
-                     "ORDER BY YEAR(b.earnedAt), MONTH(b.earnedAt)")
-       List<Object[]> getMonthlyBadgeStats(@Param("since") LocalDateTime since);
+       @Query("SELECT EXTRACT(YEAR FROM b.earnedAt), EXTRACT(MONTH FROM b.earnedAt), EXTRACT(DAY FROM b.earnedAt), " +
+                     "EXTRACT(HOUR FROM b.earnedAt), COUNT(b) FROM Badge b " +
+                     "WHERE b.earnedAt >= :from AND b.earnedAt < :to " +
+                     "GROUP BY EXTRACT(YEAR FROM b.earnedAt), EXTRACT(MONTH FROM b.earnedAt), " +
+                     "EXTRACT(DAY FROM b.earnedAt), EXTRACT(HOUR FROM b.earnedAt)")
+       List<Object[]> countEarnedPerHour(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 
        /**
         * Get badge popularity (most earned first)
@@ -148,4 +169,10 @@ public interface BadgeRepository extends JpaRepository<Badge, Long> {
        @Query("SELECT COUNT(b) as totalBadges, AVG(b.progressValue) as avgProgress, " +
                      "MAX(b.progressValue) as maxProgress FROM Badge b WHERE b.user.id = :userId")
        Object[] getUserBadgeProgressSummary(@Param("userId") Long userId);
-}
+
+       /**
+        * Badges grouped by the fields their statistic keys derive from: [badgeType, count]
+        */
+       @Query("SELECT b.badgeType, COUNT(b) FROM Badge b GROUP BY b.badgeType")
+       List<Object[]> countStatisticGroups();
+}
\ No newline at end of file
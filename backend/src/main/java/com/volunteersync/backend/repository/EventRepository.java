@@ -9,11 +9,13 @@ import com.volunteersync.backend.enums.EventDuration;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -33,6 +35,20 @@ public interface EventRepository extends JpaRepository<Event, Long> {
         */
        List<Event> findByOrganizationOrderByStartDateDesc(OrganizationProfile organization);
 
+       /**
+        * Most recent event ids of an organization, newest first (home feed recent-event lists)
+        */
+       @Query("SELECT e.id FROM Event e WHERE e.organization.id = :organizationId ORDER BY e.id DESC")
+       List<Long> findRecentIdsByOrganization(@Param("organizationId") Long organizationId, Pageable pageable);
+
+       /**
+        * Event ids of several organizations below a cursor, newest first (home feed pages older than memory holds)
+        */
+       @Query("SELECT e.id FROM Event e WHERE e.organization.id IN :organizationIds AND e.id < :beforeId " +
+                     "ORDER BY e.id DESC")
+       List<Long> findIdsByOrganizationsBefore(@Param("organizationIds") Collection<Long> organizationIds,
+                     @Param("beforeId") Long beforeId, Pageable pageable);
+
        /**
         * Find events by organization and status
         */
@@ -146,7 +162,7 @@ public interface EventRepository extends JpaRepository<Event, Long> {
         * Find long-term commitment events
         */
        @Query("SELECT e FROM Event e WHERE e.status = :status AND " +
-                     "(e.durationCategory IN ('WEEKLY', 'MONTHLY', 'ONGOING') OR e.isRecurring = true) " +
+                     "(e.durationCategory IN ('WEEKLY_COMMITMENT', 'MONTHLY_COMMITMENT', 'ONGOING_LONG_TERM') OR e.isRecurring = true) " +
                      "ORDER BY e.startDate ASC")
        List<Event> findLongTermEvents(@Param("status") EventStatus status);
 
@@ -364,8 +380,10 @@ public interface EventRepository extends JpaRepository<Event, Long> {
        /**
         * Find events starting today
         */
-       @Query("SELECT e FROM Event e WHERE DATE(e.startDate) = DATE(:today) ORDER BY e.startDate ASC")
-       List<Event> findEventsToday(@Param("today") LocalDateTime today);
+       @Query("SELECT e FROM Event e WHERE e.startDate >= :dayStart AND e.startDate < :dayEnd " +
+                     "ORDER BY e.startDate ASC")
+       List<Event> findEventsToday(@Param("dayStart") LocalDateTime dayStart,
+                     @Param("dayEnd") LocalDateTime dayEnd);
 
        /**
         * Find events this week
@@ -378,8 +396,9 @@ public interface EventRepository extends JpaRepository<Event, Long> {
         * Find events tomorrow
         */
        @Query("SELECT e FROM Event e WHERE e.status = :status AND " +
-                     "DATE(e.startDate) = DATE(:tomorrow) ORDER BY e.startDate ASC")
-       List<Event> findEventsTomorrow(@Param("tomorrow") LocalDateTime tomorrow, @Param("status") EventStatus status);
+                     "e.startDate >= :dayStart AND e.startDate < :dayEnd ORDER BY e.startDate ASC")
+       List<Event> findEventsTomorrow(@Param("dayStart") LocalDateTime dayStart,
+                     @Param("dayEnd") LocalDateTime dayEnd, @Param("status") EventStatus status);
 
        /**
         * Find events this weekend
@@ -534,12 +553,23 @@ public interface EventRepository extends JpaRepository<Event, Long> {
                      @Param("endDate") LocalDateTime endDate);
 
        /**
-        * Get monthly event creation stats
+        * Get earliest and latest event creation time (rollup backfill bounds)
         */
-       @Query("SELECT YEAR(e.createdAt), MONTH(e.createdAt), COUNT(e) FROM Event e " +
-                     "WHERE e.createdAt >= :since GROUP BY YEAR(e.createdAt), MONTH(e.createdAt) " +
-                     "ORDER BY YEAR(e.createdAt), MONTH(e.createdAt)")
-       List<Object[]> getMonthlyEventCreationStats(@Param("since") LocalDateTime since);
+       @Query("SELECT MIN(e.createdAt) FROM Event e")
+       LocalDateTime findEarliestCreatedAt();
+
+       @Query("SELECT MAX(e.createdAt) FROM Event e")
+       LocalDateTime findLatestCreatedAt();
+
+       /**
+        * Events created in [from, to) per hour: [year, month, day, hour, count] - rollup backfill source
+        */
+       @Query("SELECT EXTRACT(YEAR FROM e.createdAt), EXTRACT(MONTH FROM e.createdAt), EXTRACT(DAY FROM e.createdAt), " +
+                     "EXTRACT(HOUR FROM e.createdAt), COUNT(e) FROM Event e " +
+                     "WHERE e.createdAt >= :from AND e.createdAt < :to " +
+                     "GROUP BY EXTRACT(YEAR FROM e.createdAt), EXTRACT(MONTH FROM e.createdAt), " +
+                     "EXTRACT(DAY FROM e.createdAt), EXTRACT(HOUR FROM e.createdAt)")
+       List<Object[]> countCreatedPerHour(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 
        /**
         * Get comprehensive event statistics
@@ -623,4 +653,46 @@ public interface EventRepository extends JpaRepository<Event, Long> {
                      "(e.endDate IS NULL AND e.startDate < :dayAgo))")
        List<Event> findOverdueEvents(@Param("now") LocalDateTime now, @Param("dayAgo") LocalDateTime dayAgo);
 
+       /**
+        * Shift the volunteer count of several events by the same delta (never below zero)
+        */
+       @Modifying
+       @Query("UPDATE Event e SET e.currentVolunteers = " +
+                     "CASE WHEN COALESCE(e.currentVolunteers, 0) + :delta < 0 THEN 0 " +
+                     "ELSE COALESCE(e.currentVolunteers, 0) + :delta END " +
+                     "WHERE e.id IN :ids")
+       int adjustCurrentVolunteers(@Param("ids") Collection<Long> ids, @Param("delta") int delta);
+
+       /**
+        * Take count spots on an event only if they all fit - the capacity check is part of the UPDATE,
+        * so concurrent claims cannot overbook. Returns 0 when the event is missing or too full.
+        */
+       @Modifying
+       @Query("UPDATE Event e SET e.currentVolunteers = COALESCE(e.currentVolunteers, 0) + :count " +
+                     "WHERE e.id = :id AND " +
+                     "(e.maxVolunteers IS NULL OR COALESCE(e.currentVolunteers, 0) + :count <= e.maxVolunteers)")
+       int claimVolunteerSpots(@Param("id") Long id, @Param("count") int count);
+
+       /**
+        * Spots still open on an event; null when it has no cap (or does not exist)
+        */
+       @Query("SELECT e.maxVolunteers - COALESCE(e.currentVolunteers, 0) FROM Event e " +
+                     "WHERE e.id = :id AND e.maxVolunteers IS NOT NULL")
+       Integer findRemainingSpots(@Param("id") Long id);
+
+       /**
+        * Batch multi-get: the events with these ids, organization and its user fetched in the same query
+        */
+       @Query("SELECT e FROM Event e JOIN FETCH e.organization o JOIN FETCH o.user WHERE e.id IN :ids")
+       List<Event> findAllWithOrganizationByIdIn(@Param("ids") Collection<Long> ids);
+
+       /**
+        * Events grouped by the fields their statistic keys derive from: [isVirtual, isRecurring, status,
+        * eventType, skillLevelRequired, durationCategory, start hour, timeOfDay, count]
+        */
+       @Query("SELECT e.isVirtual, e.isRecurring, e.status, e.eventType, e.skillLevelRequired, e.durationCategory, " +
+                     "EXTRACT(HOUR FROM e.startDate), e.timeOfDay, COUNT(e) FROM Event e " +
+                     "GROUP BY e.isVirtual, e.isRecurring, e.status, e.eventType, e.skillLevelRequired, " +
+                     "e.durationCategory, EXTRACT(HOUR FROM e.startDate), e.timeOfDay")
+       List<Object[]> countStatisticGroups();
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.volunteersync.backend.repository;
+
+import com.volunteersync.backend.entity.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
+
+       /**
+        * Find the stored response (or claim) for a user's key
+        */
+       Optional<IdempotencyRecord> findByUserIdAndIdempotencyKey(Long userId, String idempotencyKey);
+
+       /**
+        * Store the response on a claimed key
+        */
+       @Modifying
+       @Query("UPDATE IdempotencyRecord r SET r.statusCode = :statusCode, r.responseBody = :responseBody, " +
+                     "r.expiresAt = :expiresAt WHERE r.id = :id")
+       int complete(@Param("id") Long id, @Param("statusCode") int statusCode,
+                     @Param("responseBody") String responseBody, @Param("expiresAt") LocalDateTime expiresAt);
+
+       /**
+        * Extend the lease of claims that are still executing
+        */
+       @Modifying
+       @Query("UPDATE IdempotencyRecord r SET r.expiresAt = :leaseEnd " +
+                     "WHERE r.id IN :ids AND r.statusCode IS NULL")
+       int renewClaims(@Param("ids") Collection<Long> ids, @Param("leaseEnd") LocalDateTime leaseEnd);
+
+       /**
+        * Delete records that expired before the given time
+        */
+       @Modifying
+       @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+       int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,52 @@
+package com.volunteersync.backend.repository;
+
+import com.volunteersync.backend.entity.NotificationOutbox;
+import com.volunteersync.backend.enums.OutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+       /**
+        * Outbox records due for (another) fan-out attempt, oldest first (in idx_notification_outbox_due order)
+        */
+       @Query("SELECT o.id FROM NotificationOutbox o WHERE o.status = :status AND o.nextAttemptAt <= :now " +
+                     "ORDER BY o.status, o.nextAttemptAt")
+       List<Long> findDueIds(@Param("status") OutboxStatus status, @Param("now") LocalDateTime now, Pageable pageable);
+
+       /**
+        * Lease a due record for fan-out; 0 if another dispatcher claimed it first
+        */
+       @Modifying
+       @Query("UPDATE NotificationOutbox o SET o.nextAttemptAt = :leaseEnd " +
+                     "WHERE o.id = :id AND o.status = :status AND o.nextAttemptAt <= :now")
+       int claim(@Param("id") Long id, @Param("status") OutboxStatus status, @Param("now") LocalDateTime now,
+                     @Param("leaseEnd") LocalDateTime leaseEnd);
+
+       /**
+        * Move the fan-out cursor past a written batch (guarded on the cursor it started from)
+        */
+       @Modifying
+       @Query("UPDATE NotificationOutbox o SET o.fanoutCursor = :toCursor, o.recipients = o.recipients + :inserted, " +
+                     "o.nextAttemptAt = :leaseEnd WHERE o.id = :id AND o.fanoutCursor = :fromCursor")
+       int advanceCursor(@Param("id") Long id, @Param("fromCursor") Long fromCursor, @Param("toCursor") Long toCursor,
+                     @Param("inserted") int inserted, @Param("leaseEnd") LocalDateTime leaseEnd);
+
+       /**
+        * Finish a record, or schedule its retry (status stays PENDING) / give up (FAILED)
+        */
+       @Modifying
+       @Query("UPDATE NotificationOutbox o SET o.status = :status, o.attempts = :attempts, o.lastError = :lastError, " +
+                     "o.nextAttemptAt = :nextAttemptAt, o.processedAt = :processedAt WHERE o.id = :id")
+       int updateStatus(@Param("id") Long id, @Param("status") OutboxStatus status, @Param("attempts") int attempts,
+                     @Param("lastError") String lastError, @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                     @Param("processedAt") LocalDateTime processedAt);
+}
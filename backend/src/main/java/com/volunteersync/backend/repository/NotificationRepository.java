@@ -0,0 +1,104 @@
+package com.volunteersync.backend.repository;
+
+import com.volunteersync.backend.entity.Notification;
+import com.volunteersync.backend.enums.NotificationStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+       // ==========================================
+       // INBOX
+       // ==========================================
+
+       Page<Notification> findByUserIdOrderByCreatedAtDescIdDesc(Long userId, Pageable pageable);
+
+       long countByUserIdAndReadAtIsNull(Long userId);
+
+       @Modifying
+       @Query("UPDATE Notification n SET n.readAt = :now WHERE n.id = :id AND n.userId = :userId AND n.readAt IS NULL")
+       int markRead(@Param("id") Long id, @Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+       @Modifying
+       @Query("UPDATE Notification n SET n.readAt = :now WHERE n.userId = :userId AND n.readAt IS NULL")
+       int markAllRead(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+       // ==========================================
+       // FAN-OUT
+       // ==========================================
+
+       /**
+        * Write one batch of an outbox record's fan-out: a notification for every follower of the
+        * organization with a volunteer profile id in (afterId, upToId]. followed_organizations is
+        * a comma-separated id list, matched as ",<id>," so 5 does not match 15.
+        */
+       @Modifying
+       @Query(value = "INSERT INTO notifications (user_id, outbox_id, type, organization_id, event_id, title, message, " +
+                     "delivery_status, delivery_attempts, next_attempt_at, created_at) " +
+                     "SELECT vp.user_id, :outboxId, :type, :organizationId, :eventId, :title, :message, " +
+                     "'PENDING', 0, :now, :now FROM volunteer_profiles vp " +
+                     "WHERE vp.id > :afterId AND vp.id <= :upToId " +
+                     "AND CONCAT(',', vp.followed_organizations, ',') LIKE CONCAT('%,', :organizationId, ',%')",
+                     nativeQuery = true)
+       int insertFanoutBatch(@Param("outboxId") Long outboxId, @Param("type") String type,
+                     @Param("organizationId") Long organizationId, @Param("eventId") Long eventId,
+                     @Param("title") String title, @Param("message") String message,
+                     @Param("afterId") Long afterId, @Param("upToId") Long upToId, @Param("now") LocalDateTime now);
+
+       // ==========================================
+       // DELIVERY
+       // ==========================================
+
+       /**
+        * Notifications due for a delivery attempt, oldest first
+        * (ordered by both index columns so the page is read in index order instead of sorting every due row)
+        */
+       @Query("SELECT n.id FROM Notification n WHERE n.deliveryStatus = :status AND n.nextAttemptAt <= :now " +
+                     "ORDER BY n.deliveryStatus, n.nextAttemptAt")
+       List<Long> findDueIds(@Param("status") NotificationStatus status, @Param("now") LocalDateTime now,
+                     Pageable pageable);
+
+       /**
+        * Lease due notifications for delivery; the rows this call claimed carry exactly leaseEnd.
+        * Only PENDING rows have a next attempt, so the guard leaves out the status - with it the
+        * planner picks idx_notifications_delivery and walks every due row instead of the id lookups.
+        */
+       @Modifying
+       @Query("UPDATE Notification n SET n.nextAttemptAt = :leaseEnd WHERE n.id IN :ids AND n.nextAttemptAt <= :now")
+       int claim(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now,
+                     @Param("leaseEnd") LocalDateTime leaseEnd);
+
+       /**
+        * Claimed notifications with the recipient's address:
+        * [id, userId, email, type, title, message, eventId, deliveryAttempts, createdAt]
+        */
+       @Query("SELECT n.id, n.userId, u.email, n.type, n.title, n.message, n.eventId, n.deliveryAttempts, n.createdAt " +
+                     "FROM Notification n JOIN User u ON u.id = n.userId " +
+                     "WHERE n.id IN :ids AND n.nextAttemptAt = :leaseEnd")
+       List<Object[]> findClaimed(@Param("ids") Collection<Long> ids, @Param("leaseEnd") LocalDateTime leaseEnd);
+
+       @Modifying
+       @Query("UPDATE Notification n SET n.deliveryStatus = :status, n.deliveredAt = :now, " +
+                     "n.deliveryAttempts = n.deliveryAttempts + 1, n.nextAttemptAt = NULL WHERE n.id IN :ids")
+       int markSent(@Param("ids") Collection<Long> ids, @Param("status") NotificationStatus status,
+                     @Param("now") LocalDateTime now);
+
+       /**
+        * Record a failed attempt: retry at nextAttemptAt (PENDING) or give up (FAILED, no next attempt)
+        */
+       @Modifying
+       @Query("UPDATE Notification n SET n.deliveryStatus = :status, n.deliveryAttempts = n.deliveryAttempts + 1, " +
+                     "n.nextAttemptAt = :nextAttemptAt WHERE n.id = :id")
+       int markAttemptFailed(@Param("id") Long id, @Param("status") NotificationStatus status,
+                     @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+}
@@ -5,11 +5,13 @@ import com.volunteersync.backend.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -281,7 +283,7 @@ public interface OrganizationProfileRepository extends JpaRepository<Organizatio
                      "ORDER BY " +
                      "CASE WHEN :sortBy = 'name' THEN op.organizationName END ASC, " +
                      "CASE WHEN :sortBy = 'events' THEN op.totalEventsHosted END DESC, " +
-                     "CASE WHEN :sortBy = 'volunteers' THEN op.totalVolunteersServed END DESC, " +
+                     "CASE WHEN :sortBy = 'volunteers' THEN op.numberOfVolunteers END DESC, " +
                      "CASE WHEN :sortBy = 'updated' THEN op.updatedAt END DESC, " +
                      "op.createdAt DESC")
        Page<OrganizationProfile> findWithAdvancedFilters(
@@ -368,13 +370,13 @@ public interface OrganizationProfileRepository extends JpaRepository<Organizatio
         * Find most active organizations by events hosted
         */
        @Query("SELECT op FROM OrganizationProfile op ORDER BY op.totalEventsHosted DESC")
-       List<OrganizationProfile> findMostActiveOrganizations();
+       List<OrganizationProfile> findMostActiveOrganizations(Pageable pageable);
 
        /**
         * Find organizations by volunteer impact
         */
-       @Query("SELECT op FROM OrganizationProfile op ORDER BY op.totalVolunteersServed DESC")
-       List<OrganizationProfile> findByVolunteerImpact();
+       @Query("SELECT op FROM OrganizationProfile op ORDER BY op.numberOfVolunteers DESC")
+       List<OrganizationProfile> findByVolunteerImpact(Pageable pageable);
 
        /**
         * Find organizations with minimum activity
@@ -388,14 +390,24 @@ public interface OrganizationProfileRepository extends JpaRepository<Organizatio
        List<OrganizationProfile> findByTotalEventsHosted(Integer eventCount);
 
        /**
-        * Find organizations by activity level
+        * Find organizations by activity level - each level is a totalEventsHosted range, so the
+        * lookup is an index range instead of a parameter-selected OR branch
         */
-       @Query("SELECT op FROM OrganizationProfile op WHERE " +
-                     "(:activityLevel = 'new' AND op.totalEventsHosted = 0) OR " +
-                     "(:activityLevel = 'beginner' AND op.totalEventsHosted BETWEEN 1 AND 5) OR " +
-                     "(:activityLevel = 'active' AND op.totalEventsHosted BETWEEN 6 AND 20) OR " +
-                     "(:activityLevel = 'very_active' AND op.totalEventsHosted > 20)")
-       List<OrganizationProfile> findByActivityLevel(@Param("activityLevel") String activityLevel);
+       default List<OrganizationProfile> findByActivityLevel(String activityLevel) {
+              if (activityLevel == null) {
+                     return List.of();
+              }
+              return switch (activityLevel) {
+                     case "new" -> findByTotalEventsHostedRange(0, 0);
+                     case "beginner" -> findByTotalEventsHostedRange(1, 5);
+                     case "active" -> findByTotalEventsHostedRange(6, 20);
+                     case "very_active" -> findByTotalEventsHostedRange(21, Integer.MAX_VALUE);
+                     default -> List.of();
+              };
+       }
+
+       @Query("SELECT op FROM OrganizationProfile op WHERE op.totalEventsHosted BETWEEN :min AND :max")
+       List<OrganizationProfile> findByTotalEventsHostedRange(@Param("min") Integer min, @Param("max") Integer max);
 
        // =====================================================
        // INTERNATIONAL ORGANIZATIONS
@@ -450,7 +462,7 @@ public interface OrganizationProfileRepository extends JpaRepository<Organizatio
        /**
         * Get total impact statistics
         */
-       @Query("SELECT SUM(op.totalEventsHosted), SUM(op.totalVolunteersServed) FROM OrganizationProfile op")
+       @Query("SELECT SUM(op.totalEventsHosted), SUM(op.numberOfVolunteers) FROM OrganizationProfile op")
        Object[] getTotalImpactStats();
 
        /**
@@ -645,4 +657,51 @@ public interface OrganizationProfileRepository extends JpaRepository<Organizatio
         * @return Number of organizations created after the date
         */
        Long countByCreatedAtAfter(LocalDateTime createdAfter);
+
+       // =====================================================
+       // PROFILE COMPLETENESS
+       // =====================================================
+
+       /**
+        * Completion stats in one pass over the score column: [total, complete (score >= threshold), average score]
+        */
+       @Query("SELECT COUNT(op), COALESCE(SUM(CASE WHEN op.profileCompleteness >= :threshold THEN 1 ELSE 0 END), 0), " +
+                     "AVG(op.profileCompleteness) FROM OrganizationProfile op")
+       List<Object[]> getCompletenessStats(@Param("threshold") int threshold);
+
+       /**
+        * Profiles with a score in [minScore, maxScore], least complete first
+        */
+       @Query("SELECT op FROM OrganizationProfile op WHERE op.profileCompleteness BETWEEN :minScore AND :maxScore " +
+                     "ORDER BY op.profileCompleteness ASC, op.id ASC")
+       Page<OrganizationProfile> findByCompletenessBand(@Param("minScore") int minScore, @Param("maxScore") int maxScore,
+                     Pageable pageable);
+
+       /**
+        * Store a recomputed score on several profiles (leaves updatedAt alone)
+        */
+       @Modifying
+       @Query("UPDATE OrganizationProfile op SET op.profileCompleteness = :score WHERE op.id IN :ids")
+       int setProfileCompleteness(@Param("ids") Collection<Long> ids, @Param("score") int score);
+
+       /**
+        * Batch multi-get: the profiles with these ids, user fetched in the same query
+        */
+       @Query("SELECT op FROM OrganizationProfile op JOIN FETCH op.user WHERE op.id IN :ids")
+       List<OrganizationProfile> findAllWithUserByIdIn(@Param("ids") Collection<Long> ids);
+
+       /**
+        * Profiles grouped by the fields their statistic keys derive from: [isVerified, organizationType,
+        * multiple languages, employeeCount, organizationSize, verificationLevel, primaryCategory, state,
+        * country, count]
+        */
+       @Query("SELECT op.isVerified, op.organizationType, " +
+                     "CASE WHEN LOCATE(',', op.languagesSupported) > 0 THEN true ELSE false END, " +
+                     "op.employeeCount, op.organizationSize, op.verificationLevel, op.primaryCategory, op.state, " +
+                     "op.country, COUNT(op) FROM OrganizationProfile op " +
+                     "GROUP BY op.isVerified, op.organizationType, " +
+                     "CASE WHEN LOCATE(',', op.languagesSupported) > 0 THEN true ELSE false END, " +
+                     "op.employeeCount, op.organizationSize, op.verificationLevel, op.primaryCategory, op.state, " +
+                     "op.country")
+       List<Object[]> countStatisticGroups();
 }
\ No newline at end of file
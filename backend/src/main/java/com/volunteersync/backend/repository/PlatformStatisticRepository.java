@@ -0,0 +1,50 @@
+package com.volunteersync.backend.repository;
+
+import com.volunteersync.backend.entity.PlatformStatistic;
+import jakarta.persistence.LockModeType;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PlatformStatisticRepository extends JpaRepository<PlatformStatistic, String> {
+
+       /**
+        * Apply a delta to a counter in place (no read-modify-write)
+        * Returns the number of rows touched - 0 means the key does not exist yet
+        */
+       @Modifying
+       @Query("UPDATE PlatformStatistic s SET s.statValue = s.statValue + :delta, s.updatedAt = :now " +
+                     "WHERE s.statKey = :statKey")
+       int incrementStatistic(@Param("statKey") String statKey, @Param("delta") long delta,
+                     @Param("now") LocalDateTime now);
+
+       /**
+        * The counters with keys in [fromKey, toKey), without locking them
+        */
+       @Query("SELECT s FROM PlatformStatistic s WHERE s.statKey >= :fromKey AND s.statKey < :toKey")
+       List<PlatformStatistic> findKeyRange(@Param("fromKey") String fromKey, @Param("toKey") String toKey);
+
+       /**
+        * Lock the counters with keys in [fromKey, toKey) until the transaction ends - the reconciliation
+        * holds them while it overwrites, so deltas from concurrent writers wait instead of being lost
+        */
+       @Lock(LockModeType.PESSIMISTIC_WRITE)
+       @Query("SELECT s FROM PlatformStatistic s WHERE s.statKey >= :fromKey AND s.statKey < :toKey")
+       List<PlatformStatistic> lockKeyRange(@Param("fromKey") String fromKey, @Param("toKey") String toKey);
+
+       /**
+        * Overwrite a counter - only for rows the caller holds locked (see lockKeyRange)
+        */
+       @Modifying
+       @Query("UPDATE PlatformStatistic s SET s.statValue = :value, s.updatedAt = :now WHERE s.statKey = :statKey")
+       int setStatistic(@Param("statKey") String statKey, @Param("value") long value,
+                     @Param("now") LocalDateTime now);
+}
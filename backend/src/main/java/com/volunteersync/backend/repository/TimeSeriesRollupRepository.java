@@ -0,0 +1,74 @@
+package com.volunteersync.backend.repository;
+
+import com.volunteersync.backend.entity.TimeSeriesRollup;
+import com.volunteersync.backend.enums.RollupGranularity;
+import jakarta.persistence.LockModeType;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TimeSeriesRollupRepository extends JpaRepository<TimeSeriesRollup, Long> {
+
+       /**
+        * Apply a delta to a bucket in place (no read-modify-write)
+        * Returns the number of rows touched - 0 means the bucket does not exist yet
+        */
+       @Modifying
+       @Query("UPDATE TimeSeriesRollup r SET r.bucketCount = r.bucketCount + :delta, r.updatedAt = :now " +
+                     "WHERE r.metric = :metric AND r.granularity = :granularity AND r.bucketStart = :bucketStart")
+       int incrementBucket(@Param("metric") String metric, @Param("granularity") RollupGranularity granularity,
+                     @Param("bucketStart") LocalDateTime bucketStart, @Param("delta") long delta,
+                     @Param("now") LocalDateTime now);
+
+       /**
+        * Check if a bucket row exists
+        */
+       boolean existsByMetricAndGranularityAndBucketStart(String metric, RollupGranularity granularity,
+                     LocalDateTime bucketStart);
+
+       /**
+        * Get buckets in [from, to) ordered by time
+        */
+       @Query("SELECT r FROM TimeSeriesRollup r WHERE r.metric = :metric AND r.granularity = :granularity " +
+                     "AND r.bucketStart >= :from AND r.bucketStart < :to ORDER BY r.bucketStart ASC")
+       List<TimeSeriesRollup> findBuckets(@Param("metric") String metric,
+                     @Param("granularity") RollupGranularity granularity,
+                     @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+       /**
+        * Sum of buckets in [from, to)
+        */
+       @Query("SELECT COALESCE(SUM(r.bucketCount), 0) FROM TimeSeriesRollup r WHERE r.metric = :metric " +
+                     "AND r.granularity = :granularity AND r.bucketStart >= :from AND r.bucketStart < :to")
+       long sumBuckets(@Param("metric") String metric, @Param("granularity") RollupGranularity granularity,
+                     @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+       /**
+        * Delete all buckets of a metric outside [from, to) - used by the backfill
+        */
+       @Modifying
+       @Query("DELETE FROM TimeSeriesRollup r WHERE r.metric = :metric " +
+                     "AND (r.bucketStart < :from OR r.bucketStart >= :to)")
+       int deleteBucketsOutside(@Param("metric") String metric, @Param("from") LocalDateTime from,
+                     @Param("to") LocalDateTime to);
+
+       /**
+        * Lock all buckets of a metric in [from, to) until the transaction ends - the backfill holds
+        * them while it recounts, so deltas from concurrent writers wait instead of being overwritten
+        * (it creates the buckets it will write beforehand, so there is a row to lock).
+        * Ordered like the writers' increments (index order) so the two cannot deadlock.
+        */
+       @Lock(LockModeType.PESSIMISTIC_WRITE)
+       @Query("SELECT r FROM TimeSeriesRollup r WHERE r.metric = :metric " +
+                     "AND r.bucketStart >= :from AND r.bucketStart < :to ORDER BY r.granularity, r.bucketStart")
+       List<TimeSeriesRollup> lockBuckets(@Param("metric") String metric, @Param("from") LocalDateTime from,
+                     @Param("to") LocalDateTime to);
+}
@@ -19,14 +19,22 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // =====================================================
 
     /**
-     * Find user by email (for login)
+     * Find user by email (for login) - case-insensitive via the normalized column
      */
-    Optional<User> findByEmail(String email);
+    default Optional<User> findByEmail(String email) {
+        return findByEmailNormalized(User.normalizeEmail(email));
+    }
 
     /**
      * Check if email already exists (for registration)
      */
-    boolean existsByEmail(String email);
+    default boolean existsByEmail(String email) {
+        return existsByEmailNormalized(User.normalizeEmail(email));
+    }
+
+    Optional<User> findByEmailNormalized(String emailNormalized);
+
+    boolean existsByEmailNormalized(String emailNormalized);
 
     /**
      * Find users by type
@@ -95,9 +103,27 @@ public interface UserRepository extends JpaRepository<User, Long> {
             @Param("endDate") LocalDateTime endDate);
 
     /**
-     * Get user growth statistics
+     * Get earliest and latest registration time (rollup backfill bounds)
+     */
+    @Query("SELECT MIN(u.createdAt) FROM User u")
+    LocalDateTime findEarliestCreatedAt();
+
+    @Query("SELECT MAX(u.createdAt) FROM User u")
+    LocalDateTime findLatestCreatedAt();
+
+    /**
+     * Registrations in [from, to) per hour: [year, month, day, hour, count] - rollup backfill source
+     */
+    @Query("SELECT EXTRACT(YEAR FROM u.createdAt), EXTRACT(MONTH FROM u.createdAt), EXTRACT(DAY FROM u.createdAt), " +
+            "EXTRACT(HOUR FROM u.createdAt), COUNT(u) FROM User u WHERE u.createdAt >= :from AND u.createdAt < :to " +
+            "GROUP BY EXTRACT(YEAR FROM u.createdAt), EXTRACT(MONTH FROM u.createdAt), EXTRACT(DAY FROM u.createdAt), " +
+            "EXTRACT(HOUR FROM u.createdAt)")
+    List<Object[]> countCreatedPerHour(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /**
+     * Users grouped by the fields their statistic keys derive from: [isActive, emailVerified, userType, count]
      */
-    @Query("SELECT DATE(u.createdAt) as date, COUNT(u) as count FROM User u " +
-            "WHERE u.createdAt >= :since GROUP BY DATE(u.createdAt) ORDER BY date")
-    List<Object[]> getUserGrowthStats(@Param("since") LocalDateTime since);
+    @Query("SELECT u.isActive, u.emailVerified, u.userType, COUNT(u) FROM User u " +
+            "GROUP BY u.isActive, u.emailVerified, u.userType")
+    List<Object[]> countStatisticGroups();
 }
\ No newline at end of file
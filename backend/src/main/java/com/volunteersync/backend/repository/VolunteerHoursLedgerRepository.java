@@ -0,0 +1,51 @@
+package com.volunteersync.backend.repository;
+
+import com.volunteersync.backend.entity.VolunteerHoursEntry;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface VolunteerHoursLedgerRepository extends JpaRepository<VolunteerHoursEntry, Long> {
+
+       /**
+        * Check if an application has already been credited
+        */
+       boolean existsByApplicationId(Long applicationId);
+
+       /**
+        * Application ids among the given ones that have already been credited
+        */
+       @Query("SELECT l.applicationId FROM VolunteerHoursEntry l WHERE l.applicationId IN :applicationIds")
+       List<Long> findCreditedApplicationIds(@Param("applicationIds") Collection<Long> applicationIds);
+
+       /**
+        * Hours credited to a volunteer in [from, to)
+        */
+       @Query("SELECT COALESCE(SUM(l.hours), 0) FROM VolunteerHoursEntry l WHERE l.volunteerProfileId = :volunteerProfileId " +
+                     "AND l.recordedAt >= :from AND l.recordedAt < :to")
+       long sumHoursBetween(@Param("volunteerProfileId") Long volunteerProfileId,
+                     @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+       /**
+        * Ledger entries for a volunteer in [from, to), newest first
+        */
+       @Query("SELECT l FROM VolunteerHoursEntry l WHERE l.volunteerProfileId = :volunteerProfileId " +
+                     "AND l.recordedAt >= :from AND l.recordedAt < :to ORDER BY l.recordedAt DESC, l.id DESC")
+       Page<VolunteerHoursEntry> findEntriesBetween(@Param("volunteerProfileId") Long volunteerProfileId,
+                     @Param("from") LocalDateTime from, @Param("to") LocalDateTime to, Pageable pageable);
+
+       /**
+        * Ledger totals per volunteer: [volunteerProfileId, SUM(hours), SUM(events)]
+        */
+       @Query("SELECT l.volunteerProfileId, SUM(l.hours), SUM(l.events) FROM VolunteerHoursEntry l " +
+                     "GROUP BY l.volunteerProfileId")
+       List<Object[]> sumByVolunteer();
+}
@@ -2,11 +2,16 @@ package com.volunteersync.backend.repository;
 
 import com.volunteersync.backend.entity.VolunteerProfile;
 import com.volunteersync.backend.entity.User;
+import com.volunteersync.backend.enums.ApplicationStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -65,6 +70,34 @@ public interface VolunteerProfileRepository extends JpaRepository<VolunteerProfi
         @Query("SELECT vp FROM VolunteerProfile vp WHERE LOWER(vp.bio) LIKE LOWER(CONCAT('%', :keyword, '%'))")
         List<VolunteerProfile> findByBioContaining(@Param("keyword") String keyword);
 
+        /**
+         * Volunteers who applied to an organization's events (each once), filtered by
+         * application status, name/email/bio text and location
+         */
+        @Query(value = "SELECT vp FROM VolunteerProfile vp JOIN FETCH vp.user u WHERE " +
+                        "vp.id IN (SELECT a.volunteer.id FROM Application a " +
+                        "  WHERE a.event.organization.id = :orgId AND (:status IS NULL OR a.status = :status)) " +
+                        "AND (:searchTerm IS NULL OR " +
+                        "  LOWER(vp.firstName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+                        "  LOWER(vp.lastName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+                        "  LOWER(u.email) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+                        "  LOWER(vp.bio) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) " +
+                        "AND (:location IS NULL OR LOWER(vp.location) LIKE LOWER(CONCAT('%', :location, '%')))",
+                        countQuery = "SELECT COUNT(vp) FROM VolunteerProfile vp JOIN vp.user u WHERE " +
+                        "vp.id IN (SELECT a.volunteer.id FROM Application a " +
+                        "  WHERE a.event.organization.id = :orgId AND (:status IS NULL OR a.status = :status)) " +
+                        "AND (:searchTerm IS NULL OR " +
+                        "  LOWER(vp.firstName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+                        "  LOWER(vp.lastName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+                        "  LOWER(u.email) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+                        "  LOWER(vp.bio) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) " +
+                        "AND (:location IS NULL OR LOWER(vp.location) LIKE LOWER(CONCAT('%', :location, '%')))")
+        Page<VolunteerProfile> searchOrganizationVolunteers(@Param("orgId") Long organizationId,
+                        @Param("status") ApplicationStatus status,
+                        @Param("searchTerm") String searchTerm,
+                        @Param("location") String location,
+                        Pageable pageable);
+
         // =====================================================
         // VOLUNTEER RANKINGS AND STATISTICS
         // =====================================================
@@ -73,13 +106,19 @@ public interface VolunteerProfileRepository extends JpaRepository<VolunteerProfi
          * Find top volunteers by hours
          */
         @Query("SELECT vp FROM VolunteerProfile vp ORDER BY vp.totalVolunteerHours DESC")
-        List<VolunteerProfile> findTopVolunteersByHours();
+        List<VolunteerProfile> findTopVolunteersByHours(Pageable pageable);
+
+        /**
+         * Count volunteers with more hours than the given amount (hours ranking)
+         */
+        @Query("SELECT COUNT(vp) FROM VolunteerProfile vp WHERE vp.totalVolunteerHours > :hours")
+        long countVolunteersWithMoreHours(@Param("hours") Integer hours);
 
         /**
          * Find most active volunteers by events participated
          */
         @Query("SELECT vp FROM VolunteerProfile vp ORDER BY vp.eventsParticipated DESC")
-        List<VolunteerProfile> findMostActiveVolunteers();
+        List<VolunteerProfile> findMostActiveVolunteers(Pageable pageable);
 
         /**
          * Find volunteers with minimum hours
@@ -147,6 +186,16 @@ public interface VolunteerProfileRepository extends JpaRepository<VolunteerProfi
         @Query("SELECT COUNT(vp) FROM VolunteerProfile vp WHERE vp.followedOrganizations LIKE CONCAT('%', :organizationId, '%')")
         Long countVolunteersFollowingOrganization(@Param("organizationId") Long organizationId);
 
+        /**
+         * Next batch of follower profile ids after a cursor, in id order (notification fan-out).
+         * Matches ",<id>," inside ",<followedOrganizations>," so 5 does not match 15.
+         */
+        @Query("SELECT vp.id FROM VolunteerProfile vp WHERE vp.id > :afterId " +
+                        "AND CONCAT(',', vp.followedOrganizations, ',') LIKE CONCAT('%,', :organizationId, ',%') " +
+                        "ORDER BY vp.id")
+        List<Long> findFollowerIdsAfter(@Param("organizationId") Long organizationId, @Param("afterId") Long afterId,
+                        Pageable pageable);
+
         /**
          * Find volunteers who follow any organization (have non-null
          * followedOrganizations)
@@ -154,11 +203,18 @@ public interface VolunteerProfileRepository extends JpaRepository<VolunteerProfi
         @Query("SELECT vp FROM VolunteerProfile vp WHERE vp.followedOrganizations IS NOT NULL AND vp.followedOrganizations != ''")
         List<VolunteerProfile> findVolunteersWithFollowedOrganizations();
 
+        /**
+         * Every non-empty followed organizations list (home feed follower counts)
+         */
+        @Query("SELECT vp.followedOrganizations FROM VolunteerProfile vp " +
+                        "WHERE vp.followedOrganizations IS NOT NULL AND vp.followedOrganizations <> ''")
+        List<String> findAllFollowedOrganizationLists();
+
         /**
          * Find top organizations by follower count
          */
         @Query(value = "SELECT " +
-                        "SUBSTRING_INDEX(SUBSTRING_INDEX(vp.followed_organizations, ',', numbers.n), ',', -1) as org_id, "
+                        "REGEXP_SUBSTR(vp.followed_organizations, '[^,]+', 1, numbers.n) as org_id, "
                         +
                         "COUNT(*) as follower_count " +
                         "FROM volunteer_profiles vp " +
@@ -173,4 +229,74 @@ public interface VolunteerProfileRepository extends JpaRepository<VolunteerProfi
                         "GROUP BY org_id " +
                         "ORDER BY follower_count DESC", nativeQuery = true)
         List<Object[]> findMostFollowedOrganizations();
-}
\ No newline at end of file
+
+        // =====================================================
+        // BULK PROGRESS UPDATES
+        // =====================================================
+
+        /**
+         * Add the same hours/events delta to several volunteer profiles in place
+         */
+        @Modifying
+        @Query("UPDATE VolunteerProfile vp SET " +
+                        "vp.totalVolunteerHours = COALESCE(vp.totalVolunteerHours, 0) + :hours, " +
+                        "vp.eventsParticipated = COALESCE(vp.eventsParticipated, 0) + :events " +
+                        "WHERE vp.id IN :ids")
+        int addVolunteerProgress(@Param("ids") Collection<Long> ids, @Param("hours") int hours,
+                        @Param("events") int events);
+
+        /**
+         * Current progress counters: [userId, totalVolunteerHours, eventsParticipated]
+         */
+        @Query("SELECT vp.user.id, vp.totalVolunteerHours, vp.eventsParticipated FROM VolunteerProfile vp " +
+                        "WHERE vp.id IN :ids")
+        List<Object[]> findVolunteerProgress(@Param("ids") Collection<Long> ids);
+
+        /**
+         * All progress counters: [profileId, totalVolunteerHours, eventsParticipated]
+         */
+        @Query("SELECT vp.id, vp.totalVolunteerHours, vp.eventsParticipated FROM VolunteerProfile vp")
+        List<Object[]> findAllVolunteerProgress();
+
+        /**
+         * Overwrite one profile's counters, only if they still hold the observed values
+         */
+        @Modifying
+        @Query("UPDATE VolunteerProfile vp SET vp.totalVolunteerHours = :hours, vp.eventsParticipated = :events " +
+                        "WHERE vp.id = :id AND COALESCE(vp.totalVolunteerHours, 0) = :observedHours " +
+                        "AND COALESCE(vp.eventsParticipated, 0) = :observedEvents")
+        int resetVolunteerProgress(@Param("id") Long id, @Param("hours") int hours, @Param("events") int events,
+                        @Param("observedHours") int observedHours, @Param("observedEvents") int observedEvents);
+
+        // =====================================================
+        // PROFILE COMPLETENESS
+        // =====================================================
+
+        /**
+         * Completion stats in one pass over the score column: [total, complete (score >= threshold), average score]
+         */
+        @Query("SELECT COUNT(vp), COALESCE(SUM(CASE WHEN vp.profileCompleteness >= :threshold THEN 1 ELSE 0 END), 0), " +
+                        "AVG(vp.profileCompleteness) FROM VolunteerProfile vp")
+        List<Object[]> getCompletenessStats(@Param("threshold") int threshold);
+
+        /**
+         * Profiles with a score in [minScore, maxScore], least complete first
+         */
+        @Query("SELECT vp FROM VolunteerProfile vp WHERE vp.profileCompleteness BETWEEN :minScore AND :maxScore " +
+                        "ORDER BY vp.profileCompleteness ASC, vp.id ASC")
+        Page<VolunteerProfile> findByCompletenessBand(@Param("minScore") int minScore, @Param("maxScore") int maxScore,
+                        Pageable pageable);
+
+        /**
+         * Store a recomputed score on several profiles (leaves updatedAt alone)
+         */
+        @Modifying
+        @Query("UPDATE VolunteerProfile vp SET vp.profileCompleteness = :score WHERE vp.id IN :ids")
+        int setProfileCompleteness(@Param("ids") Collection<Long> ids, @Param("score") int score);
+
+        /**
+         * Batch multi-get: the profiles with these ids, user fetched in the same query
+         */
+        @Query("SELECT vp FROM VolunteerProfile vp JOIN FETCH vp.user WHERE vp.id IN :ids")
+        List<VolunteerProfile> findAllWithUserByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -17,6 +17,7 @@ import com.volunteersync.backend.repository.OrganizationProfileRepository;
 import com.volunteersync.backend.dto.ApplicationDTO;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -46,6 +47,18 @@ public class ApplicationService {
     @Autowired
     private OrganizationProfileRepository organizationProfileRepository;
 
+    @Autowired
+    private VolunteerHoursLedgerService volunteerHoursLedgerService;
+
+    @Autowired
+    private TimeSeriesRollupService timeSeriesRollupService;
+
+    @Autowired
+    private UpcomingEventIndex upcomingEventIndex;
+
+    @Autowired
+    private SuggestService suggestService;
+
     // ==========================================
     // VOLUNTEER APPLICATION METHODS
     // ==========================================
@@ -88,7 +101,15 @@ public class ApplicationService {
         
         // Create application
         Application application = new Application(volunteerProfile, event, request.getMessage());
-        Application savedApplication = applicationRepository.save(application);
+        Application savedApplication;
+        try {
+            savedApplication = applicationRepository.saveAndFlush(application);
+        } catch (DataIntegrityViolationException e) {
+            // uk_applications_volunteer_event - a concurrent submission got there first
+            throw new RuntimeException("Already applied to this event");
+        }
+        timeSeriesRollupService.record(TimeSeriesRollupService.APPLICATIONS_SUBMITTED, savedApplication.getAppliedAt());
+        suggestService.onApplicationSubmitted(event.getId());
         
         System.out.println("Application submitted successfully with ID: " + savedApplication.getId());
         return convertToDTO(savedApplication);
@@ -257,6 +278,7 @@ public class ApplicationService {
         // Update event volunteer count
         event.setCurrentVolunteers(event.getCurrentVolunteers() + 1);
         eventRepository.save(event);
+        upcomingEventIndex.onEventSaved(event);
         
         Application savedApplication = applicationRepository.save(application);
         
@@ -312,17 +334,14 @@ public class ApplicationService {
         
         // Mark as attended
         application.markAttended(hoursCompleted);
-        
-        // Update volunteer profile hours
-        VolunteerProfile volunteerProfile = application.getVolunteer();
-        volunteerProfile.setTotalVolunteerHours(
-                volunteerProfile.getTotalVolunteerHours() + hoursCompleted);
-        volunteerProfile.setEventsParticipated(
-                volunteerProfile.getEventsParticipated() + 1);
-        volunteerProfileRepository.save(volunteerProfile);
-        
         Application savedApplication = applicationRepository.save(application);
         
+        // Credit the volunteer through the hours ledger (atomic totals, once per application)
+        if (!volunteerHoursLedgerService.recordAttendance(application.getVolunteer().getId(),
+                application.getId(), application.getEvent().getId(), hoursCompleted)) {
+            throw new RuntimeException("Attendance has already been recorded for this application");
+        }
+        
         System.out.println("Application marked as attended successfully");
         return convertToDTO(savedApplication);
     }
@@ -353,6 +372,7 @@ public class ApplicationService {
         Event event = application.getEvent();
         event.setCurrentVolunteers(Math.max(0, event.getCurrentVolunteers() - 1));
         eventRepository.save(event);
+        upcomingEventIndex.onEventSaved(event);
         
         Application savedApplication = applicationRepository.save(application);
         
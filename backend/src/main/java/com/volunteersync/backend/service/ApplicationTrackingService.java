@@ -16,12 +16,15 @@ import com.volunteersync.backend.repository.VolunteerProfileRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
@@ -53,41 +56,70 @@ public class ApplicationTrackingService {
     // ==========================================
 
     /**
-     * Get all applications for a volunteer with detailed tracking information
+     * Get applications for a volunteer with detailed tracking information
+     * Filtering, ordering and paging run in the database. Pass the nextCursor of
+     * a previous response to page by keyset instead of offset.
      */
-    public VolunteerApplicationsResponse getVolunteerApplications(Long volunteerId, ApplicationTrackingFilter filter, Pageable pageable) {
+    public VolunteerApplicationsResponse getVolunteerApplications(Long volunteerId, ApplicationTrackingFilter filter,
+            Pageable pageable, String cursor) {
         System.out.println("Getting applications for volunteer ID: " + volunteerId + " with filter: " + filter);
         
         // Get volunteer profile
         VolunteerProfile volunteer = volunteerProfileRepository.findByUserId(volunteerId)
                 .orElseThrow(() -> new RuntimeException("Volunteer profile not found"));
 
-        // Get all applications for the volunteer
-        List<Application> allApplications = applicationRepository.findByVolunteer(volunteer);
-        
-        // Apply filters
-        List<Application> filteredApplications = applyFilters(allApplications, filter);
-        
-        // Sort applications (most recent first)
-        filteredApplications.sort((a, b) -> b.getAppliedAt().compareTo(a.getAppliedAt()));
-        
-        // Apply pagination
-        int start = (int) pageable.getOffset();
-        int end = Math.min(start + pageable.getPageSize(), filteredApplications.size());
-        List<Application> paginatedApplications = filteredApplications.subList(start, end);
+        ApplicationStatus status = filter != null ? filter.getStatus() : null;
+        LocalDateTime startDate = filter != null ? filter.getStartDate() : null;
+        LocalDateTime endDate = filter != null ? filter.getEndDate() : null;
+        String titleSearch = filter != null && filter.getEventTitleSearch() != null
+                && !filter.getEventTitleSearch().trim().isEmpty() ? filter.getEventTitleSearch().trim() : null;
+
+        StatusCounts counts = loadStatusCounts(volunteer);
+        int pageSize = pageable.getPageSize();
+        List<Application> pageApplications;
+        long totalElements;
+        boolean hasNext;
+
+        if (cursor != null && !cursor.trim().isEmpty()) {
+            // Keyset page - fetch one extra row to learn whether another page exists
+            ApplicationCursor position = ApplicationCursor.decode(cursor);
+            List<Application> rows = applicationRepository.findVolunteerApplicationsAfter(volunteer,
+                    position.appliedAt, position.id, status, startDate, endDate, titleSearch,
+                    PageRequest.of(0, pageSize + 1));
+            hasNext = rows.size() > pageSize;
+            pageApplications = hasNext ? rows.subList(0, pageSize) : rows;
+
+            boolean statusFilterOnly = startDate == null && endDate == null && titleSearch == null;
+            if (statusFilterOnly) {
+                totalElements = status != null ? counts.byStatus.get(status) : counts.total;
+            } else {
+                totalElements = applicationRepository.countVolunteerApplications(
+                        volunteer, status, startDate, endDate, titleSearch);
+            }
+        } else {
+            Page<Application> page = applicationRepository.findVolunteerApplicationsPage(
+                    volunteer, status, startDate, endDate, titleSearch, PageRequest.of(pageable.getPageNumber(), pageSize));
+            pageApplications = page.getContent();
+            totalElements = page.getTotalElements();
+            hasNext = page.hasNext();
+        }
         
         // Convert to tracking DTOs
-        List<ApplicationTrackingDTO> trackingDTOs = paginatedApplications.stream()
+        List<ApplicationTrackingDTO> trackingDTOs = pageApplications.stream()
                 .map(this::convertToTrackingDTO)
                 .collect(Collectors.toList());
 
         // Build response with summary statistics
         VolunteerApplicationsResponse response = new VolunteerApplicationsResponse();
         response.setApplications(trackingDTOs);
-        response.setTotalElements(filteredApplications.size());
-        response.setTotalPages((int) Math.ceil((double) filteredApplications.size() / pageable.getPageSize()));
+        response.setTotalElements((int) totalElements);
+        response.setTotalPages((int) Math.ceil((double) totalElements / pageSize));
         response.setCurrentPage(pageable.getPageNumber());
-        response.setSummary(generateApplicationSummary(allApplications));
+        response.setHasNext(hasNext);
+        if (hasNext && !pageApplications.isEmpty()) {
+            response.setNextCursor(ApplicationCursor.encode(pageApplications.get(pageApplications.size() - 1)));
+        }
+        response.setSummary(generateApplicationSummary(counts));
         
         return response;
     }
@@ -131,22 +163,15 @@ public class ApplicationTrackingService {
         VolunteerProfile volunteer = volunteerProfileRepository.findByUserId(volunteerId)
                 .orElseThrow(() -> new RuntimeException("Volunteer profile not found"));
         
-        List<Application> applications = applicationRepository.findByVolunteer(volunteer);
+        StatusCounts counts = loadStatusCounts(volunteer);
         
         ApplicationStatusSummary summary = new ApplicationStatusSummary();
-        summary.setTotalApplications(applications.size());
-        
-        // Count by status
-        Map<ApplicationStatus, Integer> statusCounts = new HashMap<>();
-        for (ApplicationStatus status : ApplicationStatus.values()) {
-            int count = (int) applications.stream().filter(a -> a.getStatus() == status).count();
-            statusCounts.put(status, count);
-        }
-        summary.setStatusBreakdown(statusCounts);
+        summary.setTotalApplications(counts.total);
+        summary.setStatusBreakdown(counts.byStatus);
         
         // Calculate success rate
-        int acceptedCount = statusCounts.getOrDefault(ApplicationStatus.ACCEPTED, 0);
-        int rejectedCount = statusCounts.getOrDefault(ApplicationStatus.REJECTED, 0);
+        int acceptedCount = counts.byStatus.getOrDefault(ApplicationStatus.ACCEPTED, 0);
+        int rejectedCount = counts.byStatus.getOrDefault(ApplicationStatus.REJECTED, 0);
         int totalDecided = acceptedCount + rejectedCount;
         
         if (totalDecided > 0) {
@@ -156,17 +181,11 @@ public class ApplicationTrackingService {
             summary.setSuccessRate(0.0);
         }
         
-        // Recent activity
-        List<Application> recentApplications = applications.stream()
-                .filter(app -> {
-                    LocalDateTime lastUpdate = app.getRespondedAt() != null ? app.getRespondedAt() : app.getAppliedAt();
-                    return lastUpdate.isAfter(LocalDateTime.now().minusDays(7));
-                })
-                .collect(Collectors.toList());
-        summary.setRecentActivity(recentApplications.size());
+        // Recent activity (submitted or answered in the last 7 days)
+        summary.setRecentActivity(counts.updatedLast7Days);
         
         // Pending response count
-        summary.setPendingResponses(statusCounts.getOrDefault(ApplicationStatus.PENDING, 0));
+        summary.setPendingResponses(counts.byStatus.getOrDefault(ApplicationStatus.PENDING, 0));
         
         return summary;
     }
@@ -254,38 +273,30 @@ public class ApplicationTrackingService {
     // HELPER METHODS
     // ==========================================
 
-    private List<Application> applyFilters(List<Application> applications, ApplicationTrackingFilter filter) {
-        if (filter == null) {
-            return applications;
+    /**
+     * Load all per-status counts for a volunteer with a single GROUP BY query
+     */
+    private StatusCounts loadStatusCounts(VolunteerProfile volunteer) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = applicationRepository.getVolunteerStatusSummary(
+                volunteer, now.minusDays(30), now.minusDays(7));
+
+        StatusCounts counts = new StatusCounts();
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            counts.byStatus.put(status, 0);
+        }
+        for (Object[] row : rows) {
+            int count = toInt(row[1]);
+            counts.byStatus.put((ApplicationStatus) row[0], count);
+            counts.total += count;
+            counts.appliedLast30Days += toInt(row[2]);
+            counts.updatedLast7Days += toInt(row[3]);
         }
+        return counts;
+    }
 
-        return applications.stream()
-                .filter(app -> {
-                    // Status filter
-                    if (filter.getStatus() != null && app.getStatus() != filter.getStatus()) {
-                        return false;
-                    }
-                    
-                    // Date range filter
-                    if (filter.getStartDate() != null && app.getAppliedAt().isBefore(filter.getStartDate())) {
-                        return false;
-                    }
-                    
-                    if (filter.getEndDate() != null && app.getAppliedAt().isAfter(filter.getEndDate())) {
-                        return false;
-                    }
-                    
-                    // Event title search
-                    if (filter.getEventTitleSearch() != null && !filter.getEventTitleSearch().trim().isEmpty()) {
-                        String searchTerm = filter.getEventTitleSearch().toLowerCase();
-                        if (!app.getEvent().getTitle().toLowerCase().contains(searchTerm)) {
-                            return false;
-                        }
-                    }
-                    
-                    return true;
-                })
-                .collect(Collectors.toList());
+    private int toInt(Object value) {
+        return value instanceof Number ? ((Number) value).intValue() : 0;
     }
 
     private ApplicationTrackingDTO convertToTrackingDTO(Application application) {
@@ -319,24 +330,13 @@ public class ApplicationTrackingService {
         return summary;
     }
 
-    private ApplicationSummary generateApplicationSummary(List<Application> applications) {
+    private ApplicationSummary generateApplicationSummary(StatusCounts counts) {
         ApplicationSummary summary = new ApplicationSummary();
-        summary.setTotalApplications(applications.size());
-        
-        // Count by status
-        Map<ApplicationStatus, Integer> statusCounts = new HashMap<>();
-        for (ApplicationStatus status : ApplicationStatus.values()) {
-            int count = (int) applications.stream().filter(a -> a.getStatus() == status).count();
-            statusCounts.put(status, count);
-        }
-        summary.setStatusCounts(statusCounts);
+        summary.setTotalApplications(counts.total);
+        summary.setStatusCounts(counts.byStatus);
         
         // Recent applications (last 30 days)
-        LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
-        int recentCount = (int) applications.stream()
-                .filter(app -> app.getAppliedAt().isAfter(thirtyDaysAgo))
-                .count();
-        summary.setRecentApplications(recentCount);
+        summary.setRecentApplications(counts.appliedLast30Days);
         
         return summary;
     }
@@ -472,6 +472,46 @@ public class ApplicationTrackingService {
         }
     }
 
+    /**
+     * Per-status application counts for one volunteer
+     */
+    private static class StatusCounts {
+        private final Map<ApplicationStatus, Integer> byStatus = new HashMap<>();
+        private int total;
+        private int appliedLast30Days;
+        private int updatedLast7Days;
+    }
+
+    /**
+     * Keyset position (appliedAt, id) of the last application on a page,
+     * exchanged with clients as an opaque URL-safe token
+     */
+    private static class ApplicationCursor {
+        private final LocalDateTime appliedAt;
+        private final Long id;
+
+        private ApplicationCursor(LocalDateTime appliedAt, Long id) {
+            this.appliedAt = appliedAt;
+            this.id = id;
+        }
+
+        static String encode(Application application) {
+            String raw = application.getAppliedAt() + "|" + application.getId();
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static ApplicationCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf('|');
+                return new ApplicationCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                        Long.parseLong(raw.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new RuntimeException("Invalid cursor");
+            }
+        }
+    }
+
     // ==========================================
     // REQUEST/RESPONSE CLASSES
     // ==========================================
@@ -498,6 +538,8 @@ public class ApplicationTrackingService {
         private int totalElements;
         private int totalPages;
         private int currentPage;
+        private boolean hasNext;
+        private String nextCursor;
         private ApplicationSummary summary;
 
         // Getters and setters
@@ -509,6 +551,10 @@ public class ApplicationTrackingService {
         public void setTotalPages(int totalPages) { this.totalPages = totalPages; }
         public int getCurrentPage() { return currentPage; }
         public void setCurrentPage(int currentPage) { this.currentPage = currentPage; }
+        public boolean isHasNext() { return hasNext; }
+        public void setHasNext(boolean hasNext) { this.hasNext = hasNext; }
+        public String getNextCursor() { return nextCursor; }
+        public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
         public ApplicationSummary getSummary() { return summary; }
         public void setSummary(ApplicationSummary summary) { this.summary = summary; }
     }
@@ -50,6 +50,12 @@ public class AuthService {
     @Autowired
     private JwtService jwtService;
 
+    @Autowired
+    private PlatformStatisticsService platformStatisticsService;
+
+    @Autowired
+    private TimeSeriesRollupService timeSeriesRollupService;
+
     @Value("${google.oauth.client-id}")
     private String googleClientId;
 
@@ -81,6 +87,8 @@ public class AuthService {
 
         // Save user first
         user = userRepository.save(user);
+        platformStatisticsService.recordCreated(user);
+        timeSeriesRollupService.record(TimeSeriesRollupService.USERS_REGISTERED, user.getCreatedAt());
 
         // Create profile based on user type
         if (user.getUserType() == UserType.VOLUNTEER) {
@@ -346,6 +354,8 @@ public class AuthService {
 
         // Save user first
         user = userRepository.save(user);
+        platformStatisticsService.recordCreated(user);
+        timeSeriesRollupService.record(TimeSeriesRollupService.USERS_REGISTERED, user.getCreatedAt());
 
         // Create profile based on user type
         String organizationName = null;
@@ -404,6 +414,7 @@ public class AuthService {
         profile.setUpdatedAt(LocalDateTime.now());
 
         organizationProfileRepository.save(profile);
+        platformStatisticsService.recordCreated(profile);
     }
 
     /**
@@ -450,6 +461,7 @@ public class AuthService {
         profile.setUpdatedAt(LocalDateTime.now());
 
         organizationProfileRepository.save(profile);
+        platformStatisticsService.recordCreated(profile);
     }
 
     // ==========================================
@@ -0,0 +1,303 @@
+// backend/src/main/java/com/volunteersync/backend/service/BadgeProgressCache.java
+package com.volunteersync.backend.service;
+
+import com.volunteersync.backend.entity.Badge;
+import com.volunteersync.backend.entity.OrganizationProfile;
+import com.volunteersync.backend.entity.User;
+import com.volunteersync.backend.entity.VolunteerProfile;
+import com.volunteersync.backend.enums.BadgeType;
+import com.volunteersync.backend.enums.UserType;
+import com.volunteersync.backend.repository.BadgeRepository;
+import com.volunteersync.backend.repository.OrganizationProfileRepository;
+import com.volunteersync.backend.repository.UserRepository;
+import com.volunteersync.backend.repository.VolunteerProfileRepository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Badge progress cache - keeps a compact per-user badge snapshot in memory
+ * Owned and featured badges are stored as bitmasks over BadgeType ordinals,
+ * next to the progress counters the badge rules are evaluated against, so the
+ * available/progress/featured endpoints do not have to reload badges and
+ * profiles for every badge type.
+ */
+@Component
+public class BadgeProgressCache {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BadgeRepository badgeRepository;
+
+    @Autowired
+    private VolunteerProfileRepository volunteerProfileRepository;
+
+    @Autowired
+    private OrganizationProfileRepository organizationProfileRepository;
+
+    private final Map<Long, BadgeSnapshot> snapshots;
+
+    // Bumped on every write so a load that raced with a commit is not cached
+    private long writeGeneration = 0L;
+
+    public BadgeProgressCache(@Value("${app.badges.progress-cache.max-entries:10000}") int maxEntries) {
+        // Access-ordered LinkedHashMap gives us a simple bounded LRU
+        this.snapshots = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, BadgeSnapshot> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    // ==========================================
+    // READ METHODS
+    // ==========================================
+
+    /**
+     * Get the snapshot for a user, loading it on a cache miss
+     */
+    public BadgeSnapshot getSnapshot(Long userId) {
+        BadgeSnapshot snapshot;
+        long generation;
+        synchronized (snapshots) {
+            snapshot = snapshots.get(userId);
+            generation = writeGeneration;
+        }
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        snapshot = load(userId);
+        synchronized (snapshots) {
+            if (generation != writeGeneration) {
+                return snapshot;
+            }
+            // Another thread may have loaded it meanwhile - keep theirs
+            BadgeSnapshot existing = snapshots.putIfAbsent(userId, snapshot);
+            return existing != null ? existing : snapshot;
+        }
+    }
+
+    // ==========================================
+    // UPDATE METHODS (applied after commit)
+    // ==========================================
+
+    /**
+     * Record that a user now owns a badge
+     */
+    public void onBadgeAwarded(Long userId, BadgeType badgeType) {
+        afterCommit(() -> update(userId, snapshot -> snapshot.withOwned(badgeType, true)));
+    }
+
+    /**
+     * Record that a badge was removed from a user
+     */
+    public void onBadgeRemoved(Long userId, BadgeType badgeType) {
+        afterCommit(() -> update(userId, snapshot -> snapshot.withOwned(badgeType, false)));
+    }
+
+    /**
+     * Record a change of the featured flag on a user's badge
+     */
+    public void onFeaturedChanged(Long userId, BadgeType badgeType, boolean featured) {
+        afterCommit(() -> update(userId, snapshot -> snapshot.withFeatured(badgeType, featured)));
+    }
+
+    /**
+     * Record new volunteer progress counters (hours and events attended)
+     */
+    public void onVolunteerProgress(Long userId, int totalHours, int eventsParticipated) {
+        afterCommit(() -> update(userId, snapshot -> snapshot.withVolunteerProgress(totalHours, eventsParticipated)));
+    }
+
+    /**
+     * Drop a user's snapshot so it is rebuilt on next access (profile edits)
+     */
+    public void evict(Long userId) {
+        afterCommit(() -> {
+            synchronized (snapshots) {
+                writeGeneration++;
+                snapshots.remove(userId);
+            }
+        });
+    }
+
+    // ==========================================
+    // PRIVATE HELPER METHODS
+    // ==========================================
+
+    private void update(Long userId, UnaryOperator<BadgeSnapshot> change) {
+        synchronized (snapshots) {
+            writeGeneration++;
+            // Only patch snapshots we hold; missing ones load fresh on next read
+            snapshots.computeIfPresent(userId, (id, snapshot) -> change.apply(snapshot));
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private BadgeSnapshot load(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        long ownedMask = 0L;
+        long featuredMask = 0L;
+        List<Badge> badges = badgeRepository.findByUser(user);
+        for (Badge badge : badges) {
+            ownedMask |= bit(badge.getBadgeType());
+            if (Boolean.TRUE.equals(badge.getIsFeatured())) {
+                featuredMask |= bit(badge.getBadgeType());
+            }
+        }
+
+        int totalHours = 0;
+        int eventsParticipated = 0;
+        int eventsHosted = 0;
+        boolean profileComplete = false;
+
+        if (user.getUserType() == UserType.VOLUNTEER) {
+            VolunteerProfile profile = volunteerProfileRepository.findByUser(user).orElse(null);
+            if (profile != null) {
+                totalHours = profile.getTotalVolunteerHours() != null ? profile.getTotalVolunteerHours() : 0;
+                eventsParticipated = profile.getEventsParticipated() != null ? profile.getEventsParticipated() : 0;
+                profileComplete = hasText(profile.getBio()) && hasText(profile.getLocation());
+            }
+        } else if (user.getUserType() == UserType.ORGANIZATION) {
+            OrganizationProfile profile = organizationProfileRepository.findByUser(user).orElse(null);
+            if (profile != null) {
+                eventsHosted = profile.getTotalEventsHosted() != null ? profile.getTotalEventsHosted() : 0;
+                profileComplete = hasText(profile.getDescription()) && hasText(profile.getMissionStatement());
+            }
+        }
+
+        return new BadgeSnapshot(userId, user.getUserType(), user.getCreatedAt(), ownedMask, featuredMask,
+                totalHours, eventsParticipated, eventsHosted, profileComplete);
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+
+    private static long bit(BadgeType badgeType) {
+        return 1L << badgeType.ordinal();
+    }
+
+    // ==========================================
+    // SNAPSHOT CLASS
+    // ==========================================
+
+    /**
+     * Immutable per-user badge state - replaced as a whole on every change
+     */
+    public static final class BadgeSnapshot {
+        private final Long userId;
+        private final UserType userType;
+        private final LocalDateTime userCreatedAt;
+        private final long ownedMask;
+        private final long featuredMask;
+        private final int totalHours;
+        private final int eventsParticipated;
+        private final int eventsHosted;
+        private final boolean profileComplete;
+
+        BadgeSnapshot(Long userId, UserType userType, LocalDateTime userCreatedAt, long ownedMask,
+                long featuredMask, int totalHours, int eventsParticipated, int eventsHosted,
+                boolean profileComplete) {
+            this.userId = userId;
+            this.userType = userType;
+            this.userCreatedAt = userCreatedAt;
+            this.ownedMask = ownedMask;
+            this.featuredMask = featuredMask;
+            this.totalHours = totalHours;
+            this.eventsParticipated = eventsParticipated;
+            this.eventsHosted = eventsHosted;
+            this.profileComplete = profileComplete;
+        }
+
+        public Long getUserId() { return userId; }
+        public UserType getUserType() { return userType; }
+        public boolean hasAnyFeatured() { return featuredMask != 0L; }
+
+        public boolean owns(BadgeType badgeType) {
+            return (ownedMask & bit(badgeType)) != 0L;
+        }
+
+        public boolean isAvailableFor(BadgeType badgeType) {
+            if (userType == UserType.VOLUNTEER) {
+                return badgeType.isForVolunteers();
+            }
+            if (userType == UserType.ORGANIZATION) {
+                return badgeType.isForOrganizations();
+            }
+            return true;
+        }
+
+        /**
+         * Current progress toward a badge, mirroring the badge earning rules
+         */
+        public int progressFor(BadgeType badgeType) {
+            boolean earlyAdopter = userCreatedAt != null
+                    && userCreatedAt.isAfter(LocalDateTime.now().minusYears(1));
+
+            if (userType == UserType.VOLUNTEER) {
+                return switch (badgeType) {
+                    case FIRST_VOLUNTEER, HELPING_HAND, DEDICATED_HELPER, COMMUNITY_CHAMPION, VOLUNTEER_HERO ->
+                        totalHours;
+                    case EVENT_STARTER, REGULAR_VOLUNTEER, EVENT_ENTHUSIAST ->
+                        eventsParticipated;
+                    case SKILL_SHARER -> profileComplete ? 1 : 0;
+                    case EARLY_ADOPTER -> earlyAdopter ? 1 : 0;
+                    default -> 0;
+                };
+            } else if (userType == UserType.ORGANIZATION) {
+                return switch (badgeType) {
+                    case FIRST_EVENT, EVENT_ORGANIZER, COMMUNITY_BUILDER -> eventsHosted;
+                    case EARLY_ADOPTER -> earlyAdopter ? 1 : 0;
+                    default -> 0;
+                };
+            }
+            return 0;
+        }
+
+        BadgeSnapshot withOwned(BadgeType badgeType, boolean owned) {
+            long ownedBits = owned ? ownedMask | bit(badgeType) : ownedMask & ~bit(badgeType);
+            long featured = owned ? featuredMask : featuredMask & ~bit(badgeType);
+            return new BadgeSnapshot(userId, userType, userCreatedAt, ownedBits, featured,
+                    totalHours, eventsParticipated, eventsHosted, profileComplete);
+        }
+
+        BadgeSnapshot withFeatured(BadgeType badgeType, boolean featured) {
+            long mask = featured ? featuredMask | bit(badgeType) : featuredMask & ~bit(badgeType);
+            return new BadgeSnapshot(userId, userType, userCreatedAt, ownedMask, mask,
+                    totalHours, eventsParticipated, eventsHosted, profileComplete);
+        }
+
+        BadgeSnapshot withVolunteerProgress(int hours, int events) {
+            return new BadgeSnapshot(userId, userType, userCreatedAt, ownedMask, featuredMask,
+                    hours, events, eventsHosted, profileComplete);
+        }
+    }
+}
@@ -56,6 +56,15 @@ public class BadgeService {
     @Autowired
     private EventRepository eventRepository;
 
+    @Autowired
+    private BadgeProgressCache badgeProgressCache;
+
+    @Autowired
+    private PlatformStatisticsService platformStatisticsService;
+
+    @Autowired
+    private TimeSeriesRollupService timeSeriesRollupService;
+
     // ==========================================
     // BADGE EARNING & PROGRESS METHODS
     // ==========================================
@@ -66,18 +75,27 @@ public class BadgeService {
      */
     public List<BadgeDTO> checkAndAwardBadges(Long userId, BadgeTrigger trigger) {
         System.out.println("Checking badges for user ID: " + userId + " with trigger: " + trigger);
-        
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        List<Badge> newlyEarnedBadges = switch (trigger) {
-            case VOLUNTEER_HOURS_UPDATED -> checkVolunteerHoursBadges(user);
-            case EVENT_ATTENDED -> checkEventBadges(user);
-            case PROFILE_COMPLETED -> checkProfileBadges(user);
-            case FIRST_EVENT_CREATED -> checkOrganizationBadges(user);
-            case USER_REGISTERED -> checkRegistrationBadges(user);
-        };
-        
+        JfrEvents.BadgeEvaluation evaluation = new JfrEvents.BadgeEvaluation();
+        evaluation.userId = userId;
+        evaluation.trigger = trigger.name();
+        evaluation.begin();
+        
+        List<Badge> newlyEarnedBadges;
+        try {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new RuntimeException("User not found"));
+            
+            newlyEarnedBadges = switch (trigger) {
+                case VOLUNTEER_HOURS_UPDATED -> checkVolunteerHoursBadges(user);
+                case EVENT_ATTENDED -> checkEventBadges(user);
+                case PROFILE_COMPLETED -> checkProfileBadges(user);
+                case FIRST_EVENT_CREATED -> checkOrganizationBadges(user);
+                case USER_REGISTERED -> checkRegistrationBadges(user);
+            };
+            evaluation.awarded = newlyEarnedBadges.size();
+        } finally {
+            evaluation.commit();
+        }
         System.out.println("Awarded " + newlyEarnedBadges.size() + " new badges");
         return newlyEarnedBadges.stream()
                 .map(this::convertToDTO)
@@ -102,7 +120,7 @@ public class BadgeService {
         badge.setProgressValue(badgeType.getRequiredCount());
         badge.setNotes(notes);
         
-        Badge savedBadge = badgeRepository.save(badge);
+        Badge savedBadge = saveAwardedBadge(badge);
         System.out.println("Badge awarded successfully with ID: " + savedBadge.getId());
         
         return convertToDTO(savedBadge);
@@ -134,7 +152,7 @@ public class BadgeService {
                 newBadge.setEarnedAt(LocalDateTime.now());
             }
             
-            Badge savedBadge = badgeRepository.save(newBadge);
+            Badge savedBadge = saveAwardedBadge(newBadge);
             result.add(convertToDTO(savedBadge));
         }
         
@@ -167,10 +185,12 @@ public class BadgeService {
     public List<BadgeDTO> getFeaturedBadges(Long userId) {
         System.out.println("Fetching featured badges for user ID: " + userId);
         
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        BadgeProgressCache.BadgeSnapshot snapshot = badgeProgressCache.getSnapshot(userId);
+        if (!snapshot.hasAnyFeatured()) {
+            return new ArrayList<>();
+        }
         
-        List<Badge> featuredBadges = badgeRepository.findByUserAndIsFeaturedTrue(user);
+        List<Badge> featuredBadges = badgeRepository.findByUserIdAndIsFeaturedTrue(userId);
         
         return featuredBadges.stream()
                 .map(this::convertToDTO)
@@ -183,17 +203,11 @@ public class BadgeService {
     public List<BadgeDTO> getAvailableBadges(Long userId) {
         System.out.println("Fetching available badges for user ID: " + userId);
         
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        List<Badge> earnedBadges = badgeRepository.findByUser(user);
-        List<BadgeType> earnedTypes = earnedBadges.stream()
-                .map(Badge::getBadgeType)
-                .collect(Collectors.toList());
+        BadgeProgressCache.BadgeSnapshot snapshot = badgeProgressCache.getSnapshot(userId);
         
         return Arrays.stream(BadgeType.values())
-                .filter(badgeType -> !earnedTypes.contains(badgeType))
-                .filter(badgeType -> isBadgeAvailableForUser(badgeType, user))
+                .filter(badgeType -> !snapshot.owns(badgeType))
+                .filter(snapshot::isAvailableFor)
                 .map(badgeType -> {
                     BadgeDTO dto = new BadgeDTO();
                     dto.setBadgeType(badgeType);
@@ -220,6 +234,7 @@ public class BadgeService {
         
         badge.setIsFeatured(!badge.getIsFeatured());
         Badge savedBadge = badgeRepository.save(badge);
+        badgeProgressCache.onFeaturedChanged(userId, savedBadge.getBadgeType(), savedBadge.getIsFeatured());
         
         System.out.println("Badge featured status updated");
         return convertToDTO(savedBadge);
@@ -235,20 +250,17 @@ public class BadgeService {
     public List<BadgeDTO> getBadgeProgress(Long userId) {
         System.out.println("Fetching badge progress for user ID: " + userId);
         
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        List<Badge> earnedBadges = badgeRepository.findByUser(user);
-        List<BadgeType> earnedTypes = earnedBadges.stream()
-                .map(Badge::getBadgeType)
-                .collect(Collectors.toList());
+        BadgeProgressCache.BadgeSnapshot snapshot = badgeProgressCache.getSnapshot(userId);
         
         // Get progress for unearned badges
         List<BadgeDTO> progressList = new ArrayList<>();
+        boolean hasEarnedBadges = false;
         
         for (BadgeType badgeType : BadgeType.values()) {
-            if (!earnedTypes.contains(badgeType) && isBadgeAvailableForUser(badgeType, user)) {
-                BadgeDTO progressDTO = createProgressDTO(user, badgeType);
+            if (snapshot.owns(badgeType)) {
+                hasEarnedBadges = true;
+            } else if (snapshot.isAvailableFor(badgeType)) {
+                BadgeDTO progressDTO = createProgressDTO(snapshot, badgeType);
                 if (progressDTO.getProgressValue() > 0) {
                     progressList.add(progressDTO);
                 }
@@ -256,9 +268,11 @@ public class BadgeService {
         }
         
         // Also include earned badges for completeness
-        progressList.addAll(earnedBadges.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList()));
+        if (hasEarnedBadges) {
+            progressList.addAll(badgeRepository.findByUserId(userId).stream()
+                    .map(this::convertToDTO)
+                    .collect(Collectors.toList()));
+        }
         
         return progressList;
     }
@@ -269,17 +283,18 @@ public class BadgeService {
     public BadgeDTO getSpecificBadgeProgress(Long userId, BadgeType badgeType) {
         System.out.println("Fetching specific badge progress for user ID: " + userId + " and badge: " + badgeType);
         
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        BadgeProgressCache.BadgeSnapshot snapshot = badgeProgressCache.getSnapshot(userId);
         
         // Check if user already has this badge
-        Optional<Badge> existingBadge = badgeRepository.findByUserAndBadgeType(user, badgeType);
-        if (existingBadge.isPresent()) {
-            return convertToDTO(existingBadge.get());
+        if (snapshot.owns(badgeType)) {
+            Optional<Badge> existingBadge = badgeRepository.findByUserIdAndBadgeType(userId, badgeType);
+            if (existingBadge.isPresent()) {
+                return convertToDTO(existingBadge.get());
+            }
         }
         
         // Return progress toward this badge
-        return createProgressDTO(user, badgeType);
+        return createProgressDTO(snapshot, badgeType);
     }
 
     // ==========================================
@@ -407,7 +422,8 @@ public class BadgeService {
     public List<BadgeDTO> getTodaysBadges() {
         System.out.println("Fetching today's badges");
         
-        List<Badge> todaysBadges = badgeRepository.findBadgesEarnedToday(LocalDateTime.now());
+        LocalDateTime startOfDay = LocalDateTime.now().truncatedTo(ChronoUnit.DAYS);
+        List<Badge> todaysBadges = badgeRepository.findBadgesEarnedToday(startOfDay, startOfDay.plusDays(1));
         
         return todaysBadges.stream()
                 .map(this::convertToDTO)
@@ -480,25 +496,23 @@ public class BadgeService {
         BadgeStatsResponse stats = new BadgeStatsResponse();
         
         // Total badges earned
-        stats.setTotalBadgesEarned(badgeRepository.count());
-        
-        // Badge distribution
-        List<Object[]> distribution = badgeRepository.getBadgeDistributionStats();
-        stats.setBadgeDistribution(distribution.stream()
-                .collect(Collectors.toMap(
-                        result -> ((BadgeType) result[0]).getDisplayName(),
-                        result -> ((Long) result[1]).intValue()
-                )));
-        
-        // Rare badges
-        long userCount = userRepository.count();
-        long threshold = Math.max(1, userCount / 10); // Less than 10% of users
-        List<Object[]> rareBadges = badgeRepository.findRareBadges(threshold);
-        stats.setRareBadges(rareBadges.stream()
-                .collect(Collectors.toMap(
-                        result -> ((BadgeType) result[0]).getDisplayName(),
-                        result -> ((Long) result[1]).intValue()
-                )));
+        stats.setTotalBadgesEarned(platformStatisticsService.getCount(PlatformStatisticsService.BADGES_TOTAL));
+        
+        // Badge distribution and rare badges (less than 10% of users)
+        long userCount = platformStatisticsService.getCount(PlatformStatisticsService.USERS_TOTAL);
+        long threshold = Math.max(1, userCount / 10);
+        Map<String, Integer> badgeDistribution = new HashMap<>();
+        Map<String, Integer> rareBadges = new HashMap<>();
+        platformStatisticsService.getDistribution(PlatformStatisticsService.BADGES_BY_TYPE)
+                .forEach((badgeTypeName, count) -> {
+                    String displayName = BadgeType.valueOf(badgeTypeName).getDisplayName();
+                    badgeDistribution.put(displayName, count);
+                    if (count < threshold) {
+                        rareBadges.put(displayName, count);
+                    }
+                });
+        stats.setBadgeDistribution(badgeDistribution);
+        stats.setRareBadges(rareBadges);
         
         return stats;
     }
@@ -509,16 +523,17 @@ public class BadgeService {
     public List<BadgeStatsResponse.BadgeDistribution> getBadgeDistribution() {
         System.out.println("Fetching badge distribution");
         
-        List<Object[]> distribution = badgeRepository.getBadgeDistributionStats();
+        Map<String, Integer> distribution =
+                platformStatisticsService.getDistribution(PlatformStatisticsService.BADGES_BY_TYPE);
         
-        return distribution.stream()
-                .map(result -> {
-                    BadgeType badgeType = (BadgeType) result[0];
-                    Long count = (Long) result[1];
+        return distribution.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .map(entry -> {
+                    BadgeType badgeType = BadgeType.valueOf(entry.getKey());
                     
                     BadgeStatsResponse.BadgeDistribution dist = new BadgeStatsResponse.BadgeDistribution();
                     dist.setBadgeType(badgeType.getDisplayName());
-                    dist.setCount(count.intValue());
+                    dist.setCount(entry.getValue());
                     dist.setCategory(badgeType.getCategory());
                     
                     return dist;
@@ -540,6 +555,9 @@ public class BadgeService {
                 .orElseThrow(() -> new RuntimeException("Badge not found"));
         
         badgeRepository.delete(badge);
+        badgeProgressCache.onBadgeRemoved(badge.getUser().getId(), badge.getBadgeType());
+        platformStatisticsService.recordDeleted(badge);
+        timeSeriesRollupService.remove(TimeSeriesRollupService.BADGES_EARNED, badge.getEarnedAt());
         System.out.println("Badge removed successfully");
     }
 
@@ -558,6 +576,7 @@ public class BadgeService {
         }
         
         int totalHours = profile.getTotalVolunteerHours();
+        badgeProgressCache.onVolunteerProgress(user.getId(), totalHours, profile.getEventsParticipated());
         List<Badge> newBadges = new ArrayList<>();
         
         // Check hour-based badges
@@ -575,7 +594,7 @@ public class BadgeService {
                 
                 Badge badge = new Badge(user, badgeType, totalHours);
                 badge.setNotes("Earned by completing " + totalHours + " volunteer hours");
-                newBadges.add(badgeRepository.save(badge));
+                newBadges.add(saveAwardedBadge(badge));
             }
         }
         
@@ -593,6 +612,7 @@ public class BadgeService {
         }
         
         int eventsParticipated = profile.getEventsParticipated();
+        badgeProgressCache.onVolunteerProgress(user.getId(), profile.getTotalVolunteerHours(), eventsParticipated);
         List<Badge> newBadges = new ArrayList<>();
         
         // Check event-based badges
@@ -608,7 +628,7 @@ public class BadgeService {
                 
                 Badge badge = new Badge(user, badgeType, eventsParticipated);
                 badge.setNotes("Earned by attending " + eventsParticipated + " events");
-                newBadges.add(badgeRepository.save(badge));
+                newBadges.add(saveAwardedBadge(badge));
             }
         }
         
@@ -642,7 +662,7 @@ public class BadgeService {
                 
                 Badge badge = new Badge(user, badgeType, (int) eventsCreated);
                 badge.setNotes("Earned by creating " + eventsCreated + " events");
-                newBadges.add(badgeRepository.save(badge));
+                newBadges.add(saveAwardedBadge(badge));
             }
         }
         
@@ -658,7 +678,7 @@ public class BadgeService {
             
             Badge badge = new Badge(user, BadgeType.SKILL_SHARER, 1);
             badge.setNotes("Earned by completing profile with skills and bio");
-            newBadges.add(badgeRepository.save(badge));
+            newBadges.add(saveAwardedBadge(badge));
         }
         
         return newBadges;
@@ -674,7 +694,7 @@ public class BadgeService {
             
             Badge badge = new Badge(user, BadgeType.EARLY_ADOPTER, 1);
             badge.setNotes("Earned by joining VolunteerSync in its first year");
-            newBadges.add(badgeRepository.save(badge));
+            newBadges.add(saveAwardedBadge(badge));
         }
         
         return newBadges;
@@ -685,57 +705,30 @@ public class BadgeService {
     // ==========================================
 
     /**
-     * Create progress DTO for a badge type
+     * Save a newly earned badge and record it in the progress cache, statistics and rollups
      */
-    private BadgeDTO createProgressDTO(User user, BadgeType badgeType) {
+    private Badge saveAwardedBadge(Badge badge) {
+        Badge savedBadge = badgeRepository.save(badge);
+        badgeProgressCache.onBadgeAwarded(savedBadge.getUser().getId(), savedBadge.getBadgeType());
+        platformStatisticsService.recordCreated(savedBadge);
+        timeSeriesRollupService.record(TimeSeriesRollupService.BADGES_EARNED, savedBadge.getEarnedAt());
+        return savedBadge;
+    }
+
+    /**
+     * Create progress DTO for a badge type from the user's cached snapshot
+     */
+    private BadgeDTO createProgressDTO(BadgeProgressCache.BadgeSnapshot snapshot, BadgeType badgeType) {
         BadgeDTO dto = new BadgeDTO();
         dto.setBadgeType(badgeType);
-        dto.setUserId(user.getId());
+        dto.setUserId(snapshot.getUserId());
         
         // Calculate current progress based on badge type
-        int currentProgress = calculateCurrentProgress(user, badgeType);
-        dto.setProgressValue(currentProgress);
+        dto.setProgressValue(snapshot.progressFor(badgeType));
         
         return dto;
     }
 
-    /**
-     * Calculate current progress for a badge type
-     */
-    private int calculateCurrentProgress(User user, BadgeType badgeType) {
-        if (user.getUserType() == UserType.VOLUNTEER) {
-            VolunteerProfile profile = volunteerProfileRepository.findByUser(user).orElse(null);
-            if (profile == null) return 0;
-            
-            return switch (badgeType) {
-                case FIRST_VOLUNTEER, HELPING_HAND, DEDICATED_HELPER, COMMUNITY_CHAMPION, VOLUNTEER_HERO ->
-                    profile.getTotalVolunteerHours();
-                case EVENT_STARTER, REGULAR_VOLUNTEER, EVENT_ENTHUSIAST ->
-                    profile.getEventsParticipated();
-                case SOCIAL_BUTTERFLY -> 
-                    0; // Would need to implement organization connection tracking
-                case SKILL_SHARER ->
-                    isProfileComplete(user) ? 1 : 0;
-                case EARLY_ADOPTER ->
-                    user.getCreatedAt().isAfter(LocalDateTime.now().minusYears(1)) ? 1 : 0;
-                default -> 0;
-            };
-        } else if (user.getUserType() == UserType.ORGANIZATION) {
-            OrganizationProfile profile = organizationProfileRepository.findByUser(user).orElse(null);
-            if (profile == null) return 0;
-            
-            return switch (badgeType) {
-                case FIRST_EVENT, EVENT_ORGANIZER, COMMUNITY_BUILDER ->
-                    profile.getTotalEventsHosted();
-                case EARLY_ADOPTER ->
-                    user.getCreatedAt().isAfter(LocalDateTime.now().minusYears(1)) ? 1 : 0;
-                default -> 0;
-            };
-        }
-        
-        return 0;
-    }
-
     /**
      * Get user display name for leaderboard
      */
@@ -755,18 +748,6 @@ public class BadgeService {
         return user.getEmail().split("@")[0]; // Fallback to email prefix
     }
 
-    private boolean isBadgeAvailableForUser(BadgeType badgeType, User user) {
-        // Check if badge is appropriate for user type
-        if (user.getUserType() == UserType.VOLUNTEER && !badgeType.isForVolunteers()) {
-            return false;
-        }
-        if (user.getUserType() == UserType.ORGANIZATION && !badgeType.isForOrganizations()) {
-            return false;
-        }
-        
-        return true;
-    }
-
     private boolean isProfileComplete(User user) {
         if (user.getUserType() == UserType.VOLUNTEER) {
             VolunteerProfile profile = volunteerProfileRepository.findByUser(user).orElse(null);
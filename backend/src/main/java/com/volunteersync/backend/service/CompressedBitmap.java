@@ -0,0 +1,864 @@
+package com.volunteersync.backend.service;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Compressed bitmap over non-negative ints, Roaring-style.
+ * Values are split into a 16-bit high key and a 16-bit low part; each key owns a container
+ * holding the low parts - a sorted char array while sparse (up to 4096 values) and a
+ * 65536-bit bitmap once dense. runOptimize() turns containers into sorted runs where that is
+ * smaller (long consecutive stretches, like dense ordinals). AND/OR/ANDNOT/cardinality work
+ * container by container.
+ *
+ * Not thread-safe; callers guard mutation (see EventFacetIndex).
+ */
+public final class CompressedBitmap {
+
+    private static final int ARRAY_MAX = 4096;
+    private static final int BITMAP_WORDS = 1024;
+
+    // Sorted high keys and their containers, parallel arrays of length size
+    private char[] keys = new char[4];
+    private Container[] containers = new Container[4];
+    private int size = 0;
+
+    // ==========================================
+    // SINGLE VALUES
+    // ==========================================
+
+    public void add(int value) {
+        checkValue(value);
+        char high = (char) (value >>> 16);
+        int index = indexOf(high);
+        if (index < 0) {
+            index = -index - 1;
+            insertContainer(index, high, new ArrayContainer());
+        }
+        containers[index] = containers[index].add((char) value);
+    }
+
+    public void remove(int value) {
+        if (value < 0) {
+            return;
+        }
+        int index = indexOf((char) (value >>> 16));
+        if (index < 0) {
+            return;
+        }
+        Container container = containers[index].remove((char) value);
+        if (container.cardinality() == 0) {
+            removeContainer(index);
+        } else {
+            containers[index] = container;
+        }
+    }
+
+    public boolean contains(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int index = indexOf((char) (value >>> 16));
+        return index >= 0 && containers[index].contains((char) value);
+    }
+
+    // ==========================================
+    // SET OPERATIONS
+    // ==========================================
+
+    public int cardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public CompressedBitmap and(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                Container container = containers[i].and(other.containers[j]);
+                if (container.cardinality() > 0) {
+                    result.appendContainer(keys[i], container);
+                }
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Cardinality of the intersection, without building it
+     */
+    public int andCardinality(CompressedBitmap other) {
+        int cardinality = 0;
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                cardinality += containers[i].andCardinality(other.containers[j]);
+                i++;
+                j++;
+            }
+        }
+        return cardinality;
+    }
+
+    public CompressedBitmap or(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            if (j >= other.size || (i < size && keys[i] < other.keys[j])) {
+                result.appendContainer(keys[i], containers[i].copy());
+                i++;
+            } else if (i >= size || keys[i] > other.keys[j]) {
+                result.appendContainer(other.keys[j], other.containers[j].copy());
+                j++;
+            } else {
+                result.appendContainer(keys[i], containers[i].or(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Values in this bitmap but not in other
+     */
+    public CompressedBitmap andNot(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        int j = 0;
+        for (int i = 0; i < size; i++) {
+            while (j < other.size && other.keys[j] < keys[i]) {
+                j++;
+            }
+            Container container = j < other.size && other.keys[j] == keys[i]
+                    ? containers[i].andNot(other.containers[j])
+                    : containers[i].copy();
+            if (container.cardinality() > 0) {
+                result.appendContainer(keys[i], container);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Store each container as runs where that takes less space than an array or bitmap
+     */
+    public void runOptimize() {
+        for (int i = 0; i < size; i++) {
+            containers[i] = containers[i].runOptimize();
+        }
+    }
+
+    public CompressedBitmap copy() {
+        CompressedBitmap copy = new CompressedBitmap();
+        for (int i = 0; i < size; i++) {
+            copy.appendContainer(keys[i], containers[i].copy());
+        }
+        return copy;
+    }
+
+    /**
+     * Visit values in ascending order
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            containers[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+    public int[] toArray() {
+        int[] values = new int[cardinality()];
+        int[] position = {0};
+        forEach(value -> values[position[0]++] = value);
+        return values;
+    }
+
+    // ==========================================
+    // CONTAINER ARRAY MAINTENANCE
+    // ==========================================
+
+    private int indexOf(char high) {
+        return Arrays.binarySearch(keys, 0, size, high);
+    }
+
+    private void insertContainer(int index, char high, Container container) {
+        ensureCapacity();
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = high;
+        containers[index] = container;
+        size++;
+    }
+
+    private void appendContainer(char high, Container container) {
+        ensureCapacity();
+        keys[size] = high;
+        containers[size] = container;
+        size++;
+    }
+
+    private void removeContainer(int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+        size--;
+        containers[size] = null;
+    }
+
+    private void ensureCapacity() {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+    }
+
+    private static void checkValue(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Bitmap values must be non-negative: " + value);
+        }
+    }
+
+    // ==========================================
+    // CONTAINERS
+    // ==========================================
+
+    /**
+     * Low 16 bits of the values sharing one high key; mutators return the (possibly converted) container
+     */
+    private abstract static class Container {
+
+        abstract Container add(char low);
+
+        abstract Container remove(char low);
+
+        abstract boolean contains(char low);
+
+        abstract int cardinality();
+
+        abstract Container and(Container other);
+
+        abstract int andCardinality(Container other);
+
+        abstract Container or(Container other);
+
+        abstract Container andNot(Container other);
+
+        abstract Container runOptimize();
+
+        abstract Container copy();
+
+        abstract void forEach(int base, IntConsumer action);
+    }
+
+    /**
+     * Sparse container: sorted low values
+     */
+    private static final class ArrayContainer extends Container {
+        private char[] values;
+        private int cardinality;
+
+        ArrayContainer() {
+            this(new char[4], 0);
+        }
+
+        ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        Container add(char low) {
+            int index = Arrays.binarySearch(values, 0, cardinality, low);
+            if (index >= 0) {
+                return this;
+            }
+            if (cardinality >= ARRAY_MAX) {
+                return toBitmap().add(low);
+            }
+            index = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, values.length * 2));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = low;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(char low) {
+            int index = Arrays.binarySearch(values, 0, cardinality, low);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        boolean contains(char low) {
+            return Arrays.binarySearch(values, 0, cardinality, low) >= 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        Container and(Container other) {
+            char[] result = new char[cardinality];
+            int count = 0;
+            if (other instanceof ArrayContainer array) {
+                int i = 0;
+                int j = 0;
+                while (i < cardinality && j < array.cardinality) {
+                    if (values[i] < array.values[j]) {
+                        i++;
+                    } else if (values[i] > array.values[j]) {
+                        j++;
+                    } else {
+                        result[count++] = values[i];
+                        i++;
+                        j++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < cardinality; i++) {
+                    if (other.contains(values[i])) {
+                        result[count++] = values[i];
+                    }
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        @Override
+        int andCardinality(Container other) {
+            int count = 0;
+            if (other instanceof ArrayContainer array) {
+                int i = 0;
+                int j = 0;
+                while (i < cardinality && j < array.cardinality) {
+                    if (values[i] < array.values[j]) {
+                        i++;
+                    } else if (values[i] > array.values[j]) {
+                        j++;
+                    } else {
+                        count++;
+                        i++;
+                        j++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < cardinality; i++) {
+                    if (other.contains(values[i])) {
+                        count++;
+                    }
+                }
+            }
+            return count;
+        }
+
+        @Override
+        Container or(Container other) {
+            if (!(other instanceof ArrayContainer)) {
+                return other.or(this);
+            }
+            ArrayContainer array = (ArrayContainer) other;
+            if (cardinality + array.cardinality > ARRAY_MAX) {
+                return toBitmap().or(array);
+            }
+            char[] result = new char[cardinality + array.cardinality];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < cardinality || j < array.cardinality) {
+                if (j >= array.cardinality || (i < cardinality && values[i] < array.values[j])) {
+                    result[count++] = values[i++];
+                } else if (i >= cardinality || values[i] > array.values[j]) {
+                    result[count++] = array.values[j++];
+                } else {
+                    result[count++] = values[i];
+                    i++;
+                    j++;
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        @Override
+        Container andNot(Container other) {
+            char[] result = new char[Math.max(cardinality, 1)];
+            int count = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (!other.contains(values[i])) {
+                    result[count++] = values[i];
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+
+        @Override
+        Container runOptimize() {
+            int runs = cardinality > 0 ? 1 : 0;
+            for (int i = 1; i < cardinality; i++) {
+                if (values[i] != values[i - 1] + 1) {
+                    runs++;
+                }
+            }
+            return RunContainer.bytes(runs) < 2 * cardinality ? RunContainer.of(this) : this;
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, Math.max(cardinality, 1)), cardinality);
+        }
+
+        @Override
+        void forEach(int base, IntConsumer action) {
+            for (int i = 0; i < cardinality; i++) {
+                action.accept(base | values[i]);
+            }
+        }
+
+        private BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    /**
+     * Dense container: one bit per low value
+     */
+    private static final class BitmapContainer extends Container {
+        private final long[] words;
+        private int cardinality;
+
+        BitmapContainer() {
+            this(new long[BITMAP_WORDS], 0);
+        }
+
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        Container add(char low) {
+            long before = words[low >>> 6];
+            long after = before | (1L << low);
+            if (before != after) {
+                words[low >>> 6] = after;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(char low) {
+            long before = words[low >>> 6];
+            long after = before & ~(1L << low);
+            if (before != after) {
+                words[low >>> 6] = after;
+                cardinality--;
+                if (cardinality <= ARRAY_MAX) {
+                    return toArray();
+                }
+            }
+            return this;
+        }
+
+        @Override
+        boolean contains(char low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        Container and(Container other) {
+            if (!(other instanceof BitmapContainer)) {
+                return other.and(this);
+            }
+            BitmapContainer bitmap = (BitmapContainer) other;
+            long[] result = new long[BITMAP_WORDS];
+            int count = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                result[i] = words[i] & bitmap.words[i];
+                count += Long.bitCount(result[i]);
+            }
+            BitmapContainer intersection = new BitmapContainer(result, count);
+            return count <= ARRAY_MAX ? intersection.toArray() : intersection;
+        }
+
+        @Override
+        int andCardinality(Container other) {
+            if (!(other instanceof BitmapContainer)) {
+                return other.andCardinality(this);
+            }
+            BitmapContainer bitmap = (BitmapContainer) other;
+            int count = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                count += Long.bitCount(words[i] & bitmap.words[i]);
+            }
+            return count;
+        }
+
+        @Override
+        Container or(Container other) {
+            if (other instanceof RunContainer) {
+                return other.or(this);
+            }
+            long[] result = words.clone();
+            if (other instanceof ArrayContainer array) {
+                BitmapContainer union = new BitmapContainer(result, cardinality);
+                for (int i = 0; i < array.cardinality; i++) {
+                    union.add(array.values[i]);
+                }
+                return union.cardinality <= ARRAY_MAX ? union.toArray() : union;
+            }
+            BitmapContainer bitmap = (BitmapContainer) other;
+            int count = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                result[i] |= bitmap.words[i];
+                count += Long.bitCount(result[i]);
+            }
+            return new BitmapContainer(result, count);
+        }
+
+        @Override
+        Container andNot(Container other) {
+            long[] result = words.clone();
+            if (other instanceof BitmapContainer bitmap) {
+                for (int i = 0; i < BITMAP_WORDS; i++) {
+                    result[i] &= ~bitmap.words[i];
+                }
+            } else {
+                other.forEach(0, value -> result[value >>> 6] &= ~(1L << value));
+            }
+            int count = 0;
+            for (long word : result) {
+                count += Long.bitCount(word);
+            }
+            BitmapContainer difference = new BitmapContainer(result, count);
+            return count <= ARRAY_MAX ? difference.toArray() : difference;
+        }
+
+        @Override
+        Container runOptimize() {
+            // A run starts at every set bit whose lower neighbour is clear
+            int runs = 0;
+            long carry = 0L;
+            for (long word : words) {
+                runs += Long.bitCount(word & ~((word << 1) | carry));
+                carry = word >>> 63;
+            }
+            return RunContainer.bytes(runs) < 8 * BITMAP_WORDS ? RunContainer.of(this) : this;
+        }
+
+        @Override
+        Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        @Override
+        void forEach(int base, IntConsumer action) {
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    action.accept(base | (i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        private ArrayContainer toArray() {
+            char[] values = new char[Math.max(cardinality, 1)];
+            int[] count = {0};
+            forEach(0, value -> values[count[0]++] = (char) value);
+            return new ArrayContainer(values, cardinality);
+        }
+    }
+
+    /**
+     * Run container: sorted, non-adjacent runs [start, last] of low values. Only created by
+     * runOptimize(); falls back to an array or bitmap once the runs stop being the smaller form.
+     */
+    private static final class RunContainer extends Container {
+        private char[] starts;
+        private char[] lasts;
+        private int runs;
+        private int cardinality;
+
+        RunContainer() {
+            this.starts = new char[4];
+            this.lasts = new char[4];
+        }
+
+        static int bytes(int runs) {
+            return 4 * runs;
+        }
+
+        static RunContainer of(Container container) {
+            RunContainer run = new RunContainer();
+            container.forEach(0, value -> run.append(value, value));
+            return run;
+        }
+
+        @Override
+        Container add(char low) {
+            int index = floorRun(low);
+            if (index >= 0 && low <= lasts[index]) {
+                return this;
+            }
+            boolean joinsPrevious = index >= 0 && lasts[index] + 1 == low;
+            boolean joinsNext = index + 1 < runs && starts[index + 1] == low + 1;
+            if (joinsPrevious && joinsNext) {
+                lasts[index] = lasts[index + 1];
+                deleteRun(index + 1);
+            } else if (joinsPrevious) {
+                lasts[index] = low;
+            } else if (joinsNext) {
+                starts[index + 1] = low;
+            } else {
+                insertRun(index + 1, low, low);
+            }
+            cardinality++;
+            return shrink();
+        }
+
+        @Override
+        Container remove(char low) {
+            int index = floorRun(low);
+            if (index < 0 || low > lasts[index]) {
+                return this;
+            }
+            if (starts[index] == lasts[index]) {
+                deleteRun(index);
+            } else if (low == starts[index]) {
+                starts[index]++;
+            } else if (low == lasts[index]) {
+                lasts[index]--;
+            } else {
+                // Split the run around the removed value
+                insertRun(index + 1, (char) (low + 1), lasts[index]);
+                lasts[index] = (char) (low - 1);
+            }
+            cardinality--;
+            return shrink();
+        }
+
+        @Override
+        boolean contains(char low) {
+            int index = floorRun(low);
+            return index >= 0 && low <= lasts[index];
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        Container and(Container other) {
+            if (!(other instanceof RunContainer run)) {
+                return expand().and(other);
+            }
+            RunContainer result = new RunContainer();
+            int i = 0;
+            int j = 0;
+            while (i < runs && j < run.runs) {
+                int start = Math.max(starts[i], run.starts[j]);
+                int last = Math.min(lasts[i], run.lasts[j]);
+                if (start <= last) {
+                    result.append(start, last);
+                }
+                if (lasts[i] < run.lasts[j]) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+            return result.shrink();
+        }
+
+        @Override
+        int andCardinality(Container other) {
+            if (!(other instanceof RunContainer run)) {
+                return expand().andCardinality(other);
+            }
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < runs && j < run.runs) {
+                count += Math.max(0, Math.min(lasts[i], run.lasts[j]) - Math.max(starts[i], run.starts[j]) + 1);
+                if (lasts[i] < run.lasts[j]) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+            return count;
+        }
+
+        @Override
+        Container or(Container other) {
+            if (!(other instanceof RunContainer run)) {
+                return expand().or(other);
+            }
+            RunContainer result = new RunContainer();
+            int i = 0;
+            int j = 0;
+            while (i < runs || j < run.runs) {
+                if (j >= run.runs || (i < runs && starts[i] <= run.starts[j])) {
+                    result.append(starts[i], lasts[i]);
+                    i++;
+                } else {
+                    result.append(run.starts[j], run.lasts[j]);
+                    j++;
+                }
+            }
+            return result.shrink();
+        }
+
+        @Override
+        Container andNot(Container other) {
+            if (!(other instanceof RunContainer run)) {
+                return expand().andNot(other);
+            }
+            RunContainer result = new RunContainer();
+            int j = 0;
+            for (int i = 0; i < runs; i++) {
+                int start = starts[i];
+                int last = lasts[i];
+                while (j < run.runs && run.lasts[j] < start) {
+                    j++;
+                }
+                // Cut out every run of other overlapping [start, last]
+                for (int k = j; start <= last; k++) {
+                    if (k >= run.runs || run.starts[k] > last) {
+                        result.append(start, last);
+                        break;
+                    }
+                    if (run.starts[k] > start) {
+                        result.append(start, run.starts[k] - 1);
+                    }
+                    start = run.lasts[k] + 1;
+                }
+            }
+            return result.shrink();
+        }
+
+        @Override
+        Container runOptimize() {
+            return this;
+        }
+
+        @Override
+        Container copy() {
+            RunContainer copy = new RunContainer();
+            copy.starts = Arrays.copyOf(starts, Math.max(runs, 1));
+            copy.lasts = Arrays.copyOf(lasts, Math.max(runs, 1));
+            copy.runs = runs;
+            copy.cardinality = cardinality;
+            return copy;
+        }
+
+        @Override
+        void forEach(int base, IntConsumer action) {
+            for (int i = 0; i < runs; i++) {
+                for (int value = starts[i]; value <= lasts[i]; value++) {
+                    action.accept(base | value);
+                }
+            }
+        }
+
+        /**
+         * Add [start, last]; runs arrive in ascending start order and may overlap or touch the last one
+         */
+        private void append(int start, int last) {
+            if (runs > 0 && start <= lasts[runs - 1] + 1) {
+                if (last > lasts[runs - 1]) {
+                    cardinality += last - lasts[runs - 1];
+                    lasts[runs - 1] = (char) last;
+                }
+                return;
+            }
+            insertRun(runs, (char) start, (char) last);
+            cardinality += last - start + 1;
+        }
+
+        /**
+         * Index of the last run starting at or before low, or -1
+         */
+        private int floorRun(char low) {
+            int index = Arrays.binarySearch(starts, 0, runs, low);
+            return index >= 0 ? index : -index - 2;
+        }
+
+        private void insertRun(int index, char start, char last) {
+            if (runs == starts.length) {
+                starts = Arrays.copyOf(starts, runs * 2);
+                lasts = Arrays.copyOf(lasts, runs * 2);
+            }
+            System.arraycopy(starts, index, starts, index + 1, runs - index);
+            System.arraycopy(lasts, index, lasts, index + 1, runs - index);
+            starts[index] = start;
+            lasts[index] = last;
+            runs++;
+        }
+
+        private void deleteRun(int index) {
+            System.arraycopy(starts, index + 1, starts, index, runs - index - 1);
+            System.arraycopy(lasts, index + 1, lasts, index, runs - index - 1);
+            runs--;
+        }
+
+        /**
+         * Array or bitmap holding the same values, whichever fits the cardinality
+         */
+        private Container expand() {
+            if (cardinality <= ARRAY_MAX) {
+                char[] values = new char[Math.max(cardinality, 1)];
+                int[] count = {0};
+                forEach(0, value -> values[count[0]++] = (char) value);
+                return new ArrayContainer(values, cardinality);
+            }
+            long[] words = new long[BITMAP_WORDS];
+            forEach(0, value -> words[value >>> 6] |= 1L << value);
+            return new BitmapContainer(words, cardinality);
+        }
+
+        private Container shrink() {
+            boolean smallerAsArray = cardinality <= ARRAY_MAX && bytes(runs) > 2 * cardinality;
+            boolean smallerAsBitmap = cardinality > ARRAY_MAX && bytes(runs) > 8 * BITMAP_WORDS;
+            return smallerAsArray || smallerAsBitmap ? expand() : this;
+        }
+    }
+}
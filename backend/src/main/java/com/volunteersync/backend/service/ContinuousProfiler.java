@@ -0,0 +1,315 @@
+package com.volunteersync.backend.service;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+import jdk.jfr.consumer.RecordingStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Continuous Profiler - an always-on JFR recording plus a live summary of it.
+ *
+ * The recording uses the JDK's "default" settings (about 1% overhead) and keeps a rolling buffer
+ * on disk, bounded by max-age and max-size; dump() cuts the last N minutes out of it for JMC.
+ * Alongside it a RecordingStream (JFR event streaming) folds execution samples, allocation samples
+ * and our own events (JfrEvents) into per-minute buckets, so summary() can answer "what is hot right
+ * now" without anyone downloading a recording.
+ */
+@Service
+public class ContinuousProfiler {
+
+    private static final List<Class<? extends Event>> CUSTOM_EVENTS = List.of(
+            JfrEvents.SearchRequest.class,
+            JfrEvents.DtoConversion.class,
+            JfrEvents.BadgeEvaluation.class,
+            JfrEvents.RegistrationAttempt.class,
+            JfrEvents.JwtValidation.class);
+
+    private static final String EXECUTION_SAMPLE = "jdk.ExecutionSample";
+    private static final String ALLOCATION_SAMPLE = "jdk.ObjectAllocationSample";
+
+    private final boolean enabled;
+    private final String settings;
+    private final Duration maxAge;
+    private final long maxSizeBytes;
+    private final Duration summaryWindow;
+    private final Duration samplePeriod;
+
+    private volatile Recording recording;
+    private volatile RecordingStream stream;
+
+    // Newest bucket last; guarded by this
+    private final Deque<Bucket> buckets = new ArrayDeque<>();
+
+    public ContinuousProfiler(
+            @Value("${app.profiling.enabled:true}") boolean enabled,
+            @Value("${app.profiling.settings:default}") String settings,
+            @Value("${app.profiling.max-age:30m}") Duration maxAge,
+            @Value("${app.profiling.max-size-mb:64}") long maxSizeMb,
+            @Value("${app.profiling.summary-window:5m}") Duration summaryWindow,
+            @Value("${app.profiling.sample-period:20ms}") Duration samplePeriod) {
+        if (summaryWindow.toMinutes() < 1) {
+            // Buckets are per minute; a shorter window would trim the bucket just added
+            throw new IllegalArgumentException("app.profiling.summary-window must be at least 1m: " + summaryWindow);
+        }
+        this.enabled = enabled;
+        this.settings = settings;
+        this.maxAge = maxAge;
+        this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+        this.summaryWindow = summaryWindow;
+        this.samplePeriod = samplePeriod;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled || recording != null) {
+            return;
+        }
+        try {
+            Recording continuous = new Recording(Configuration.getConfiguration(settings));
+            continuous.setName("volunteersync-continuous");
+            continuous.setToDisk(true);
+            continuous.setMaxAge(maxAge);
+            continuous.setMaxSize(maxSizeBytes);
+            CUSTOM_EVENTS.forEach(continuous::enable);
+            continuous.start();
+            recording = continuous;
+        } catch (IOException | ParseException | IllegalStateException | SecurityException e) {
+            System.err.println("Continuous profiling not started: " + e.getMessage());
+            return;
+        }
+
+        RecordingStream summaryStream = new RecordingStream();
+        summaryStream.setMaxAge(Duration.ofMinutes(1));
+        summaryStream.enable(EXECUTION_SAMPLE).withPeriod(samplePeriod);
+        summaryStream.enable(ALLOCATION_SAMPLE).with("throttle", "150/s");
+        summaryStream.onEvent(EXECUTION_SAMPLE, this::onExecutionSample);
+        summaryStream.onEvent(ALLOCATION_SAMPLE, this::onAllocationSample);
+        for (Class<? extends Event> type : CUSTOM_EVENTS) {
+            summaryStream.enable(type);
+        }
+        summaryStream.onEvent(event -> {
+            if (event.getEventType().getName().startsWith("volunteersync.")) {
+                onOperation(event);
+            }
+        });
+        summaryStream.startAsync();
+        stream = summaryStream;
+
+        System.out.println("Continuous profiling started (" + settings + " settings, last " + maxAge
+                + " kept, up to " + maxSizeBytes / (1024 * 1024) + "MB)");
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    public boolean isRunning() {
+        return recording != null;
+    }
+
+    // ==========================================
+    // DUMP
+    // ==========================================
+
+    /**
+     * Write the events of the last period (capped at max-age) to a new .jfr file; the caller deletes it
+     */
+    public Path dump(Duration last) throws IOException {
+        Recording current = recording;
+        if (current == null) {
+            throw new IllegalStateException("Continuous profiling is not running");
+        }
+        Instant cutoff = Instant.now().minus(last.compareTo(maxAge) > 0 ? maxAge : last);
+
+        Path full = Files.createTempFile("volunteersync-continuous-", ".jfr");
+        try {
+            try (Recording copy = current.copy(true)) {
+                copy.dump(full);
+            }
+            Path window = Files.createTempFile("volunteersync-last-", ".jfr");
+            try (RecordingFile file = new RecordingFile(full)) {
+                file.write(window, event -> !event.getEndTime().isBefore(cutoff));
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(window);
+                throw e;
+            }
+            return window;
+        } finally {
+            Files.deleteIfExists(full);
+        }
+    }
+
+    // ==========================================
+    // SUMMARY
+    // ==========================================
+
+    /**
+     * Hot methods (top frames of execution samples), allocation sites (sampled bytes by allocating
+     * frame) and our operations, over the summary window
+     */
+    public synchronized ProfileSummary summary(int top) {
+        long fromMinute = currentMinute() - summaryWindow.toMinutes() + 1;
+        Map<String, Long> hotMethods = new HashMap<>();
+        Map<String, Long> allocationSites = new HashMap<>();
+        Map<String, long[]> operations = new HashMap<>();
+        for (Bucket bucket : buckets) {
+            if (bucket.minute < fromMinute) {
+                continue;
+            }
+            bucket.hotMethods.forEach((frame, samples) -> hotMethods.merge(frame, samples, Long::sum));
+            bucket.allocationSites.forEach((site, bytes) -> allocationSites.merge(site, bytes, Long::sum));
+            bucket.operations.forEach((name, stats) -> operations.merge(name, stats.clone(), Bucket::mergeStats));
+        }
+
+        long samples = hotMethods.values().stream().mapToLong(Long::longValue).sum();
+        long allocated = allocationSites.values().stream().mapToLong(Long::longValue).sum();
+        List<OperationStats> operationStats = operations.entrySet().stream()
+                .map(entry -> new OperationStats(entry.getKey(), entry.getValue()[0],
+                        millis(entry.getValue()[1] / entry.getValue()[0]), millis(entry.getValue()[2])))
+                .sorted(Comparator.comparing(OperationStats::event))
+                .toList();
+        return new ProfileSummary(isRunning(), summaryWindow.toMinutes(), samples,
+                topEntries(hotMethods, samples, top), allocated, topEntries(allocationSites, allocated, top),
+                operationStats);
+    }
+
+    private double millis(long nanos) {
+        return Math.round(nanos / 1000.0) / 1000.0;
+    }
+
+    private List<Hotspot> topEntries(Map<String, Long> counts, long total, int top) {
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(top)
+                .map(entry -> new Hotspot(entry.getKey(), entry.getValue(),
+                        Math.round(entry.getValue() * 1000.0 / total) / 10.0))
+                .toList();
+    }
+
+    // ==========================================
+    // STREAM HANDLERS
+    // ==========================================
+
+    private void onExecutionSample(RecordedEvent event) {
+        RecordedFrame frame = topFrame(event.getStackTrace());
+        if (frame != null) {
+            String method = frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+            synchronized (this) {
+                bucket(event).hotMethods.merge(method, 1L, Long::sum);
+            }
+        }
+    }
+
+    private void onAllocationSample(RecordedEvent event) {
+        RecordedFrame frame = topFrame(event.getStackTrace());
+        if (frame != null) {
+            String site = event.getClass("objectClass").getName() + " at "
+                    + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                    + ":" + frame.getLineNumber();
+            synchronized (this) {
+                bucket(event).allocationSites.merge(site, event.getLong("weight"), Long::sum);
+            }
+        }
+    }
+
+    private void onOperation(RecordedEvent event) {
+        long nanos = event.getDuration().toNanos();
+        synchronized (this) {
+            bucket(event).operations.merge(event.getEventType().getName(), new long[] { 1, nanos, nanos },
+                    Bucket::mergeStats);
+        }
+    }
+
+    private RecordedFrame topFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return null;
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (frame.isJavaFrame()) {
+                return frame;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The bucket for the event's minute, dropping buckets older than the summary window
+     */
+    private Bucket bucket(RecordedEvent event) {
+        long minute = event.getEndTime().getEpochSecond() / 60;
+        Bucket newest = buckets.peekLast();
+        if (newest != null && newest.minute >= minute) {
+            return newest;
+        }
+        Bucket bucket = new Bucket(minute);
+        buckets.addLast(bucket);
+        while (buckets.peekFirst().minute <= minute - summaryWindow.toMinutes()) {
+            buckets.removeFirst();
+        }
+        return bucket;
+    }
+
+    private long currentMinute() {
+        return Instant.now().getEpochSecond() / 60;
+    }
+
+    private static class Bucket {
+        private final long minute;
+        private final Map<String, Long> hotMethods = new HashMap<>();
+        private final Map<String, Long> allocationSites = new HashMap<>();
+        // count, total nanos, max nanos
+        private final Map<String, long[]> operations = new HashMap<>();
+
+        Bucket(long minute) {
+            this.minute = minute;
+        }
+
+        static long[] mergeStats(long[] stats, long[] other) {
+            stats[0] += other[0];
+            stats[1] += other[1];
+            stats[2] = Math.max(stats[2], other[2]);
+            return stats;
+        }
+    }
+
+    public record ProfileSummary(boolean running, long windowMinutes, long executionSamples, List<Hotspot> hotMethods,
+            long allocatedBytesSampled, List<Hotspot> allocationSites, List<OperationStats> operations) {
+    }
+
+    public record Hotspot(String frame, long value, double percent) {
+    }
+
+    public record OperationStats(String event, long count, double avgMillis, double maxMillis) {
+    }
+}
@@ -0,0 +1,309 @@
+package com.volunteersync.backend.service;
+
+import com.volunteersync.backend.enums.EventDuration;
+import com.volunteersync.backend.enums.EventType;
+import com.volunteersync.backend.enums.SkillLevel;
+import com.volunteersync.backend.service.UpcomingEventIndex.EventSnapshot;
+
+import jakarta.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * Event facet index - one CompressedBitmap per facet value over the upcoming ACTIVE events
+ * in UpcomingEventIndex, addressed by dense ordinals (recycled as events leave the index).
+ *
+ * A search is bitmap algebra: OR within a facet, AND across facets. Counts are disjunctive,
+ * the way a facet sidebar expects - each facet is counted against the other facets'
+ * selections but not its own, so picking one event type still shows how many match the rest.
+ */
+@Component
+public class EventFacetIndex implements UpcomingEventIndex.Listener {
+
+    @Autowired
+    private UpcomingEventIndex upcomingEventIndex;
+
+    public enum Facet {
+        EVENT_TYPE("eventType", names(EventType.values())),
+        SKILL_LEVEL("skillLevel", names(SkillLevel.values())),
+        DURATION("duration", names(EventDuration.values())),
+        TIME_OF_DAY("timeOfDay", List.of("MORNING", "AFTERNOON", "EVENING")),
+        FORMAT("format", List.of("VIRTUAL", "IN_PERSON")),
+        SCHEDULE("schedule", List.of("WEEKDAY", "WEEKEND"));
+
+        private final String paramName;
+        private final List<String> values;
+
+        Facet(String paramName, List<String> values) {
+            this.paramName = paramName;
+            this.values = values;
+        }
+
+        public String getParamName() {
+            return paramName;
+        }
+
+        public List<String> getValues() {
+            return values;
+        }
+
+        private static List<String> names(Enum<?>[] constants) {
+            return Arrays.stream(constants).map(Enum::name).toList();
+        }
+    }
+
+    private static final Comparator<EventSnapshot> BY_START = Comparator
+            .comparing(EventSnapshot::startDate).thenComparing(EventSnapshot::id);
+
+    private final Map<Facet, Map<String, CompressedBitmap>> bitmaps = new EnumMap<>(Facet.class);
+    private CompressedBitmap all = new CompressedBitmap();
+
+    private final Map<Long, Integer> ordinalsById = new HashMap<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private EventSnapshot[] snapshots = new EventSnapshot[256];
+    private int nextOrdinal = 0;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @PostConstruct
+    public void init() {
+        reset();
+        upcomingEventIndex.addListener(this);
+    }
+
+    public boolean isReady() {
+        return upcomingEventIndex.isReady();
+    }
+
+    // ==========================================
+    // SEARCH
+    // ==========================================
+
+    /**
+     * Events matching the selected facet values and the filter, in start order, plus facet counts
+     *
+     * @param selected facet -> accepted values (OR); facets left out are unrestricted
+     * @param filter   non-facet criteria (text, location), or null
+     */
+    public FacetResult search(Map<Facet, Set<String>> selected, Predicate<EventSnapshot> filter, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            CompressedBitmap base = filter != null ? matching(filter) : all;
+
+            Map<Facet, CompressedBitmap> selections = new EnumMap<>(Facet.class);
+            selected.forEach((facet, values) -> {
+                if (values != null && !values.isEmpty()) {
+                    selections.put(facet, union(facet, values));
+                }
+            });
+
+            CompressedBitmap result = base;
+            for (CompressedBitmap selection : selections.values()) {
+                result = result.and(selection);
+            }
+
+            Map<Facet, Map<String, Integer>> counts = new EnumMap<>(Facet.class);
+            for (Facet facet : Facet.values()) {
+                CompressedBitmap others = base;
+                for (Map.Entry<Facet, CompressedBitmap> selection : selections.entrySet()) {
+                    if (selection.getKey() != facet) {
+                        others = others.and(selection.getValue());
+                    }
+                }
+                Map<String, Integer> facetCounts = new LinkedHashMap<>();
+                for (Map.Entry<String, CompressedBitmap> value : bitmaps.get(facet).entrySet()) {
+                    facetCounts.put(value.getKey(), value.getValue().andCardinality(others));
+                }
+                counts.put(facet, facetCounts);
+            }
+
+            int total = result.cardinality();
+            return new FacetResult(total, page(result, total, offset, limit), counts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ==========================================
+    // INDEX MAINTENANCE (called by UpcomingEventIndex under its lock)
+    // ==========================================
+
+    @Override
+    public void onPut(EventSnapshot snapshot) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinalsById.get(snapshot.id());
+            if (ordinal != null) {
+                unindex(ordinal, snapshots[ordinal]);
+            } else {
+                ordinal = allocateOrdinal();
+                ordinalsById.put(snapshot.id(), ordinal);
+            }
+            snapshots[ordinal] = snapshot;
+            all.add(ordinal);
+            for (Facet facet : Facet.values()) {
+                String value = valueOf(facet, snapshot);
+                if (value != null) {
+                    bitmaps.get(facet).computeIfAbsent(value, key -> new CompressedBitmap()).add(ordinal);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onRemove(Long id) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinalsById.remove(id);
+            if (ordinal != null) {
+                unindex(ordinal, snapshots[ordinal]);
+                all.remove(ordinal);
+                snapshots[ordinal] = null;
+                freeOrdinals.push(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onClear() {
+        lock.writeLock().lock();
+        try {
+            reset();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ==========================================
+    // HELPER METHODS
+    // ==========================================
+
+    /**
+     * Facet value an event is indexed under (null = not indexed for that facet)
+     */
+    static String valueOf(Facet facet, EventSnapshot snapshot) {
+        return switch (facet) {
+            case EVENT_TYPE -> snapshot.eventType() != null ? snapshot.eventType().name() : null;
+            case SKILL_LEVEL -> snapshot.skillLevelRequired() != null ? snapshot.skillLevelRequired().name() : null;
+            case DURATION -> snapshot.durationCategory() != null ? snapshot.durationCategory().name() : null;
+            case TIME_OF_DAY -> snapshot.timeOfDay() != null && !snapshot.timeOfDay().isBlank()
+                    ? snapshot.timeOfDay().trim().toUpperCase(Locale.ROOT) : null;
+            case FORMAT -> Boolean.TRUE.equals(snapshot.isVirtual()) ? "VIRTUAL" : "IN_PERSON";
+            case SCHEDULE -> {
+                if (snapshot.startDate() == null) {
+                    yield null;
+                }
+                DayOfWeek day = snapshot.startDate().getDayOfWeek();
+                yield day == DayOfWeek.SATURDAY || day == DayOfWeek.SUNDAY ? "WEEKEND" : "WEEKDAY";
+            }
+        };
+    }
+
+    /**
+     * The requested page in start order. Only the first offset + limit matches are kept (a
+     * bounded max-heap evicting the latest start), so a page costs O(n log(offset + limit))
+     * instead of sorting every match.
+     */
+    private List<EventSnapshot> page(CompressedBitmap result, int total, int offset, int limit) {
+        if (offset >= total) {
+            return List.of();
+        }
+        int keep = (int) Math.min((long) offset + limit, total);
+        PriorityQueue<EventSnapshot> first = new PriorityQueue<>(keep, BY_START.reversed());
+        result.forEach(ordinal -> {
+            EventSnapshot snapshot = snapshots[ordinal];
+            if (first.size() < keep) {
+                first.add(snapshot);
+            } else if (BY_START.compare(snapshot, first.peek()) < 0) {
+                first.poll();
+                first.add(snapshot);
+            }
+        });
+
+        List<EventSnapshot> events = new ArrayList<>(first);
+        events.sort(BY_START);
+        return List.copyOf(events.subList(offset, events.size()));
+    }
+
+    private CompressedBitmap union(Facet facet, Set<String> values) {
+        CompressedBitmap union = new CompressedBitmap();
+        for (String value : values) {
+            CompressedBitmap bitmap = bitmaps.get(facet).get(value);
+            if (bitmap != null) {
+                union = union.or(bitmap);
+            }
+        }
+        return union;
+    }
+
+    private CompressedBitmap matching(Predicate<EventSnapshot> filter) {
+        CompressedBitmap matching = new CompressedBitmap();
+        all.forEach(ordinal -> {
+            if (filter.test(snapshots[ordinal])) {
+                matching.add(ordinal);
+            }
+        });
+        return matching;
+    }
+
+    private void unindex(int ordinal, EventSnapshot previous) {
+        for (Facet facet : Facet.values()) {
+            String value = valueOf(facet, previous);
+            CompressedBitmap bitmap = value != null ? bitmaps.get(facet).get(value) : null;
+            if (bitmap != null) {
+                bitmap.remove(ordinal);
+            }
+        }
+    }
+
+    private int allocateOrdinal() {
+        if (!freeOrdinals.isEmpty()) {
+            return freeOrdinals.pop();
+        }
+        if (nextOrdinal == snapshots.length) {
+            snapshots = Arrays.copyOf(snapshots, snapshots.length * 2);
+        }
+        return nextOrdinal++;
+    }
+
+    private void reset() {
+        for (Facet facet : Facet.values()) {
+            Map<String, CompressedBitmap> values = new LinkedHashMap<>();
+            facet.getValues().forEach(value -> values.put(value, new CompressedBitmap()));
+            bitmaps.put(facet, values);
+        }
+        all = new CompressedBitmap();
+        snapshots = new EventSnapshot[256];
+        ordinalsById.clear();
+        freeOrdinals.clear();
+        nextOrdinal = 0;
+    }
+
+    /**
+     * One page of matching events, the total match count and counts per facet value
+     */
+    public record FacetResult(int total, List<EventSnapshot> events, Map<Facet, Map<String, Integer>> counts) {
+    }
+}
@@ -7,6 +7,7 @@ import com.volunteersync.backend.entity.Application;
 import com.volunteersync.backend.entity.OrganizationProfile;
 import com.volunteersync.backend.entity.VolunteerProfile;
 import com.volunteersync.backend.enums.UserType;
+import com.volunteersync.backend.enums.ImageVariant;
 import com.volunteersync.backend.enums.EventStatus;
 import com.volunteersync.backend.enums.EventType;
 import com.volunteersync.backend.enums.SkillLevel;
@@ -18,17 +19,34 @@ import com.volunteersync.backend.repository.UserRepository;
 import com.volunteersync.backend.repository.OrganizationProfileRepository;
 import com.volunteersync.backend.repository.VolunteerProfileRepository;
 import com.volunteersync.backend.dto.EventDTO;
+import com.volunteersync.backend.dto.BatchResponse;
+import com.volunteersync.backend.service.EventFacetIndex.Facet;
+import com.volunteersync.backend.service.EventFacetIndex.FacetResult;
+import com.volunteersync.backend.service.UpcomingEventIndex.EventSnapshot;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DayOfWeek;
 import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -38,6 +56,12 @@ import java.util.stream.Collectors;
 @Transactional
 public class EventService {
 
+    // Single-flight name of the all-events read used until the upcoming index is ready
+    static final String UPCOMING_EVENTS_READ = "events.upcoming";
+
+    @Value("${app.batch.max-ids:100}")
+    private int maxBatchIds;
+
     @Autowired
     private EventRepository eventRepository;
 
@@ -53,6 +77,30 @@ public class EventService {
     @Autowired
     private VolunteerProfileRepository volunteerProfileRepository;
 
+    @Autowired
+    private PlatformStatisticsService platformStatisticsService;
+
+    @Autowired
+    private TimeSeriesRollupService timeSeriesRollupService;
+
+    @Autowired
+    private SingleFlight singleFlight;
+
+    @Autowired
+    private UpcomingEventIndex upcomingEventIndex;
+
+    @Autowired
+    private SuggestService suggestService;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private HomeFeedService homeFeedService;
+
+    @Autowired
+    private EventFacetIndex eventFacetIndex;
+
     // ==========================================
     // EVENT CRUD OPERATIONS
     // ==========================================
@@ -115,27 +163,44 @@ public class EventService {
         event.setStatus(EventStatus.ACTIVE);
 
         Event savedEvent = eventRepository.save(event);
+        platformStatisticsService.recordCreated(savedEvent);
+        upcomingEventIndex.onEventSaved(savedEvent);
+        suggestService.onEventSaved(savedEvent);
+        timeSeriesRollupService.record(TimeSeriesRollupService.EVENTS_CREATED, savedEvent.getCreatedAt());
+        notificationService.onEventPublished(savedEvent);
+        homeFeedService.onEventCreated(savedEvent);
         System.out.println("Successfully created event with ID: " + savedEvent.getId());
 
         return convertToDTO(savedEvent);
     }
 
     /**
-     * Get all active events
+     * Get all active events - from the upcoming event index once loaded; before that,
+     * concurrent callers share one query (SUPPORTS so waiting callers hold no connection)
      */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public List<EventDTO> getAllEvents() {
-        System.out.println("Fetching all active events");
+        if (upcomingEventIndex.isReady()) {
+            return JfrEvents.convertBatch("EventDTO", upcomingEventIndex.upcoming(snapshot -> true, 0),
+                    this::convertToDTO);
+        }
+        // Callers share immutable snapshots and each builds its own DTOs
+        List<EventSnapshot> snapshots = singleFlight.execute(UPCOMING_EVENTS_READ, () -> {
+            System.out.println("Fetching all active events");
 
-        List<Event> events = eventRepository.findUpcomingActiveEvents(LocalDateTime.now());
+            List<Event> events = eventRepository.findUpcomingActiveEvents(LocalDateTime.now());
 
-        return events.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+            return events.stream()
+                    .map(EventSnapshot::from)
+                    .collect(Collectors.toUnmodifiableList());
+        });
+        return JfrEvents.convertBatch("EventDTO", snapshots, this::convertToDTO);
     }
 
     /**
      * Get event by ID
      */
+    @Transactional(readOnly = true)
     public EventDTO getEventById(Long eventId) {
         System.out.println("Fetching event with ID: " + eventId);
 
@@ -145,9 +210,24 @@ public class EventService {
         return convertToDTO(event);
     }
 
+    /**
+     * Get several events by ID in one query (batch multi-get), organization included;
+     * one item per requested id, in request order
+     */
+    @Transactional(readOnly = true)
+    public BatchResponse<EventDTO> getEventsByIds(List<Long> ids) {
+        List<Event> found = eventRepository.findAllWithOrganizationByIdIn(BatchResponse.distinctIds(ids, maxBatchIds));
+        Map<Long, EventDTO> loaded = new HashMap<>();
+        for (Event event : found) {
+            loaded.put(event.getId(), convertToDTO(event));
+        }
+        return BatchResponse.of(ids, loaded);
+    }
+
     /**
      * Get events by organizer
      */
+    @Transactional(readOnly = true)
     public List<EventDTO> getEventsByOrganizer(Long organizerId) {
         System.out.println("Fetching events for organizer ID: " + organizerId);
 
@@ -167,6 +247,7 @@ public class EventService {
     /**
      * ENHANCED: Search events with better error handling and validation
      */
+    @Transactional(readOnly = true)
     public List<EventDTO> searchEvents(EventSearchRequest request) {
         try {
             System.out.println("Searching events with filters: " + request.toString());
@@ -225,9 +306,8 @@ public class EventService {
                         skillLevel,
                         pageable);
 
-                List<EventDTO> results = eventPage.getContent().stream()
-                        .map(this::convertToDTO)
-                        .collect(Collectors.toList());
+                List<EventDTO> results = JfrEvents.convertBatch("EventDTO", eventPage.getContent(),
+                        this::convertToDTO);
 
                 System.out.println("Search completed: " + results.size() + " events found");
                 return results;
@@ -332,6 +412,7 @@ public class EventService {
     /**
      * Get events by type
      */
+    @Transactional(readOnly = true)
     public List<EventDTO> getEventsByType(String eventType) {
         System.out.println("Fetching events of type: " + eventType);
 
@@ -346,6 +427,7 @@ public class EventService {
     /**
      * Get virtual events
      */
+    @Transactional(readOnly = true)
     public List<EventDTO> getVirtualEvents() {
         System.out.println("Fetching virtual events");
 
@@ -359,6 +441,7 @@ public class EventService {
     /**
      * Get events by location
      */
+    @Transactional(readOnly = true)
     public List<EventDTO> getEventsByLocation(String location) {
         System.out.println("Fetching events in location: " + location);
 
@@ -372,9 +455,15 @@ public class EventService {
     /**
      * Get events with available spots
      */
+    @Transactional(readOnly = true)
     public List<EventDTO> getEventsWithAvailableSpots() {
         System.out.println("Fetching events with available spots");
 
+        if (upcomingEventIndex.isReady()) {
+            return JfrEvents.convertBatch("EventDTO", upcomingEventIndex.upcoming(EventSnapshot::hasAvailableSpots, 0),
+                    this::convertToDTO);
+        }
+
         List<Event> events = eventRepository.findEventsWithAvailableSpots();
 
         return events.stream()
@@ -395,6 +484,7 @@ public class EventService {
         if (!event.getOrganization().getUser().getId().equals(organizerId)) {
             throw new RuntimeException("You can only update events you organized");
         }
+        List<String> statisticKeysBefore = platformStatisticsService.keysFor(event);
 
         // Update fields
         if (request.getTitle() != null) {
@@ -441,6 +531,9 @@ public class EventService {
         }
 
         Event savedEvent = eventRepository.save(event);
+        platformStatisticsService.recordUpdated(statisticKeysBefore, savedEvent);
+        upcomingEventIndex.onEventSaved(savedEvent);
+        suggestService.onEventSaved(savedEvent);
 
         System.out.println("Successfully updated event with ID: " + eventId);
         return convertToDTO(savedEvent);
@@ -459,9 +552,13 @@ public class EventService {
         if (!event.getOrganization().getUser().getId().equals(organizerId)) {
             throw new RuntimeException("You can only cancel events you organized");
         }
+        List<String> statisticKeysBefore = platformStatisticsService.keysFor(event);
 
         event.setStatus(EventStatus.CANCELLED);
         eventRepository.save(event);
+        platformStatisticsService.recordUpdated(statisticKeysBefore, event);
+        upcomingEventIndex.onEventSaved(event);
+        suggestService.onEventSaved(event);
 
         System.out.println("Successfully cancelled event with ID: " + eventId);
     }
@@ -474,6 +571,23 @@ public class EventService {
      * Register volunteer for event
      */
     public String registerForEvent(Long eventId, Long volunteerId) {
+        JfrEvents.RegistrationAttempt attempt = new JfrEvents.RegistrationAttempt();
+        attempt.begin();
+        attempt.eventId = eventId;
+        attempt.volunteerId = volunteerId;
+        try {
+            String message = registerVolunteer(eventId, volunteerId);
+            attempt.outcome = "registered";
+            return message;
+        } catch (RuntimeException e) {
+            attempt.outcome = e.getMessage();
+            throw e;
+        } finally {
+            attempt.commit();
+        }
+    }
+
+    private String registerVolunteer(Long eventId, Long volunteerId) {
         System.out.println("Registering volunteer ID: " + volunteerId + " for event ID: " + eventId);
 
         // Verify volunteer exists and is a volunteer
@@ -515,11 +629,19 @@ public class EventService {
         application.setStatus(ApplicationStatus.ACCEPTED); // Auto-accept for events
         application.setAppliedAt(LocalDateTime.now());
 
-        applicationRepository.save(application);
+        try {
+            applicationRepository.saveAndFlush(application);
+        } catch (DataIntegrityViolationException e) {
+            // uk_applications_volunteer_event - a concurrent registration got there first
+            throw new RuntimeException("Already registered for this event");
+        }
+        timeSeriesRollupService.record(TimeSeriesRollupService.APPLICATIONS_SUBMITTED, application.getAppliedAt());
 
         // Update event participant count
         event.setCurrentVolunteers(event.getCurrentVolunteers() + 1);
         eventRepository.save(event);
+        upcomingEventIndex.onEventSaved(event);
+        suggestService.onEventSaved(event);
 
         System.out.println("Successfully registered volunteer for event");
         return "Successfully registered for event!";
@@ -548,10 +670,13 @@ public class EventService {
 
         // Delete registration
         applicationRepository.delete(application);
+        timeSeriesRollupService.remove(TimeSeriesRollupService.APPLICATIONS_SUBMITTED, application.getAppliedAt());
 
         // Update event participant count
         event.setCurrentVolunteers(Math.max(0, event.getCurrentVolunteers() - 1));
         eventRepository.save(event);
+        upcomingEventIndex.onEventSaved(event);
+        suggestService.onEventSaved(event);
 
         System.out.println("Successfully cancelled registration");
         return "Registration cancelled successfully!";
@@ -597,10 +722,273 @@ public class EventService {
         return applicationRepository.findByEvent(event);
     }
 
+    // ==========================================
+    // UPCOMING WINDOW METHODS
+    // ==========================================
+
+    /**
+     * Upcoming events in a date window (today, tomorrow, this-week, this-weekend, next-week,
+     * starting-soon, urgent) filtered by availability (available, almost-full, needs-volunteers).
+     * Served from the upcoming event index; falls back to the database until it is loaded.
+     */
+    @Transactional(readOnly = true)
+    public List<EventDTO> getUpcomingEvents(String window, String availability, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime[] range = resolveWindow(window, now);
+        Predicate<EventSnapshot> filter = availabilityFilter(availability);
+        if ("this-weekend".equals(normalizeOption(window))) {
+            filter = filter.and(snapshot -> Boolean.TRUE.equals(snapshot.isWeekendsOnly())
+                    || snapshot.startDate().getDayOfWeek() == DayOfWeek.SATURDAY
+                    || snapshot.startDate().getDayOfWeek() == DayOfWeek.SUNDAY);
+        }
+
+        List<EventSnapshot> snapshots;
+        if (upcomingEventIndex.isReady()) {
+            snapshots = upcomingEventIndex.window(range[0], range[1], filter, limit);
+        } else {
+            Predicate<EventSnapshot> inWindow = filter.and(snapshot -> !snapshot.startDate().isBefore(range[0])
+                    && snapshot.startDate().isBefore(range[1]));
+            snapshots = eventRepository.findUpcomingActiveEvents(now).stream()
+                    .map(EventSnapshot::from)
+                    .filter(inWindow)
+                    .limit(limit > 0 ? limit : Long.MAX_VALUE)
+                    .collect(Collectors.toList());
+        }
+
+        return JfrEvents.convertBatch("EventDTO", snapshots, this::convertToDTO);
+    }
+
+    private LocalDateTime[] resolveWindow(String window, LocalDateTime now) {
+        LocalDateTime today = now.toLocalDate().atStartOfDay();
+        LocalDateTime nextMonday = today.with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+
+        switch (normalizeOption(window)) {
+            case "all":
+                return new LocalDateTime[] { now, LocalDateTime.MAX };
+            case "today":
+                return new LocalDateTime[] { now, today.plusDays(1) };
+            case "tomorrow":
+                return new LocalDateTime[] { today.plusDays(1), today.plusDays(2) };
+            case "this-week":
+                return new LocalDateTime[] { now, nextMonday };
+            case "this-weekend":
+                return new LocalDateTime[] { nextMonday.minusDays(2), nextMonday };
+            case "next-week":
+                return new LocalDateTime[] { nextMonday, nextMonday.plusWeeks(1) };
+            case "starting-soon":
+                return new LocalDateTime[] { now, now.plusHours(72) };
+            case "urgent":
+                return new LocalDateTime[] { now, now.plusHours(24) };
+            default:
+                throw new RuntimeException("Invalid window: " + window);
+        }
+    }
+
+    private Predicate<EventSnapshot> availabilityFilter(String availability) {
+        switch (normalizeOption(availability)) {
+            case "all":
+                return snapshot -> true;
+            case "available":
+                return EventSnapshot::hasAvailableSpots;
+            case "almost-full":
+                return EventSnapshot::isAlmostFull;
+            case "needs-volunteers":
+                return EventSnapshot::needsVolunteers;
+            default:
+                throw new RuntimeException("Invalid availability: " + availability);
+        }
+    }
+
+    private String normalizeOption(String option) {
+        if (option == null || option.trim().isEmpty()) {
+            return "all";
+        }
+        return option.trim().toLowerCase().replace('_', '-');
+    }
+
+    // ==========================================
+    // FACETED SEARCH METHODS
+    // ==========================================
+
+    /**
+     * Faceted browse over upcoming events: one page of matches plus a count for every facet
+     * value, both answered from the facet bitmaps (no per-value count queries).
+     * facetValues maps a facet param (eventType, skillLevel, duration, timeOfDay, format,
+     * schedule) to comma-separated values, ORed within the facet.
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public FacetedSearchResponse getFacetedEvents(Map<String, String> facetValues, String searchTerm,
+            String location, int page, int size) {
+        if (!eventFacetIndex.isReady()) {
+            throw new RuntimeException("Event facets are still loading");
+        }
+        if (page < 0 || size < 1 || size > 100) {
+            throw new RuntimeException("Page must be >= 0 and size between 1 and 100");
+        }
+        long start = (long) page * size;
+        if (start > Integer.MAX_VALUE) {
+            throw new RuntimeException("Page is out of range");
+        }
+        int offset = (int) start;
+
+        Map<Facet, Set<String>> selected = new EnumMap<>(Facet.class);
+        for (Facet facet : Facet.values()) {
+            String raw = facetValues.get(facet.getParamName());
+            if (raw == null || raw.isBlank()) {
+                continue;
+            }
+            Set<String> values = new LinkedHashSet<>();
+            for (String value : raw.split(",")) {
+                String clean = value.trim().toUpperCase().replace(" ", "_").replace("-", "_");
+                if (!clean.isEmpty()) {
+                    if (!facet.getValues().contains(clean)) {
+                        throw new RuntimeException("Invalid " + facet.getParamName() + " value: " + value.trim());
+                    }
+                    values.add(clean);
+                }
+            }
+            selected.put(facet, values);
+        }
+
+        Predicate<EventSnapshot> filter = null;
+        if (searchTerm != null && !searchTerm.isBlank()) {
+            String term = searchTerm.trim().toLowerCase();
+            filter = snapshot -> containsIgnoreCase(snapshot.title(), term)
+                    || containsIgnoreCase(snapshot.description(), term)
+                    || containsIgnoreCase(snapshot.organizationName(), term);
+        }
+        if (location != null && !location.isBlank()) {
+            String place = location.trim().toLowerCase();
+            Predicate<EventSnapshot> inLocation = snapshot -> containsIgnoreCase(snapshot.location(), place)
+                    || containsIgnoreCase(snapshot.city(), place)
+                    || containsIgnoreCase(snapshot.state(), place);
+            filter = filter != null ? filter.and(inLocation) : inLocation;
+        }
+
+        FacetResult result = eventFacetIndex.search(selected, filter, offset, size);
+
+        FacetedSearchResponse response = new FacetedSearchResponse();
+        response.setEvents(JfrEvents.convertBatch("EventDTO", result.events(), this::convertToDTO));
+        response.setTotal(result.total());
+        response.setPage(page);
+        response.setSize(size);
+        Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+        result.counts().forEach((facet, counts) -> facets.put(facet.getParamName(), counts));
+        response.setFacets(facets);
+        return response;
+    }
+
+    private boolean containsIgnoreCase(String value, String lowerCaseTerm) {
+        return value != null && value.toLowerCase().contains(lowerCaseTerm);
+    }
+
+    /**
+     * A volunteer's home feed: events from the organizations they follow, newest first.
+     * Ids come from HomeFeedService; events that are no longer ACTIVE are skipped.
+     *
+     * @param cursor nextCursor of the previous page (null for the first page)
+     */
+    @Transactional(readOnly = true)
+    public HomeFeedResponse getHomeFeed(Long userId, Long cursor, int limit) {
+        List<EventDTO> events = new ArrayList<>();
+        Long nextCursor = cursor;
+        do {
+            HomeFeedService.FeedPage page = homeFeedService.getTimeline(userId, nextCursor, limit - events.size());
+            Map<Long, Event> byId = eventRepository.findAllById(page.eventIds()).stream()
+                    .collect(Collectors.toMap(Event::getId, event -> event));
+            for (Long eventId : page.eventIds()) {
+                Event event = byId.get(eventId);
+                if (event != null && event.getStatus() == EventStatus.ACTIVE) {
+                    events.add(convertToDTO(event));
+                }
+            }
+            nextCursor = page.nextCursor();
+        } while (events.size() < limit && nextCursor != null);
+
+        HomeFeedResponse response = new HomeFeedResponse();
+        response.setEvents(events);
+        response.setNextCursor(nextCursor);
+        return response;
+    }
+
+    // ==========================================
+    // STATISTICS METHODS
+    // ==========================================
+
+    /**
+     * Get platform event statistics (served from the maintained counters)
+     */
+    @Transactional(readOnly = true)
+    public EventStatsResponse getEventStatistics() {
+        EventStatsResponse stats = new EventStatsResponse();
+        stats.setTotalEvents(platformStatisticsService.getCount(PlatformStatisticsService.EVENTS_TOTAL));
+        stats.setVirtualEvents(platformStatisticsService.getCount(PlatformStatisticsService.EVENTS_VIRTUAL));
+        stats.setRecurringEvents(platformStatisticsService.getCount(PlatformStatisticsService.EVENTS_RECURRING));
+        stats.setStatusDistribution(
+                platformStatisticsService.getDistribution(PlatformStatisticsService.EVENTS_BY_STATUS));
+        stats.setTypeDistribution(
+                platformStatisticsService.getDistribution(PlatformStatisticsService.EVENTS_BY_TYPE));
+        stats.setSkillLevelDistribution(
+                platformStatisticsService.getDistribution(PlatformStatisticsService.EVENTS_BY_SKILL_LEVEL));
+        stats.setDurationDistribution(
+                platformStatisticsService.getDistribution(PlatformStatisticsService.EVENTS_BY_DURATION));
+        stats.setTimeOfDayDistribution(
+                platformStatisticsService.getDistribution(PlatformStatisticsService.EVENTS_BY_TIME_OF_DAY));
+        return stats;
+    }
+
     // ==========================================
     // PRIVATE HELPER METHODS
     // ==========================================
 
+    private EventDTO convertToDTO(EventSnapshot event) {
+        EventDTO dto = new EventDTO();
+
+        // Basic fields
+        dto.setId(event.id());
+        dto.setTitle(event.title());
+        dto.setDescription(event.description());
+        dto.setLocation(event.location());
+        dto.setAddress(event.address());
+        dto.setCity(event.city());
+        dto.setState(event.state());
+        dto.setZipCode(event.zipCode());
+        dto.setStartDate(event.startDate());
+        dto.setEndDate(event.endDate());
+        dto.setMaxVolunteers(event.maxVolunteers());
+        dto.setCurrentVolunteers(event.currentVolunteers());
+        dto.setEstimatedHours(event.estimatedHours());
+        dto.setStatus(event.status());
+        dto.setRequirements(event.requirements());
+        dto.setContactEmail(event.contactEmail());
+        dto.setContactPhone(event.contactPhone());
+        dto.setImageUrl(event.imageUrl());
+        dto.setImageThumbnailUrl(ImageStorageService.variantUrl(event.imageUrl(), ImageVariant.THUMBNAIL));
+        dto.setCreatedAt(event.createdAt());
+        dto.setUpdatedAt(event.updatedAt());
+
+        // Enhanced fields
+        dto.setEventType(event.eventType());
+        dto.setSkillLevelRequired(event.skillLevelRequired());
+        dto.setDurationCategory(event.durationCategory());
+        dto.setIsVirtual(event.isVirtual());
+        dto.setVirtualMeetingLink(event.virtualMeetingLink());
+        dto.setTimeOfDay(event.timeOfDay());
+        dto.setIsWeekdaysOnly(event.isWeekdaysOnly());
+        dto.setIsWeekendsOnly(event.isWeekendsOnly());
+        dto.setHasFlexibleTiming(event.hasFlexibleTiming());
+        dto.setIsRecurring(event.isRecurring());
+        dto.setRecurrencePattern(event.recurrencePattern());
+
+        // Organization info
+        if (event.organizationId() != null) {
+            dto.setOrganizationId(event.organizationId());
+            dto.setOrganizationName(event.organizationName());
+        }
+
+        return dto;
+    }
+
     private EventDTO convertToDTO(Event event) {
         EventDTO dto = new EventDTO();
 
@@ -623,6 +1011,7 @@ public class EventService {
         dto.setContactEmail(event.getContactEmail());
         dto.setContactPhone(event.getContactPhone());
         dto.setImageUrl(event.getImageUrl());
+        dto.setImageThumbnailUrl(ImageStorageService.variantUrl(event.getImageUrl(), ImageVariant.THUMBNAIL));
         dto.setCreatedAt(event.getCreatedAt());
         dto.setUpdatedAt(event.getUpdatedAt());
 
@@ -1032,4 +1421,80 @@ public class EventService {
             this.pageable = pageable;
         }
     }
+
+    // ==========================================
+    // RESPONSE CLASSES
+    // ==========================================
+
+    public static class FacetedSearchResponse {
+        private List<EventDTO> events;
+        private int total;
+        private int page;
+        private int size;
+        private Map<String, Map<String, Integer>> facets;
+
+        // Getters and setters
+        public List<EventDTO> getEvents() { return events; }
+        public void setEvents(List<EventDTO> events) { this.events = events; }
+
+        public int getTotal() { return total; }
+        public void setTotal(int total) { this.total = total; }
+
+        public int getPage() { return page; }
+        public void setPage(int page) { this.page = page; }
+
+        public int getSize() { return size; }
+        public void setSize(int size) { this.size = size; }
+
+        public Map<String, Map<String, Integer>> getFacets() { return facets; }
+        public void setFacets(Map<String, Map<String, Integer>> facets) { this.facets = facets; }
+    }
+
+    public static class HomeFeedResponse {
+        private List<EventDTO> events;
+        private Long nextCursor;
+
+        // Getters and setters
+        public List<EventDTO> getEvents() { return events; }
+        public void setEvents(List<EventDTO> events) { this.events = events; }
+
+        public Long getNextCursor() { return nextCursor; }
+        public void setNextCursor(Long nextCursor) { this.nextCursor = nextCursor; }
+    }
+
+    public static class EventStatsResponse {
+        private long totalEvents;
+        private long virtualEvents;
+        private long recurringEvents;
+        private Map<String, Integer> statusDistribution;
+        private Map<String, Integer> typeDistribution;
+        private Map<String, Integer> skillLevelDistribution;
+        private Map<String, Integer> durationDistribution;
+        private Map<String, Integer> timeOfDayDistribution;
+
+        // Getters and setters
+        public long getTotalEvents() { return totalEvents; }
+        public void setTotalEvents(long totalEvents) { this.totalEvents = totalEvents; }
+
+        public long getVirtualEvents() { return virtualEvents; }
+        public void setVirtualEvents(long virtualEvents) { this.virtualEvents = virtualEvents; }
+
+        public long getRecurringEvents() { return recurringEvents; }
+        public void setRecurringEvents(long recurringEvents) { this.recurringEvents = recurringEvents; }
+
+        public Map<String, Integer> getStatusDistribution() { return statusDistribution; }
+        public void setStatusDistribution(Map<String, Integer> statusDistribution) { this.statusDistribution = statusDistribution; }
+
+        public Map<String, Integer> getTypeDistribution() { return typeDistribution; }
+        public void setTypeDistribution(Map<String, Integer> typeDistribution) { this.typeDistribution = typeDistribution; }
+
+        public Map<String, Integer> getSkillLevelDistribution() { return skillLevelDistribution; }
+        public void setSkillLevelDistribution(Map<String, Integer> skillLevelDistribution) { this.skillLevelDistribution = skillLevelDistribution; }
+
+        public Map<String, Integer> getDurationDistribution() { return durationDistribution; }
+        public void setDurationDistribution(Map<String, Integer> durationDistribution) { this.durationDistribution = durationDistribution; }
+
+        public Map<String, Integer> getTimeOfDayDistribution() { return timeOfDayDistribution; }
+        public void setTimeOfDayDistribution(Map<String, Integer> timeOfDayDistribution) { this.timeOfDayDistribution = timeOfDayDistribution; }
+    }
 }
\ No newline at end of file
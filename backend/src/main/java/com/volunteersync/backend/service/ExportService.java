@@ -0,0 +1,393 @@
+package com.volunteersync.backend.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.volunteersync.backend.entity.Event;
+import com.volunteersync.backend.entity.OrganizationProfile;
+import com.volunteersync.backend.entity.User;
+import com.volunteersync.backend.enums.ApplicationStatus;
+import com.volunteersync.backend.enums.UserType;
+import com.volunteersync.backend.repository.EventRepository;
+import com.volunteersync.backend.repository.OrganizationProfileRepository;
+import com.volunteersync.backend.repository.UserRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.query.Query;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.temporal.TemporalAccessor;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streaming exports for organization reports and admin user lists.
+ * Rows are read with a forward-only cursor at a fixed fetch size as scalar tuples (no managed
+ * entities), written straight to the response as CSV or NDJSON, and the persistence context is
+ * cleared every fetch-size rows, so heap use does not grow with the export.
+ *
+ * Access checks run when the export is requested; the returned body runs inside its own
+ * read-only transaction. Each export holds a connection while it streams, so at most
+ * max-concurrent run at once (see tryStartExport) and each has a finite timeout-ms.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ExportService {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OrganizationProfileRepository organizationProfileRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Value("${app.export.fetch-size:500}")
+    private int fetchSize;
+
+    @Value("${app.export.timeout-ms:1800000}")
+    private long timeoutMillis;
+
+    @Value("${app.export.max-concurrent:4}")
+    private int maxConcurrent;
+
+    private Semaphore exportPermits;
+
+    @PostConstruct
+    public void init() {
+        exportPermits = new Semaphore(maxConcurrent);
+    }
+
+    public enum ExportFormat {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        ExportFormat(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static ExportFormat fromParam(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new RuntimeException("Invalid export format: " + value + ". Valid formats: csv, ndjson");
+            }
+        }
+    }
+
+    // ==========================================
+    // CONCURRENCY
+    // ==========================================
+
+    /**
+     * Take one of the max-concurrent export slots - false when every slot is in use.
+     * Pair with finishExport once the export has finished streaming.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean tryStartExport() {
+        return exportPermits.tryAcquire();
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void finishExport() {
+        exportPermits.release();
+    }
+
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    // ==========================================
+    // ORGANIZATION EXPORTS
+    // ==========================================
+
+    /**
+     * Every application to the organization's events
+     */
+    public StreamingResponseBody exportOrganizationApplications(Long organizerId, ExportFormat format, boolean gzip) {
+        OrganizationProfile organization = getOrganizationForUser(organizerId);
+        return stream(
+                "SELECT a.id, e.id, e.title, e.startDate, v.id, v.firstName, v.lastName, u.email, "
+                        + "a.status, a.appliedAt, a.respondedAt, a.hoursCompleted "
+                        + "FROM Application a JOIN a.event e JOIN a.volunteer v JOIN v.user u "
+                        + "WHERE e.organization.id = :organizationId ORDER BY a.id",
+                Map.of("organizationId", organization.getId()),
+                List.of("application_id", "event_id", "event_title", "event_start", "volunteer_id",
+                        "first_name", "last_name", "email", "status", "applied_at", "responded_at", "hours_completed"),
+                format, gzip);
+    }
+
+    /**
+     * Accepted and attended volunteers for one of the organization's events
+     */
+    public StreamingResponseBody exportEventRoster(Long eventId, Long organizerId, ExportFormat format, boolean gzip) {
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new RuntimeException("Event not found"));
+        if (!event.getOrganization().getUser().getId().equals(organizerId)) {
+            throw new RuntimeException("You can only export rosters for events you organized");
+        }
+        return stream(
+                "SELECT v.id, v.firstName, v.lastName, u.email, v.phoneNumber, a.status, a.appliedAt, a.hoursCompleted "
+                        + "FROM Application a JOIN a.volunteer v JOIN v.user u "
+                        + "WHERE a.event.id = :eventId AND a.status IN :statuses ORDER BY v.lastName, v.firstName, v.id",
+                Map.of("eventId", eventId, "statuses", List.of(ApplicationStatus.ACCEPTED, ApplicationStatus.ATTENDED)),
+                List.of("volunteer_id", "first_name", "last_name", "email", "phone", "status", "applied_at",
+                        "hours_completed"),
+                format, gzip);
+    }
+
+    /**
+     * Attended applications with the hours logged for them
+     */
+    public StreamingResponseBody exportOrganizationHours(Long organizerId, ExportFormat format, boolean gzip) {
+        OrganizationProfile organization = getOrganizationForUser(organizerId);
+        return stream(
+                "SELECT v.id, v.firstName, v.lastName, u.email, e.id, e.title, e.startDate, a.hoursCompleted, a.completedAt "
+                        + "FROM Application a JOIN a.event e JOIN a.volunteer v JOIN v.user u "
+                        + "WHERE e.organization.id = :organizationId AND a.status = :status ORDER BY a.id",
+                Map.of("organizationId", organization.getId(), "status", ApplicationStatus.ATTENDED),
+                List.of("volunteer_id", "first_name", "last_name", "email", "event_id", "event_title", "event_start",
+                        "hours_completed", "completed_at"),
+                format, gzip);
+    }
+
+    // ==========================================
+    // ADMIN EXPORTS
+    // ==========================================
+
+    /**
+     * All user accounts (no credentials)
+     */
+    public StreamingResponseBody exportUsers(ExportFormat format, boolean gzip) {
+        return stream(
+                "SELECT u.id, u.email, u.userType, u.isActive, u.emailVerified, u.createdAt, u.updatedAt "
+                        + "FROM User u ORDER BY u.id",
+                Map.of(),
+                List.of("user_id", "email", "user_type", "is_active", "email_verified", "created_at", "updated_at"),
+                format, gzip);
+    }
+
+    // ==========================================
+    // STREAMING
+    // ==========================================
+
+    private StreamingResponseBody stream(String jpql, Map<String, Object> parameters, List<String> columns,
+            ExportFormat format, boolean gzip) {
+        return output -> {
+            long started = System.currentTimeMillis();
+            OutputStream target = gzip ? new GZIPOutputStream(output, 8192) : output;
+            RowWriter writer = format == ExportFormat.CSV ? new CsvRowWriter(target) : new NdjsonRowWriter(target);
+
+            TransactionTemplate template = new TransactionTemplate(transactionManager);
+            template.setReadOnly(true);
+            long rows = template.execute(status -> {
+                Session session = entityManager.unwrap(Session.class);
+                Query<Object[]> query = session.createQuery(jpql, Object[].class)
+                        .setFetchSize(fetchSize)
+                        .setReadOnly(true);
+                parameters.forEach(query::setParameter);
+
+                long count = 0;
+                try (ScrollableResults<Object[]> results = query.scroll(ScrollMode.FORWARD_ONLY)) {
+                    writer.start(columns);
+                    while (results.next()) {
+                        writer.write(columns, results.get());
+                        if (++count % fetchSize == 0) {
+                            session.clear();
+                            writer.flush();
+                        }
+                    }
+                    writer.finish();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return count;
+            });
+
+            if (target instanceof GZIPOutputStream gzipStream) {
+                gzipStream.finish();
+            }
+            output.flush();
+            System.out.println("Exported " + rows + " rows as " + format + (gzip ? " (gzip)" : "") + " in "
+                    + (System.currentTimeMillis() - started) + "ms");
+        };
+    }
+
+    private OrganizationProfile getOrganizationForUser(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        if (user.getUserType() != UserType.ORGANIZATION) {
+            throw new RuntimeException("Only organizations can export organization reports");
+        }
+        return organizationProfileRepository.findByUser(user)
+                .orElseThrow(() -> new RuntimeException("Organization profile not found"));
+    }
+
+    // ==========================================
+    // ROW WRITERS
+    // ==========================================
+
+    private interface RowWriter {
+
+        void start(List<String> columns) throws IOException;
+
+        void write(List<String> columns, Object[] row) throws IOException;
+
+        void flush() throws IOException;
+
+        void finish() throws IOException;
+    }
+
+    /**
+     * RFC 4180 CSV with a header row
+     */
+    private static class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+
+        CsvRowWriter(OutputStream output) {
+            this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), 16384);
+        }
+
+        @Override
+        public void start(List<String> columns) throws IOException {
+            writer.write(String.join(",", columns));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(List<String> columns, Object[] row) throws IOException {
+            for (int i = 0; i < row.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(escape(row[i]));
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+
+        private String escape(Object value) {
+            if (value == null) {
+                return "";
+            }
+            String text = format(value);
+            // Keep spreadsheet apps from evaluating user-entered text as a formula
+            if (!(value instanceof Number) && !text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0) {
+                text = "'" + text;
+            }
+            if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+                return "\"" + text.replace("\"", "\"\"") + "\"";
+            }
+            return text;
+        }
+    }
+
+    /**
+     * One JSON object per line, keyed by column name
+     */
+    private static class NdjsonRowWriter implements RowWriter {
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(OutputStream output) throws IOException {
+            this.generator = new JsonFactory().createGenerator(output);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // Lines are terminated explicitly instead of Jackson's space between root values
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void start(List<String> columns) {
+        }
+
+        @Override
+        public void write(List<String> columns, Object[] row) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < row.length; i++) {
+                generator.writeFieldName(columns.get(i));
+                Object value = row[i];
+                if (value == null) {
+                    generator.writeNull();
+                } else if (value instanceof Long || value instanceof Integer) {
+                    generator.writeNumber(((Number) value).longValue());
+                } else if (value instanceof Boolean bool) {
+                    generator.writeBoolean(bool);
+                } else {
+                    generator.writeString(format(value));
+                }
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.flush();
+        }
+    }
+
+    private static String format(Object value) {
+        if (value instanceof Enum<?> constant) {
+            return constant.name();
+        }
+        if (value instanceof TemporalAccessor) {
+            // LocalDateTime.toString() is ISO-8601
+            return value.toString();
+        }
+        return String.valueOf(value);
+    }
+}
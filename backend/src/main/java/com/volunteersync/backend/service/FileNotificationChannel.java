@@ -0,0 +1,95 @@
+package com.volunteersync.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * File sink - appends every delivered notification to an NDJSON file.
+ * The default channel, for development and tests; each line is flushed before send() returns.
+ */
+@Component
+@ConditionalOnProperty(name = "app.notifications.channel", havingValue = "file", matchIfMissing = true)
+public class FileNotificationChannel implements NotificationChannel {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final Path path;
+    private Writer writer;
+
+    // Not synchronized: a virtual thread blocking on I/O inside a monitor pins its carrier thread
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public FileNotificationChannel(@Value("${app.notifications.file.path:notifications.ndjson}") String path) {
+        this.path = Path.of(path);
+    }
+
+    @Override
+    public String getName() {
+        return "file";
+    }
+
+    @Override
+    public void send(OutgoingNotification notification) throws IOException {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("id", notification.id());
+        line.put("userId", notification.userId());
+        line.put("to", notification.email());
+        line.put("type", notification.type());
+        line.put("title", notification.title());
+        line.put("message", notification.message());
+        line.put("eventId", notification.eventId());
+        line.put("sentAt", LocalDateTime.now().toString());
+        String json = objectMapper.writeValueAsString(line);
+
+        lock.lock();
+        try {
+            if (writer == null) {
+                if (path.getParent() != null) {
+                    Files.createDirectories(path.getParent());
+                }
+                writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            writer.write(json);
+            writer.write('\n');
+            writer.flush();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (writer != null) {
+                writer.close();
+                writer = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,598 @@
+package com.volunteersync.backend.service;
+
+import com.volunteersync.backend.entity.Event;
+import com.volunteersync.backend.entity.VolunteerProfile;
+import com.volunteersync.backend.repository.EventRepository;
+import com.volunteersync.backend.repository.VolunteerProfileRepository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Home feed - "new events from organizations I follow", newest first, by event id.
+ *
+ * Hybrid fan-out: organizations with at most popular-follower-threshold followers push new
+ * event ids into a bounded ring-buffer timeline per cached volunteer; popular organizations
+ * are pulled at read time from their recent-event list with a k-way heap merge, so one of
+ * their events is never copied into thousands of timelines.
+ *
+ * Timelines are built lazily on first read from the organizations' recent-event lists and
+ * dropped on a follow change. Timelines and recent-event lists share a memory budget and are
+ * evicted least recently used first. Each source knows the id below which it may be missing
+ * events (its floor); paging past the highest floor continues from the database.
+ */
+@Service
+public class HomeFeedService {
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private VolunteerProfileRepository volunteerProfileRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // Rough per-object overhead used in the memory estimate (headers, map entries)
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+    private static final int SUBSCRIPTION_BYTES = 48;
+
+    private final int timelineSize;
+    private final int popularThreshold;
+    private final long memoryBudgetBytes;
+
+    // Access-ordered, eldest evicted first when over the memory budget
+    private final LinkedHashMap<Long, Timeline> timelines = new LinkedHashMap<>(256, 0.75f, true);
+    private final LinkedHashMap<Long, RecentEvents> recentByOrganization = new LinkedHashMap<>(64, 0.75f, true);
+
+    // Organization -> cached timelines that take its new events by push
+    private final Map<Long, Set<Timeline>> subscribers = new HashMap<>();
+
+    // Null until counted once the application is ready; until then every organization pushes
+    private Map<Long, Integer> followerCounts;
+
+    private long usedBytes = 0L;
+
+    // Bumped on every applied write so a build that raced with a commit is not cached
+    private long writeGeneration = 0L;
+
+    public HomeFeedService(@Value("${app.feed.timeline-size:200}") int timelineSize,
+            @Value("${app.feed.popular-follower-threshold:1000}") int popularThreshold,
+            @Value("${app.feed.memory-budget-bytes:33554432}") long memoryBudgetBytes) {
+        this.timelineSize = timelineSize;
+        this.popularThreshold = popularThreshold;
+        this.memoryBudgetBytes = memoryBudgetBytes;
+    }
+
+    // ==========================================
+    // READING
+    // ==========================================
+
+    /**
+     * One page of event ids for a volunteer's feed, newest first
+     *
+     * @param beforeId cursor - only events with a smaller id (null for the first page)
+     */
+    public FeedPage getTimeline(Long userId, Long beforeId, int limit) {
+        long before = beforeId != null ? beforeId : Long.MAX_VALUE;
+        Timeline timeline = getOrBuild(userId);
+        ensureRecentLoaded(timeline.pulled);
+
+        List<Long> eventIds = new ArrayList<>(limit);
+        long floor;
+        synchronized (this) {
+            floor = merge(timeline, before, limit, eventIds);
+        }
+
+        if (eventIds.size() < limit && floor > 0 && timeline.followed.length > 0) {
+            // Older than some in-memory source reaches - continue from the database
+            long upTo = Math.min(eventIds.isEmpty() ? before : eventIds.get(eventIds.size() - 1), floor + 1);
+            List<Long> organizationIds = Arrays.stream(timeline.followed).boxed().toList();
+            int remaining = limit - eventIds.size();
+            eventIds.addAll(inTransaction(() -> eventRepository.findIdsByOrganizationsBefore(organizationIds, upTo,
+                    PageRequest.of(0, remaining))));
+        }
+
+        Long nextCursor = eventIds.size() == limit ? eventIds.get(limit - 1) : null;
+        return new FeedPage(eventIds, nextCursor);
+    }
+
+    /**
+     * K-way merge of the pushed timeline and the pulled organizations' recent events,
+     * emitting ids below the cursor and above every source's floor. Returns that floor.
+     */
+    private long merge(Timeline timeline, long before, int limit, List<Long> into) {
+        List<long[]> sources = new ArrayList<>();
+        long floor = timeline.floor;
+        sources.add(timeline.descending());
+        for (long organizationId : timeline.pulled) {
+            RecentEvents recent = recentByOrganization.get(organizationId);
+            if (recent == null) {
+                // Evicted since it was loaded - everything below the cursor comes from the database
+                return before - 1;
+            }
+            floor = Math.max(floor, recent.floor);
+            sources.add(recent.descending());
+        }
+
+        // Heap entries: [source, position], largest event id first
+        PriorityQueue<int[]> heap = new PriorityQueue<>(
+                (a, b) -> Long.compare(sources.get(b[0])[b[1]], sources.get(a[0])[a[1]]));
+        for (int source = 0; source < sources.size(); source++) {
+            int position = firstBelow(sources.get(source), before);
+            if (position < sources.get(source).length) {
+                heap.add(new int[] { source, position });
+            }
+        }
+
+        long last = Long.MAX_VALUE;
+        while (!heap.isEmpty() && into.size() < limit) {
+            int[] head = heap.poll();
+            long[] ids = sources.get(head[0]);
+            long eventId = ids[head[1]];
+            if (eventId <= floor) {
+                break;
+            }
+            // An organization that became popular can appear in both the timeline and its own list
+            if (eventId != last) {
+                into.add(eventId);
+                last = eventId;
+            }
+            if (++head[1] < ids.length) {
+                heap.add(head);
+            }
+        }
+        return floor;
+    }
+
+    private static int firstBelow(long[] descending, long before) {
+        int low = 0;
+        int high = descending.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (descending[mid] >= before) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // ==========================================
+    // BUILDING
+    // ==========================================
+
+    private Timeline getOrBuild(Long userId) {
+        long generation;
+        synchronized (this) {
+            Timeline cached = timelines.get(userId);
+            if (cached != null) {
+                return cached;
+            }
+            generation = writeGeneration;
+        }
+
+        VolunteerProfile profile = inTransaction(() -> volunteerProfileRepository.findByUserId(userId))
+                .orElseThrow(() -> new RuntimeException("Volunteer profile not found"));
+        long[] followed = parseIds(profile.getFollowedOrganizations());
+
+        List<Long> pushed = new ArrayList<>();
+        List<Long> pulled = new ArrayList<>();
+        synchronized (this) {
+            for (long organizationId : followed) {
+                (isPopular(organizationId) ? pulled : pushed).add(organizationId);
+            }
+        }
+        ensureRecentLoaded(pushed.stream().mapToLong(Long::longValue).toArray());
+
+        synchronized (this) {
+            Timeline timeline = new Timeline(userId, followed, pushed.stream().mapToLong(Long::longValue).toArray(),
+                    pulled.stream().mapToLong(Long::longValue).toArray(), timelineSize);
+            boolean complete = true;
+            for (long organizationId : timeline.pushed) {
+                RecentEvents recent = recentByOrganization.get(organizationId);
+                if (recent == null) {
+                    complete = false;
+                    break;
+                }
+                timeline.floor = Math.max(timeline.floor, recent.floor);
+                for (long eventId : recent.descending()) {
+                    timeline.push(eventId);
+                }
+            }
+
+            // Missing a list, or a write committed while building - usable for this read only
+            if (!complete || generation != writeGeneration) {
+                return complete ? timeline : uncachedFallback(timeline);
+            }
+            timelines.put(userId, timeline);
+            for (long organizationId : timeline.pushed) {
+                subscribers.computeIfAbsent(organizationId, id -> new HashSet<>()).add(timeline);
+            }
+            usedBytes += timeline.estimatedBytes();
+            enforceBudget();
+            return timeline;
+        }
+    }
+
+    /**
+     * A timeline whose pushed events could not all be loaded - its floor sends every read to the database
+     */
+    private Timeline uncachedFallback(Timeline timeline) {
+        timeline.floor = Long.MAX_VALUE - 1;
+        return timeline;
+    }
+
+    private void ensureRecentLoaded(long[] organizationIds) {
+        for (long organizationId : organizationIds) {
+            long generation;
+            synchronized (this) {
+                if (recentByOrganization.containsKey(organizationId)) {
+                    continue;
+                }
+                generation = writeGeneration;
+            }
+            List<Long> eventIds = inTransaction(() -> eventRepository.findRecentIdsByOrganization(organizationId,
+                    PageRequest.of(0, timelineSize)));
+            RecentEvents recent = new RecentEvents(timelineSize);
+            // A full page means older events may exist below the oldest one loaded
+            recent.floor = eventIds.size() == timelineSize ? eventIds.get(eventIds.size() - 1) - 1 : 0L;
+            for (int i = eventIds.size() - 1; i >= 0; i--) {
+                recent.push(eventIds.get(i));
+            }
+
+            synchronized (this) {
+                if (generation != writeGeneration || recentByOrganization.containsKey(organizationId)) {
+                    continue;
+                }
+                recentByOrganization.put(organizationId, recent);
+                usedBytes += recent.estimatedBytes();
+                enforceBudget();
+            }
+        }
+    }
+
+    // ==========================================
+    // WRITE HOOKS (applied after commit)
+    // ==========================================
+
+    /**
+     * A new event: onto its organization's recent list and into subscribed timelines
+     */
+    public void onEventCreated(Event event) {
+        if (event.getOrganization() == null) {
+            return;
+        }
+        long organizationId = event.getOrganization().getId();
+        long eventId = event.getId();
+        afterCommit(() -> {
+            RecentEvents recent = recentByOrganization.get(organizationId);
+            if (recent != null) {
+                recent.push(eventId);
+            }
+            for (Timeline timeline : subscribers.getOrDefault(organizationId, Collections.emptySet())) {
+                timeline.push(eventId);
+            }
+        });
+    }
+
+    /**
+     * A volunteer followed or unfollowed an organization - their timeline is rebuilt on next read
+     */
+    public void onFollowChanged(Long userId, Long organizationId, boolean following) {
+        afterCommit(() -> {
+            remove(userId);
+            if (followerCounts == null) {
+                return;
+            }
+            int before = followerCounts.getOrDefault(organizationId, 0);
+            int after = Math.max(0, before + (following ? 1 : -1));
+            followerCounts.put(organizationId, after);
+            if (before <= popularThreshold && after > popularThreshold) {
+                // Now pulled at read time; drop the timelines it would otherwise keep pushing into
+                for (Timeline timeline : new ArrayList<>(subscribers.getOrDefault(organizationId, Collections.emptySet()))) {
+                    remove(timeline.userId);
+                }
+                System.out.println("Organization ID: " + organizationId + " has " + after
+                        + " followers; its events are now merged into feeds at read time");
+            }
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        Runnable apply = () -> {
+            synchronized (this) {
+                writeGeneration++;
+                action.run();
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    // ==========================================
+    // FOLLOWER COUNTS
+    // ==========================================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        recountFollowers();
+    }
+
+    /**
+     * Periodic recount, correcting follows that bypassed the hooks
+     */
+    @Scheduled(initialDelayString = "${app.feed.follower-recount-interval-ms:600000}",
+            fixedDelayString = "${app.feed.follower-recount-interval-ms:600000}")
+    public void recountFollowers() {
+        long started = System.currentTimeMillis();
+        long generation;
+        synchronized (this) {
+            generation = writeGeneration;
+        }
+        Map<Long, Integer> counts = new HashMap<>();
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        template.execute(status -> {
+            for (String followed : volunteerProfileRepository.findAllFollowedOrganizationLists()) {
+                for (long organizationId : parseIds(followed)) {
+                    counts.merge(organizationId, 1, Integer::sum);
+                }
+            }
+            return null;
+        });
+
+        synchronized (this) {
+            if (followerCounts != null && generation != writeGeneration) {
+                // A follow committed while counting - keep the incrementally maintained counts
+                return;
+            }
+            boolean first = followerCounts == null;
+            Set<Long> wasPopular = popularOrganizations();
+            followerCounts = counts;
+            if (first || !wasPopular.equals(popularOrganizations())) {
+                // Built with other push/pull splits - rebuild lazily
+                clearTimelines();
+            }
+        }
+        System.out.println("Home feed follower counts loaded for " + counts.size() + " organizations ("
+                + popularOrganizations().size() + " popular) in " + (System.currentTimeMillis() - started) + "ms");
+    }
+
+    private boolean isPopular(long organizationId) {
+        return followerCounts != null && followerCounts.getOrDefault(organizationId, 0) > popularThreshold;
+    }
+
+    private synchronized Set<Long> popularOrganizations() {
+        Set<Long> popular = new HashSet<>();
+        if (followerCounts != null) {
+            followerCounts.forEach((organizationId, count) -> {
+                if (count > popularThreshold) {
+                    popular.add(organizationId);
+                }
+            });
+        }
+        return popular;
+    }
+
+    // ==========================================
+    // MEMORY BUDGET
+    // ==========================================
+
+    /**
+     * Evict least recently used timelines, then recent-event lists, until within budget
+     */
+    private void enforceBudget() {
+        Iterator<Map.Entry<Long, Timeline>> timelineIterator = timelines.entrySet().iterator();
+        while (usedBytes > memoryBudgetBytes && timelineIterator.hasNext()) {
+            Timeline timeline = timelineIterator.next().getValue();
+            timelineIterator.remove();
+            unsubscribe(timeline);
+            usedBytes -= timeline.estimatedBytes();
+        }
+        Iterator<Map.Entry<Long, RecentEvents>> recentIterator = recentByOrganization.entrySet().iterator();
+        while (usedBytes > memoryBudgetBytes && recentIterator.hasNext()) {
+            usedBytes -= recentIterator.next().getValue().estimatedBytes();
+            recentIterator.remove();
+        }
+    }
+
+    private void remove(Long userId) {
+        Timeline timeline = timelines.remove(userId);
+        if (timeline != null) {
+            unsubscribe(timeline);
+            usedBytes -= timeline.estimatedBytes();
+        }
+    }
+
+    private void unsubscribe(Timeline timeline) {
+        for (long organizationId : timeline.pushed) {
+            Set<Timeline> organizationSubscribers = subscribers.get(organizationId);
+            if (organizationSubscribers != null) {
+                organizationSubscribers.remove(timeline);
+                if (organizationSubscribers.isEmpty()) {
+                    subscribers.remove(organizationId);
+                }
+            }
+        }
+    }
+
+    private void clearTimelines() {
+        for (Timeline timeline : timelines.values()) {
+            usedBytes -= timeline.estimatedBytes();
+        }
+        timelines.clear();
+        subscribers.clear();
+    }
+
+    public synchronized FeedStats getStats() {
+        return new FeedStats(timelines.size(), recentByOrganization.size(), usedBytes, memoryBudgetBytes,
+                followerCounts != null ? popularOrganizations().size() : 0);
+    }
+
+    // ==========================================
+    // HELPER METHODS
+    // ==========================================
+
+    private static long[] parseIds(String csv) {
+        if (csv == null || csv.isBlank()) {
+            return new long[0];
+        }
+        return Arrays.stream(csv.split(","))
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .mapToLong(Long::parseLong)
+                .distinct()
+                .toArray();
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template.execute(status -> action.get());
+    }
+
+    /**
+     * Bounded ring buffer of event ids, kept in ascending order (newest at the tail).
+     * When full, the oldest id is dropped and raises the floor.
+     */
+    private static class RecentEvents {
+        final long[] ring;
+        int start = 0;
+        int size = 0;
+        // Events with an id at or below the floor may be missing
+        long floor = 0L;
+
+        RecentEvents(int capacity) {
+            this.ring = new long[capacity];
+        }
+
+        void push(long eventId) {
+            if (size > 0 && eventId <= get(size - 1)) {
+                insertOutOfOrder(eventId);
+                return;
+            }
+            if (size == ring.length) {
+                floor = Math.max(floor, ring[start]);
+                ring[start] = eventId;
+                start = (start + 1) % ring.length;
+            } else {
+                ring[(start + size) % ring.length] = eventId;
+                size++;
+            }
+        }
+
+        /**
+         * After-commit hooks of concurrent creates can arrive out of id order - rare, so shift in place
+         */
+        private void insertOutOfOrder(long eventId) {
+            int position = size;
+            while (position > 0 && get(position - 1) > eventId) {
+                position--;
+            }
+            if (position > 0 && get(position - 1) == eventId) {
+                return;
+            }
+            if (size == ring.length) {
+                if (position == 0) {
+                    floor = Math.max(floor, eventId);
+                    return;
+                }
+                // Drop the oldest to make room
+                floor = Math.max(floor, ring[start]);
+                start = (start + 1) % ring.length;
+                size--;
+                position--;
+            }
+            for (int i = size; i > position; i--) {
+                set(i, get(i - 1));
+            }
+            set(position, eventId);
+            size++;
+        }
+
+        long get(int index) {
+            return ring[(start + index) % ring.length];
+        }
+
+        private void set(int index, long eventId) {
+            ring[(start + index) % ring.length] = eventId;
+        }
+
+        long[] descending() {
+            long[] ids = new long[size];
+            for (int i = 0; i < size; i++) {
+                ids[i] = get(size - 1 - i);
+            }
+            return ids;
+        }
+
+        long estimatedBytes() {
+            return 8L * ring.length + ENTRY_OVERHEAD_BYTES;
+        }
+    }
+
+    /**
+     * A volunteer's pushed events plus which followed organizations are pulled at read time
+     */
+    private static class Timeline extends RecentEvents {
+        final Long userId;
+        final long[] followed;
+        final long[] pushed;
+        final long[] pulled;
+
+        Timeline(Long userId, long[] followed, long[] pushed, long[] pulled, int capacity) {
+            super(capacity);
+            this.userId = userId;
+            this.followed = followed;
+            this.pushed = pushed;
+            this.pulled = pulled;
+        }
+
+        @Override
+        long estimatedBytes() {
+            return super.estimatedBytes() + 16L * followed.length + (long) SUBSCRIPTION_BYTES * pushed.length;
+        }
+    }
+
+    /**
+     * One page of a feed; nextCursor is null on the last page
+     */
+    public record FeedPage(List<Long> eventIds, Long nextCursor) {
+    }
+
+    public record FeedStats(int timelines, int organizationLists, long usedBytes, long budgetBytes,
+            int popularOrganizations) {
+    }
+}
@@ -0,0 +1,374 @@
+package com.volunteersync.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.volunteersync.backend.entity.IdempotencyRecord;
+import com.volunteersync.backend.repository.IdempotencyRecordRepository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key support for retried writes.
+ * The first successful response for a (user, key) is kept in a bounded in-memory store and in
+ * the idempotency_keys table until it expires, and replayed for retries without running the
+ * write again. Concurrent duplicates on this instance wait for the in-flight execution; on
+ * other instances they wait on the claim row (unique per user and key).
+ *
+ * Failed writes are not stored, so a retry after an error runs again - the write's own
+ * constraints (e.g. uk_applications_volunteer_event) still reject real duplicates.
+ * The write runs outside any transaction held here; its response is stored after it commits.
+ *
+ * A key reused for a different request gets 422; a duplicate that gives up waiting gets 409.
+ * Claim rows hold a lease that is renewed while the write runs, so only a claim left behind
+ * by a dead instance expires and can be taken over.
+ */
+@Service
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final long POLL_INTERVAL_MS = 50;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final long ttlMillis;
+    private final long maxWaitMillis;
+    private final long leaseMillis;
+
+    // Completed responses, least recently used evicted first
+    private final Map<String, StoredResponse> responses;
+
+    private final Map<String, Flight> inFlight = new ConcurrentHashMap<>();
+
+    // Ids of claim rows whose write is running on this instance
+    private final Set<Long> heldClaims = ConcurrentHashMap.newKeySet();
+
+    public IdempotencyService(@Value("${app.idempotency.max-entries:10000}") int maxEntries,
+            @Value("${app.idempotency.ttl-ms:86400000}") long ttlMillis,
+            @Value("${app.idempotency.max-wait-ms:10000}") long maxWaitMillis,
+            @Value("${app.idempotency.lease-ms:60000}") long leaseMillis) {
+        this.ttlMillis = ttlMillis;
+        this.maxWaitMillis = maxWaitMillis;
+        this.leaseMillis = leaseMillis;
+        this.responses = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    // ==========================================
+    // EXECUTION
+    // ==========================================
+
+    /**
+     * Run a write once per idempotency key; without a key the write just runs
+     *
+     * @param scope   operation name, part of the request fingerprint
+     * @param request what identifies the request (body, path variables) - a retry must match it
+     */
+    public ResponseEntity<?> execute(String scope, Long userId, String idempotencyKey, Object request,
+            Supplier<ResponseEntity<?>> write) {
+        if (idempotencyKey == null) {
+            return write.get();
+        }
+        String key = idempotencyKey.trim();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            throw new RuntimeException(HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+        String requestHash = fingerprint(scope, request);
+        String storeKey = userId + ":" + key;
+
+        StoredResponse stored = getStored(storeKey);
+        if (stored != null) {
+            return replay(stored, requestHash);
+        }
+
+        Flight flight = new Flight(requestHash, new CompletableFuture<>());
+        Flight existing = inFlight.putIfAbsent(storeKey, flight);
+        if (existing != null) {
+            return awaitInFlight(existing, storeKey, requestHash);
+        }
+
+        try {
+            ResponseEntity<?> response = executeClaimed(storeKey, userId, key, scope, requestHash, write);
+            flight.response().complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            flight.response().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(storeKey, flight);
+        }
+    }
+
+    private ResponseEntity<?> executeClaimed(String storeKey, Long userId, String key, String scope,
+            String requestHash, Supplier<ResponseEntity<?>> write) {
+        IdempotencyRecord claim = claim(userId, key, scope, requestHash);
+        if (claim == null) {
+            return alreadyInProgress();
+        }
+        if (!claim.getRequestHash().equals(requestHash)) {
+            return mismatch();
+        }
+        if (claim.isCompleted()) {
+            StoredResponse stored = remember(storeKey, claim);
+            return replay(stored, requestHash);
+        }
+
+        ResponseEntity<?> response;
+        heldClaims.add(claim.getId());
+        try {
+            response = write.get();
+        } catch (RuntimeException | Error e) {
+            release(claim);
+            throw e;
+        } finally {
+            heldClaims.remove(claim.getId());
+        }
+
+        if (!response.getStatusCode().is2xxSuccessful()) {
+            release(claim);
+            return response;
+        }
+
+        String body = serialize(response.getBody());
+        LocalDateTime expiresAt = LocalDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(ttlMillis));
+        inTransaction(() -> idempotencyRecordRepository.complete(claim.getId(), response.getStatusCode().value(),
+                body, expiresAt));
+        synchronized (responses) {
+            responses.put(storeKey, new StoredResponse(requestHash, response.getStatusCode().value(), body,
+                    System.currentTimeMillis() + ttlMillis));
+        }
+        return response;
+    }
+
+    // ==========================================
+    // CLAIMS (idempotency_keys)
+    // ==========================================
+
+    /**
+     * Insert a claim row for the key, or return the record another request holds - completed,
+     * or claimed for a different request (the caller checks the hash). While another instance
+     * holds a matching claim, poll until it completes; null if that takes longer than max-wait.
+     */
+    private IdempotencyRecord claim(Long userId, String key, String scope, String requestHash) {
+        long deadline = System.currentTimeMillis() + maxWaitMillis;
+        while (true) {
+            Optional<IdempotencyRecord> existing = inTransaction(() ->
+                    idempotencyRecordRepository.findByUserIdAndIdempotencyKey(userId, key));
+            if (existing.isPresent()) {
+                IdempotencyRecord record = existing.get();
+                boolean expired = record.getExpiresAt().isBefore(LocalDateTime.now());
+                if (!expired && (record.isCompleted() || !record.getRequestHash().equals(requestHash))) {
+                    return record;
+                }
+                if (expired) {
+                    // Expired response or a claim whose instance stopped renewing it - clear it and claim again
+                    release(record);
+                } else if (System.currentTimeMillis() >= deadline) {
+                    return null;
+                } else {
+                    sleep();
+                }
+                continue;
+            }
+
+            LocalDateTime leaseEnd = LocalDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(leaseMillis));
+            try {
+                return inTransaction(() -> idempotencyRecordRepository.saveAndFlush(
+                        new IdempotencyRecord(userId, key, scope, requestHash, leaseEnd)));
+            } catch (DataIntegrityViolationException e) {
+                // uk_idempotency_user_key - another instance claimed it first
+            }
+        }
+    }
+
+    private void release(IdempotencyRecord record) {
+        inTransaction(() -> {
+            idempotencyRecordRepository.deleteById(record.getId());
+            return null;
+        });
+    }
+
+    /**
+     * Keep the claims of writes still running here from expiring
+     */
+    @Scheduled(fixedDelayString = "${app.idempotency.lease-renew-interval-ms:20000}",
+            initialDelayString = "${app.idempotency.lease-renew-interval-ms:20000}")
+    public void renewClaims() {
+        if (heldClaims.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(heldClaims);
+        LocalDateTime leaseEnd = LocalDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(leaseMillis));
+        inTransaction(() -> idempotencyRecordRepository.renewClaims(ids, leaseEnd));
+    }
+
+    /**
+     * Hourly purge of expired responses and abandoned claims
+     */
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval-ms:3600000}",
+            initialDelayString = "${app.idempotency.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        int deleted = inTransaction(() -> idempotencyRecordRepository.deleteExpired(LocalDateTime.now()));
+        long now = System.currentTimeMillis();
+        synchronized (responses) {
+            responses.values().removeIf(stored -> stored.expiresAt() <= now);
+        }
+        if (deleted > 0) {
+            System.out.println("Purged " + deleted + " expired idempotency keys");
+        }
+    }
+
+    // ==========================================
+    // HELPER METHODS
+    // ==========================================
+
+    private StoredResponse getStored(String storeKey) {
+        synchronized (responses) {
+            StoredResponse stored = responses.get(storeKey);
+            if (stored != null && stored.expiresAt() <= System.currentTimeMillis()) {
+                responses.remove(storeKey);
+                return null;
+            }
+            return stored;
+        }
+    }
+
+    private StoredResponse remember(String storeKey, IdempotencyRecord record) {
+        long expiresAt = System.currentTimeMillis()
+                + Math.max(0L, Duration.between(LocalDateTime.now(), record.getExpiresAt()).toMillis());
+        StoredResponse stored = new StoredResponse(record.getRequestHash(), record.getStatusCode(),
+                record.getResponseBody(), expiresAt);
+        synchronized (responses) {
+            responses.put(storeKey, stored);
+        }
+        return stored;
+    }
+
+    private ResponseEntity<?> awaitInFlight(Flight flight, String storeKey, String requestHash) {
+        if (!flight.requestHash().equals(requestHash)) {
+            return mismatch();
+        }
+        ResponseEntity<?> response;
+        try {
+            response = flight.response().get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            return alreadyInProgress();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a request with the same " + HEADER);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new RuntimeException(e.getCause());
+        }
+
+        // Successful responses were stored; an error response is shared as it is
+        StoredResponse stored = getStored(storeKey);
+        return stored != null ? replay(stored, requestHash) : response;
+    }
+
+    private ResponseEntity<?> replay(StoredResponse stored, String requestHash) {
+        if (!stored.requestHash().equals(requestHash)) {
+            return mismatch();
+        }
+        return ResponseEntity.status(stored.statusCode())
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(REPLAYED_HEADER, "true")
+                .body(stored.body());
+    }
+
+    private ResponseEntity<?> mismatch() {
+        return error(HttpStatus.UNPROCESSABLE_ENTITY, HEADER + " was already used for a different request");
+    }
+
+    private ResponseEntity<?> alreadyInProgress() {
+        return error(HttpStatus.CONFLICT, "A request with this " + HEADER + " is still being processed");
+    }
+
+    private ResponseEntity<?> error(HttpStatus status, String message) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("error", message);
+        body.put("timestamp", System.currentTimeMillis());
+        return ResponseEntity.status(status).body(body);
+    }
+
+    private String fingerprint(String scope, Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(scope.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            digest.update(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("Could not fingerprint request", e);
+        }
+    }
+
+    private String serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not store response", e);
+        }
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return new TransactionTemplate(transactionManager).execute(status -> action.get());
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(POLL_INTERVAL_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a request with the same " + HEADER);
+        }
+    }
+
+    private record StoredResponse(String requestHash, int statusCode, String body, long expiresAt) {
+    }
+
+    private record Flight(String requestHash, CompletableFuture<ResponseEntity<?>> response) {
+    }
+}
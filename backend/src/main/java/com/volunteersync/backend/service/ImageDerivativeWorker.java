@@ -0,0 +1,228 @@
+package com.volunteersync.backend.service;
+
+import com.volunteersync.backend.enums.ImageVariant;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resizes uploaded originals into the ImageVariant derivatives on a bounded worker pool.
+ * Image decoding is CPU and memory heavy, so at most derivative-workers run at once and at
+ * most derivative-queue-capacity wait; beyond that a request is rejected rather than queued.
+ *
+ * One job decodes the original once and writes every missing variant, largest first, each
+ * scaled down from the previous one. Concurrent requests for the same original share the job.
+ */
+@Component
+public class ImageDerivativeWorker {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.images.derivative-workers:2}")
+    private int workers;
+
+    @Value("${app.images.derivative-queue-capacity:100}")
+    private int queueCapacity;
+
+    private static final float JPEG_QUALITY = 0.85f;
+
+    private ThreadPoolExecutor executor;
+
+    // Original hash -> running or queued job
+    private final Map<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    private Timer jobDuration;
+
+    @PostConstruct
+    public void init() {
+        ImageIO.setUseCache(false);
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("image-derivative-", 1).daemon().factory());
+        jobDuration = Timer.builder("images.derivatives.duration")
+                .description("Time to decode an original and write its missing derivatives")
+                .register(meterRegistry);
+        Gauge.builder("images.derivatives.queued", executor, pool -> pool.getQueue().size())
+                .description("Derivative jobs waiting for a worker")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Write the missing derivatives of an original
+     *
+     * @param targets where each variant goes; existing files are kept
+     * @return completes when every target exists; fails with RejectedExecutionException when the pool is full
+     */
+    public CompletableFuture<Void> generate(String hash, Path original, Map<ImageVariant, Path> targets) {
+        CompletableFuture<Void> job = new CompletableFuture<>();
+        CompletableFuture<Void> existing = inFlight.putIfAbsent(hash, job);
+        if (existing != null) {
+            return existing;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    jobDuration.record(() -> writeDerivatives(original, targets));
+                    record("generated");
+                    job.complete(null);
+                } catch (RuntimeException | Error e) {
+                    record("failed");
+                    System.err.println("Could not generate derivatives for image " + hash + ": " + e.getMessage());
+                    job.completeExceptionally(e);
+                } finally {
+                    inFlight.remove(hash, job);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            record("rejected");
+            inFlight.remove(hash, job);
+            job.completeExceptionally(e);
+        }
+        return job;
+    }
+
+    // ==========================================
+    // RESIZING
+    // ==========================================
+
+    private void writeDerivatives(Path original, Map<ImageVariant, Path> targets) {
+        try {
+            BufferedImage source = ImageIO.read(original.toFile());
+            if (source == null) {
+                throw new IllegalStateException("Unreadable image " + original.getFileName());
+            }
+            // JPEG has no alpha - flatten onto white once, then scale down variant by variant
+            BufferedImage current = flatten(source);
+            for (ImageVariant variant : targets.keySet().stream()
+                    .sorted(Comparator.comparingInt(ImageVariant::getMaxDimension).reversed())
+                    .toList()) {
+                current = scale(current, variant.getMaxDimension());
+                Path target = targets.get(variant);
+                if (!Files.exists(target)) {
+                    writeJpeg(current, target);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private BufferedImage flatten(BufferedImage source) {
+        BufferedImage rgb = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, rgb.getWidth(), rgb.getHeight());
+            graphics.drawImage(source, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+        return rgb;
+    }
+
+    /**
+     * Fit within maxDimension, halving with bilinear steps first - one big bilinear step skips
+     * most source pixels and aliases badly
+     */
+    private BufferedImage scale(BufferedImage image, int maxDimension) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        if (width <= maxDimension && height <= maxDimension) {
+            return image;
+        }
+        double ratio = Math.min((double) maxDimension / width, (double) maxDimension / height);
+        int targetWidth = Math.max(1, (int) Math.round(width * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(height * ratio));
+
+        BufferedImage current = image;
+        while (width / 2 >= targetWidth && height / 2 >= targetHeight) {
+            width /= 2;
+            height /= 2;
+            current = draw(current, width, height);
+        }
+        return width == targetWidth && height == targetHeight ? current : draw(current, targetWidth, targetHeight);
+    }
+
+    private BufferedImage draw(BufferedImage image, int width, int height) {
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    /**
+     * Write to a temporary file next to the target and move it into place, so readers never see a partial file
+     */
+    private void writeJpeg(BufferedImage image, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path temporary = Files.createTempFile(target.getParent(), "derivative-", ".part");
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(temporary.toFile())) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporary);
+            throw e;
+        } finally {
+            writer.dispose();
+        }
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void record(String outcome) {
+        Counter.builder("images.derivatives")
+                .description("Derivative jobs by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,304 @@
+package com.volunteersync.backend.service;
+
+import com.volunteersync.backend.enums.ImageVariant;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Image uploads on a local content-addressed store.
+ * Originals are kept as uploaded under their SHA-256 (originals/ab/abcd...ef.png), so the same
+ * file uploaded twice is stored once; derivatives (ImageVariant) are JPEGs under
+ * derivatives/{variant}/ab/abcd...ef.jpg, written by ImageDerivativeWorker after the upload
+ * or on first request. Since a hash names fixed content, served files never change.
+ */
+@Service
+public class ImageStorageService {
+
+    public static final String URL_PREFIX = "/api/images/";
+
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+    private static final Pattern IMAGE_URL = Pattern.compile(
+            "^(.*" + Pattern.quote(URL_PREFIX) + ")([0-9a-f]{64})(/[a-z]+)?$");
+
+    // Accepted upload formats (ImageIO format name -> stored extension and content type)
+    private static final Map<String, String[]> FORMATS = new LinkedHashMap<>();
+
+    static {
+        FORMATS.put("jpeg", new String[] { "jpg", "image/jpeg" });
+        FORMATS.put("png", new String[] { "png", "image/png" });
+        FORMATS.put("gif", new String[] { "gif", "image/gif" });
+        FORMATS.put("bmp", new String[] { "bmp", "image/bmp" });
+    }
+
+    @Autowired
+    private ImageDerivativeWorker derivativeWorker;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Path root;
+    private final long maxUploadBytes;
+    private final long maxPixels;
+    private final long derivativeWaitMillis;
+
+    public ImageStorageService(@Value("${app.images.storage-dir:./uploads/images}") String storageDir,
+            @Value("${app.images.max-upload-bytes:10485760}") long maxUploadBytes,
+            @Value("${app.images.max-pixels:40000000}") long maxPixels,
+            @Value("${app.images.derivative-wait-ms:10000}") long derivativeWaitMillis) {
+        this.root = Path.of(storageDir).toAbsolutePath().normalize();
+        this.maxUploadBytes = maxUploadBytes;
+        this.maxPixels = maxPixels;
+        this.derivativeWaitMillis = derivativeWaitMillis;
+    }
+
+    // ==========================================
+    // UPLOAD
+    // ==========================================
+
+    /**
+     * Store an uploaded image and start generating its derivatives
+     */
+    public StoredImage store(MultipartFile file, Long userId) {
+        if (file == null || file.isEmpty()) {
+            throw new RuntimeException("No image uploaded");
+        }
+        if (file.getSize() > maxUploadBytes) {
+            throw new RuntimeException("Image is larger than " + (maxUploadBytes / (1024 * 1024)) + " MB");
+        }
+
+        Path temporary = null;
+        try {
+            Path uploads = Files.createDirectories(root.resolve("tmp"));
+            temporary = Files.createTempFile(uploads, "upload-", ".part");
+
+            // Hash while copying, so the upload is read once
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream input = file.getInputStream();
+                    OutputStream output = new DigestOutputStream(Files.newOutputStream(temporary), digest)) {
+                input.transferTo(output);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+
+            ImageInfo info = probe(temporary);
+            String[] format = FORMATS.get(info.format());
+            Path original = originalPath(hash, format[0]);
+            boolean duplicate = Files.exists(original);
+            if (duplicate) {
+                Files.delete(temporary);
+            } else {
+                Files.createDirectories(original.getParent());
+                Files.move(temporary, original, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            }
+            temporary = null;
+
+            Counter.builder("images.uploads")
+                    .description("Image uploads by outcome")
+                    .tag("outcome", duplicate ? "duplicate" : "stored")
+                    .register(meterRegistry)
+                    .increment();
+            System.out.println((duplicate ? "Reused" : "Stored") + " image " + hash + " (" + format[1] + ", "
+                    + info.width() + "x" + info.height() + ") for user ID: " + userId);
+
+            // If the pool is full they are generated on first request instead
+            requestDerivatives(hash, original);
+
+            return new StoredImage(hash, format[1], info.width(), info.height(), Files.size(original), urls(hash));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not store image", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        } finally {
+            if (temporary != null) {
+                try {
+                    Files.deleteIfExists(temporary);
+                } catch (IOException ignored) {
+                    // Leftover temporary file; harmless
+                }
+            }
+        }
+    }
+
+    /**
+     * Read format and dimensions from the header only - rejects non-images and decompression bombs before decoding
+     */
+    private ImageInfo probe(Path file) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                throw new RuntimeException("Unsupported image format - upload a JPEG, PNG, GIF or BMP image");
+            }
+            ImageReader reader = readers.next();
+            try {
+                String format = reader.getFormatName().toLowerCase(Locale.ROOT);
+                if (!FORMATS.containsKey(format)) {
+                    throw new RuntimeException("Unsupported image format - upload a JPEG, PNG, GIF or BMP image");
+                }
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    throw new RuntimeException("Image dimensions " + width + "x" + height + " are too large");
+                }
+                return new ImageInfo(format, width, height);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // ==========================================
+    // LOOKUP
+    // ==========================================
+
+    /**
+     * The stored original for a hash, if any
+     */
+    public Optional<ImageFile> findOriginal(String hash) {
+        if (!isHash(hash)) {
+            return Optional.empty();
+        }
+        for (String[] format : FORMATS.values()) {
+            Path original = originalPath(hash, format[0]);
+            if (Files.exists(original)) {
+                return Optional.of(new ImageFile(original, format[1], "\"" + hash + "\""));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * A derivative, generated now (waiting up to derivative-wait-ms) if it does not exist yet
+     *
+     * @throws RejectedExecutionException when the worker pool is full
+     */
+    public Optional<ImageFile> findDerivative(String hash, ImageVariant variant) {
+        if (!isHash(hash)) {
+            return Optional.empty();
+        }
+        Path derivative = derivativePath(hash, variant);
+        if (!Files.exists(derivative)) {
+            Optional<ImageFile> original = findOriginal(hash);
+            if (original.isEmpty()) {
+                return Optional.empty();
+            }
+            await(requestDerivatives(hash, original.get().path()));
+        }
+        return Optional.of(new ImageFile(derivative, "image/jpeg", "\"" + hash + "-" + variant.getPathName() + "\""));
+    }
+
+    private CompletableFuture<Void> requestDerivatives(String hash, Path original) {
+        Map<ImageVariant, Path> targets = new EnumMap<>(ImageVariant.class);
+        for (ImageVariant variant : ImageVariant.values()) {
+            Path derivative = derivativePath(hash, variant);
+            if (!Files.exists(derivative)) {
+                targets.put(variant, derivative);
+            }
+        }
+        return targets.isEmpty() ? CompletableFuture.completedFuture(null)
+                : derivativeWorker.generate(hash, original, targets);
+    }
+
+    private void await(CompletableFuture<Void> job) {
+        try {
+            job.get(derivativeWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new RejectedExecutionException("Image is still being processed");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for an image");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    // ==========================================
+    // URLS
+    // ==========================================
+
+    public static Map<String, String> urls(String hash) {
+        Map<String, String> urls = new LinkedHashMap<>();
+        urls.put("original", URL_PREFIX + hash);
+        for (ImageVariant variant : ImageVariant.values()) {
+            urls.put(variant.getPathName(), URL_PREFIX + hash + "/" + variant.getPathName());
+        }
+        return urls;
+    }
+
+    /**
+     * The URL of another variant of an uploaded image; other URLs (e.g. external images) are returned as they are
+     */
+    public static String variantUrl(String imageUrl, ImageVariant variant) {
+        if (imageUrl == null) {
+            return null;
+        }
+        Matcher matcher = IMAGE_URL.matcher(imageUrl);
+        return matcher.matches() ? matcher.group(1) + matcher.group(2) + "/" + variant.getPathName() : imageUrl;
+    }
+
+    // ==========================================
+    // HELPER METHODS
+    // ==========================================
+
+    private static boolean isHash(String hash) {
+        return hash != null && HASH.matcher(hash).matches();
+    }
+
+    private Path originalPath(String hash, String extension) {
+        return root.resolve("originals").resolve(hash.substring(0, 2)).resolve(hash + "." + extension);
+    }
+
+    private Path derivativePath(String hash, ImageVariant variant) {
+        return root.resolve("derivatives").resolve(variant.getPathName()).resolve(hash.substring(0, 2))
+                .resolve(hash + ".jpg");
+    }
+
+    private record ImageInfo(String format, int width, int height) {
+    }
+
+    /**
+     * A stored file ready to serve; the ETag is strong since a path never changes content
+     */
+    public record ImageFile(Path path, String contentType, String etag) {
+    }
+
+    public record StoredImage(String hash, String contentType, int width, int height, long bytes,
+            Map<String, String> urls) {
+    }
+}
@@ -0,0 +1,124 @@
+package com.volunteersync.backend.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Custom JFR events for the operations we look at first when latency spikes. They land in the
+ * always-on recording (ContinuousProfiler) next to the JDK's samples, so a dump shows them on the
+ * same timeline as allocation, lock and GC events. Usage: begin(), fill in the fields, commit() -
+ * both are close to free while no recording has the event enabled.
+ */
+public final class JfrEvents {
+
+    static final String CATEGORY = "VolunteerSync";
+
+    private JfrEvents() {
+    }
+
+    @Name("volunteersync.SearchRequest")
+    @Label("Search Request")
+    @Category({ CATEGORY, "API" })
+    @StackTrace(false)
+    public static class SearchRequest extends Event {
+        @Label("Kind")
+        @Description("search, faceted or realtime")
+        public String kind;
+
+        @Label("Query")
+        public String query;
+
+        @Label("Results")
+        public int results;
+
+        public static SearchRequest start(String kind, String query) {
+            SearchRequest event = new SearchRequest();
+            event.kind = kind;
+            event.query = query;
+            event.begin();
+            return event;
+        }
+
+        public void finish(int results) {
+            this.results = results;
+            commit();
+        }
+    }
+
+    @Name("volunteersync.DtoConversion")
+    @Label("DTO Conversion Batch")
+    @Category({ CATEGORY, "Service" })
+    @StackTrace(false)
+    public static class DtoConversion extends Event {
+        @Label("DTO Type")
+        public String dtoType;
+
+        @Label("Count")
+        public int count;
+    }
+
+    @Name("volunteersync.BadgeEvaluation")
+    @Label("Badge Evaluation")
+    @Category({ CATEGORY, "Service" })
+    @StackTrace(false)
+    public static class BadgeEvaluation extends Event {
+        @Label("User Id")
+        public long userId;
+
+        @Label("Trigger")
+        public String trigger;
+
+        @Label("Badges Awarded")
+        public int awarded;
+    }
+
+    @Name("volunteersync.RegistrationAttempt")
+    @Label("Event Registration Attempt")
+    @Category({ CATEGORY, "Service" })
+    @StackTrace(false)
+    public static class RegistrationAttempt extends Event {
+        @Label("Event Id")
+        public long eventId;
+
+        @Label("Volunteer Id")
+        public long volunteerId;
+
+        @Label("Outcome")
+        @Description("registered, or the reason it was refused")
+        public String outcome;
+    }
+
+    @Name("volunteersync.JwtValidation")
+    @Label("JWT Validation")
+    @Category({ CATEGORY, "Security" })
+    @StackTrace(false)
+    public static class JwtValidation extends Event {
+        @Label("Valid")
+        public boolean valid;
+    }
+
+    /**
+     * Convert a batch of entities or snapshots to DTOs inside a DtoConversion event
+     */
+    public static <T, R> List<R> convertBatch(String dtoType, Collection<T> source, Function<T, R> converter) {
+        DtoConversion event = new DtoConversion();
+        event.begin();
+        List<R> converted = new ArrayList<>(source.size());
+        for (T item : source) {
+            converted.add(converter.apply(item));
+        }
+        event.dtoType = dtoType;
+        event.count = converted.size();
+        event.commit();
+        return converted;
+    }
+}
@@ -205,6 +205,8 @@ public class JwtService {
      * @return True if valid
      */
     public Boolean validateToken(String token, User user) {
+        JfrEvents.JwtValidation validation = new JfrEvents.JwtValidation();
+        validation.begin();
         try {
             // Check if token is blacklisted
             if (tokenBlacklist.contains(token)) {
@@ -215,14 +217,17 @@ public class JwtService {
             final String email = getEmailFromToken(token);
             final Long userId = getUserIdFromToken(token);
             
-            return (email.equals(user.getEmail()) && 
+            validation.valid = email.equals(user.getEmail()) && 
                     userId.equals(user.getId()) && 
                     !isTokenExpired(token) &&
-                    user.getIsActive());
+                    user.getIsActive();
+            return validation.valid;
                     
         } catch (Exception e) {
             log.error("Token validation failed: {}", e.getMessage());
             return false;
+        } finally {
+            validation.commit();
         }
     }
 
@@ -232,6 +237,8 @@ public class JwtService {
      * @return True if valid
      */
     public Boolean validateToken(String token) {
+        JfrEvents.JwtValidation validation = new JfrEvents.JwtValidation();
+        validation.begin();
         try {
             // Check if token is blacklisted
             if (tokenBlacklist.contains(token)) {
@@ -242,11 +249,14 @@ public class JwtService {
             getAllClaimsFromToken(token);
             
             // Check if not expired
-            return !isTokenExpired(token);
+            validation.valid = !isTokenExpired(token);
+            return validation.valid;
             
         } catch (Exception e) {
             log.error("Token validation failed: {}", e.getMessage());
             return false;
+        } finally {
+            validation.commit();
         }
     }
 
@@ -0,0 +1,23 @@
+package com.volunteersync.backend.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Prints notifications to the console instead of sending them
+ */
+@Component
+@ConditionalOnProperty(name = "app.notifications.channel", havingValue = "log")
+public class LogNotificationChannel implements NotificationChannel {
+
+    @Override
+    public String getName() {
+        return "log";
+    }
+
+    @Override
+    public void send(OutgoingNotification notification) {
+        System.out.println("Notification " + notification.id() + " to " + notification.email() + ": "
+                + notification.title());
+    }
+}
@@ -0,0 +1,28 @@
+package com.volunteersync.backend.service;
+
+import com.volunteersync.backend.enums.NotificationType;
+
+import java.io.IOException;
+
+/**
+ * Where NotificationDispatcher delivers notifications - one implementation is active,
+ * chosen by app.notifications.channel (file, log or smtp).
+ * send() may be called from many virtual threads at once and throws on a failed
+ * delivery, which is retried with backoff.
+ */
+public interface NotificationChannel {
+
+    /**
+     * Channel name, used as the metrics tag
+     */
+    String getName();
+
+    void send(OutgoingNotification notification) throws IOException;
+
+    /**
+     * A claimed notification with its recipient's address
+     */
+    record OutgoingNotification(Long id, Long userId, String email, NotificationType type, String title,
+            String message, Long eventId) {
+    }
+}
@@ -0,0 +1,415 @@
+package com.volunteersync.backend.service;
+
+import com.volunteersync.backend.entity.NotificationOutbox;
+import com.volunteersync.backend.enums.NotificationStatus;
+import com.volunteersync.backend.enums.NotificationType;
+import com.volunteersync.backend.enums.OutboxStatus;
+import com.volunteersync.backend.repository.NotificationOutboxRepository;
+import com.volunteersync.backend.repository.NotificationRepository;
+import com.volunteersync.backend.repository.VolunteerProfileRepository;
+import com.volunteersync.backend.service.NotificationChannel.OutgoingNotification;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Notification pipeline behind the outbox.
+ *
+ * Fan-out: each due outbox record is leased, then its followers are walked in volunteer
+ * profile id order, fanout-batch-size at a time - one INSERT ... SELECT into notifications and
+ * the cursor move per transaction, so a retry (with backoff) resumes after the last batch.
+ *
+ * Delivery: due notifications are leased in batches and sent through the NotificationChannel
+ * on virtual threads, at most max-concurrent-sends at once; results are written back per batch.
+ * Failed sends are retried with exponential backoff and jitter until max-attempts.
+ *
+ * Both run when an outbox record commits or a batch is written, and on a poll for retries.
+ */
+@Component
+public class NotificationDispatcher {
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private VolunteerProfileRepository volunteerProfileRepository;
+
+    @Autowired
+    private NotificationChannel channel;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.notifications.fanout-batch-size:1000}")
+    private int fanoutBatchSize;
+
+    @Value("${app.notifications.delivery-batch-size:500}")
+    private int deliveryBatchSize;
+
+    @Value("${app.notifications.max-concurrent-sends:64}")
+    private int maxConcurrentSends;
+
+    @Value("${app.notifications.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.notifications.backoff-initial-ms:1000}")
+    private long backoffInitialMillis;
+
+    @Value("${app.notifications.backoff-max-ms:600000}")
+    private long backoffMaxMillis;
+
+    @Value("${app.notifications.lease-ms:60000}")
+    private long leaseMillis;
+
+    private static final int OUTBOX_PAGE_SIZE = 20;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private Semaphore sendPermits;
+
+    // One pass of each loop at a time; a request made during a pass makes it go round again
+    private final ReentrantLock fanoutLock = new ReentrantLock();
+    private final ReentrantLock deliveryLock = new ReentrantLock();
+    private final AtomicBoolean fanoutRequested = new AtomicBoolean();
+    private final AtomicBoolean deliveryRequested = new AtomicBoolean();
+
+    private Timer fanoutDuration;
+    private Timer fanoutBatchDuration;
+    private DistributionSummary fanoutRecipients;
+    private Timer deliveryLatency;
+
+    @PostConstruct
+    public void init() {
+        sendPermits = new Semaphore(maxConcurrentSends);
+        fanoutDuration = Timer.builder("notifications.fanout.duration")
+                .description("Time from an outbox record being written to its last follower batch")
+                .register(meterRegistry);
+        fanoutBatchDuration = Timer.builder("notifications.fanout.batch")
+                .description("Time to write one batch of follower notifications")
+                .register(meterRegistry);
+        fanoutRecipients = DistributionSummary.builder("notifications.fanout.recipients")
+                .description("Followers notified per outbox record")
+                .register(meterRegistry);
+        deliveryLatency = Timer.builder("notifications.delivery.latency")
+                .description("Time from a notification being written to its delivery")
+                .tag("channel", channel.getName())
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    // ==========================================
+    // TRIGGERS
+    // ==========================================
+
+    public void requestFanout() {
+        fanoutRequested.set(true);
+        submit(() -> drain(fanoutLock, fanoutRequested, this::fanOutDue));
+    }
+
+    public void requestDelivery() {
+        deliveryRequested.set(true);
+        submit(() -> drain(deliveryLock, deliveryRequested, this::deliverDue));
+    }
+
+    /**
+     * Picks up retries whose backoff has passed and anything a restart interrupted
+     */
+    @Scheduled(fixedDelayString = "${app.notifications.poll-interval-ms:30000}",
+            initialDelayString = "${app.notifications.poll-interval-ms:30000}")
+    public void poll() {
+        requestFanout();
+        requestDelivery();
+    }
+
+    private void drain(ReentrantLock lock, AtomicBoolean requested, Runnable pass) {
+        do {
+            if (!lock.tryLock()) {
+                return;
+            }
+            try {
+                requested.set(false);
+                pass.run();
+            } catch (RuntimeException e) {
+                System.err.println("Notification dispatch failed: " + e.getMessage());
+            } finally {
+                lock.unlock();
+            }
+        } while (requested.get());
+    }
+
+    // ==========================================
+    // FAN-OUT
+    // ==========================================
+
+    private void fanOutDue() {
+        while (true) {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> dueIds = inTransaction(() -> outboxRepository.findDueIds(OutboxStatus.PENDING, now,
+                    PageRequest.of(0, OUTBOX_PAGE_SIZE)));
+            if (dueIds.isEmpty()) {
+                return;
+            }
+            for (Long outboxId : dueIds) {
+                fanOut(outboxId, now);
+            }
+        }
+    }
+
+    private void fanOut(Long outboxId, LocalDateTime now) {
+        if (inTransaction(() -> outboxRepository.claim(outboxId, OutboxStatus.PENDING, now, leaseEnd())) == 0) {
+            return;
+        }
+        NotificationOutbox outbox = inTransaction(() -> outboxRepository.findById(outboxId)).orElse(null);
+        if (outbox == null) {
+            return;
+        }
+
+        long cursor = outbox.getFanoutCursor();
+        long recipients = outbox.getRecipients();
+        try {
+            while (true) {
+                long started = System.nanoTime();
+                long[] batch = writeBatch(outbox, cursor);
+                if (batch == null) {
+                    break;
+                }
+                fanoutBatchDuration.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                cursor = batch[0];
+                recipients += batch[1];
+                if (batch[1] > 0) {
+                    requestDelivery();
+                }
+            }
+        } catch (RuntimeException e) {
+            retryFanout(outbox, e);
+            return;
+        }
+
+        LocalDateTime finished = LocalDateTime.now();
+        inTransaction(() -> outboxRepository.updateStatus(outboxId, OutboxStatus.DONE, outbox.getAttempts(), null,
+                finished, finished));
+        fanoutDuration.record(Duration.between(outbox.getCreatedAt(), finished));
+        fanoutRecipients.record(recipients);
+        fanoutOutcome("done");
+        System.out.println("Fanned out notification outbox ID: " + outboxId + " to " + recipients + " followers in "
+                + Duration.between(outbox.getCreatedAt(), finished).toMillis() + "ms");
+    }
+
+    /**
+     * Write the next batch after the cursor and move the cursor, in one transaction
+     * Returns [new cursor, notifications written], or null when no followers are left
+     */
+    private long[] writeBatch(NotificationOutbox outbox, long cursor) {
+        return inTransaction(() -> {
+            List<Long> followerIds = volunteerProfileRepository.findFollowerIdsAfter(outbox.getOrganizationId(), cursor,
+                    PageRequest.of(0, fanoutBatchSize));
+            if (followerIds.isEmpty()) {
+                return null;
+            }
+            long upTo = followerIds.get(followerIds.size() - 1);
+            int inserted = notificationRepository.insertFanoutBatch(outbox.getId(), outbox.getType().name(),
+                    outbox.getOrganizationId(), outbox.getEventId(), outbox.getTitle(), outbox.getMessage(),
+                    cursor, upTo, LocalDateTime.now());
+            if (outboxRepository.advanceCursor(outbox.getId(), cursor, upTo, inserted, leaseEnd()) == 0) {
+                // Lease lost to another dispatcher - roll this batch back and leave the record to it
+                throw new IllegalStateException("Fan-out cursor moved for outbox ID: " + outbox.getId());
+            }
+            return new long[] { upTo, inserted };
+        });
+    }
+
+    private void retryFanout(NotificationOutbox outbox, RuntimeException e) {
+        int attempts = outbox.getAttempts() + 1;
+        boolean giveUp = attempts >= maxAttempts;
+        LocalDateTime nextAttempt = giveUp ? LocalDateTime.now() : LocalDateTime.now().plus(backoff(attempts));
+        inTransaction(() -> outboxRepository.updateStatus(outbox.getId(),
+                giveUp ? OutboxStatus.FAILED : OutboxStatus.PENDING, attempts, truncate(e.getMessage()), nextAttempt,
+                giveUp ? LocalDateTime.now() : null));
+        fanoutOutcome(giveUp ? "failed" : "retry");
+        System.err.println("Fan-out of notification outbox ID: " + outbox.getId() + " failed (attempt " + attempts
+                + (giveUp ? ", giving up" : ", retrying at " + nextAttempt) + "): " + e.getMessage());
+    }
+
+    // ==========================================
+    // DELIVERY
+    // ==========================================
+
+    private void deliverDue() {
+        while (true) {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime leaseEnd = leaseEnd();
+            List<Object[]> claimed = inTransaction(() -> {
+                List<Long> dueIds = notificationRepository.findDueIds(NotificationStatus.PENDING, now,
+                        PageRequest.of(0, deliveryBatchSize));
+                if (dueIds.isEmpty()) {
+                    return null;
+                }
+                notificationRepository.claim(dueIds, now, leaseEnd);
+                return notificationRepository.findClaimed(dueIds, leaseEnd);
+            });
+            if (claimed == null) {
+                return;
+            }
+            deliverBatch(claimed);
+        }
+    }
+
+    private void deliverBatch(List<Object[]> claimed) {
+        List<Future<Exception>> results = new ArrayList<>(claimed.size());
+        for (Object[] row : claimed) {
+            OutgoingNotification notification = new OutgoingNotification((Long) row[0], (Long) row[1],
+                    (String) row[2], (NotificationType) row[3], (String) row[4], (String) row[5], (Long) row[6]);
+            try {
+                sendPermits.acquire();
+            } catch (InterruptedException e) {
+                // Unsent rows keep their lease and are picked up again after it expires
+                Thread.currentThread().interrupt();
+                break;
+            }
+            results.add(executor.submit(() -> {
+                try {
+                    channel.send(notification);
+                    return null;
+                } catch (Exception e) {
+                    return e;
+                } finally {
+                    sendPermits.release();
+                }
+            }));
+        }
+
+        List<Long> sentIds = new ArrayList<>();
+        LocalDateTime deliveredAt = LocalDateTime.now();
+        for (int i = 0; i < results.size(); i++) {
+            Object[] row = claimed.get(i);
+            Exception failure = await(results.get(i));
+            if (failure == null) {
+                sentIds.add((Long) row[0]);
+                deliveryLatency.record(Duration.between((LocalDateTime) row[8], deliveredAt));
+            } else {
+                retryDelivery((Long) row[0], (Integer) row[7] + 1, failure);
+            }
+        }
+        if (!sentIds.isEmpty()) {
+            inTransaction(() -> notificationRepository.markSent(sentIds, NotificationStatus.SENT, deliveredAt));
+            Counter.builder("notifications.delivery")
+                    .description("Notification delivery attempts")
+                    .tag("channel", channel.getName())
+                    .tag("outcome", "sent")
+                    .register(meterRegistry)
+                    .increment(sentIds.size());
+        }
+    }
+
+    private void retryDelivery(Long notificationId, int attempts, Exception e) {
+        boolean giveUp = attempts >= maxAttempts;
+        LocalDateTime nextAttempt = giveUp ? null : LocalDateTime.now().plus(backoff(attempts));
+        inTransaction(() -> notificationRepository.markAttemptFailed(notificationId,
+                giveUp ? NotificationStatus.FAILED : NotificationStatus.PENDING, nextAttempt));
+        Counter.builder("notifications.delivery")
+                .description("Notification delivery attempts")
+                .tag("channel", channel.getName())
+                .tag("outcome", giveUp ? "failed" : "retry")
+                .register(meterRegistry)
+                .increment();
+        System.err.println("Delivery of notification ID: " + notificationId + " via " + channel.getName()
+                + " failed (attempt " + attempts + (giveUp ? ", giving up" : "") + "): " + e.getMessage());
+    }
+
+    // ==========================================
+    // HELPER METHODS
+    // ==========================================
+
+    /**
+     * Exponential backoff with jitter: half the doubled delay plus a random share of the other half
+     */
+    private Duration backoff(int attempts) {
+        long delay = Math.min(backoffMaxMillis, backoffInitialMillis << Math.min(attempts - 1, 30));
+        return Duration.ofMillis(delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1));
+    }
+
+    /**
+     * Truncated to the column's microseconds, so a claim can find its rows by exact lease value
+     */
+    private LocalDateTime leaseEnd() {
+        return LocalDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(leaseMillis)).truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private Exception await(Future<Exception> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return e;
+        } catch (ExecutionException e) {
+            return e;
+        }
+    }
+
+    private void submit(Runnable task) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            // Shutting down - the outbox and pending notifications are picked up on the next start
+        }
+    }
+
+    private void fanoutOutcome(String outcome) {
+        Counter.builder("notifications.fanout")
+                .description("Notification outbox fan-outs")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return new TransactionTemplate(transactionManager).execute(status -> action.get());
+    }
+}
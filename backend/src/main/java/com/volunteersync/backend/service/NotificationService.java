@@ -0,0 +1,114 @@
+package com.volunteersync.backend.service;
+
+import com.volunteersync.backend.entity.Event;
+import com.volunteersync.backend.entity.Notification;
+import com.volunteersync.backend.entity.NotificationOutbox;
+import com.volunteersync.backend.enums.NotificationType;
+import com.volunteersync.backend.repository.NotificationOutboxRepository;
+import com.volunteersync.backend.repository.NotificationRepository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Follower notifications - publishing writes one outbox record in the caller's transaction
+ * (so a rolled-back event notifies nobody) and NotificationDispatcher fans it out after commit.
+ * Also serves the notification inbox.
+ */
+@Service
+@Transactional
+public class NotificationService {
+
+    private static final DateTimeFormatter START_FORMAT = DateTimeFormatter.ofPattern("MMM d, yyyy 'at' h:mm a");
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private NotificationDispatcher notificationDispatcher;
+
+    // ==========================================
+    // PUBLISHING
+    // ==========================================
+
+    /**
+     * Notify the organization's followers about a newly created event
+     */
+    public void onEventPublished(Event event) {
+        String organizationName = event.getOrganization().getOrganizationName();
+        String title = truncate("New event from " + organizationName + ": " + event.getTitle(), 255);
+
+        StringBuilder message = new StringBuilder(event.getTitle());
+        if (event.getStartDate() != null) {
+            message.append(" on ").append(event.getStartDate().format(START_FORMAT));
+        }
+        if (Boolean.TRUE.equals(event.getIsVirtual())) {
+            message.append(" (virtual)");
+        } else if (event.getLocation() != null && !event.getLocation().isBlank()) {
+            message.append(" at ").append(event.getLocation());
+        }
+
+        NotificationOutbox outbox = outboxRepository.save(new NotificationOutbox(NotificationType.NEW_EVENT,
+                event.getOrganization().getId(), event.getId(), title, truncate(message.toString(), 1000)));
+        System.out.println("Queued follower notifications for event ID: " + event.getId() + " (outbox ID: "
+                + outbox.getId() + ")");
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    notificationDispatcher.requestFanout();
+                }
+            });
+        } else {
+            notificationDispatcher.requestFanout();
+        }
+    }
+
+    // ==========================================
+    // INBOX
+    // ==========================================
+
+    /**
+     * A user's notifications, newest first
+     */
+    @Transactional(readOnly = true)
+    public Page<Notification> getNotifications(Long userId, int page, int size) {
+        return notificationRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, PageRequest.of(page, size));
+    }
+
+    @Transactional(readOnly = true)
+    public long getUnreadCount(Long userId) {
+        return notificationRepository.countByUserIdAndReadAtIsNull(userId);
+    }
+
+    public void markRead(Long notificationId, Long userId) {
+        Notification notification = notificationRepository.findById(notificationId)
+                .filter(n -> n.getUserId().equals(userId))
+                .orElseThrow(() -> new RuntimeException("Notification not found"));
+        notificationRepository.markRead(notification.getId(), userId, LocalDateTime.now());
+    }
+
+    public int markAllRead(Long userId) {
+        return notificationRepository.markAllRead(userId, LocalDateTime.now());
+    }
+
+    // ==========================================
+    // HELPER METHODS
+    // ==========================================
+
+    private String truncate(String value, int maxLength) {
+        return value.length() > maxLength ? value.substring(0, maxLength - 3) + "..." : value;
+    }
+}
@@ -3,26 +3,39 @@ package com.volunteersync.backend.service;
 
 import com.volunteersync.backend.entity.User;
 import com.volunteersync.backend.entity.OrganizationProfile;
+import com.volunteersync.backend.entity.ProfileCompleteness;
 import com.volunteersync.backend.entity.Event;
 import com.volunteersync.backend.entity.Application;
 import com.volunteersync.backend.enums.UserType;
+import com.volunteersync.backend.enums.ImageVariant;
 import com.volunteersync.backend.repository.UserRepository;
 import com.volunteersync.backend.repository.OrganizationProfileRepository;
 import com.volunteersync.backend.repository.EventRepository;
 import com.volunteersync.backend.repository.ApplicationRepository;
 import com.volunteersync.backend.dto.OrganizationProfileDTO;
+import com.volunteersync.backend.dto.BatchResponse;
+import com.volunteersync.backend.dto.IncompleteProfileDTO;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Map;
@@ -39,6 +52,53 @@ import java.util.stream.Collectors;
 @Transactional
 public class OrganizationProfileService {
 
+    @Value("${app.batch.max-ids:100}")
+    private int maxBatchIds;
+
+    // Single-flight names of the verified-organization reads, retired on every profile save
+    private static final String VERIFIED_READ = "organizations.verified";
+    private static final String VERIFIED_PROJECTED_READ = "organizations.verified.projected";
+
+    // DTO fields the projected list can read straight from a column (thumbnail/card URLs are
+    // derived from the image column)
+    private static final Map<String, ProjectedField> PROJECTED_FIELDS = Map.ofEntries(
+            projected("id", "op.id", (dto, value) -> dto.setId((Long) value)),
+            projected("userId", "op.user.id", (dto, value) -> dto.setUserId((Long) value)),
+            projected("organizationName", "op.organizationName", (dto, value) -> dto.setOrganizationName((String) value)),
+            projected("description", "op.description", (dto, value) -> dto.setDescription((String) value)),
+            projected("missionStatement", "op.missionStatement", (dto, value) -> dto.setMissionStatement((String) value)),
+            projected("website", "op.website", (dto, value) -> dto.setWebsite((String) value)),
+            projected("phoneNumber", "op.phoneNumber", (dto, value) -> dto.setPhoneNumber((String) value)),
+            projected("address", "op.address", (dto, value) -> dto.setAddress((String) value)),
+            projected("city", "op.city", (dto, value) -> dto.setCity((String) value)),
+            projected("state", "op.state", (dto, value) -> dto.setState((String) value)),
+            projected("zipCode", "op.zipCode", (dto, value) -> dto.setZipCode((String) value)),
+            projected("country", "op.country", (dto, value) -> dto.setCountry((String) value)),
+            projected("profileImageUrl", "op.profileImageUrl", (dto, value) -> dto.setProfileImageUrl((String) value)),
+            projected("profileImageThumbnailUrl", "op.profileImageUrl", (dto, value) -> dto.setProfileImageThumbnailUrl(
+                    ImageStorageService.variantUrl((String) value, ImageVariant.THUMBNAIL))),
+            projected("coverImageUrl", "op.coverImageUrl", (dto, value) -> dto.setCoverImageUrl((String) value)),
+            projected("coverImageCardUrl", "op.coverImageUrl", (dto, value) -> dto.setCoverImageCardUrl(
+                    ImageStorageService.variantUrl((String) value, ImageVariant.CARD))),
+            projected("isVerified", "op.isVerified", (dto, value) -> dto.setIsVerified((Boolean) value)),
+            projected("verificationLevel", "op.verificationLevel", (dto, value) -> dto.setVerificationLevel((String) value)),
+            projected("totalEventsHosted", "op.totalEventsHosted", (dto, value) -> dto.setTotalEventsHosted((Integer) value)),
+            projected("totalVolunteersServed", "op.numberOfVolunteers", (dto, value) -> dto.setnumberOfVolunteer((Integer) value)),
+            projected("categories", "op.categories", (dto, value) -> dto.setCategories((String) value)),
+            projected("primaryCategory", "op.primaryCategory", (dto, value) -> dto.setPrimaryCategory((String) value)),
+            projected("organizationType", "op.organizationType", (dto, value) -> dto.setOrganizationType((String) value)),
+            projected("organizationSize", "op.organizationSize", (dto, value) -> dto.setOrganizationSize((String) value)),
+            projected("employeeCount", "op.employeeCount", (dto, value) -> dto.setEmployeeCount((Integer) value)),
+            projected("languagesSupported", "op.languagesSupported", (dto, value) -> dto.setLanguagesSupported((String) value)),
+            projected("foundedYear", "op.foundedYear", (dto, value) -> dto.setFoundedYear((Integer) value)),
+            projected("taxExemptStatus", "op.taxExemptStatus", (dto, value) -> dto.setTaxExemptStatus((String) value)),
+            projected("fundingGoal", "op.fundingGoal", (dto, value) -> dto.setFundingGoal((Integer) value)),
+            projected("fundingRaised", "op.fundingRaised", (dto, value) -> dto.setFundingRaised((Integer) value)),
+            // OrganizationProfile.getEin() answers with the tax-exempt status, so the projection does too
+            projected("ein", "op.taxExemptStatus", (dto, value) -> dto.setEin((String) value)),
+            projected("createdAt", "op.createdAt", (dto, value) -> dto.setCreatedAt((LocalDateTime) value)),
+            projected("updatedAt", "op.updatedAt", (dto, value) -> dto.setUpdatedAt((LocalDateTime) value)));
+
     @Autowired
     private OrganizationProfileRepository organizationProfileRepository;
 
@@ -51,6 +111,24 @@ public class OrganizationProfileService {
     @Autowired
     private ApplicationRepository applicationRepository;
 
+    @Autowired
+    private BadgeProgressCache badgeProgressCache;
+
+    @Autowired
+    private PlatformStatisticsService platformStatisticsService;
+
+    @Autowired
+    private SingleFlight singleFlight;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private UpcomingEventIndex upcomingEventIndex;
+
+    @Autowired
+    private SuggestService suggestService;
+
     // ==========================================
     // PROFILE MANAGEMENT METHODS
     // ==========================================
@@ -81,11 +159,13 @@ public class OrganizationProfileService {
 
         OrganizationProfile profile;
         boolean isUpdate = false;
+        List<String> statisticKeysBefore = List.of();
 
         if (existingProfile.isPresent()) {
             // Update existing profile
             profile = existingProfile.get();
             isUpdate = true;
+            statisticKeysBefore = platformStatisticsService.keysFor(profile);
             System.out.println("📝 Updating existing organization profile with ID: " + profile.getId());
 
             // Update all fields - use request values or keep existing if null
@@ -246,6 +326,15 @@ public class OrganizationProfileService {
         }
 
         OrganizationProfile savedProfile = organizationProfileRepository.save(profile);
+        upcomingEventIndex.onOrganizationSaved(savedProfile);
+        singleFlight.invalidateAfterCommit(VERIFIED_READ, VERIFIED_PROJECTED_READ);
+        suggestService.onOrganizationSaved(savedProfile);
+        badgeProgressCache.evict(userId);
+        if (isUpdate) {
+            platformStatisticsService.recordUpdated(statisticKeysBefore, savedProfile);
+        } else {
+            platformStatisticsService.recordCreated(savedProfile);
+        }
 
         System.out.println("💾 Saved organization profile arrays:");
         System.out.println("- Categories: '" + savedProfile.getCategories() + "'");
@@ -287,18 +376,34 @@ public class OrganizationProfileService {
     /**
      * Get organization profile by ID
      */
+    @Transactional(readOnly = true)
     public OrganizationProfileDTO getProfileById(Long profileId) {
         OrganizationProfile profile = organizationProfileRepository.findById(profileId)
                 .orElseThrow(() -> new RuntimeException("Organization profile not found"));
         return convertToDTO(profile);
     }
 
+    /**
+     * Get several organization profiles by ID in one query (batch multi-get);
+     * one item per requested id, in request order
+     */
+    @Transactional(readOnly = true)
+    public BatchResponse<OrganizationProfileDTO> getProfilesByIds(List<Long> ids) {
+        List<OrganizationProfile> found = organizationProfileRepository.findAllWithUserByIdIn(BatchResponse.distinctIds(ids, maxBatchIds));
+        Map<Long, OrganizationProfileDTO> loaded = new HashMap<>();
+        for (OrganizationProfile profile : found) {
+            loaded.put(profile.getId(), convertToDTO(profile));
+        }
+        return BatchResponse.of(ids, loaded);
+    }
+
     /**
      * Update organization profile
      */
     public OrganizationProfileDTO updateProfile(Long userId, UpdateOrganizationProfileRequest request) {
         OrganizationProfile profile = organizationProfileRepository.findByUserId(userId)
                 .orElseThrow(() -> new RuntimeException("Organization profile not found"));
+        List<String> statisticKeysBefore = platformStatisticsService.keysFor(profile);
 
         if (request.getOrganizationName() != null) {
             profile.setOrganizationName(request.getOrganizationName());
@@ -359,6 +464,11 @@ public class OrganizationProfileService {
         }
 
         OrganizationProfile savedProfile = organizationProfileRepository.save(profile);
+        upcomingEventIndex.onOrganizationSaved(savedProfile);
+        singleFlight.invalidateAfterCommit(VERIFIED_READ, VERIFIED_PROJECTED_READ);
+        suggestService.onOrganizationSaved(savedProfile);
+        badgeProgressCache.evict(userId);
+        platformStatisticsService.recordUpdated(statisticKeysBefore, savedProfile);
         return convertToDTO(savedProfile);
     }
 
@@ -395,6 +505,7 @@ public class OrganizationProfileService {
     /**
      * Search organizations by name
      */
+    @Transactional(readOnly = true)
     public List<OrganizationProfileDTO> searchOrganizationsByName(String searchTerm) {
         List<OrganizationProfile> profiles = organizationProfileRepository
                 .findByOrganizationNameContainingIgnoreCase(searchTerm);
@@ -404,6 +515,7 @@ public class OrganizationProfileService {
     /**
      * Search organizations by category
      */
+    @Transactional(readOnly = true)
     public List<OrganizationProfileDTO> searchOrganizationsByCategory(String category) {
         List<OrganizationProfile> profiles = organizationProfileRepository
                 .findByCategoryContaining(category);
@@ -413,6 +525,7 @@ public class OrganizationProfileService {
     /**
      * Search organizations by location
      */
+    @Transactional(readOnly = true)
     public List<OrganizationProfileDTO> searchOrganizationsByLocation(String location) {
         List<OrganizationProfile> profiles = organizationProfileRepository
                 .findByLocationContaining(location);
@@ -422,6 +535,7 @@ public class OrganizationProfileService {
     /**
      * Search organizations by keyword
      */
+    @Transactional(readOnly = true)
     public List<OrganizationProfileDTO> searchOrganizationsByKeyword(String keyword) {
         List<OrganizationProfile> profiles = organizationProfileRepository
                 .findByKeyword(keyword);
@@ -431,6 +545,7 @@ public class OrganizationProfileService {
     /**
      * Advanced search with filters
      */
+    @Transactional(readOnly = true)
     public Page<OrganizationProfileDTO> advancedSearch(OrganizationSearchRequest request, Pageable pageable) {
         Page<OrganizationProfile> profiles = organizationProfileRepository.searchWithFilters(
                 request.getSearchTerm(),
@@ -450,6 +565,7 @@ public class OrganizationProfileService {
     /**
      * Filter organizations with comprehensive criteria
      */
+    @Transactional(readOnly = true)
     public Page<OrganizationProfileDTO> filterOrganizations(OrganizationFilterRequest request, Pageable pageable) {
         LocalDateTime updatedSince = null;
         if (request.getUpdatedWithinDays() != null) {
@@ -480,6 +596,7 @@ public class OrganizationProfileService {
      * @param limit Maximum number of organizations to return (default 50)
      * @return List of recently created organization profiles
      */
+    @Transactional(readOnly = true)
     public List<OrganizationProfileDTO> getRecentlyCreatedOrganizations(int days, int limit) {
         try {
             LocalDateTime cutoffDate = LocalDateTime.now().minusDays(days);
@@ -524,6 +641,7 @@ public class OrganizationProfileService {
      * @param limit Maximum number of organizations to return
      * @return List of recently updated organization profiles
      */
+    @Transactional(readOnly = true)
     public List<OrganizationProfileDTO> getRecentlyUpdatedOrganizations(int days, int limit) {
         try {
             LocalDateTime cutoffDate = LocalDateTime.now().minusDays(days);
@@ -557,6 +675,7 @@ public class OrganizationProfileService {
      * @param organizationName Name to search for
      * @return Organization profile if found, null otherwise
      */
+    @Transactional(readOnly = true)
     public OrganizationProfileDTO findOrganizationByName(String organizationName) {
         try {
             // Try exact match first
@@ -603,6 +722,7 @@ public class OrganizationProfileService {
      *                      stale
      * @return List of fresh organization data
      */
+    @Transactional(readOnly = true)
     public List<OrganizationProfileDTO> refreshOrganizationData(int maxAgeMinutes) {
         try {
             LocalDateTime cutoffTime = LocalDateTime.now().minusMinutes(maxAgeMinutes);
@@ -637,6 +757,7 @@ public class OrganizationProfileService {
     /**
      * Get organizations by category
      */
+    @Transactional(readOnly = true)
     public List<OrganizationProfileDTO> getOrganizationsByCategory(String category) {
         List<OrganizationProfile> profiles = organizationProfileRepository
                 .findByPrimaryCategoryIgnoreCase(category);
@@ -646,6 +767,7 @@ public class OrganizationProfileService {
     /**
      * Get organizations by type
      */
+    @Transactional(readOnly = true)
     public List<OrganizationProfileDTO> getOrganizationsByType(String type) {
         List<OrganizationProfile> profiles = organizationProfileRepository
                 .findByOrganizationTypeIgnoreCase(type);
@@ -655,6 +777,7 @@ public class OrganizationProfileService {
     /**
      * Get non-profit organizations
      */
+    @Transactional(readOnly = true)
     public List<OrganizationProfileDTO> getNonProfitOrganizations() {
         List<OrganizationProfile> profiles = organizationProfileRepository.findNonProfitOrganizations();
         return profiles.stream().map(this::convertToDTO).collect(Collectors.toList());
@@ -663,6 +786,7 @@ public class OrganizationProfileService {
     /**
      * Get organizations by size
      */
+    @Transactional(readOnly = true)
     public List<OrganizationProfileDTO> getOrganizationsBySize(String size) {
         List<OrganizationProfile> profiles = organizationProfileRepository
                 .findByOrganizationSizeIgnoreCase(size);
@@ -674,16 +798,64 @@ public class OrganizationProfileService {
     // ==========================================
 
     /**
-     * Get verified organizations
+     * Get verified organizations (concurrent callers share one query; SUPPORTS so waiting
+     * callers do not hold a connection)
      */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public List<OrganizationProfileDTO> getVerifiedOrganizations() {
-        List<OrganizationProfile> profiles = organizationProfileRepository.findByIsVerifiedTrue();
-        return profiles.stream().map(this::convertToDTO).collect(Collectors.toList());
+        List<OrganizationProfileDTO> shared = singleFlight.execute(VERIFIED_READ, () -> {
+            List<OrganizationProfile> profiles = organizationProfileRepository.findByIsVerifiedTrue();
+            return profiles.stream().map(this::convertToDTO).collect(Collectors.toList());
+        });
+        return copyOf(shared);
+    }
+
+    /**
+     * Get verified organizations with only the requested fields (?fields=). When every field maps to
+     * a column the query selects just those columns into a tuple, so descriptions, mission statements
+     * and the rest are never read; otherwise it falls back to the full DTOs.
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public List<OrganizationProfileDTO> getVerifiedOrganizations(Set<String> fields) {
+        if (fields.isEmpty() || !PROJECTED_FIELDS.keySet().containsAll(fields)) {
+            return getVerifiedOrganizations();
+        }
+        List<String> selected = new ArrayList<>(fields);
+        return copyOf(singleFlight.execute(VERIFIED_PROJECTED_READ,
+                () -> projectVerifiedOrganizations(selected), String.join(",", selected)));
+    }
+
+    /**
+     * Each caller of a coalesced read gets its own DTOs, never the instances other callers hold
+     */
+    private List<OrganizationProfileDTO> copyOf(List<OrganizationProfileDTO> shared) {
+        return shared.stream().map(OrganizationProfileDTO::new).collect(Collectors.toList());
+    }
+
+    private List<OrganizationProfileDTO> projectVerifiedOrganizations(List<String> fields) {
+        String columns = fields.stream()
+                .map(field -> PROJECTED_FIELDS.get(field).path())
+                .collect(Collectors.joining(", "));
+        List<Tuple> rows = entityManager
+                .createQuery("SELECT " + columns + " FROM OrganizationProfile op WHERE op.isVerified = true",
+                        Tuple.class)
+                .getResultList();
+
+        List<OrganizationProfileDTO> organizations = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            OrganizationProfileDTO dto = new OrganizationProfileDTO();
+            for (int i = 0; i < fields.size(); i++) {
+                PROJECTED_FIELDS.get(fields.get(i)).setter().accept(dto, row.get(i));
+            }
+            organizations.add(dto);
+        }
+        return organizations;
     }
 
     /**
      * Get highly verified organizations
      */
+    @Transactional(readOnly = true)
     public List<OrganizationProfileDTO> getHighlyVerifiedOrganizations() {
         List<OrganizationProfile> profiles = organizationProfileRepository.findHighlyVerifiedOrganizations();
         return profiles.stream().map(this::convertToDTO).collect(Collectors.toList());
@@ -696,11 +868,16 @@ public class OrganizationProfileService {
             Boolean isVerified, String adminUserId) {
         OrganizationProfile profile = organizationProfileRepository.findById(profileId)
                 .orElseThrow(() -> new RuntimeException("Organization profile not found"));
+        List<String> statisticKeysBefore = platformStatisticsService.keysFor(profile);
 
         profile.setIsVerified(isVerified);
         profile.setVerificationLevel(verificationLevel);
 
         OrganizationProfile savedProfile = organizationProfileRepository.save(profile);
+        upcomingEventIndex.onOrganizationSaved(savedProfile);
+        singleFlight.invalidateAfterCommit(VERIFIED_READ, VERIFIED_PROJECTED_READ);
+        suggestService.onOrganizationSaved(savedProfile);
+        platformStatisticsService.recordUpdated(statisticKeysBefore, savedProfile);
         return convertToDTO(savedProfile);
     }
 
@@ -711,6 +888,7 @@ public class OrganizationProfileService {
     /**
      * Get organizations by country
      */
+    @Transactional(readOnly = true)
     public List<OrganizationProfileDTO> getOrganizationsByCountry(String country) {
         List<OrganizationProfile> profiles = organizationProfileRepository
                 .findByCountryIgnoreCase(country);
@@ -720,6 +898,7 @@ public class OrganizationProfileService {
     /**
      * Get international organizations
      */
+    @Transactional(readOnly = true)
     public List<OrganizationProfileDTO> getInternationalOrganizations() {
         List<OrganizationProfile> profiles = organizationProfileRepository.findInternationalOrganizations();
         return profiles.stream().map(this::convertToDTO).collect(Collectors.toList());
@@ -728,6 +907,7 @@ public class OrganizationProfileService {
     /**
      * Get organizations by language support
      */
+    @Transactional(readOnly = true)
     public List<OrganizationProfileDTO> getOrganizationsByLanguage(String language) {
         List<OrganizationProfile> profiles = organizationProfileRepository
                 .findByLanguageSupport(language);
@@ -741,24 +921,27 @@ public class OrganizationProfileService {
     /**
      * Get most active organizations
      */
+    @Transactional(readOnly = true)
     public List<OrganizationProfileDTO> getMostActiveOrganizations(int limit) {
-        List<OrganizationProfile> profiles = organizationProfileRepository.findMostActiveOrganizations()
-                .stream().limit(limit).collect(Collectors.toList());
+        List<OrganizationProfile> profiles = organizationProfileRepository
+                .findMostActiveOrganizations(PageRequest.of(0, Math.max(1, limit)));
         return profiles.stream().map(this::convertToDTO).collect(Collectors.toList());
     }
 
     /**
      * Get organizations by volunteer impact
      */
+    @Transactional(readOnly = true)
     public List<OrganizationProfileDTO> getOrganizationsByVolunteerImpact(int limit) {
-        List<OrganizationProfile> profiles = organizationProfileRepository.findByVolunteerImpact()
-                .stream().limit(limit).collect(Collectors.toList());
+        List<OrganizationProfile> profiles = organizationProfileRepository
+                .findByVolunteerImpact(PageRequest.of(0, Math.max(1, limit)));
         return profiles.stream().map(this::convertToDTO).collect(Collectors.toList());
     }
 
     /**
      * Get organizations by activity level
      */
+    @Transactional(readOnly = true)
     public List<OrganizationProfileDTO> getOrganizationsByActivityLevel(String level) {
         List<OrganizationProfile> profiles = organizationProfileRepository
                 .findByActivityLevel(level);
@@ -768,6 +951,7 @@ public class OrganizationProfileService {
     /**
      * Get recently updated organizations
      */
+    @Transactional(readOnly = true)
     public List<OrganizationProfileDTO> getRecentlyUpdatedOrganizations(int days) {
         LocalDateTime since = LocalDateTime.now().minusDays(days);
         List<OrganizationProfile> profiles = organizationProfileRepository.findUpdatedSince(since);
@@ -777,6 +961,7 @@ public class OrganizationProfileService {
     /**
      * Get recently joined organizations
      */
+    @Transactional(readOnly = true)
     public List<OrganizationProfileDTO> getRecentlyJoinedOrganizations(int days) {
         LocalDateTime since = LocalDateTime.now().minusDays(days);
         List<OrganizationProfile> profiles = organizationProfileRepository.findRecentlyJoined(since);
@@ -788,82 +973,90 @@ public class OrganizationProfileService {
     // ==========================================
 
     /**
-     * Get comprehensive organization statistics
+     * Get comprehensive organization statistics (served from the maintained counters)
      */
+    @Transactional(readOnly = true)
     public OrganizationStatsResponse getOrganizationStatistics() {
-        Object[] comprehensiveStats = organizationProfileRepository.getComprehensiveStatistics();
-        Object[] verificationStats = organizationProfileRepository.getVerificationStatistics();
-
         OrganizationStatsResponse response = new OrganizationStatsResponse();
 
-        if (comprehensiveStats.length > 0) {
-            Object[] stats = comprehensiveStats;
-            response.setTotalOrganizations(getLongValue(stats[0]));
-            response.setVerifiedOrganizations(getLongValue(stats[1]));
-            response.setNonProfitOrganizations(getLongValue(stats[2]));
-            response.setSmallOrganizations(getLongValue(stats[3]));
-            response.setMediumOrganizations(getLongValue(stats[4]));
-            response.setLargeOrganizations(getLongValue(stats[5]));
-            response.setEnterpriseOrganizations(getLongValue(stats[6]));
-            response.setInternationalOrganizations(getLongValue(stats[7]));
-        }
-
-        // Get category distribution
-        List<Object[]> categoryStats = organizationProfileRepository.getCategoryStatistics();
-        Map<String, Integer> categoryDistribution = new HashMap<>();
-        for (Object[] stat : categoryStats) {
-            categoryDistribution.put((String) stat[0], ((Long) stat[1]).intValue());
-        }
-        response.setCategoryDistribution(categoryDistribution);
-
-        // Get type distribution
-        List<Object[]> typeStats = organizationProfileRepository.getOrganizationTypeStatistics();
-        Map<String, Integer> typeDistribution = new HashMap<>();
-        for (Object[] stat : typeStats) {
-            typeDistribution.put((String) stat[0], ((Long) stat[1]).intValue());
-        }
-        response.setTypeDistribution(typeDistribution);
-
-        // Get geographic distribution
-        List<Object[]> geoStats = organizationProfileRepository.getGeographicDistribution();
-        Map<String, Integer> geographicDistribution = new HashMap<>();
-        for (Object[] stat : geoStats) {
-            String location = stat[0] + ", " + stat[1];
-            geographicDistribution.put(location, ((Long) stat[2]).intValue());
-        }
-        response.setGeographicDistribution(geographicDistribution);
+        response.setTotalOrganizations(platformStatisticsService.getCount(PlatformStatisticsService.ORGS_TOTAL));
+        response.setVerifiedOrganizations(platformStatisticsService.getCount(PlatformStatisticsService.ORGS_VERIFIED));
+        response.setNonProfitOrganizations(platformStatisticsService.getCount(PlatformStatisticsService.ORGS_NON_PROFIT));
+        response.setSmallOrganizations(organizationSizeCount("Small (1-50)"));
+        response.setMediumOrganizations(organizationSizeCount("Medium (51-200)"));
+        response.setLargeOrganizations(organizationSizeCount("Large (201-1000)"));
+        response.setEnterpriseOrganizations(organizationSizeCount("Enterprise (1000+)"));
+        response.setInternationalOrganizations(
+                platformStatisticsService.getCount(PlatformStatisticsService.ORGS_INTERNATIONAL));
+
+        response.setCategoryDistribution(
+                platformStatisticsService.getDistribution(PlatformStatisticsService.ORGS_BY_CATEGORY));
+        response.setTypeDistribution(
+                platformStatisticsService.getDistribution(PlatformStatisticsService.ORGS_BY_TYPE));
+        response.setGeographicDistribution(
+                platformStatisticsService.getDistribution(PlatformStatisticsService.ORGS_BY_LOCATION));
 
         // Set verification stats
         VerificationStats verificationStatsObj = new VerificationStats();
-        if (verificationStats.length > 0) {
-            Object[] vStats = verificationStats;
-            verificationStatsObj.setTotal(getLongValue(vStats[0]));
-            verificationStatsObj.setVerified(getLongValue(vStats[1]));
-            verificationStatsObj.setPremium(getLongValue(vStats[2]));
-            verificationStatsObj.setStandardVerified(getLongValue(vStats[3]));
-            verificationStatsObj.setBasic(getLongValue(vStats[4]));
-            verificationStatsObj.setUnverified(getLongValue(vStats[5]));
-        }
+        verificationStatsObj.setTotal(response.getTotalOrganizations());
+        verificationStatsObj.setVerified(response.getVerifiedOrganizations());
+        verificationStatsObj.setPremium(verificationLevelCount("Premium"));
+        verificationStatsObj.setStandardVerified(verificationLevelCount("Verified"));
+        verificationStatsObj.setBasic(verificationLevelCount("Basic"));
+        verificationStatsObj.setUnverified(verificationLevelCount("Unverified"));
         response.setVerificationStats(verificationStatsObj);
 
         return response;
     }
 
+    private long organizationSizeCount(String size) {
+        return platformStatisticsService.getCount(PlatformStatisticsService.ORGS_BY_SIZE, size);
+    }
+
+    private long verificationLevelCount(String level) {
+        return platformStatisticsService.getCount(PlatformStatisticsService.ORGS_BY_VERIFICATION, level);
+    }
+
     /**
-     * Get profile completion statistics
+     * Get profile completion statistics (one aggregate over the stored completeness score)
      */
+    @Transactional(readOnly = true)
     public ProfileCompletionStats getProfileCompletionStats() {
-        long totalProfiles = organizationProfileRepository.count();
+        Object[] row = organizationProfileRepository.getCompletenessStats(ProfileCompleteness.COMPLETE_SCORE).get(0);
+        long totalProfiles = ((Number) row[0]).longValue();
+        long completeProfiles = ((Number) row[1]).longValue();
 
         ProfileCompletionStats stats = new ProfileCompletionStats();
         stats.setTotalProfiles(totalProfiles);
-        stats.setCompleteProfiles(0L); // Calculate based on your completion criteria
-        stats.setIncompleteProfiles(totalProfiles);
-        stats.setCompletionRate(0.0); // Calculate based on complete/total
+        stats.setCompleteProfiles(completeProfiles);
+        stats.setIncompleteProfiles(totalProfiles - completeProfiles);
+        stats.setCompletionRate(totalProfiles > 0 ? (completeProfiles * 100.0 / totalProfiles) : 0.0);
+        stats.setAverageScore(row[2] != null ? ((Number) row[2]).doubleValue() : 0.0);
 
         return stats;
     }
 
+    /**
+     * Get organization profiles with a completeness score in [minScore, maxScore] (Admin only)
+     */
+    @Transactional(readOnly = true)
+    public Page<IncompleteProfileDTO> getIncompleteProfiles(int minScore, int maxScore, Pageable pageable) {
+        ProfileCompleteness.checkScoreBand(minScore, maxScore);
+        return organizationProfileRepository.findByCompletenessBand(minScore, maxScore, pageable)
+                .map(profile -> {
+                    IncompleteProfileDTO dto = new IncompleteProfileDTO();
+                    dto.setProfileId(profile.getId());
+                    dto.setUserId(profile.getUser().getId());
+                    dto.setProfileType("ORGANIZATION");
+                    dto.setName(profile.getOrganizationName());
+                    dto.setEmail(profile.getUser().getEmail());
+                    dto.setCompletenessScore(profile.getProfileCompleteness());
+                    dto.setMissingFields(ProfileCompleteness.missingFields(ProfileCompleteness.ORGANIZATION_RULES, profile));
+                    dto.setUpdatedAt(profile.getUpdatedAt());
+                    return dto;
+                });
+    }
+
     /**
      * Get individual organization statistics
      */
@@ -943,6 +1136,8 @@ public class OrganizationProfileService {
         dto.setState(profile.getState());
         dto.setZipCode(profile.getZipCode());
         dto.setProfileImageUrl(profile.getProfileImageUrl());
+        dto.setProfileImageThumbnailUrl(
+                ImageStorageService.variantUrl(profile.getProfileImageUrl(), ImageVariant.THUMBNAIL));
         dto.setIsVerified(profile.getIsVerified());
         dto.setTotalEventsHosted(profile.getTotalEventsHosted());
         dto.setnumberOfVolunteer(profile.getnumberOfVolunteers());
@@ -963,6 +1158,7 @@ public class OrganizationProfileService {
 
         // Set additional DTO fields
         dto.setCoverImageUrl(profile.getCoverImageUrl());
+        dto.setCoverImageCardUrl(ImageStorageService.variantUrl(profile.getCoverImageUrl(), ImageVariant.CARD));
         dto.setServices(profile.getServicesList());
         dto.setCauses(profile.getCausesList());
         dto.setFundingGoal(profile.getFundingGoal());
@@ -979,21 +1175,6 @@ public class OrganizationProfileService {
         return dto;
     }
 
-    /**
-     * Helper method to safely convert Object to Long
-     */
-    private Long getLongValue(Object value) {
-        if (value == null)
-            return 0L;
-        if (value instanceof Long)
-            return (Long) value;
-        if (value instanceof Integer)
-            return ((Integer) value).longValue();
-        if (value instanceof Number)
-            return ((Number) value).longValue();
-        return 0L;
-    }
-
     /**
      * Mock achievements for DTO
      */
@@ -1781,6 +1962,7 @@ public class OrganizationProfileService {
         private Long completeProfiles;
         private Long incompleteProfiles;
         private Double completionRate;
+        private Double averageScore;
 
         // Getters and setters
         public Long getTotalProfiles() {
@@ -1814,6 +1996,14 @@ public class OrganizationProfileService {
         public void setCompletionRate(Double completionRate) {
             this.completionRate = completionRate;
         }
+
+        public Double getAverageScore() {
+            return averageScore;
+        }
+
+        public void setAverageScore(Double averageScore) {
+            this.averageScore = averageScore;
+        }
     }
 
     public static class IndividualOrganizationStats {
@@ -1891,4 +2081,12 @@ public class OrganizationProfileService {
             this.isVerified = isVerified;
         }
     }
-}
\ No newline at end of file
+
+    private record ProjectedField(String path, BiConsumer<OrganizationProfileDTO, Object> setter) {
+    }
+
+    private static Map.Entry<String, ProjectedField> projected(String field, String path,
+            BiConsumer<OrganizationProfileDTO, Object> setter) {
+        return Map.entry(field, new ProjectedField(path, setter));
+    }
+}
@@ -0,0 +1,581 @@
+// backend/src/main/java/com/volunteersync/backend/service/PlatformStatisticsService.java
+package com.volunteersync.backend.service;
+
+import com.volunteersync.backend.entity.Badge;
+import com.volunteersync.backend.entity.Event;
+import com.volunteersync.backend.entity.OrganizationProfile;
+import com.volunteersync.backend.entity.PlatformStatistic;
+import com.volunteersync.backend.entity.User;
+import com.volunteersync.backend.enums.BadgeType;
+import com.volunteersync.backend.enums.EventDuration;
+import com.volunteersync.backend.enums.EventStatus;
+import com.volunteersync.backend.enums.EventType;
+import com.volunteersync.backend.enums.SkillLevel;
+import com.volunteersync.backend.enums.UserType;
+import com.volunteersync.backend.repository.BadgeRepository;
+import com.volunteersync.backend.repository.EventRepository;
+import com.volunteersync.backend.repository.OrganizationProfileRepository;
+import com.volunteersync.backend.repository.PlatformStatisticRepository;
+import com.volunteersync.backend.repository.UserRepository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Platform statistics service - incrementally maintained dashboard counters
+ * Every tracked entity contributes to a set of statistic keys. Services report
+ * creates, updates and deletes inside their own transaction; the deltas are
+ * written to the platform_statistics table in that transaction and applied to
+ * the in-memory snapshot after commit, so dashboard reads never scan tables.
+ * A periodic full recount reconciles both against the source tables.
+ */
+@Service
+@Transactional
+public class PlatformStatisticsService {
+
+    // User counters
+    public static final String USERS_TOTAL = "users.total";
+    public static final String USERS_ACTIVE = "users.active";
+    public static final String USERS_VERIFIED = "users.verified";
+    public static final String USERS_PENDING_VERIFICATION = "users.pending_verification";
+    public static final String USERS_BY_TYPE = "users.type";
+
+    // Organization counters and distributions
+    public static final String ORGS_TOTAL = "organizations.total";
+    public static final String ORGS_VERIFIED = "organizations.verified";
+    public static final String ORGS_NON_PROFIT = "organizations.nonprofit";
+    public static final String ORGS_INTERNATIONAL = "organizations.international";
+    public static final String ORGS_BY_SIZE = "organizations.size";
+    public static final String ORGS_BY_VERIFICATION = "organizations.verification";
+    public static final String ORGS_BY_CATEGORY = "organizations.category";
+    public static final String ORGS_BY_TYPE = "organizations.type";
+    public static final String ORGS_BY_LOCATION = "organizations.geo";
+
+    // Badge counters and distributions
+    public static final String BADGES_TOTAL = "badges.total";
+    public static final String BADGES_BY_TYPE = "badges.type";
+
+    // Event counters and distributions
+    public static final String EVENTS_TOTAL = "events.total";
+    public static final String EVENTS_VIRTUAL = "events.virtual";
+    public static final String EVENTS_RECURRING = "events.recurring";
+    public static final String EVENTS_BY_STATUS = "events.status";
+    public static final String EVENTS_BY_TYPE = "events.type";
+    public static final String EVENTS_BY_SKILL_LEVEL = "events.skill";
+    public static final String EVENTS_BY_DURATION = "events.duration";
+    public static final String EVENTS_BY_TIME_OF_DAY = "events.time";
+
+    @Autowired
+    private PlatformStatisticRepository platformStatisticRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OrganizationProfileRepository organizationProfileRepository;
+
+    @Autowired
+    private BadgeRepository badgeRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    private final TransactionTemplate newTransaction;
+
+    // In-memory snapshot: plain counters and "dimension -> bucket -> count" distributions
+    private final Map<String, Long> counters = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Long>> distributions = new ConcurrentHashMap<>();
+
+    public PlatformStatisticsService(PlatformTransactionManager transactionManager) {
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // ==========================================
+    // READ METHODS (O(1), served from memory)
+    // ==========================================
+
+    /**
+     * Get a plain counter such as users.total
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public long getCount(String counterKey) {
+        return counters.getOrDefault(counterKey, 0L);
+    }
+
+    /**
+     * Get a single distribution bucket, e.g. users.type / VOLUNTEER
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public long getCount(String dimension, String bucket) {
+        Map<String, Long> buckets = distributions.get(dimension);
+        return buckets != null ? buckets.getOrDefault(bucket, 0L) : 0L;
+    }
+
+    /**
+     * Get a whole distribution (non-zero buckets only)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Map<String, Integer> getDistribution(String dimension) {
+        Map<String, Integer> result = new HashMap<>();
+        Map<String, Long> buckets = distributions.get(dimension);
+        if (buckets != null) {
+            buckets.forEach((bucket, count) -> {
+                if (count > 0) {
+                    result.put(bucket, count.intValue());
+                }
+            });
+        }
+        return result;
+    }
+
+    // ==========================================
+    // WRITE METHODS (called inside the caller's transaction)
+    // ==========================================
+
+    /**
+     * Record a newly persisted entity
+     */
+    public void recordCreated(Object entity) {
+        applyDeltas(toDeltas(List.of(), keysFor(entity)));
+    }
+
+    /**
+     * Record an updated entity - beforeKeys must be captured with keysFor()
+     * before the entity was modified
+     */
+    public void recordUpdated(List<String> beforeKeys, Object entity) {
+        applyDeltas(toDeltas(beforeKeys, keysFor(entity)));
+    }
+
+    /**
+     * Record a deleted entity
+     */
+    public void recordDeleted(Object entity) {
+        applyDeltas(toDeltas(keysFor(entity), List.of()));
+    }
+
+    /**
+     * Statistic keys an entity currently contributes to
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<String> keysFor(Object entity) {
+        if (entity instanceof User user) {
+            return userKeys(user);
+        } else if (entity instanceof OrganizationProfile profile) {
+            return organizationKeys(profile);
+        } else if (entity instanceof Badge badge) {
+            return badgeKeys(badge);
+        } else if (entity instanceof Event event) {
+            return eventKeys(event);
+        }
+        return List.of();
+    }
+
+    // ==========================================
+    // RECONCILIATION
+    // ==========================================
+
+    /**
+     * Initial recount once the application (and any seed data) is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void initializeStatistics() {
+        reconcile();
+    }
+
+    /**
+     * Periodic full recount - corrects any drift in the materialized table and
+     * the in-memory snapshot (missed hooks, other instances)
+     */
+    @Scheduled(fixedDelayString = "${app.statistics.reconcile-interval-ms:3600000}",
+            initialDelayString = "${app.statistics.reconcile-interval-ms:3600000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void reconcile() {
+        System.out.println("Reconciling platform statistics with a full recount");
+        long started = System.currentTimeMillis();
+
+        int keys = reconcileSource("users.", userRepository::countStatisticGroups, row -> userKeys(userGroup(row)))
+                + reconcileSource("organizations.", organizationProfileRepository::countStatisticGroups,
+                        row -> organizationKeys(organizationGroup(row)))
+                + reconcileSource("badges.", badgeRepository::countStatisticGroups, row -> badgeKeys(badgeGroup(row)))
+                + reconcileSource("events.", eventRepository::countStatisticGroups, row -> eventKeys(eventGroup(row)));
+
+        System.out.println("Platform statistics reconciled: " + keys + " keys in "
+                + (System.currentTimeMillis() - started) + "ms");
+    }
+
+    /**
+     * Recount one source table over its counters (keys starting with keyPrefix) without holding locks.
+     * The counter rows are read first, the table is then counted with one GROUP BY query, and keys
+     * with no row yet are created at zero. A short transaction then locks the rows and overwrites
+     * those still as they were read: a writer that committed in between changed its rows, and they
+     * are left for the next run; one that commits later waits and adds its delta on top.
+     */
+    private int reconcileSource(String keyPrefix, Supplier<List<Object[]>> groupCounts,
+            Function<Object[], List<String>> groupKeys) {
+        Map<String, Observed> observed = new HashMap<>();
+        newTransaction.execute(status -> {
+            for (PlatformStatistic statistic : platformStatisticRepository.findKeyRange(keyPrefix,
+                    keyRangeEnd(keyPrefix))) {
+                observed.put(statistic.getStatKey(), Observed.of(statistic));
+            }
+            return null;
+        });
+
+        Map<String, Long> recount = new HashMap<>();
+        newTransaction.execute(status -> {
+            for (Object[] row : groupCounts.get()) {
+                long count = (Long) row[row.length - 1];
+                for (String key : groupKeys.apply(row)) {
+                    recount.merge(key, count, Long::sum);
+                }
+            }
+            return null;
+        });
+
+        // Every key the overwrite writes must have a row to lock; one a writer created first is left to the next run
+        for (String key : recount.keySet()) {
+            if (!observed.containsKey(key)) {
+                LocalDateTime created = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+                if (createRowIfMissing(key, 0L, created)) {
+                    observed.put(key, new Observed(0L, created));
+                }
+            }
+        }
+
+        Map<String, Long> reconciled = newTransaction.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            Map<String, Long> values = new HashMap<>();
+            for (PlatformStatistic statistic : platformStatisticRepository.lockKeyRange(keyPrefix,
+                    keyRangeEnd(keyPrefix))) {
+                String key = statistic.getStatKey();
+                if (!Observed.of(statistic).equals(observed.get(key))) {
+                    continue;
+                }
+                // Zero for keys that no longer occur
+                long recounted = recount.getOrDefault(key, 0L);
+                if (statistic.getStatValue() == null || statistic.getStatValue() != recounted) {
+                    platformStatisticRepository.setStatistic(key, recounted, now);
+                }
+                values.put(key, recounted);
+            }
+            afterCommit(() -> values.forEach(this::setInSnapshot));
+            return values;
+        });
+
+        int changed = observed.size() - reconciled.size();
+        if (changed > 0) {
+            System.out.println("Platform statistics: " + changed + " " + keyPrefix + "* keys changed during the "
+                    + "recount, left for the next reconciliation");
+        }
+        return reconciled.size();
+    }
+
+    /**
+     * Exclusive upper bound of the keys starting with prefix ("users." -> "users/")
+     */
+    private static String keyRangeEnd(String prefix) {
+        return prefix.substring(0, prefix.length() - 1) + (char) (prefix.charAt(prefix.length() - 1) + 1);
+    }
+
+    // ==========================================
+    // KEY FUNCTIONS
+    // ==========================================
+
+    private List<String> userKeys(User user) {
+        List<String> keys = new ArrayList<>();
+        keys.add(USERS_TOTAL);
+        if (Boolean.TRUE.equals(user.getIsActive())) {
+            keys.add(USERS_ACTIVE);
+        }
+        if (Boolean.TRUE.equals(user.getEmailVerified())) {
+            keys.add(USERS_VERIFIED);
+        } else if (Boolean.FALSE.equals(user.getEmailVerified()) && Boolean.TRUE.equals(user.getIsActive())) {
+            keys.add(USERS_PENDING_VERIFICATION);
+        }
+        if (user.getUserType() != null) {
+            keys.add(bucket(USERS_BY_TYPE, user.getUserType().name()));
+        }
+        return keys;
+    }
+
+    private List<String> organizationKeys(OrganizationProfile profile) {
+        List<String> keys = new ArrayList<>();
+        keys.add(ORGS_TOTAL);
+        if (Boolean.TRUE.equals(profile.getIsVerified())) {
+            keys.add(ORGS_VERIFIED);
+        }
+
+        String type = profile.getOrganizationType();
+        if (type != null) {
+            if (type.contains("non-profit") || type.contains("nonprofit")) {
+                keys.add(ORGS_NON_PROFIT);
+            }
+            keys.add(bucket(ORGS_BY_TYPE, type));
+        }
+
+        if (profile.getLanguagesSupported() != null && profile.getLanguagesSupported().contains(",")) {
+            keys.add(ORGS_INTERNATIONAL);
+        }
+
+        String size = organizationSize(profile);
+        if (size != null) {
+            keys.add(bucket(ORGS_BY_SIZE, size));
+        }
+
+        String verificationLevel = profile.getVerificationLevel();
+        keys.add(bucket(ORGS_BY_VERIFICATION, verificationLevel != null ? verificationLevel : "Unverified"));
+
+        if (profile.getPrimaryCategory() != null) {
+            keys.add(bucket(ORGS_BY_CATEGORY, profile.getPrimaryCategory()));
+        }
+        if (profile.getState() != null && profile.getCountry() != null) {
+            keys.add(bucket(ORGS_BY_LOCATION, profile.getState() + ", " + profile.getCountry()));
+        }
+        return keys;
+    }
+
+    private List<String> badgeKeys(Badge badge) {
+        List<String> keys = new ArrayList<>();
+        keys.add(BADGES_TOTAL);
+        if (badge.getBadgeType() != null) {
+            keys.add(bucket(BADGES_BY_TYPE, badge.getBadgeType().name()));
+        }
+        return keys;
+    }
+
+    private List<String> eventKeys(Event event) {
+        List<String> keys = new ArrayList<>();
+        keys.add(EVENTS_TOTAL);
+        if (Boolean.TRUE.equals(event.getIsVirtual())) {
+            keys.add(EVENTS_VIRTUAL);
+        }
+        if (Boolean.TRUE.equals(event.getIsRecurring())) {
+            keys.add(EVENTS_RECURRING);
+        }
+        if (event.getStatus() != null) {
+            keys.add(bucket(EVENTS_BY_STATUS, event.getStatus().name()));
+        }
+        if (event.getEventType() != null) {
+            keys.add(bucket(EVENTS_BY_TYPE, event.getEventType().name()));
+        }
+        if (event.getSkillLevelRequired() != null) {
+            keys.add(bucket(EVENTS_BY_SKILL_LEVEL, event.getSkillLevelRequired().name()));
+        }
+        if (event.getDurationCategory() != null) {
+            keys.add(bucket(EVENTS_BY_DURATION, event.getDurationCategory().name()));
+        }
+        String timeOfDay = timeOfDay(event);
+        if (timeOfDay != null) {
+            keys.add(bucket(EVENTS_BY_TIME_OF_DAY, timeOfDay));
+        }
+        return keys;
+    }
+
+    /**
+     * Organization size as the entity will store it - derived from employee
+     * count in its lifecycle callbacks, which may not have run yet on update
+     */
+    private String organizationSize(OrganizationProfile profile) {
+        Integer employeeCount = profile.getEmployeeCount();
+        if (employeeCount == null) {
+            return profile.getOrganizationSize();
+        }
+        if (employeeCount <= 50) {
+            return "Small (1-50)";
+        } else if (employeeCount <= 200) {
+            return "Medium (51-200)";
+        } else if (employeeCount <= 1000) {
+            return "Large (201-1000)";
+        }
+        return "Enterprise (1000+)";
+    }
+
+    /**
+     * Event time of day as derived from the start date (see Event#updateTimeOfDay)
+     */
+    private String timeOfDay(Event event) {
+        if (event.getStartDate() == null) {
+            return event.getTimeOfDay();
+        }
+        int hour = event.getStartDate().getHour();
+        if (hour >= 6 && hour < 12) {
+            return "MORNING";
+        } else if (hour >= 12 && hour < 18) {
+            return "AFTERNOON";
+        }
+        return "EVENING";
+    }
+
+    private static String bucket(String dimension, String value) {
+        return dimension + ":" + value;
+    }
+
+    // Stand-in entities carrying one group's fields (see the repositories' countStatisticGroups), so the
+    // recount derives keys with the same functions as the write hooks
+
+    private static User userGroup(Object[] row) {
+        User user = new User();
+        user.setIsActive((Boolean) row[0]);
+        user.setEmailVerified((Boolean) row[1]);
+        user.setUserType((UserType) row[2]);
+        return user;
+    }
+
+    private static OrganizationProfile organizationGroup(Object[] row) {
+        OrganizationProfile profile = new OrganizationProfile();
+        profile.setIsVerified((Boolean) row[0]);
+        profile.setOrganizationType((String) row[1]);
+        profile.setLanguagesSupported(Boolean.TRUE.equals(row[2]) ? "," : null);
+        profile.setOrganizationSize((String) row[4]);
+        profile.setEmployeeCount((Integer) row[3]);
+        profile.setVerificationLevel((String) row[5]);
+        profile.setPrimaryCategory((String) row[6]);
+        profile.setState((String) row[7]);
+        profile.setCountry((String) row[8]);
+        return profile;
+    }
+
+    private static Badge badgeGroup(Object[] row) {
+        Badge badge = new Badge();
+        badge.setBadgeType((BadgeType) row[0]);
+        return badge;
+    }
+
+    private static Event eventGroup(Object[] row) {
+        Event event = new Event();
+        event.setIsVirtual((Boolean) row[0]);
+        event.setIsRecurring((Boolean) row[1]);
+        event.setStatus((EventStatus) row[2]);
+        event.setEventType((EventType) row[3]);
+        event.setSkillLevelRequired((SkillLevel) row[4]);
+        event.setDurationCategory((EventDuration) row[5]);
+        if (row[6] != null) {
+            event.setStartDate(LocalDate.of(2000, 1, 1).atTime(((Number) row[6]).intValue(), 0));
+        }
+        event.setTimeOfDay((String) row[7]);
+        return event;
+    }
+
+    // ==========================================
+    // PRIVATE HELPER METHODS
+    // ==========================================
+
+    private Map<String, Long> toDeltas(List<String> beforeKeys, List<String> afterKeys) {
+        Map<String, Long> deltas = new HashMap<>();
+        for (String key : beforeKeys) {
+            deltas.merge(key, -1L, Long::sum);
+        }
+        for (String key : afterKeys) {
+            deltas.merge(key, 1L, Long::sum);
+        }
+        deltas.values().removeIf(delta -> delta == 0L);
+        return deltas;
+    }
+
+    private void applyDeltas(Map<String, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        // Rows are locked in key order, the order the reconciliation locks them in, so the two cannot deadlock
+        LocalDateTime now = LocalDateTime.now();
+        for (Map.Entry<String, Long> delta : new TreeMap<>(deltas).entrySet()) {
+            if (platformStatisticRepository.incrementStatistic(delta.getKey(), delta.getValue(), now) == 0) {
+                createRowIfMissing(delta.getKey(), 0L, now);
+                platformStatisticRepository.incrementStatistic(delta.getKey(), delta.getValue(), now);
+            }
+        }
+
+        afterCommit(() -> deltas.forEach(this::applyToSnapshot));
+    }
+
+    /**
+     * Create a row in its own transaction so two writers racing on a new
+     * key cannot fail the business transaction with a duplicate key
+     * Returns false when the row already existed
+     */
+    private boolean createRowIfMissing(String key, long value, LocalDateTime now) {
+        try {
+            return Boolean.TRUE.equals(newTransaction.execute(status -> {
+                if (platformStatisticRepository.existsById(key)) {
+                    return false;
+                }
+                PlatformStatistic statistic = new PlatformStatistic(key, value);
+                statistic.setUpdatedAt(now);
+                platformStatisticRepository.saveAndFlush(statistic);
+                return true;
+            }));
+        } catch (DataIntegrityViolationException e) {
+            // Created concurrently by another transaction - fine, it exists now
+            return false;
+        }
+    }
+
+    private void applyToSnapshot(String key, long delta) {
+        int separator = key.indexOf(':');
+        if (separator < 0) {
+            counters.merge(key, delta, Long::sum);
+        } else {
+            distributions.computeIfAbsent(key.substring(0, separator), dimension -> new ConcurrentHashMap<>())
+                    .merge(key.substring(separator + 1), delta, Long::sum);
+        }
+    }
+
+    private void setInSnapshot(String key, long value) {
+        int separator = key.indexOf(':');
+        if (separator < 0) {
+            counters.put(key, value);
+        } else {
+            distributions.computeIfAbsent(key.substring(0, separator), dimension -> new ConcurrentHashMap<>())
+                    .put(key.substring(separator + 1), value);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * A counter row as the reconciliation read it; updatedAt tells apart a row that moved and came back
+     */
+    private record Observed(Long value, LocalDateTime updatedAt) {
+        static Observed of(PlatformStatistic statistic) {
+            return new Observed(statistic.getStatValue(), statistic.getUpdatedAt());
+        }
+    }
+}
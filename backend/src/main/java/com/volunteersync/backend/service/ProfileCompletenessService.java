@@ -0,0 +1,101 @@
+package com.volunteersync.backend.service;
+
+import com.volunteersync.backend.entity.OrganizationProfile;
+import com.volunteersync.backend.entity.ProfileCompleteness;
+import com.volunteersync.backend.entity.VolunteerProfile;
+import com.volunteersync.backend.repository.OrganizationProfileRepository;
+import com.volunteersync.backend.repository.VolunteerProfileRepository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Keeps stored profile completeness scores in line with the current ProfileCompleteness rules.
+ * The entities rescore themselves on every write; this startup pass covers rows written before
+ * the column existed or scored under older weights. Changed scores are written with one UPDATE
+ * per distinct score and batch, without touching updatedAt.
+ */
+@Service
+public class ProfileCompletenessService {
+
+    @Autowired
+    private VolunteerProfileRepository volunteerProfileRepository;
+
+    @Autowired
+    private OrganizationProfileRepository organizationProfileRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.profile-completeness.batch-size:500}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rescoreAll();
+    }
+
+    /**
+     * Rescore every volunteer and organization profile
+     */
+    public void rescoreAll() {
+        long started = System.currentTimeMillis();
+        int volunteers = rescore(volunteerProfileRepository::findAll, VolunteerProfile::getId,
+                VolunteerProfile::getProfileCompleteness,
+                profile -> ProfileCompleteness.score(ProfileCompleteness.VOLUNTEER_RULES, profile),
+                volunteerProfileRepository::setProfileCompleteness);
+        int organizations = rescore(organizationProfileRepository::findAll, OrganizationProfile::getId,
+                OrganizationProfile::getProfileCompleteness,
+                profile -> ProfileCompleteness.score(ProfileCompleteness.ORGANIZATION_RULES, profile),
+                organizationProfileRepository::setProfileCompleteness);
+        System.out.println("Profile completeness rescored (" + volunteers + " volunteer, " + organizations
+                + " organization profiles changed) in " + (System.currentTimeMillis() - started) + "ms");
+    }
+
+    private <T> int rescore(Function<Pageable, Page<T>> findPage, Function<T, Long> id,
+            Function<T, Integer> storedScore, Function<T, Integer> currentScore,
+            BiFunction<List<Long>, Integer, Integer> store) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        int changed = 0;
+        Pageable pageable = PageRequest.of(0, batchSize, Sort.by("id"));
+        while (pageable != null) {
+            Pageable current = pageable;
+            Batch batch = template.execute(status -> {
+                Page<T> page = findPage.apply(current);
+                Map<Integer, List<Long>> idsByScore = new HashMap<>();
+                int batchChanged = 0;
+                for (T profile : page) {
+                    Integer score = currentScore.apply(profile);
+                    if (!score.equals(storedScore.apply(profile))) {
+                        idsByScore.computeIfAbsent(score, key -> new ArrayList<>()).add(id.apply(profile));
+                        batchChanged++;
+                    }
+                }
+                idsByScore.forEach((score, ids) -> store.apply(ids, score));
+                return new Batch(batchChanged, page.hasNext() ? page.nextPageable() : null);
+            });
+            changed += batch.changed();
+            pageable = batch.next();
+        }
+        return changed;
+    }
+
+    private record Batch(int changed, Pageable next) {
+    }
+}
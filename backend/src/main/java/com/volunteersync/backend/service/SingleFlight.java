@@ -0,0 +1,199 @@
+package com.volunteersync.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight request coalescing for read methods.
+ * Concurrent callers with the same name and normalized arguments wait for one in-flight
+ * load and share its result; a finished result is reused for linger-ms (off by default).
+ * Write paths call invalidateAfterCommit(name): from their commit on, loads started before
+ * it are neither joined nor reused, so a read that starts after a write never sees them.
+ * Independent of any cache: put it behind one (coalescing misses) or use it on its own.
+ *
+ * Callers share the returned object, so hand out copies of mutable results.
+ * The loader runs on the first caller's thread, inside that caller's transaction; callers
+ * should not hold a connection while waiting (see Propagation.SUPPORTS on the coalesced reads).
+ */
+@Component
+public class SingleFlight {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.single-flight.linger-ms:0}")
+    private long lingerMillis;
+
+    @Value("${app.single-flight.max-wait-ms:10000}")
+    private long maxWaitMillis;
+
+    private final Map<String, Flight> flights = new ConcurrentHashMap<>();
+
+    // Committed writes per read name - a flight remembers the value it started under
+    private final Map<String, AtomicLong> writeGenerations = new ConcurrentHashMap<>();
+
+    /**
+     * Run loader once for all concurrent callers with the same name and arguments
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String name, Supplier<T> loader, Object... args) {
+        String key = key(name, args);
+
+        while (true) {
+            long generation = generation(name);
+            Flight existing = flights.get(key);
+            if (existing != null) {
+                if (existing.generation == generation) {
+                    if (!existing.future.isDone()) {
+                        record(name, "shared");
+                        return (T) await(existing, loader);
+                    }
+                    if (!existing.future.isCompletedExceptionally()
+                            && System.nanoTime() - existing.completedAt <= TimeUnit.MILLISECONDS.toNanos(lingerMillis)) {
+                        record(name, "lingered");
+                        return (T) existing.future.join();
+                    }
+                }
+                // Expired, failed or started before a write committed - load again
+                flights.remove(key, existing);
+                continue;
+            }
+
+            Flight flight = new Flight(generation);
+            if (flights.putIfAbsent(key, flight) != null) {
+                continue;
+            }
+
+            record(name, "executed");
+            try {
+                T result = loader.get();
+                flight.completedAt = System.nanoTime();
+                if (lingerMillis <= 0) {
+                    flights.remove(key, flight);
+                } else {
+                    CompletableFuture.delayedExecutor(lingerMillis, TimeUnit.MILLISECONDS)
+                            .execute(() -> flights.remove(key, flight));
+                }
+                flight.future.complete(result);
+                return result;
+            } catch (RuntimeException | Error e) {
+                flights.remove(key, flight);
+                flight.future.completeExceptionally(e);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Stop sharing loads of the named reads once the current transaction commits (at once
+     * outside a transaction) - call from every write path that changes what they return
+     */
+    public void invalidateAfterCommit(String... names) {
+        Runnable invalidate = () -> {
+            for (String name : names) {
+                writeGenerations.computeIfAbsent(name, ignored -> new AtomicLong()).incrementAndGet();
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate.run();
+                }
+            });
+        } else {
+            invalidate.run();
+        }
+    }
+
+    public int getInFlightCount() {
+        return flights.size();
+    }
+
+    // ==========================================
+    // HELPER METHODS
+    // ==========================================
+
+    /**
+     * Wait for the leader; if it takes longer than max-wait-ms, load independently
+     */
+    private Object await(Flight flight, Supplier<?> loader) {
+        try {
+            return flight.future.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            System.out.println("Single-flight wait timed out, loading independently");
+            return loader.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a shared result");
+        } catch (ExecutionException | CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+
+    private long generation(String name) {
+        AtomicLong generation = writeGenerations.get(name);
+        return generation != null ? generation.get() : 0L;
+    }
+
+    /**
+     * Key from name plus arguments normalized the way lookups treat them (trimmed, case-insensitive)
+     */
+    private String key(String name, Object... args) {
+        StringJoiner joiner = new StringJoiner("|", name + "(", ")");
+        for (Object arg : args) {
+            if (arg == null) {
+                joiner.add("");
+            } else if (arg instanceof String text) {
+                joiner.add(text.trim().toLowerCase(Locale.ROOT));
+            } else {
+                joiner.add(String.valueOf(arg));
+            }
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * Tagged by read name only - arguments come from requests, so a per-key tag would be unbounded
+     */
+    private void record(String name, String outcome) {
+        Counter.builder("singleflight.calls")
+                .description("Coalesced read calls by outcome")
+                .tag("name", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static class Flight {
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+        private final long generation;
+        private volatile long completedAt;
+
+        Flight(long generation) {
+            this.generation = generation;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.volunteersync.backend.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Sends notifications as plain-text mail through a local SMTP relay (no TLS or auth -
+ * e.g. a host MTA or MailHog), one connection per message. Non-ASCII subjects are sent as
+ * RFC 2047 encoded-words.
+ */
+@Component
+@ConditionalOnProperty(name = "app.notifications.channel", havingValue = "smtp")
+public class SmtpNotificationChannel implements NotificationChannel {
+
+    // UTF-8 bytes per encoded-word: 52 base64 characters, so "Subject: " plus the first word
+    // stays within the 76-character line limit RFC 2047 sets for lines with encoded-words
+    private static final int ENCODED_WORD_BYTES = 39;
+
+    private final String host;
+    private final int port;
+    private final String from;
+    private final int timeoutMillis;
+
+    public SmtpNotificationChannel(@Value("${app.notifications.smtp.host:localhost}") String host,
+            @Value("${app.notifications.smtp.port:25}") int port,
+            @Value("${app.notifications.smtp.from:no-reply@volunteersync.local}") String from,
+            @Value("${app.notifications.smtp.timeout-ms:10000}") int timeoutMillis) {
+        this.host = host;
+        this.port = port;
+        this.from = from;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public String getName() {
+        return "smtp";
+    }
+
+    @Override
+    public void send(OutgoingNotification notification) throws IOException {
+        if (notification.email() == null || notification.email().isBlank()) {
+            throw new IOException("No email address for user ID: " + notification.userId());
+        }
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(host, port), timeoutMillis);
+            socket.setSoTimeout(timeoutMillis);
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+
+            expect(in, 220);
+            command(out, in, "HELO volunteersync", 250);
+            command(out, in, "MAIL FROM:<" + from + ">", 250);
+            command(out, in, "RCPT TO:<" + headerValue(notification.email()) + ">", 250);
+            command(out, in, "DATA", 354);
+            StringBuilder data = new StringBuilder()
+                    .append("From: ").append(from).append("\r\n")
+                    .append("To: ").append(headerValue(notification.email())).append("\r\n")
+                    .append("Subject: ").append(encodeHeader(notification.title())).append("\r\n")
+                    .append("Content-Type: text/plain; charset=UTF-8\r\n\r\n");
+            String body = notification.message() != null ? notification.message() : notification.title();
+            for (String line : body.split("\r?\n", -1)) {
+                // Dot-stuffing, so a line with a single "." does not end the message
+                data.append(line.startsWith(".") ? "." + line : line).append("\r\n");
+            }
+            data.append(".");
+            command(out, in, data.toString(), 250);
+            command(out, in, "QUIT", 221);
+        }
+    }
+
+    private void command(Writer out, BufferedReader in, String line, int expectedCode) throws IOException {
+        out.write(line);
+        out.write("\r\n");
+        out.flush();
+        expect(in, expectedCode);
+    }
+
+    private void expect(BufferedReader in, int expectedCode) throws IOException {
+        String line;
+        do {
+            line = in.readLine();
+            if (line == null) {
+                throw new IOException("SMTP server closed the connection");
+            }
+            // Multi-line replies continue with "250-..." and end with "250 ..."
+        } while (line.length() > 3 && line.charAt(3) == '-');
+        if (!line.startsWith(String.valueOf(expectedCode))) {
+            throw new IOException("Unexpected SMTP reply: " + line);
+        }
+    }
+
+    /**
+     * Header text as it is if it is printable ASCII, otherwise as "=?UTF-8?B?...?=" encoded-words
+     * on folded lines, each word cut between characters so no UTF-8 sequence is split
+     */
+    static String encodeHeader(String value) {
+        String text = headerValue(value);
+        if (text.chars().allMatch(c -> c >= 0x20 && c < 0x7f)) {
+            return text;
+        }
+        StringBuilder encoded = new StringBuilder();
+        int start = 0;
+        while (start < text.length()) {
+            int end = start;
+            int bytes = 0;
+            while (end < text.length()) {
+                int codePoint = text.codePointAt(end);
+                int length = new String(Character.toChars(codePoint)).getBytes(StandardCharsets.UTF_8).length;
+                if (bytes + length > ENCODED_WORD_BYTES) {
+                    break;
+                }
+                bytes += length;
+                end += Character.charCount(codePoint);
+            }
+            if (encoded.length() > 0) {
+                encoded.append("\r\n ");
+            }
+            encoded.append("=?UTF-8?B?")
+                    .append(Base64.getEncoder().encodeToString(text.substring(start, end).getBytes(StandardCharsets.UTF_8)))
+                    .append("?=");
+            start = end;
+        }
+        return encoded.toString();
+    }
+
+    private static String headerValue(String value) {
+        return value.replaceAll("[\r\n]+", " ");
+    }
+}
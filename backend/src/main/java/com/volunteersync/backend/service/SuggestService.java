@@ -0,0 +1,367 @@
+package com.volunteersync.backend.service;
+
+import com.volunteersync.backend.entity.Event;
+import com.volunteersync.backend.entity.OrganizationProfile;
+import com.volunteersync.backend.entity.VolunteerProfile;
+import com.volunteersync.backend.enums.EventStatus;
+import com.volunteersync.backend.repository.ApplicationRepository;
+import com.volunteersync.backend.repository.EventRepository;
+import com.volunteersync.backend.repository.OrganizationProfileRepository;
+import com.volunteersync.backend.repository.VolunteerProfileRepository;
+import com.volunteersync.backend.service.SuggestTrie.Suggestion;
+
+import jakarta.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Typeahead suggestions for organization names, event titles, cities and skills.
+ * One SuggestTrie per type, weighted by popularity: followers for organizations,
+ * applications for events, organizations + upcoming events for cities and volunteers
+ * listing the skill for skills.
+ *
+ * Built once the application is ready and rebuilt periodically; organization/event saves,
+ * follows and new applications are applied after commit in between. Cities and skills are
+ * only added incrementally - their counts are corrected by the next rebuild.
+ *
+ * Reads always use the current tries (empty until the first build); a rebuild swaps in the
+ * new ones when it is done.
+ */
+@Service
+public class SuggestService {
+
+    @Autowired
+    private OrganizationProfileRepository organizationProfileRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private VolunteerProfileRepository volunteerProfileRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.suggest.top-k:10}")
+    private int topK;
+
+    private volatile Map<SuggestType, SuggestTrie> tries;
+
+    private volatile boolean ready = false;
+
+    // Guards applying hooks, the replay list and the swap; never held while building
+    private final Object writeLock = new Object();
+
+    // Hook actions applied while a rebuild runs; replayed onto the new tries before the swap
+    private List<Consumer<Map<SuggestType, SuggestTrie>>> replay;
+
+    public enum SuggestType {
+        ORGANIZATION("org"),
+        EVENT("event"),
+        CITY("city"),
+        SKILL("skill");
+
+        private final String keyPrefix;
+
+        SuggestType(String keyPrefix) {
+            this.keyPrefix = keyPrefix;
+        }
+
+        /**
+         * Accepts singular/plural names and the short forms ("org", "orgs")
+         */
+        public static SuggestType fromParam(String value) {
+            String normalized = value.trim().toLowerCase(Locale.ROOT);
+            return switch (normalized) {
+                case "organization", "organizations", "org", "orgs" -> ORGANIZATION;
+                case "event", "events" -> EVENT;
+                case "city", "cities" -> CITY;
+                case "skill", "skills" -> SKILL;
+                default -> throw new RuntimeException("Invalid suggestion type: " + value
+                        + ". Valid types: organization, event, city, skill");
+            };
+        }
+    }
+
+    // ==========================================
+    // QUERIES
+    // ==========================================
+
+    /**
+     * Top suggestions of one type for the prefix, most popular first
+     */
+    public List<Suggestion> suggest(SuggestType type, String prefix, int limit) {
+        return tries.get(type).complete(prefix, Math.min(limit, topK));
+    }
+
+    /**
+     * Top suggestions of every type for the prefix
+     */
+    public Map<SuggestType, List<Suggestion>> suggestAll(String prefix, int limit) {
+        Map<SuggestType, List<Suggestion>> results = new LinkedHashMap<>();
+        for (SuggestType type : SuggestType.values()) {
+            results.put(type, suggest(type, prefix, limit));
+        }
+        return results;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int getTopK() {
+        return topK;
+    }
+
+    // ==========================================
+    // LOADING
+    // ==========================================
+
+    @PostConstruct
+    void initEmptyTries() {
+        tries = build(List.of(), List.of(), List.of(), List.of());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Periodic full rebuild, correcting aggregate counts and writes that bypass the hooks
+     * (and retrying a startup build that failed)
+     */
+    @Scheduled(initialDelayString = "${app.suggest.rebuild-interval-ms:600000}",
+            fixedDelayString = "${app.suggest.rebuild-interval-ms:600000}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * Build new tries while reads keep using the current ones. Writes that commit during the
+     * build may be missing from it, so the hooks applied meanwhile are replayed onto the new
+     * tries before the swap - one pass, no retry. A replayed weight change the build already
+     * counted is off by one until the next rebuild.
+     */
+    synchronized void rebuild() {
+        long started = System.currentTimeMillis();
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+
+        synchronized (writeLock) {
+            replay = new ArrayList<>();
+        }
+        try {
+            Map<SuggestType, SuggestTrie> built = template.execute(status -> build(
+                    volunteerProfileRepository.findAll(), organizationProfileRepository.findAll(),
+                    applicationRepository.countApplicationsByEvent(),
+                    eventRepository.findUpcomingActiveEvents(LocalDateTime.now())));
+            synchronized (writeLock) {
+                replay.forEach(action -> action.accept(built));
+                tries = built;
+                ready = true;
+            }
+        } finally {
+            synchronized (writeLock) {
+                replay = null;
+            }
+        }
+        System.out.println("Suggestion tries built (" + tries.get(SuggestType.ORGANIZATION).size() + " organizations, "
+                + tries.get(SuggestType.EVENT).size() + " events, "
+                + tries.get(SuggestType.CITY).size() + " cities, "
+                + tries.get(SuggestType.SKILL).size() + " skills) in "
+                + (System.currentTimeMillis() - started) + "ms");
+    }
+
+    private Map<SuggestType, SuggestTrie> build(List<VolunteerProfile> volunteers,
+            List<OrganizationProfile> organizations, List<Object[]> applicationCounts, List<Event> events) {
+        Map<SuggestType, SuggestTrie> built = new EnumMap<>(SuggestType.class);
+        for (SuggestType type : SuggestType.values()) {
+            built.put(type, new SuggestTrie(topK));
+        }
+
+        // One pass over volunteer profiles for both follower counts and skill counts
+        Map<Long, Long> followers = new HashMap<>();
+        Map<String, String> skillTexts = new HashMap<>();
+        Map<String, Long> skillCounts = new HashMap<>();
+        for (VolunteerProfile profile : volunteers) {
+            for (Long organizationId : profile.getFollowedOrganizationsList()) {
+                followers.merge(organizationId, 1L, Long::sum);
+            }
+            for (String skill : profile.getSkillsList()) {
+                String key = termKey(SuggestType.SKILL, skill);
+                skillTexts.putIfAbsent(key, skill.trim());
+                skillCounts.merge(key, 1L, Long::sum);
+            }
+        }
+        skillCounts.forEach((key, count) -> built.get(SuggestType.SKILL).upsert(key, skillTexts.get(key), count, null));
+
+        Map<String, String> cityTexts = new HashMap<>();
+        Map<String, Long> cityCounts = new HashMap<>();
+
+        for (OrganizationProfile organization : organizations) {
+            built.get(SuggestType.ORGANIZATION).upsert(key(SuggestType.ORGANIZATION, organization.getId()),
+                    organization.getOrganizationName(), followers.getOrDefault(organization.getId(), 0L),
+                    organization.getId());
+            countCity(cityTexts, cityCounts, organization.getCity(), organization.getState());
+        }
+
+        Map<Long, Long> applications = new HashMap<>();
+        for (Object[] row : applicationCounts) {
+            applications.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        for (Event event : events) {
+            built.get(SuggestType.EVENT).upsert(key(SuggestType.EVENT, event.getId()),
+                    event.getTitle(), applications.getOrDefault(event.getId(), 0L), event.getId());
+            countCity(cityTexts, cityCounts, event.getCity(), event.getState());
+        }
+        cityCounts.forEach((key, count) -> built.get(SuggestType.CITY).upsert(key, cityTexts.get(key), count, null));
+
+        return built;
+    }
+
+    // ==========================================
+    // WRITE HOOKS (applied after commit)
+    // ==========================================
+
+    public void onOrganizationSaved(OrganizationProfile organization) {
+        Long id = organization.getId();
+        String name = organization.getOrganizationName();
+        String city = cityText(organization.getCity(), organization.getState());
+        afterCommit(current -> {
+            SuggestTrie trie = current.get(SuggestType.ORGANIZATION);
+            Suggestion existing = trie.get(key(SuggestType.ORGANIZATION, id));
+            trie.upsert(key(SuggestType.ORGANIZATION, id), name, existing != null ? existing.weight() : 0L, id);
+            ensureTerm(current, SuggestType.CITY, city);
+        });
+    }
+
+    /**
+     * Only upcoming ACTIVE events are suggested; anything else is removed
+     */
+    public void onEventSaved(Event event) {
+        Long id = event.getId();
+        String title = event.getTitle();
+        boolean suggestible = event.getStatus() == EventStatus.ACTIVE && event.getStartDate() != null
+                && event.getStartDate().isAfter(LocalDateTime.now());
+        String city = cityText(event.getCity(), event.getState());
+        afterCommit(current -> {
+            SuggestTrie trie = current.get(SuggestType.EVENT);
+            String key = key(SuggestType.EVENT, id);
+            if (!suggestible) {
+                trie.remove(key);
+                return;
+            }
+            Suggestion existing = trie.get(key);
+            trie.upsert(key, title, existing != null ? existing.weight() : 0L, id);
+            ensureTerm(current, SuggestType.CITY, city);
+        });
+    }
+
+    public void onApplicationSubmitted(Long eventId) {
+        afterCommit(current -> adjustWeight(current.get(SuggestType.EVENT), key(SuggestType.EVENT, eventId), 1));
+    }
+
+    public void onFollowChanged(Long organizationId, boolean following) {
+        afterCommit(current -> adjustWeight(current.get(SuggestType.ORGANIZATION),
+                key(SuggestType.ORGANIZATION, organizationId), following ? 1 : -1));
+    }
+
+    public void onVolunteerSkillsSaved(Collection<String> skills) {
+        List<String> copy = List.copyOf(skills);
+        afterCommit(current -> copy.forEach(skill -> ensureTerm(current, SuggestType.SKILL, skill)));
+    }
+
+    private void afterCommit(Consumer<Map<SuggestType, SuggestTrie>> action) {
+        Runnable apply = () -> {
+            synchronized (writeLock) {
+                action.accept(tries);
+                if (replay != null) {
+                    replay.add(action);
+                }
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    // ==========================================
+    // HELPER METHODS
+    // ==========================================
+
+    private void adjustWeight(SuggestTrie trie, String key, long delta) {
+        Suggestion existing = trie.get(key);
+        if (existing != null) {
+            trie.upsert(key, existing.text(), Math.max(0L, existing.weight() + delta), existing.id());
+        }
+    }
+
+    /**
+     * Add an aggregate term (city, skill) with weight 1 if it is not suggested yet
+     */
+    private void ensureTerm(Map<SuggestType, SuggestTrie> current, SuggestType type, String text) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        SuggestTrie trie = current.get(type);
+        String key = termKey(type, text);
+        if (trie.get(key) == null) {
+            trie.upsert(key, text.trim(), 1L, null);
+        }
+    }
+
+    private void countCity(Map<String, String> texts, Map<String, Long> counts, String city, String state) {
+        String text = cityText(city, state);
+        if (text != null) {
+            String key = termKey(SuggestType.CITY, text);
+            texts.putIfAbsent(key, text);
+            counts.merge(key, 1L, Long::sum);
+        }
+    }
+
+    private static String cityText(String city, String state) {
+        if (city == null || city.isBlank()) {
+            return null;
+        }
+        return state == null || state.isBlank() ? city.trim() : city.trim() + ", " + state.trim();
+    }
+
+    private static String key(SuggestType type, Long id) {
+        return type.keyPrefix + ":" + id;
+    }
+
+    private static String termKey(SuggestType type, String text) {
+        return type.keyPrefix + ":" + SuggestTrie.normalize(text);
+    }
+}
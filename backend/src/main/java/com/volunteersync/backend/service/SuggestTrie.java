@@ -0,0 +1,335 @@
+package com.volunteersync.backend.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Compressed prefix trie (radix tree) for typeahead.
+ * Every node keeps the top-K suggestions of its whole subtree, so a lookup is a walk down
+ * the prefix followed by returning a precomputed array - no subtree traversal at query time.
+ *
+ * An entry is indexed under its full text and under every word start ("Seattle Food Bank"
+ * also matches "food" and "bank"). Updates walk the affected path bottom-up and stop at the
+ * first node whose top-K does not change: an entry outside a node's top-K cannot be in any
+ * ancestor's, since the ancestor sees the same K better entries.
+ */
+public class SuggestTrie {
+
+    private static final Comparator<Suggestion> BY_WEIGHT = Comparator
+            .comparingLong(Suggestion::weight).reversed()
+            .thenComparing(Suggestion::text, String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(Suggestion::key);
+
+    private final int topK;
+    private final Node root = new Node("");
+    private final Map<String, Suggestion> entries = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public SuggestTrie(int topK) {
+        this.topK = topK;
+    }
+
+    // ==========================================
+    // QUERIES
+    // ==========================================
+
+    /**
+     * Highest-weighted suggestions whose text (or one of its words) starts with prefix
+     */
+    public List<Suggestion> complete(String prefix, int limit) {
+        String term = normalize(prefix);
+        if (term.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            int position = 0;
+            while (position < term.length()) {
+                Node child = node.children.get(term.charAt(position));
+                if (child == null) {
+                    return List.of();
+                }
+                int remaining = term.length() - position;
+                if (remaining <= child.label.length()) {
+                    // Prefix ends inside (or at the end of) this edge
+                    return child.label.startsWith(term.substring(position)) ? first(child.top, limit) : List.of();
+                }
+                if (!term.startsWith(child.label, position)) {
+                    return List.of();
+                }
+                position += child.label.length();
+                node = child;
+            }
+            return first(node.top, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Suggestion get(String key) {
+        lock.readLock().lock();
+        try {
+            return entries.get(key);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ==========================================
+    // UPDATES
+    // ==========================================
+
+    /**
+     * Insert or replace the entry with this key (text and weight may both change)
+     */
+    public void upsert(String key, String text, long weight, Long id) {
+        if (text == null || normalize(text).isEmpty()) {
+            remove(key);
+            return;
+        }
+        Suggestion suggestion = new Suggestion(key, text.trim(), weight, id);
+
+        lock.writeLock().lock();
+        try {
+            Suggestion previous = entries.put(key, suggestion);
+            if (previous != null) {
+                for (String term : terms(previous.text())) {
+                    detach(term, key);
+                }
+            }
+            for (String term : terms(suggestion.text())) {
+                attach(term, suggestion);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String key) {
+        lock.writeLock().lock();
+        try {
+            Suggestion previous = entries.remove(key);
+            if (previous != null) {
+                for (String term : terms(previous.text())) {
+                    detach(term, key);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void attach(String term, Suggestion suggestion) {
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int position = 0;
+
+        while (position < term.length()) {
+            char next = term.charAt(position);
+            Node child = node.children.get(next);
+            if (child == null) {
+                child = new Node(term.substring(position));
+                node.children.put(next, child);
+                position = term.length();
+            } else {
+                int common = commonPrefix(child.label, term, position);
+                if (common < child.label.length()) {
+                    // Split the edge: node -> middle -> child
+                    Node middle = new Node(child.label.substring(0, common));
+                    child.label = child.label.substring(common);
+                    middle.children.put(child.label.charAt(0), child);
+                    middle.top = child.top;
+                    node.children.put(next, middle);
+                    child = middle;
+                }
+                position += common;
+            }
+            path.add(child);
+            node = child;
+        }
+
+        if (node.entries.isEmpty()) {
+            node.entries = new HashMap<>(2);
+        }
+        node.entries.put(suggestion.key(), suggestion);
+        for (int i = path.size() - 1; i >= 0; i--) {
+            if (!offer(path.get(i), suggestion)) {
+                break;
+            }
+        }
+    }
+
+    private void detach(String term, String key) {
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int position = 0;
+
+        while (position < term.length()) {
+            Node child = node.children.get(term.charAt(position));
+            if (child == null || !term.startsWith(child.label, position)) {
+                return;
+            }
+            position += child.label.length();
+            path.add(child);
+            node = child;
+        }
+
+        if (node.entries.remove(key) == null) {
+            return;
+        }
+
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node current = path.get(i);
+            if (i > 0 && current.entries.isEmpty() && current.children.isEmpty()) {
+                path.get(i - 1).children.remove(current.label.charAt(0));
+                continue;
+            }
+            if (!contains(current.top, key)) {
+                break;
+            }
+            recompute(current);
+        }
+    }
+
+    /**
+     * Merge one suggestion into a node's top-K; false if it did not make the cut
+     */
+    private boolean offer(Node node, Suggestion suggestion) {
+        Suggestion[] top = node.top;
+        if (contains(top, suggestion.key())) {
+            // Already there via another of its words
+            return true;
+        }
+        int position = 0;
+        while (position < top.length && BY_WEIGHT.compare(top[position], suggestion) < 0) {
+            position++;
+        }
+        if (position >= topK) {
+            return false;
+        }
+
+        int length = Math.min(top.length + 1, topK);
+        Suggestion[] merged = new Suggestion[length];
+        System.arraycopy(top, 0, merged, 0, position);
+        merged[position] = suggestion;
+        System.arraycopy(top, position, merged, position + 1, length - position - 1);
+        node.top = merged;
+        return true;
+    }
+
+    /**
+     * Rebuild a node's top-K from its own entries plus its children's top-K
+     */
+    private void recompute(Node node) {
+        // Same entry can reach a node through several children (two of its words share a prefix)
+        Map<String, Suggestion> candidates = new LinkedHashMap<>(node.entries);
+        for (Node child : node.children.values()) {
+            for (Suggestion suggestion : child.top) {
+                candidates.putIfAbsent(suggestion.key(), suggestion);
+            }
+        }
+        node.top = candidates.values().stream()
+                .sorted(BY_WEIGHT)
+                .limit(topK)
+                .toArray(Suggestion[]::new);
+    }
+
+    // ==========================================
+    // HELPER METHODS
+    // ==========================================
+
+    /**
+     * The full text plus every word-start suffix, normalized
+     */
+    private static List<String> terms(String text) {
+        String normalized = normalize(text);
+        List<String> terms = new ArrayList<>();
+        terms.add(normalized);
+        for (int i = 1; i < normalized.length(); i++) {
+            if (normalized.charAt(i - 1) == ' ') {
+                terms.add(normalized.substring(i));
+            }
+        }
+        return terms;
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        // Lowercase, trim and collapse whitespace runs to one space
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = normalized.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                normalized.append(' ');
+                pendingSpace = false;
+            }
+            normalized.append(Character.toLowerCase(c));
+        }
+        return normalized.toString();
+    }
+
+    private static boolean contains(Suggestion[] top, String key) {
+        for (Suggestion suggestion : top) {
+            if (suggestion.key().equals(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int commonPrefix(String label, String term, int offset) {
+        int max = Math.min(label.length(), term.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == term.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static List<Suggestion> first(Suggestion[] top, int limit) {
+        return List.of(top).subList(0, Math.min(top.length, Math.max(0, limit)));
+    }
+
+    private static final class Node {
+        private String label;
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private Map<String, Suggestion> entries = Collections.emptyMap();
+        private Suggestion[] top = new Suggestion[0];
+
+        private Node(String label) {
+            this.label = label;
+        }
+    }
+
+    /**
+     * One completion: key identifies the entry (e.g. "org:42"), id the backing row if any
+     */
+    public record Suggestion(String key, String text, long weight, Long id) {
+    }
+}
@@ -0,0 +1,382 @@
+// backend/src/main/java/com/volunteersync/backend/service/TimeSeriesRollupService.java
+package com.volunteersync.backend.service;
+
+import com.volunteersync.backend.entity.TimeSeriesRollup;
+import com.volunteersync.backend.enums.RollupGranularity;
+import com.volunteersync.backend.repository.ApplicationRepository;
+import com.volunteersync.backend.repository.BadgeRepository;
+import com.volunteersync.backend.repository.EventRepository;
+import com.volunteersync.backend.repository.TimeSeriesRollupRepository;
+import com.volunteersync.backend.repository.UserRepository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Time-series rollup service - hourly, daily and monthly counts per metric
+ * Writes add one occurrence to the three buckets containing its timestamp,
+ * inside the caller's transaction. Trend endpoints read a handful of bucket
+ * rows instead of grouping the full history by YEAR()/MONTH()/DATE().
+ * A backfill job rebuilds every metric from history in parallel month chunks.
+ */
+@Service
+@Transactional
+public class TimeSeriesRollupService {
+
+    public static final String USERS_REGISTERED = "users.registered";
+    public static final String EVENTS_CREATED = "events.created";
+    public static final String BADGES_EARNED = "badges.earned";
+    public static final String APPLICATIONS_SUBMITTED = "applications.submitted";
+
+    private static final int MAX_SERIES_POINTS = 5000;
+
+    // Order of the granularity column (and the unique index) in the database - buckets are always
+    // locked in this order, by writers and by the backfill alike
+    private static final List<RollupGranularity> LOCK_ORDER = List.of(
+            RollupGranularity.DAY, RollupGranularity.HOUR, RollupGranularity.MONTH);
+
+    @Autowired
+    private TimeSeriesRollupRepository timeSeriesRollupRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private BadgeRepository badgeRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Value("${app.rollups.backfill-threads:4}")
+    private int backfillThreads;
+
+    @Value("${app.rollups.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    private final TransactionTemplate newTransaction;
+
+    public TimeSeriesRollupService(PlatformTransactionManager transactionManager) {
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // ==========================================
+    // WRITE METHODS (called inside the caller's transaction)
+    // ==========================================
+
+    /**
+     * Record one occurrence of a metric at the given time
+     */
+    public void record(String metric, LocalDateTime timestamp) {
+        applyDelta(metric, timestamp, 1L);
+    }
+
+    /**
+     * Remove a previously recorded occurrence (the row it counted was deleted)
+     */
+    public void remove(String metric, LocalDateTime timestamp) {
+        applyDelta(metric, timestamp, -1L);
+    }
+
+    // ==========================================
+    // READ METHODS
+    // ==========================================
+
+    /**
+     * Get a zero-filled series of buckets covering [from, to)
+     */
+    @Transactional(readOnly = true)
+    public List<RollupPoint> getSeries(String metric, RollupGranularity granularity,
+            LocalDateTime from, LocalDateTime to) {
+        LocalDateTime start = granularity.truncate(from);
+        Map<LocalDateTime, Long> counts = new HashMap<>();
+        for (TimeSeriesRollup bucket : timeSeriesRollupRepository.findBuckets(metric, granularity, start, to)) {
+            counts.put(bucket.getBucketStart(), bucket.getBucketCount());
+        }
+
+        List<RollupPoint> series = new ArrayList<>();
+        for (LocalDateTime bucketStart = start; bucketStart.isBefore(to); bucketStart = granularity.next(bucketStart)) {
+            if (series.size() >= MAX_SERIES_POINTS) {
+                throw new RuntimeException("Requested range has more than " + MAX_SERIES_POINTS
+                        + " buckets - use a coarser granularity");
+            }
+            series.add(new RollupPoint(bucketStart, counts.getOrDefault(bucketStart, 0L)));
+        }
+        return series;
+    }
+
+    /**
+     * Count occurrences between two times, at hour resolution
+     * Whole days are read from daily buckets, the partial days at either end
+     * from hourly buckets - at most ~48 hourly rows plus one row per day.
+     */
+    @Transactional(readOnly = true)
+    public long countBetween(String metric, LocalDateTime from, LocalDateTime to) {
+        LocalDateTime start = RollupGranularity.HOUR.truncate(from);
+        LocalDateTime end = RollupGranularity.HOUR.next(RollupGranularity.HOUR.truncate(to));
+
+        LocalDateTime firstWholeDay = RollupGranularity.DAY.truncate(start);
+        if (firstWholeDay.isBefore(start)) {
+            firstWholeDay = RollupGranularity.DAY.next(firstWholeDay);
+        }
+        LocalDateTime lastWholeDayEnd = RollupGranularity.DAY.truncate(end);
+
+        if (!firstWholeDay.isBefore(lastWholeDayEnd)) {
+            return sum(metric, RollupGranularity.HOUR, start, end);
+        }
+        return sum(metric, RollupGranularity.HOUR, start, firstWholeDay)
+                + sum(metric, RollupGranularity.DAY, firstWholeDay, lastWholeDayEnd)
+                + sum(metric, RollupGranularity.HOUR, lastWholeDayEnd, end);
+    }
+
+    // ==========================================
+    // BACKFILL
+    // ==========================================
+
+    /**
+     * Rebuild rollups once the application (and any seed data) is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void backfillOnStartup() {
+        if (backfillOnStartup) {
+            rebuildAll();
+        }
+    }
+
+    /**
+     * Rebuild every metric from its source table
+     * History is split into calendar-month chunks; each chunk owns a disjoint
+     * set of hour/day/month buckets, so chunks are rebuilt in parallel, each
+     * in its own transaction.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BackfillResult rebuildAll() {
+        System.out.println("Rebuilding time-series rollups with " + backfillThreads + " threads");
+        long started = System.currentTimeMillis();
+
+        BackfillResult result = new BackfillResult();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, backfillThreads));
+        try {
+            List<CompletableFuture<Long>> chunks = new ArrayList<>();
+            for (RollupSource source : sources()) {
+                // Chunks run through the current month, so buckets written while the backfill runs
+                // are inside a chunk (and locked by it) rather than deleted as out of range
+                LocalDateTime earliest = source.earliest.get();
+                LocalDateTime currentMonth = RollupGranularity.MONTH.truncate(LocalDateTime.now());
+                LocalDateTime firstMonth = earliest != null && earliest.isBefore(currentMonth)
+                        ? RollupGranularity.MONTH.truncate(earliest) : currentMonth;
+                LocalDateTime endMonth = RollupGranularity.MONTH.next(currentMonth);
+                LocalDateTime latest = source.latest.get();
+                if (latest != null && !latest.isBefore(endMonth)) {
+                    endMonth = RollupGranularity.MONTH.next(RollupGranularity.MONTH.truncate(latest));
+                }
+                LocalDateTime rangeEnd = endMonth;
+                newTransaction.executeWithoutResult(status ->
+                        timeSeriesRollupRepository.deleteBucketsOutside(source.metric, firstMonth, rangeEnd));
+
+                for (LocalDateTime month = firstMonth; month.isBefore(endMonth);
+                        month = RollupGranularity.MONTH.next(month)) {
+                    LocalDateTime chunkStart = month;
+                    LocalDateTime chunkEnd = RollupGranularity.MONTH.next(month);
+                    chunks.add(CompletableFuture.supplyAsync(
+                            () -> rebuildChunk(source, chunkStart, chunkEnd), executor));
+                }
+            }
+
+            for (CompletableFuture<Long> chunk : chunks) {
+                result.setRowsScanned(result.getRowsScanned() + chunk.join());
+            }
+            result.setChunks(chunks.size());
+        } finally {
+            executor.shutdown();
+        }
+
+        result.setDurationMs(System.currentTimeMillis() - started);
+        System.out.println("Time-series rollups rebuilt: " + result.getChunks() + " chunks, "
+                + result.getRowsScanned() + " rows in " + result.getDurationMs() + "ms");
+        return result;
+    }
+
+    // ==========================================
+    // PRIVATE HELPER METHODS
+    // ==========================================
+
+    private void applyDelta(String metric, LocalDateTime timestamp, long delta) {
+        if (timestamp == null) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (RollupGranularity granularity : LOCK_ORDER) {
+            LocalDateTime bucketStart = granularity.truncate(timestamp);
+            if (timeSeriesRollupRepository.incrementBucket(metric, granularity, bucketStart, delta, now) == 0) {
+                createBucketIfMissing(metric, granularity, bucketStart, 0L);
+                timeSeriesRollupRepository.incrementBucket(metric, granularity, bucketStart, delta, now);
+            }
+        }
+    }
+
+    /**
+     * Create a bucket in its own transaction so two writers racing on a
+     * new bucket cannot fail the business transaction with a duplicate key
+     */
+    private void createBucketIfMissing(String metric, RollupGranularity granularity, LocalDateTime bucketStart,
+            long count) {
+        try {
+            newTransaction.executeWithoutResult(status -> {
+                if (!timeSeriesRollupRepository.existsByMetricAndGranularityAndBucketStart(
+                        metric, granularity, bucketStart)) {
+                    timeSeriesRollupRepository.saveAndFlush(
+                            new TimeSeriesRollup(metric, granularity, bucketStart, count));
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Created concurrently by another transaction - fine, it exists now
+        }
+    }
+
+    private long sum(String metric, RollupGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            return 0L;
+        }
+        return timeSeriesRollupRepository.sumBuckets(metric, granularity, from, to);
+    }
+
+    /**
+     * Recount one month of a metric over its buckets, in one transaction
+     * Every bucket the recount will write is created (at zero) first, so the lock covers all of them:
+     * a writer whose delta is still to come waits and applies it on top of the recount, and one that
+     * already applied it holds the bucket until it commits, so the recount sees its row. A bucket that
+     * appears after the lock was taken was created by a writer from zero and already holds its delta.
+     */
+    private long rebuildChunk(RollupSource source, LocalDateTime chunkStart, LocalDateTime chunkEnd) {
+        bucketCounts(source.hourlyCounts.apply(chunkStart, chunkEnd)).forEach((granularity, buckets) ->
+                buckets.keySet().forEach(bucketStart ->
+                        createBucketIfMissing(source.metric, granularity, bucketStart, 0L)));
+
+        return newTransaction.execute(status -> {
+            List<TimeSeriesRollup> locked = timeSeriesRollupRepository.lockBuckets(source.metric, chunkStart, chunkEnd);
+            Map<RollupGranularity, Map<LocalDateTime, Long>> counts =
+                    bucketCounts(source.hourlyCounts.apply(chunkStart, chunkEnd));
+
+            for (TimeSeriesRollup bucket : locked) {
+                Long count = counts.get(bucket.getGranularity()).get(bucket.getBucketStart());
+                if (count == null) {
+                    timeSeriesRollupRepository.delete(bucket);
+                } else if (!count.equals(bucket.getBucketCount())) {
+                    bucket.setBucketCount(count);
+                }
+            }
+            return counts.get(RollupGranularity.HOUR).values().stream().mapToLong(Long::longValue).sum();
+        });
+    }
+
+    /**
+     * Hour, day and month buckets from [year, month, day, hour, count] rows
+     */
+    private Map<RollupGranularity, Map<LocalDateTime, Long>> bucketCounts(List<Object[]> hourlyCounts) {
+        Map<RollupGranularity, Map<LocalDateTime, Long>> counts = new EnumMap<>(RollupGranularity.class);
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            counts.put(granularity, new HashMap<>());
+        }
+        for (Object[] row : hourlyCounts) {
+            LocalDateTime hour = LocalDateTime.of(((Number) row[0]).intValue(), ((Number) row[1]).intValue(),
+                    ((Number) row[2]).intValue(), ((Number) row[3]).intValue(), 0);
+            long count = ((Number) row[4]).longValue();
+            for (RollupGranularity granularity : RollupGranularity.values()) {
+                counts.get(granularity).merge(granularity.truncate(hour), count, Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    private List<RollupSource> sources() {
+        return List.of(
+                new RollupSource(USERS_REGISTERED, userRepository::findEarliestCreatedAt,
+                        userRepository::findLatestCreatedAt, userRepository::countCreatedPerHour),
+                new RollupSource(EVENTS_CREATED, eventRepository::findEarliestCreatedAt,
+                        eventRepository::findLatestCreatedAt, eventRepository::countCreatedPerHour),
+                new RollupSource(BADGES_EARNED, badgeRepository::findEarliestEarnedAt,
+                        badgeRepository::findLatestEarnedAt, badgeRepository::countEarnedPerHour),
+                new RollupSource(APPLICATIONS_SUBMITTED, applicationRepository::findEarliestAppliedAt,
+                        applicationRepository::findLatestAppliedAt, applicationRepository::countAppliedPerHour));
+    }
+
+    /**
+     * Where a metric's history lives - bounds plus per-hour counts in a range
+     */
+    private static final class RollupSource {
+        private final String metric;
+        private final Supplier<LocalDateTime> earliest;
+        private final Supplier<LocalDateTime> latest;
+        private final BiFunction<LocalDateTime, LocalDateTime, List<Object[]>> hourlyCounts;
+
+        RollupSource(String metric, Supplier<LocalDateTime> earliest, Supplier<LocalDateTime> latest,
+                BiFunction<LocalDateTime, LocalDateTime, List<Object[]>> hourlyCounts) {
+            this.metric = metric;
+            this.earliest = earliest;
+            this.latest = latest;
+            this.hourlyCounts = hourlyCounts;
+        }
+    }
+
+    // ==========================================
+    // RESPONSE CLASSES
+    // ==========================================
+
+    public static class RollupPoint {
+        private LocalDateTime bucketStart;
+        private long count;
+
+        public RollupPoint(LocalDateTime bucketStart, long count) {
+            this.bucketStart = bucketStart;
+            this.count = count;
+        }
+
+        public LocalDateTime getBucketStart() { return bucketStart; }
+        public void setBucketStart(LocalDateTime bucketStart) { this.bucketStart = bucketStart; }
+
+        public long getCount() { return count; }
+        public void setCount(long count) { this.count = count; }
+    }
+
+    public static class BackfillResult {
+        private int chunks;
+        private long rowsScanned;
+        private long durationMs;
+
+        public int getChunks() { return chunks; }
+        public void setChunks(int chunks) { this.chunks = chunks; }
+
+        public long getRowsScanned() { return rowsScanned; }
+        public void setRowsScanned(long rowsScanned) { this.rowsScanned = rowsScanned; }
+
+        public long getDurationMs() { return durationMs; }
+        public void setDurationMs(long durationMs) { this.durationMs = durationMs; }
+    }
+}
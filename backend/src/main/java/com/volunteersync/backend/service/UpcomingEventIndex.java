@@ -0,0 +1,395 @@
+package com.volunteersync.backend.service;
+
+import com.volunteersync.backend.entity.Event;
+import com.volunteersync.backend.entity.OrganizationProfile;
+import com.volunteersync.backend.enums.EventDuration;
+import com.volunteersync.backend.enums.EventStatus;
+import com.volunteersync.backend.enums.EventType;
+import com.volunteersync.backend.enums.SkillLevel;
+import com.volunteersync.backend.repository.EventRepository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+
+/**
+ * Upcoming event index - every ACTIVE event that has not started yet, in a concurrent
+ * skip list ordered by (startDate, id), so the browse, date-window and capacity reads are
+ * range walks over memory instead of start_date range scans.
+ *
+ * Loaded once the application is ready (reads fall back to the database until then),
+ * updated after commit by the event/application write paths, and trimmed as events start.
+ */
+@Component
+public class UpcomingEventIndex {
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private SingleFlight singleFlight;
+
+    private final ConcurrentSkipListMap<EventKey, EventSnapshot> byStart = new ConcurrentSkipListMap<>();
+
+    // event id -> current key, so an update can find the entry to replace when startDate moves
+    private final Map<Long, EventKey> keysById = new ConcurrentHashMap<>();
+
+    private volatile boolean ready = false;
+
+    // Bumped on every applied write so a (re)load that raced with a commit is retried
+    private long writeGeneration = 0L;
+
+    // Loads that keep racing writes give up after this many attempts (see load())
+    static final int MAX_LOAD_ATTEMPTS = 3;
+
+    // Secondary indexes kept in step with the skip list (see EventFacetIndex)
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Notified under the index lock on every change, in the order they are applied
+     */
+    public interface Listener {
+
+        void onPut(EventSnapshot snapshot);
+
+        void onRemove(Long id);
+
+        void onClear();
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    // ==========================================
+    // LOADING AND TRIMMING
+    // ==========================================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        load();
+    }
+
+    /**
+     * Periodic full reload, correcting any drift from writes that bypass the hooks (and
+     * retrying a startup load that gave up)
+     */
+    @Scheduled(initialDelayString = "${app.events.upcoming-index.reload-interval-ms:900000}",
+            fixedDelayString = "${app.events.upcoming-index.reload-interval-ms:900000}")
+    public void reload() {
+        load();
+    }
+
+    /**
+     * Load the index from the database. A write that commits while the query runs may be missing
+     * from the result, so the load is retried; after MAX_LOAD_ATTEMPTS it gives up and keeps what
+     * it has - before the first load reads stay on the database, after it the write hooks have
+     * kept the index current - and the next reload tries again.
+     */
+    boolean load() {
+        long started = System.currentTimeMillis();
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+
+        for (int attempt = 1; attempt <= MAX_LOAD_ATTEMPTS; attempt++) {
+            long generation;
+            synchronized (this) {
+                generation = writeGeneration;
+            }
+            List<EventSnapshot> snapshots = template.execute(status ->
+                    eventRepository.findUpcomingActiveEvents(LocalDateTime.now()).stream()
+                            .map(EventSnapshot::from)
+                            .toList());
+
+            synchronized (this) {
+                if (generation != writeGeneration) {
+                    continue;
+                }
+                byStart.clear();
+                keysById.clear();
+                listeners.forEach(Listener::onClear);
+                snapshots.forEach(this::put);
+                ready = true;
+            }
+            System.out.println("Upcoming event index loaded " + byStart.size() + " events in "
+                    + (System.currentTimeMillis() - started) + "ms");
+            return true;
+        }
+        System.out.println("Upcoming event index load raced " + MAX_LOAD_ATTEMPTS
+                + " concurrent writes, keeping the " + (ready ? "current index" : "database reads")
+                + " until the next reload");
+        return false;
+    }
+
+    /**
+     * Drop events that have started
+     */
+    @Scheduled(fixedDelayString = "${app.events.upcoming-index.trim-interval-ms:60000}")
+    public void trimStarted() {
+        ConcurrentNavigableMap<EventKey, EventSnapshot> started =
+                byStart.headMap(EventKey.startingAfter(LocalDateTime.now()), false);
+        for (EventKey key : started.keySet()) {
+            remove(key.id());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return byStart.size();
+    }
+
+    // ==========================================
+    // READS
+    // ==========================================
+
+    /**
+     * Upcoming events starting after now that pass the filter, in start order (limit <= 0 = all)
+     */
+    public List<EventSnapshot> upcoming(Predicate<EventSnapshot> filter, int limit) {
+        return collect(byStart.tailMap(EventKey.startingAfter(LocalDateTime.now()), true).values(), filter, limit);
+    }
+
+    /**
+     * Events starting in [from, to) that pass the filter, in start order (limit <= 0 = all)
+     */
+    public List<EventSnapshot> window(LocalDateTime from, LocalDateTime to, Predicate<EventSnapshot> filter, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        // Inclusive of from, but never events that already started
+        EventKey lower = from.isAfter(now) ? EventKey.startingAt(from) : EventKey.startingAfter(now);
+        if (!lower.startDate().isBefore(to)) {
+            return List.of();
+        }
+        return collect(byStart.subMap(lower, true, EventKey.startingAt(to), true).values(), filter, limit);
+    }
+
+    private List<EventSnapshot> collect(Collection<EventSnapshot> range, Predicate<EventSnapshot> filter, int limit) {
+        List<EventSnapshot> result = new ArrayList<>();
+        for (EventSnapshot snapshot : range) {
+            if (filter.test(snapshot)) {
+                result.add(snapshot);
+                if (limit > 0 && result.size() >= limit) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    // ==========================================
+    // WRITE HOOKS (applied after commit)
+    // ==========================================
+
+    /**
+     * Reflect a saved event (created, updated, cancelled or capacity change) once the transaction commits
+     */
+    public void onEventSaved(Event event) {
+        EventSnapshot snapshot = EventSnapshot.from(event);
+        afterCommit(() -> {
+            if (snapshot.status() == EventStatus.ACTIVE && snapshot.startDate() != null
+                    && snapshot.startDate().isAfter(LocalDateTime.now())) {
+                put(snapshot);
+            } else {
+                remove(snapshot.id());
+            }
+        });
+    }
+
+    /**
+     * Mirror a set-based currentVolunteers adjustment (clamped at zero like the UPDATE)
+     */
+    public void onVolunteerCountsAdjusted(Collection<Long> eventIds, int delta) {
+        List<Long> ids = List.copyOf(eventIds);
+        afterCommit(() -> {
+            for (Long id : ids) {
+                EventKey key = keysById.get(id);
+                EventSnapshot current = key != null ? byStart.get(key) : null;
+                if (current != null) {
+                    int count = current.currentVolunteers() != null ? current.currentVolunteers() : 0;
+                    put(current.withCurrentVolunteers(Math.max(0, count + delta)));
+                }
+            }
+        });
+    }
+
+    /**
+     * Keep the denormalized organization name current
+     */
+    public void onOrganizationSaved(OrganizationProfile organization) {
+        Long organizationId = organization.getId();
+        String organizationName = organization.getOrganizationName();
+        afterCommit(() -> {
+            for (EventSnapshot snapshot : byStart.values()) {
+                if (organizationId.equals(snapshot.organizationId())
+                        && !Objects.equals(organizationName, snapshot.organizationName())) {
+                    put(snapshot.withOrganizationName(organizationName));
+                }
+            }
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        // Every event write passes through here, so it also retires coalesced getAllEvents loads
+        singleFlight.invalidateAfterCommit(EventService.UPCOMING_EVENTS_READ);
+        Runnable apply = () -> {
+            synchronized (this) {
+                writeGeneration++;
+                if (ready) {
+                    action.run();
+                }
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    private synchronized void put(EventSnapshot snapshot) {
+        EventKey key = new EventKey(snapshot.startDate(), snapshot.id());
+        EventKey previous = keysById.put(snapshot.id(), key);
+        if (previous != null && !previous.equals(key)) {
+            byStart.remove(previous);
+        }
+        byStart.put(key, snapshot);
+        listeners.forEach(listener -> listener.onPut(snapshot));
+    }
+
+    private synchronized void remove(Long id) {
+        EventKey previous = keysById.remove(id);
+        if (previous != null) {
+            byStart.remove(previous);
+            listeners.forEach(listener -> listener.onRemove(id));
+        }
+    }
+
+    // ==========================================
+    // KEY AND SNAPSHOT
+    // ==========================================
+
+    /**
+     * Skip list key: start time, then id to keep events at the same instant distinct
+     */
+    record EventKey(LocalDateTime startDate, long id) implements Comparable<EventKey> {
+
+        static EventKey startingAfter(LocalDateTime time) {
+            return new EventKey(time, Long.MAX_VALUE);
+        }
+
+        static EventKey startingAt(LocalDateTime time) {
+            return new EventKey(time, Long.MIN_VALUE);
+        }
+
+        @Override
+        public int compareTo(EventKey other) {
+            int byDate = startDate.compareTo(other.startDate);
+            return byDate != 0 ? byDate : Long.compare(id, other.id);
+        }
+    }
+
+    /**
+     * Immutable copy of the event columns the event DTO is built from (no entity graph)
+     */
+    public record EventSnapshot(
+            Long id, Long organizationId, String organizationName,
+            String title, String description,
+            LocalDateTime startDate, LocalDateTime endDate,
+            String location, String address, String city, String state, String zipCode,
+            Integer maxVolunteers, Integer currentVolunteers, Integer estimatedHours,
+            EventStatus status, String requirements, String contactEmail, String contactPhone, String imageUrl,
+            LocalDateTime createdAt, LocalDateTime updatedAt,
+            EventType eventType, SkillLevel skillLevelRequired, EventDuration durationCategory,
+            Boolean isVirtual, String virtualMeetingLink, String timeOfDay,
+            Boolean isWeekdaysOnly, Boolean isWeekendsOnly, Boolean hasFlexibleTiming,
+            Boolean isRecurring, String recurrencePattern) {
+
+        static EventSnapshot from(Event event) {
+            OrganizationProfile organization = event.getOrganization();
+            return new EventSnapshot(
+                    event.getId(),
+                    organization != null ? organization.getId() : null,
+                    organization != null ? organization.getOrganizationName() : null,
+                    event.getTitle(), event.getDescription(),
+                    event.getStartDate(), event.getEndDate(),
+                    event.getLocation(), event.getAddress(), event.getCity(), event.getState(), event.getZipCode(),
+                    event.getMaxVolunteers(), event.getCurrentVolunteers(), event.getEstimatedHours(),
+                    event.getStatus(), event.getRequirements(), event.getContactEmail(), event.getContactPhone(),
+                    event.getImageUrl(),
+                    event.getCreatedAt(), event.getUpdatedAt(),
+                    event.getEventType(), event.getSkillLevelRequired(), event.getDurationCategory(),
+                    event.getIsVirtual(), event.getVirtualMeetingLink(), event.getTimeOfDay(),
+                    event.getIsWeekdaysOnly(), event.getIsWeekendsOnly(), event.getHasFlexibleTiming(),
+                    event.getIsRecurring(), event.getRecurrencePattern());
+        }
+
+        EventSnapshot withCurrentVolunteers(Integer count) {
+            return new EventSnapshot(id, organizationId, organizationName, title, description, startDate, endDate,
+                    location, address, city, state, zipCode, maxVolunteers, count, estimatedHours, status,
+                    requirements, contactEmail, contactPhone, imageUrl, createdAt, updatedAt, eventType,
+                    skillLevelRequired, durationCategory, isVirtual, virtualMeetingLink, timeOfDay, isWeekdaysOnly,
+                    isWeekendsOnly, hasFlexibleTiming, isRecurring, recurrencePattern);
+        }
+
+        EventSnapshot withOrganizationName(String name) {
+            return new EventSnapshot(id, organizationId, name, title, description, startDate, endDate,
+                    location, address, city, state, zipCode, maxVolunteers, currentVolunteers, estimatedHours, status,
+                    requirements, contactEmail, contactPhone, imageUrl, createdAt, updatedAt, eventType,
+                    skillLevelRequired, durationCategory, isVirtual, virtualMeetingLink, timeOfDay, isWeekdaysOnly,
+                    isWeekendsOnly, hasFlexibleTiming, isRecurring, recurrencePattern);
+        }
+
+        /**
+         * Open spots remain (no maximum means unlimited)
+         */
+        public boolean hasAvailableSpots() {
+            return maxVolunteers == null || volunteers() < maxVolunteers;
+        }
+
+        /**
+         * At least 90% of spots taken but not full
+         */
+        public boolean isAlmostFull() {
+            return maxVolunteers != null && volunteers() >= maxVolunteers * 0.9 && volunteers() < maxVolunteers;
+        }
+
+        /**
+         * Less than half of the spots taken
+         */
+        public boolean needsVolunteers() {
+            return maxVolunteers != null && volunteers() < maxVolunteers * 0.5;
+        }
+
+        private int volunteers() {
+            return currentVolunteers != null ? currentVolunteers : 0;
+        }
+    }
+}
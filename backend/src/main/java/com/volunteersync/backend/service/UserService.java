@@ -32,6 +32,12 @@ public class UserService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private PlatformStatisticsService platformStatisticsService;
+
+    @Autowired
+    private TimeSeriesRollupService timeSeriesRollupService;
+
     /**
      * Create a new user with profile
      */
@@ -39,6 +45,8 @@ public class UserService {
         // Create user
         User user = new User(email, passwordEncoder.encode(password), userType);
         user = userRepository.save(user);
+        platformStatisticsService.recordCreated(user);
+        timeSeriesRollupService.record(TimeSeriesRollupService.USERS_REGISTERED, user.getCreatedAt());
 
         // Create corresponding profile
         if (userType == UserType.VOLUNTEER) {
@@ -52,6 +60,7 @@ public class UserService {
         } else if (userType == UserType.ORGANIZATION) {
             OrganizationProfile profile = new OrganizationProfile(user, name);
             organizationProfileRepository.save(profile);
+            platformStatisticsService.recordCreated(profile);
         }
 
         return user;
@@ -118,8 +127,10 @@ public class UserService {
     public void verifyEmail(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
+        List<String> statisticKeysBefore = platformStatisticsService.keysFor(user);
         user.setEmailVerified(true);
         userRepository.save(user);
+        platformStatisticsService.recordUpdated(statisticKeysBefore, user);
     }
 
     /**
@@ -128,8 +139,10 @@ public class UserService {
     public void deactivateUser(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
+        List<String> statisticKeysBefore = platformStatisticsService.keysFor(user);
         user.setIsActive(false);
         userRepository.save(user);
+        platformStatisticsService.recordUpdated(statisticKeysBefore, user);
     }
 
     /**
@@ -138,7 +151,9 @@ public class UserService {
     public void reactivateUser(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
+        List<String> statisticKeysBefore = platformStatisticsService.keysFor(user);
         user.setIsActive(true);
         userRepository.save(user);
+        platformStatisticsService.recordUpdated(statisticKeysBefore, user);
     }
 }
\ No newline at end of file
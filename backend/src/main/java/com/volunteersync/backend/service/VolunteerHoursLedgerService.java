@@ -0,0 +1,216 @@
+package com.volunteersync.backend.service;
+
+import com.volunteersync.backend.entity.VolunteerHoursEntry;
+import com.volunteersync.backend.enums.HoursEntryType;
+import com.volunteersync.backend.repository.VolunteerHoursLedgerRepository;
+import com.volunteersync.backend.repository.VolunteerProfileRepository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Volunteer hours ledger - every attendance and manual adjustment is appended as a row,
+ * and the matching totals on the volunteer profile are moved with an in-place
+ * "total = total + delta" UPDATE, so concurrent credits cannot overwrite each other.
+ *
+ * Attendance is credited at most once per application (unique application_id). A periodic
+ * reconciliation compares the totals with the ledger sums and repairs any drift; date-range
+ * hours are summed from the ledger instead of the applications table.
+ */
+@Service
+@Transactional
+public class VolunteerHoursLedgerService {
+
+    @Autowired
+    private VolunteerHoursLedgerRepository ledgerRepository;
+
+    @Autowired
+    private VolunteerProfileRepository volunteerProfileRepository;
+
+    @Autowired
+    private BadgeProgressCache badgeProgressCache;
+
+    @Value("${app.bulk-update.chunk-size:500}")
+    private int chunkSize;
+
+    // ==========================================
+    // RECORDING
+    // ==========================================
+
+    /**
+     * Credit an attended application to its volunteer
+     * Returns false (and changes nothing) if the application was already credited
+     */
+    public boolean recordAttendance(Long volunteerProfileId, Long applicationId, Long eventId, int hours) {
+        if (ledgerRepository.existsByApplicationId(applicationId)) {
+            System.out.println("Attendance for application ID: " + applicationId + " already recorded");
+            return false;
+        }
+        // A concurrent duplicate that passed the check fails on uk_hours_ledger_application
+        ledgerRepository.saveAndFlush(attendanceEntry(volunteerProfileId, applicationId, eventId, hours));
+        volunteerProfileRepository.addVolunteerProgress(List.of(volunteerProfileId), hours, 1);
+        refreshBadgeProgress(List.of(volunteerProfileId));
+        return true;
+    }
+
+    /**
+     * Credit several attended applications at once (bulk status updates)
+     * Applications already in the ledger are skipped; totals move with one UPDATE per distinct delta
+     */
+    public int recordAttendances(Collection<Attendance> attendances) {
+        if (attendances.isEmpty()) {
+            return 0;
+        }
+        Set<Long> credited = new HashSet<>();
+        List<Long> applicationIds = attendances.stream().map(Attendance::applicationId).collect(Collectors.toList());
+        for (List<Long> ids : chunk(applicationIds)) {
+            credited.addAll(ledgerRepository.findCreditedApplicationIds(ids));
+        }
+
+        List<VolunteerHoursEntry> entries = new ArrayList<>();
+        Map<Long, int[]> progress = new HashMap<>();
+        for (Attendance attendance : attendances) {
+            if (!credited.add(attendance.applicationId())) {
+                continue;
+            }
+            entries.add(attendanceEntry(attendance.volunteerProfileId(), attendance.applicationId(),
+                    attendance.eventId(), attendance.hours()));
+            int[] delta = progress.computeIfAbsent(attendance.volunteerProfileId(), id -> new int[2]);
+            delta[0] += attendance.hours();
+            delta[1]++;
+        }
+        ledgerRepository.saveAllAndFlush(entries);
+
+        Map<List<Integer>, List<Long>> profilesByDelta = progress.entrySet().stream()
+                .collect(Collectors.groupingBy(entry -> List.of(entry.getValue()[0], entry.getValue()[1]),
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+        for (Map.Entry<List<Integer>, List<Long>> entry : profilesByDelta.entrySet()) {
+            for (List<Long> ids : chunk(entry.getValue())) {
+                volunteerProfileRepository.addVolunteerProgress(ids, entry.getKey().get(0), entry.getKey().get(1));
+            }
+        }
+        refreshBadgeProgress(progress.keySet());
+        return entries.size();
+    }
+
+    /**
+     * Manual correction of a volunteer's hours and/or events count
+     */
+    public void recordAdjustment(Long volunteerProfileId, int hours, int events, String note) {
+        VolunteerHoursEntry entry = new VolunteerHoursEntry(volunteerProfileId, HoursEntryType.ADJUSTMENT, hours, events);
+        entry.setNote(note);
+        ledgerRepository.save(entry);
+        volunteerProfileRepository.addVolunteerProgress(List.of(volunteerProfileId), hours, events);
+        refreshBadgeProgress(List.of(volunteerProfileId));
+    }
+
+    // ==========================================
+    // QUERIES
+    // ==========================================
+
+    /**
+     * Hours credited to a volunteer in [from, to)
+     */
+    @Transactional(readOnly = true)
+    public long getHoursBetween(Long volunteerProfileId, LocalDateTime from, LocalDateTime to) {
+        return ledgerRepository.sumHoursBetween(volunteerProfileId, from, to);
+    }
+
+    /**
+     * Ledger entries for a volunteer in [from, to), newest first
+     */
+    @Transactional(readOnly = true)
+    public Page<VolunteerHoursEntry> getEntriesBetween(Long volunteerProfileId, LocalDateTime from, LocalDateTime to,
+            Pageable pageable) {
+        return ledgerRepository.findEntriesBetween(volunteerProfileId, from, to, pageable);
+    }
+
+    // ==========================================
+    // RECONCILIATION
+    // ==========================================
+
+    /**
+     * Compare every profile's totals with its ledger sums and repair drift
+     * (writes that bypassed the ledger). Totals are read before the ledger so a credit
+     * committing in between shows up as a changed total, and the guarded UPDATE skips it.
+     */
+    @Scheduled(initialDelayString = "${app.hours-ledger.reconcile-interval-ms:3600000}",
+            fixedDelayString = "${app.hours-ledger.reconcile-interval-ms:3600000}")
+    public void reconcile() {
+        long started = System.currentTimeMillis();
+        List<Object[]> totals = volunteerProfileRepository.findAllVolunteerProgress();
+
+        Map<Long, int[]> ledgerSums = new HashMap<>();
+        for (Object[] row : ledgerRepository.sumByVolunteer()) {
+            ledgerSums.put((Long) row[0], new int[] { ((Number) row[1]).intValue(), ((Number) row[2]).intValue() });
+        }
+
+        List<Long> repaired = new ArrayList<>();
+        for (Object[] row : totals) {
+            Long profileId = (Long) row[0];
+            int hours = row[1] != null ? (Integer) row[1] : 0;
+            int events = row[2] != null ? (Integer) row[2] : 0;
+            int[] expected = ledgerSums.getOrDefault(profileId, new int[2]);
+            if (hours == expected[0] && events == expected[1]) {
+                continue;
+            }
+            System.out.println("Hours ledger drift for volunteer profile ID: " + profileId + " (profile " + hours
+                    + "h/" + events + " events, ledger " + expected[0] + "h/" + expected[1] + " events)");
+            if (volunteerProfileRepository.resetVolunteerProgress(profileId, expected[0], expected[1], hours, events) > 0) {
+                repaired.add(profileId);
+            }
+        }
+        refreshBadgeProgress(repaired);
+        System.out.println("Hours ledger reconciled: " + totals.size() + " profiles checked, " + repaired.size()
+                + " repaired in " + (System.currentTimeMillis() - started) + "ms");
+    }
+
+    // ==========================================
+    // HELPER METHODS
+    // ==========================================
+
+    private VolunteerHoursEntry attendanceEntry(Long volunteerProfileId, Long applicationId, Long eventId, int hours) {
+        VolunteerHoursEntry entry = new VolunteerHoursEntry(volunteerProfileId, HoursEntryType.ATTENDANCE, hours, 1);
+        entry.setApplicationId(applicationId);
+        entry.setEventId(eventId);
+        return entry;
+    }
+
+    private void refreshBadgeProgress(Collection<Long> profileIds) {
+        for (List<Long> ids : chunk(new ArrayList<>(profileIds))) {
+            for (Object[] row : volunteerProfileRepository.findVolunteerProgress(ids)) {
+                badgeProgressCache.onVolunteerProgress((Long) row[0],
+                        row[1] != null ? (Integer) row[1] : 0, row[2] != null ? (Integer) row[2] : 0);
+            }
+        }
+    }
+
+    private <T> List<List<T>> chunk(List<T> items) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int i = 0; i < items.size(); i += chunkSize) {
+            chunks.add(items.subList(i, Math.min(i + chunkSize, items.size())));
+        }
+        return chunks;
+    }
+
+    /**
+     * One attended application to credit
+     */
+    public record Attendance(Long volunteerProfileId, Long applicationId, Long eventId, int hours) {
+    }
+}
@@ -16,18 +16,31 @@ import com.volunteersync.backend.repository.EventRepository;
 import com.volunteersync.backend.repository.ApplicationRepository;
 import com.volunteersync.backend.repository.OrganizationProfileRepository;
 import com.volunteersync.backend.dto.VolunteerProfileDTO;
+import com.volunteersync.backend.service.VolunteerHoursLedgerService.Attendance;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.Optional;
 import java.util.ArrayList;
 import java.util.stream.Collectors;
@@ -55,12 +68,46 @@ public class VolunteerManagementService {
     @Autowired
     private OrganizationProfileRepository organizationProfileRepository;
 
+    @Autowired
+    private VolunteerHoursLedgerService volunteerHoursLedgerService;
+
+    @Autowired
+    private UpcomingEventIndex upcomingEventIndex;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${app.bulk-update.chunk-size:500}")
+    private int bulkChunkSize;
+
+    // Guarded spot claims retried when a concurrent claim took the spots we just counted
+    private static final int MAX_CLAIM_ATTEMPTS = 3;
+
+    // Sort keys accepted by the roster (applications) and search (volunteer profiles) endpoints,
+    // mapped to entity paths - anything else is rejected before it reaches a query
+    private static final Map<String, String> ROSTER_SORT_KEYS = Map.of(
+            "appliedAt", "appliedAt",
+            "respondedAt", "respondedAt",
+            "status", "status",
+            "eventDate", "event.startDate",
+            "firstName", "volunteer.firstName",
+            "lastName", "volunteer.lastName");
+
+    private static final Map<String, String> SEARCH_SORT_KEYS = Map.of(
+            "firstName", "firstName",
+            "lastName", "lastName",
+            "location", "location",
+            "totalVolunteerHours", "totalVolunteerHours",
+            "eventsParticipated", "eventsParticipated",
+            "joinedAt", "createdAt");
+
     // ==========================================
     // VOLUNTEER MANAGEMENT METHODS
     // ==========================================
 
     /**
-     * Get all volunteers for an organization
+     * Get volunteers for an organization - per-status counts come from one grouped
+     * query and the same page of every status list from one windowed query
      */
     public VolunteerManagementResponse getOrganizationVolunteers(Long organizationId, Pageable pageable) {
         System.out.println("Getting volunteers for organization ID: " + organizationId);
@@ -73,39 +120,61 @@ public class VolunteerManagementService {
             throw new RuntimeException("User is not an organization");
         }
 
-        // Get all events created by this organization
         OrganizationProfile orgProfile = organizationProfileRepository.findByUserId(organizationId)
                 .orElseThrow(() -> new RuntimeException("Organization profile not found"));
-        List<Event> organizationEvents = eventRepository.findByOrganization(orgProfile);
-        
-        // Get all volunteers who have applied to these events
-        List<Application> applications = applicationRepository.findByEventIn(organizationEvents);
-        
-        // Group volunteers by application status
+
+        // Count applications per status in one grouped query
+        Map<ApplicationStatus, Integer> statusCounts = countApplicationsByStatus(orgProfile.getId());
+        int totalApplications = statusCounts.values().stream().mapToInt(Integer::intValue).sum();
+
+        // Load only the requested page of each status
         Map<ApplicationStatus, List<VolunteerInfo>> volunteersByStatus = new HashMap<>();
-        
         for (ApplicationStatus status : ApplicationStatus.values()) {
-            List<Application> statusApplications = applications.stream()
-                    .filter(app -> app.getStatus() == status)
-                    .collect(Collectors.toList());
-            
-            List<VolunteerInfo> volunteers = statusApplications.stream()
-                    .map(this::convertToVolunteerInfo)
-                    .collect(Collectors.toList());
-            
-            volunteersByStatus.put(status, volunteers);
+            volunteersByStatus.put(status, new ArrayList<>());
+        }
+        if (statusCounts.values().stream().anyMatch(count -> count > pageable.getOffset())) {
+            for (Application application : findRosterPages(orgProfile.getId(), pageable)) {
+                volunteersByStatus.get(application.getStatus()).add(convertToVolunteerInfo(application));
+            }
         }
 
         // Create response
         VolunteerManagementResponse response = new VolunteerManagementResponse();
         response.setVolunteersByStatus(volunteersByStatus);
-        response.setTotalVolunteers(applications.size());
-        response.setActiveVolunteers(volunteersByStatus.getOrDefault(ApplicationStatus.ACCEPTED, new ArrayList<>()).size());
-        response.setPendingApplications(volunteersByStatus.getOrDefault(ApplicationStatus.PENDING, new ArrayList<>()).size());
+        response.setStatusCounts(statusCounts);
+        response.setTotalVolunteers(totalApplications);
+        response.setActiveVolunteers(statusCounts.get(ApplicationStatus.ACCEPTED));
+        response.setPendingApplications(statusCounts.get(ApplicationStatus.PENDING));
+        response.setCurrentPage(pageable.getPageNumber());
+        response.setPageSize(pageable.getPageSize());
         
         return response;
     }
 
+    /**
+     * Get an organization's application counts per status (every status present, zero if none)
+     */
+    @Transactional(readOnly = true)
+    public Map<ApplicationStatus, Integer> getApplicationStatusCounts(Long organizationId) {
+        OrganizationProfile orgProfile = organizationProfileRepository.findByUserId(organizationId)
+                .orElseThrow(() -> new RuntimeException("Organization profile not found"));
+        return countApplicationsByStatus(orgProfile.getId());
+    }
+
+    /**
+     * Sort for the roster endpoint from an allow-listed key
+     */
+    public static Sort rosterSort(String sortBy, String sortDir) {
+        return sort(ROSTER_SORT_KEYS, sortBy, sortDir);
+    }
+
+    /**
+     * Sort for the volunteer search endpoints from an allow-listed key
+     */
+    public static Sort searchSort(String sortBy, String sortDir) {
+        return sort(SEARCH_SORT_KEYS, sortBy, sortDir);
+    }
+
     /**
      * Get detailed volunteer information
      */
@@ -127,9 +196,8 @@ public class VolunteerManagementService {
         // Get applications to organization's events
         OrganizationProfile orgProfile = organizationProfileRepository.findByUserId(organizationId)
                 .orElseThrow(() -> new RuntimeException("Organization profile not found"));
-        List<Event> organizationEvents = eventRepository.findByOrganization(orgProfile);
         List<Application> volunteerApplications = applicationRepository
-                .findByVolunteerAndEventIn(profile, organizationEvents);
+                .findByVolunteerAndOrganization(profile, orgProfile.getId());
 
         // Convert to response
         VolunteerDetailResponse response = new VolunteerDetailResponse();
@@ -190,35 +258,151 @@ public class VolunteerManagementService {
     }
 
     /**
-     * Bulk update volunteer statuses
+     * Bulk update volunteer statuses - ownership is checked with one count, each chunk
+     * is moved with a single guarded UPDATE, and event/profile counters are adjusted
+     * in batch afterwards. Every requested id gets an outcome.
      */
     public BulkUpdateResponse bulkUpdateVolunteerStatuses(BulkUpdateRequest request, Long organizationId) {
+        if (request.getApplicationIds() == null || request.getApplicationIds().isEmpty()) {
+            throw new RuntimeException("No applications selected");
+        }
+        if (request.getNewStatus() == null) {
+            throw new RuntimeException("New status is required");
+        }
+        if (request.getHoursCompleted() != null && request.getHoursCompleted() < 0) {
+            throw new RuntimeException("Hours completed cannot be negative");
+        }
         System.out.println("Bulk updating " + request.getApplicationIds().size() + " applications");
-        
-        List<Application> applications = applicationRepository.findAllById(request.getApplicationIds());
-        
-        // Verify all applications belong to organization events
-        for (Application application : applications) {
-            if (!application.getEvent().getOrganization().getUser().getId().equals(organizationId)) {
-                throw new RuntimeException("Not authorized to update application ID: " + application.getId());
+
+        OrganizationProfile orgProfile = organizationProfileRepository.findByUserId(organizationId)
+                .orElseThrow(() -> new RuntimeException("Organization profile not found"));
+
+        List<Long> requestedIds = new ArrayList<>(new LinkedHashSet<>(request.getApplicationIds()));
+        List<List<Long>> chunks = chunk(requestedIds);
+        ApplicationStatus newStatus = request.getNewStatus();
+        List<ApplicationStatus> allowedFrom = newStatus.getAllowedPreviousStatuses();
+
+        // Verify ownership: the owned count must match the ids that exist
+        for (List<Long> ids : chunks) {
+            long owned = applicationRepository.countOwnedApplications(ids, orgProfile.getId());
+            if (owned != ids.size() && owned != applicationRepository.findExistingIds(ids).size()) {
+                throw new RuntimeException("Not authorized to update one or more of the selected applications");
             }
         }
 
-        // Update all applications
-        int updatedCount = 0;
-        for (Application application : applications) {
-            application.setStatus(request.getNewStatus());
-            if (request.getOrganizationNotes() != null) {
-                application.setOrganizationNotes(request.getOrganizationNotes());
+        Map<Long, BulkUpdateResult> results = new HashMap<>();
+        Map<Long, Integer> eventSpotDeltas = new HashMap<>();
+        List<Attendance> attendances = new ArrayList<>();
+        Set<Long> claimedIds = new HashSet<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (List<Long> ids : chunks) {
+            // Classify each row and group the transitionable ones by the hours they record
+            Map<Integer, List<Object[]>> transitions = new LinkedHashMap<>();
+            Map<Long, List<Object[]>> spotClaims = new TreeMap<>();
+            Map<Long, Object[]> candidates = new HashMap<>();
+            for (Object[] row : applicationRepository.findTransitionCandidates(ids)) {
+                candidates.put((Long) row[0], row);
+            }
+
+            for (Long id : ids) {
+                Object[] row = candidates.get(id);
+                if (row == null) {
+                    results.put(id, new BulkUpdateResult(id, null, BulkUpdateOutcome.NOT_FOUND));
+                    continue;
+                }
+                ApplicationStatus current = (ApplicationStatus) row[1];
+                if (current == newStatus) {
+                    results.put(id, new BulkUpdateResult(id, current, BulkUpdateOutcome.UNCHANGED));
+                    continue;
+                }
+                if (!allowedFrom.contains(current)) {
+                    results.put(id, new BulkUpdateResult(id, current, BulkUpdateOutcome.INVALID_TRANSITION));
+                    continue;
+                }
+                if (!current.holdsVolunteerSpot() && newStatus.holdsVolunteerSpot()) {
+                    spotClaims.computeIfAbsent((Long) row[2], eventId -> new ArrayList<>()).add(row);
+                    continue;
+                }
+                transitions.computeIfAbsent(hoursFor(newStatus, request, (Integer) row[5]), h -> new ArrayList<>())
+                        .add(row);
+            }
+
+            // Rows that need a spot claim it in the event row itself, events in id order
+            for (Map.Entry<Long, List<Object[]>> claim : spotClaims.entrySet()) {
+                List<Object[]> rows = claim.getValue();
+                int granted = claimSpots(claim.getKey(), rows.size());
+                for (int i = 0; i < rows.size(); i++) {
+                    Object[] row = rows.get(i);
+                    Long id = (Long) row[0];
+                    if (i >= granted) {
+                        results.put(id, new BulkUpdateResult(id, (ApplicationStatus) row[1],
+                                BulkUpdateOutcome.EVENT_FULL));
+                        continue;
+                    }
+                    claimedIds.add(id);
+                    transitions.computeIfAbsent(hoursFor(newStatus, request, (Integer) row[5]),
+                            h -> new ArrayList<>()).add(row);
+                }
+            }
+
+            for (Map.Entry<Integer, List<Object[]>> group : transitions.entrySet()) {
+                List<Long> groupIds = group.getValue().stream()
+                        .map(row -> (Long) row[0])
+                        .collect(Collectors.toList());
+                int updated = applicationRepository.transitionStatus(groupIds, allowedFrom, newStatus,
+                        request.getOrganizationNotes(),
+                        newStatus.isCompleted() ? null : now,
+                        newStatus.isCompleted() ? now : null,
+                        group.getKey());
+
+                // A short count means rows changed concurrently - find out which ones moved
+                Set<Long> movedIds = updated == groupIds.size()
+                        ? new HashSet<>(groupIds)
+                        : new HashSet<>(applicationRepository.findIdsWithStatus(groupIds, newStatus));
+
+                for (Object[] row : group.getValue()) {
+                    Long id = (Long) row[0];
+                    ApplicationStatus previous = (ApplicationStatus) row[1];
+                    if (!movedIds.contains(id)) {
+                        results.put(id, new BulkUpdateResult(id, previous, BulkUpdateOutcome.CONFLICT));
+                        if (claimedIds.contains(id)) {
+                            // Hand back the spot this row claimed but never used
+                            eventSpotDeltas.merge((Long) row[2], -1, Integer::sum);
+                        }
+                        continue;
+                    }
+                    results.put(id, new BulkUpdateResult(id, previous, BulkUpdateOutcome.UPDATED));
+
+                    // Claimed spots are already counted on the event
+                    int spotDelta = claimedIds.contains(id) ? 0
+                            : (newStatus.holdsVolunteerSpot() ? 1 : 0) - (previous.holdsVolunteerSpot() ? 1 : 0);
+                    if (spotDelta != 0) {
+                        eventSpotDeltas.merge((Long) row[2], spotDelta, Integer::sum);
+                    }
+                    if (newStatus == ApplicationStatus.ATTENDED) {
+                        attendances.add(new Attendance((Long) row[6], id, (Long) row[2], group.getKey()));
+                    }
+                }
             }
-            applicationRepository.save(application);
-            updatedCount++;
         }
 
+        applyEventSpotDeltas(eventSpotDeltas);
+        volunteerHoursLedgerService.recordAttendances(attendances);
+
+        List<BulkUpdateResult> orderedResults = requestedIds.stream()
+                .map(results::get)
+                .collect(Collectors.toList());
+        int updatedCount = (int) orderedResults.stream()
+                .filter(result -> result.getOutcome() == BulkUpdateOutcome.UPDATED)
+                .count();
+
         BulkUpdateResponse response = new BulkUpdateResponse();
         response.setUpdatedCount(updatedCount);
+        response.setSkippedCount(orderedResults.size() - updatedCount);
         response.setTotalRequested(request.getApplicationIds().size());
-        response.setNewStatus(request.getNewStatus());
+        response.setNewStatus(newStatus);
+        response.setResults(orderedResults);
         response.setMessage(updatedCount + " applications updated successfully");
         
         return response;
@@ -230,36 +414,27 @@ public class VolunteerManagementService {
     public VolunteerSearchResponse searchVolunteers(VolunteerSearchRequest request, Long organizationId, Pageable pageable) {
         System.out.println("Searching volunteers with filters for organization: " + organizationId);
         
-        // Get organization events
         OrganizationProfile orgProfile = organizationProfileRepository.findByUserId(organizationId)
                 .orElseThrow(() -> new RuntimeException("Organization profile not found"));
-        List<Event> organizationEvents = eventRepository.findByOrganization(orgProfile);
-        
-        // Get all applications to organization events
-        List<Application> allApplications = applicationRepository.findByEventIn(organizationEvents);
-        
-        // Filter applications based on search criteria
-        List<Application> filteredApplications = allApplications.stream()
-                .filter(app -> matchesSearchCriteria(app, request))
-                .collect(Collectors.toList());
 
-        // Convert to volunteer search results
-        List<VolunteerSearchResult> results = filteredApplications.stream()
-                .map(this::convertToSearchResult)
-                .distinct() // Remove duplicates if volunteer applied to multiple events
-                .collect(Collectors.toList());
+        String searchTerm = trimToNull(request.getSearchTerm());
+        String location = trimToNull(request.getLocation());
+        boolean filterSkills = request.getSkills() != null && !request.getSkills().isEmpty();
 
-        // Apply pagination
-        int start = (int) pageable.getOffset();
-        int end = Math.min(start + pageable.getPageSize(), results.size());
-        List<VolunteerSearchResult> paginatedResults = results.subList(start, end);
+        // Every filter runs in the database and returns each volunteer once
+        Page<VolunteerProfile> page = filterSkills
+                ? searchOrganizationVolunteersWithSkills(orgProfile.getId(), request.getStatus(), searchTerm,
+                        location, request.getSkills(), pageable)
+                : volunteerProfileRepository.searchOrganizationVolunteers(
+                        orgProfile.getId(), request.getStatus(), searchTerm, location, pageable);
 
         VolunteerSearchResponse response = new VolunteerSearchResponse();
-        response.setVolunteers(paginatedResults);
-        response.setTotalElements(results.size());
-        response.setTotalPages((int) Math.ceil((double) results.size() / pageable.getPageSize()));
+        response.setVolunteers(page.getContent().stream()
+                .map(this::convertToSearchResult)
+                .collect(Collectors.toList()));
+        response.setTotalElements((int) page.getTotalElements());
+        response.setTotalPages(page.getTotalPages());
         response.setCurrentPage(pageable.getPageNumber());
-        
         return response;
     }
 
@@ -267,6 +442,177 @@ public class VolunteerManagementService {
     // HELPER METHODS
     // ==========================================
 
+    private Map<ApplicationStatus, Integer> countApplicationsByStatus(Long organizationProfileId) {
+        Map<ApplicationStatus, Integer> statusCounts = new HashMap<>();
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            statusCounts.put(status, 0);
+        }
+        for (Object[] row : applicationRepository.countApplicationsByOrganizationGroupByStatus(organizationProfileId)) {
+            statusCounts.put((ApplicationStatus) row[0], ((Number) row[1]).intValue());
+        }
+        return statusCounts;
+    }
+
+    /**
+     * The same page of the roster for every status, in one query - applications are numbered
+     * per status by a window function and the page is cut from those numbers
+     */
+    private List<Application> findRosterPages(Long organizationProfileId, Pageable pageable) {
+        return entityManager.createQuery(
+                "SELECT a FROM Application a JOIN FETCH a.volunteer v JOIN FETCH v.user JOIN FETCH a.event e " +
+                "WHERE a.id IN (SELECT r.id FROM (" +
+                "  SELECT p.id AS id, ROW_NUMBER() OVER (PARTITION BY p.status ORDER BY " +
+                orderBy("p", pageable.getSort(), ROSTER_SORT_KEYS) + ") AS position " +
+                "  FROM Application p WHERE p.event.organization.id = :orgId) r " +
+                "WHERE r.position > :first AND r.position <= :last) " +
+                "ORDER BY " + orderBy("a", pageable.getSort(), ROSTER_SORT_KEYS), Application.class)
+                .setParameter("orgId", organizationProfileId)
+                .setParameter("first", pageable.getOffset())
+                .setParameter("last", pageable.getOffset() + pageable.getPageSize())
+                .getResultList();
+    }
+
+    /**
+     * searchOrganizationVolunteers plus a match on any of the given skills - skills are stored
+     * as CSV, so each one is matched as a whole comma-delimited entry
+     */
+    private Page<VolunteerProfile> searchOrganizationVolunteersWithSkills(Long organizationProfileId,
+            ApplicationStatus status, String searchTerm, String location, List<String> skills, Pageable pageable) {
+        StringBuilder where = new StringBuilder(
+                "WHERE vp.id IN (SELECT a.volunteer.id FROM Application a WHERE a.event.organization.id = :orgId");
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("orgId", organizationProfileId);
+        if (status != null) {
+            where.append(" AND a.status = :status");
+            parameters.put("status", status);
+        }
+        where.append(")");
+        if (searchTerm != null) {
+            where.append(" AND (LOWER(vp.firstName) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
+                    .append(" OR LOWER(vp.lastName) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
+                    .append(" OR LOWER(u.email) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
+                    .append(" OR LOWER(vp.bio) LIKE LOWER(CONCAT('%', :searchTerm, '%')))");
+            parameters.put("searchTerm", searchTerm);
+        }
+        if (location != null) {
+            where.append(" AND LOWER(vp.location) LIKE LOWER(CONCAT('%', :location, '%'))");
+            parameters.put("location", location);
+        }
+        List<String> skillClauses = new ArrayList<>();
+        for (String skill : new LinkedHashSet<>(skills)) {
+            if (skill == null || skill.trim().isEmpty()) {
+                continue;
+            }
+            String name = "skill" + skillClauses.size();
+            skillClauses.add("CONCAT(',', REPLACE(vp.skills, ', ', ','), ',') LIKE CONCAT('%,', :" + name
+                    + ", ',%') ESCAPE '\\'");
+            parameters.put(name, skill.trim().replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_"));
+        }
+        if (skillClauses.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        where.append(" AND (").append(String.join(" OR ", skillClauses)).append(")");
+
+        TypedQuery<VolunteerProfile> select = entityManager.createQuery(
+                "SELECT vp FROM VolunteerProfile vp JOIN FETCH vp.user u " + where
+                        + " ORDER BY " + orderBy("vp", pageable.getSort(), SEARCH_SORT_KEYS), VolunteerProfile.class);
+        TypedQuery<Long> count = entityManager.createQuery(
+                "SELECT COUNT(vp) FROM VolunteerProfile vp JOIN vp.user u " + where, Long.class);
+        parameters.forEach((name, value) -> {
+            select.setParameter(name, value);
+            count.setParameter(name, value);
+        });
+        select.setFirstResult((int) pageable.getOffset());
+        select.setMaxResults(pageable.getPageSize());
+        return new PageImpl<>(select.getResultList(), pageable, count.getSingleResult());
+    }
+
+    /**
+     * ORDER BY list for allow-listed sort paths, with the id as tie-breaker so pages are stable
+     */
+    private static String orderBy(String alias, Sort sort, Map<String, String> allowedKeys) {
+        StringBuilder orderBy = new StringBuilder();
+        for (Sort.Order order : sort) {
+            if (!allowedKeys.containsValue(order.getProperty())) {
+                throw new RuntimeException("Cannot sort by " + order.getProperty());
+            }
+            orderBy.append(alias).append('.').append(order.getProperty())
+                    .append(order.isAscending() ? " ASC, " : " DESC, ");
+        }
+        return orderBy.append(alias).append(".id").toString();
+    }
+
+    private static Sort sort(Map<String, String> allowedKeys, String sortBy, String sortDir) {
+        String path = allowedKeys.get(sortBy);
+        if (path == null) {
+            throw new RuntimeException("Cannot sort by " + sortBy + " - use one of "
+                    + String.join(", ", new TreeSet<>(allowedKeys.keySet())));
+        }
+        return Sort.by(Sort.Direction.fromString(sortDir), path);
+    }
+
+    private List<List<Long>> chunk(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int start = 0; start < ids.size(); start += bulkChunkSize) {
+            chunks.add(ids.subList(start, Math.min(start + bulkChunkSize, ids.size())));
+        }
+        return chunks;
+    }
+
+    /**
+     * Claim up to wanted spots on an event and return how many were granted. The guarded UPDATE
+     * re-checks capacity under the row lock; when all of them do not fit we re-read what is left
+     * and claim that instead, giving up after a few attempts if other claims keep winning.
+     */
+    private int claimSpots(Long eventId, int wanted) {
+        int granted = 0;
+        int take = wanted;
+        for (int attempt = 0; attempt < MAX_CLAIM_ATTEMPTS && take > 0; attempt++) {
+            if (eventRepository.claimVolunteerSpots(eventId, take) > 0) {
+                granted = take;
+                break;
+            }
+            Integer remaining = eventRepository.findRemainingSpots(eventId);
+            take = remaining != null ? Math.min(remaining, wanted) : 0;
+        }
+        if (granted > 0) {
+            upcomingEventIndex.onVolunteerCountsAdjusted(List.of(eventId), granted);
+        }
+        return granted;
+    }
+
+    /**
+     * Hours recorded by the transition: requested hours, else the event estimate (attended only)
+     */
+    private Integer hoursFor(ApplicationStatus newStatus, BulkUpdateRequest request, Integer estimatedHours) {
+        if (newStatus == ApplicationStatus.NO_SHOW) {
+            return 0;
+        }
+        if (newStatus != ApplicationStatus.ATTENDED) {
+            return null;
+        }
+        if (request.getHoursCompleted() != null) {
+            return request.getHoursCompleted();
+        }
+        return estimatedHours != null ? estimatedHours : 0;
+    }
+
+    /**
+     * One UPDATE per distinct delta across all affected events
+     */
+    private void applyEventSpotDeltas(Map<Long, Integer> eventSpotDeltas) {
+        Map<Integer, List<Long>> eventsByDelta = eventSpotDeltas.entrySet().stream()
+                .filter(entry -> entry.getValue() != 0)
+                .collect(Collectors.groupingBy(Map.Entry::getValue,
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+        for (Map.Entry<Integer, List<Long>> entry : eventsByDelta.entrySet()) {
+            for (List<Long> ids : chunk(entry.getValue())) {
+                eventRepository.adjustCurrentVolunteers(ids, entry.getKey());
+                upcomingEventIndex.onVolunteerCountsAdjusted(ids, entry.getKey());
+            }
+        }
+    }
+
     private VolunteerInfo convertToVolunteerInfo(Application application) {
         VolunteerProfile profile = application.getVolunteer();
         User user = profile.getUser();
@@ -300,8 +646,7 @@ public class VolunteerManagementService {
         return info;
     }
 
-    private VolunteerSearchResult convertToSearchResult(Application application) {
-        VolunteerProfile profile = application.getVolunteer();
+    private VolunteerSearchResult convertToSearchResult(VolunteerProfile profile) {
         User user = profile.getUser();
         
         VolunteerSearchResult result = new VolunteerSearchResult();
@@ -320,53 +665,11 @@ public class VolunteerManagementService {
         return result;
     }
 
-    private boolean matchesSearchCriteria(Application application, VolunteerSearchRequest request) {
-        VolunteerProfile profile = application.getVolunteer();
-        User user = profile.getUser();
-        
-        // Text search
-        if (request.getSearchTerm() != null && !request.getSearchTerm().trim().isEmpty()) {
-            String searchTerm = request.getSearchTerm().toLowerCase();
-            boolean matchesText = false;
-            
-            if (profile.getFirstName() != null) {
-                matchesText = profile.getFirstName().toLowerCase().contains(searchTerm);
-            }
-            if (profile.getLastName() != null) {
-                matchesText = matchesText || profile.getLastName().toLowerCase().contains(searchTerm);
-            }
-            if (user.getEmail() != null) {
-                matchesText = matchesText || user.getEmail().toLowerCase().contains(searchTerm);
-            }
-            if (profile.getBio() != null) {
-                matchesText = matchesText || profile.getBio().toLowerCase().contains(searchTerm);
-            }
-            
-            if (!matchesText) return false;
-        }
-        
-        // Status filter
-        if (request.getStatus() != null && application.getStatus() != request.getStatus()) {
-            return false;
-        }
-        
-        // Skills filter
-        if (request.getSkills() != null && !request.getSkills().isEmpty()) {
-            List<String> volunteerSkills = profile.getSkillsList();
-            boolean hasMatchingSkill = request.getSkills().stream()
-                    .anyMatch(skill -> volunteerSkills.contains(skill));
-            if (!hasMatchingSkill) return false;
-        }
-        
-        // Location filter
-        if (request.getLocation() != null && !request.getLocation().trim().isEmpty()) {
-            if (profile.getLocation() == null || 
-                !profile.getLocation().toLowerCase().contains(request.getLocation().toLowerCase())) {
-                return false;
-            }
+    private String trimToNull(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return null;
         }
-        
-        return true;
+        return value.trim();
     }
 
     // ==========================================
@@ -378,6 +681,9 @@ public class VolunteerManagementService {
         private int totalVolunteers;
         private int activeVolunteers;
         private int pendingApplications;
+        private Map<ApplicationStatus, Integer> statusCounts;
+        private int currentPage;
+        private int pageSize;
 
         // Getters and setters
         public Map<ApplicationStatus, List<VolunteerInfo>> getVolunteersByStatus() { return volunteersByStatus; }
@@ -388,6 +694,12 @@ public class VolunteerManagementService {
         public void setActiveVolunteers(int activeVolunteers) { this.activeVolunteers = activeVolunteers; }
         public int getPendingApplications() { return pendingApplications; }
         public void setPendingApplications(int pendingApplications) { this.pendingApplications = pendingApplications; }
+        public Map<ApplicationStatus, Integer> getStatusCounts() { return statusCounts; }
+        public void setStatusCounts(Map<ApplicationStatus, Integer> statusCounts) { this.statusCounts = statusCounts; }
+        public int getCurrentPage() { return currentPage; }
+        public void setCurrentPage(int currentPage) { this.currentPage = currentPage; }
+        public int getPageSize() { return pageSize; }
+        public void setPageSize(int pageSize) { this.pageSize = pageSize; }
     }
 
     public static class VolunteerInfo {
@@ -533,6 +845,7 @@ public class VolunteerManagementService {
         private List<Long> applicationIds;
         private ApplicationStatus newStatus;
         private String organizationNotes;
+        private Integer hoursCompleted;
 
         // Getters and setters
         public List<Long> getApplicationIds() { return applicationIds; }
@@ -541,23 +854,55 @@ public class VolunteerManagementService {
         public void setNewStatus(ApplicationStatus newStatus) { this.newStatus = newStatus; }
         public String getOrganizationNotes() { return organizationNotes; }
         public void setOrganizationNotes(String organizationNotes) { this.organizationNotes = organizationNotes; }
+        public Integer getHoursCompleted() { return hoursCompleted; }
+        public void setHoursCompleted(Integer hoursCompleted) { this.hoursCompleted = hoursCompleted; }
+    }
+
+    public enum BulkUpdateOutcome {
+        UPDATED, UNCHANGED, NOT_FOUND, INVALID_TRANSITION, EVENT_FULL, CONFLICT
+    }
+
+    public static class BulkUpdateResult {
+        private Long applicationId;
+        private ApplicationStatus previousStatus;
+        private BulkUpdateOutcome outcome;
+
+        public BulkUpdateResult(Long applicationId, ApplicationStatus previousStatus, BulkUpdateOutcome outcome) {
+            this.applicationId = applicationId;
+            this.previousStatus = previousStatus;
+            this.outcome = outcome;
+        }
+
+        // Getters and setters
+        public Long getApplicationId() { return applicationId; }
+        public void setApplicationId(Long applicationId) { this.applicationId = applicationId; }
+        public ApplicationStatus getPreviousStatus() { return previousStatus; }
+        public void setPreviousStatus(ApplicationStatus previousStatus) { this.previousStatus = previousStatus; }
+        public BulkUpdateOutcome getOutcome() { return outcome; }
+        public void setOutcome(BulkUpdateOutcome outcome) { this.outcome = outcome; }
     }
 
     public static class BulkUpdateResponse {
         private int updatedCount;
+        private int skippedCount;
         private int totalRequested;
         private ApplicationStatus newStatus;
         private String message;
+        private List<BulkUpdateResult> results;
 
         // Getters and setters
         public int getUpdatedCount() { return updatedCount; }
         public void setUpdatedCount(int updatedCount) { this.updatedCount = updatedCount; }
+        public int getSkippedCount() { return skippedCount; }
+        public void setSkippedCount(int skippedCount) { this.skippedCount = skippedCount; }
         public int getTotalRequested() { return totalRequested; }
         public void setTotalRequested(int totalRequested) { this.totalRequested = totalRequested; }
         public ApplicationStatus getNewStatus() { return newStatus; }
         public void setNewStatus(ApplicationStatus newStatus) { this.newStatus = newStatus; }
         public String getMessage() { return message; }
         public void setMessage(String message) { this.message = message; }
+        public List<BulkUpdateResult> getResults() { return results; }
+        public void setResults(List<BulkUpdateResult> results) { this.results = results; }
     }
 
     public static class VolunteerSearchRequest {
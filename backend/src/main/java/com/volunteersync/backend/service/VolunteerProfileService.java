@@ -3,24 +3,34 @@ package com.volunteersync.backend.service;
 
 import com.volunteersync.backend.entity.User;
 import com.volunteersync.backend.entity.Application;
+import com.volunteersync.backend.entity.ProfileCompleteness;
 import com.volunteersync.backend.entity.VolunteerProfile;
 import com.volunteersync.backend.enums.UserType;
+import com.volunteersync.backend.enums.ImageVariant;
 import com.volunteersync.backend.repository.VolunteerProfileRepository;
 import com.volunteersync.backend.repository.UserRepository;
 import com.volunteersync.backend.repository.ApplicationRepository;
 import com.volunteersync.backend.dto.VolunteerProfileDTO;
+import com.volunteersync.backend.dto.BatchResponse;
+import com.volunteersync.backend.dto.IncompleteProfileDTO;
 import com.volunteersync.backend.service.BadgeService;
 import com.volunteersync.backend.dto.BadgeDTO;
 import com.volunteersync.backend.dto.VolunteerProfileDTO.ActivityEntry;
 import com.volunteersync.backend.dto.VolunteerProfileDTO.Connection;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -33,6 +43,9 @@ import java.util.stream.Collectors;
 @Transactional
 public class VolunteerProfileService {
 
+    @Value("${app.batch.max-ids:100}")
+    private int maxBatchIds;
+
     @Autowired
     private VolunteerProfileRepository volunteerProfileRepository;
 
@@ -45,6 +58,18 @@ public class VolunteerProfileService {
     @Autowired
     private BadgeService badgeService;
 
+    @Autowired
+    private BadgeProgressCache badgeProgressCache;
+
+    @Autowired
+    private SuggestService suggestService;
+
+    @Autowired
+    private HomeFeedService homeFeedService;
+
+    @Autowired
+    private VolunteerHoursLedgerService volunteerHoursLedgerService;
+
     // ==========================================
     // PROFILE MANAGEMENT METHODS
     // ==========================================
@@ -142,6 +167,8 @@ public class VolunteerProfileService {
         }
 
         VolunteerProfile savedProfile = volunteerProfileRepository.save(profile);
+        badgeProgressCache.evict(userId);
+        suggestService.onVolunteerSkillsSaved(savedProfile.getSkillsList());
 
         System.out.println("Saved profile skills: '" + savedProfile.getSkills() + "'");
         System.out.println("Saved profile interests: '" + savedProfile.getInterests() + "'");
@@ -193,6 +220,20 @@ public class VolunteerProfileService {
         return convertToDTO(profile);
     }
 
+    /**
+     * Get several volunteer profiles by ID in one query (batch multi-get);
+     * one item per requested id, in request order
+     */
+    @Transactional(readOnly = true)
+    public BatchResponse<VolunteerProfileDTO> getProfilesByIds(List<Long> ids) {
+        List<VolunteerProfile> found = volunteerProfileRepository.findAllWithUserByIdIn(BatchResponse.distinctIds(ids, maxBatchIds));
+        Map<Long, VolunteerProfileDTO> loaded = new HashMap<>();
+        for (VolunteerProfile profile : found) {
+            loaded.put(profile.getId(), convertToDTO(profile));
+        }
+        return BatchResponse.of(ids, loaded);
+    }
+
     /**
      * Update volunteer profile
      */
@@ -229,6 +270,8 @@ public class VolunteerProfileService {
         }
 
         VolunteerProfile savedProfile = volunteerProfileRepository.save(profile);
+        badgeProgressCache.evict(userId);
+        suggestService.onVolunteerSkillsSaved(savedProfile.getSkillsList());
 
         System.out.println("Volunteer profile updated successfully");
         return convertToDTO(savedProfile);
@@ -373,6 +416,7 @@ public class VolunteerProfileService {
             profile.setUpdatedAt(LocalDateTime.now());
 
             VolunteerProfile savedProfile = volunteerProfileRepository.save(profile);
+            suggestService.onVolunteerSkillsSaved(savedProfile.getSkillsList());
             return convertToDTO(savedProfile);
 
         } catch (Exception e) {
@@ -416,10 +460,7 @@ public class VolunteerProfileService {
         VolunteerProfile profile = volunteerProfileRepository.findByUser(user)
                 .orElseThrow(() -> new RuntimeException("Volunteer profile not found"));
 
-        int currentHours = profile.getTotalVolunteerHours() != null ? profile.getTotalVolunteerHours() : 0;
-        profile.setTotalVolunteerHours(currentHours + additionalHours);
-
-        volunteerProfileRepository.save(profile);
+        volunteerHoursLedgerService.recordAdjustment(profile.getId(), additionalHours, 0, "Hours adjustment");
         System.out.println("Volunteer hours updated successfully");
     }
 
@@ -435,10 +476,7 @@ public class VolunteerProfileService {
         VolunteerProfile profile = volunteerProfileRepository.findByUser(user)
                 .orElseThrow(() -> new RuntimeException("Volunteer profile not found"));
 
-        int currentEvents = profile.getEventsParticipated() != null ? profile.getEventsParticipated() : 0;
-        profile.setEventsParticipated(currentEvents + 1);
-
-        volunteerProfileRepository.save(profile);
+        volunteerHoursLedgerService.recordAdjustment(profile.getId(), 0, 1, "Events participated adjustment");
         System.out.println("Events participated count updated successfully");
     }
 
@@ -609,10 +647,10 @@ public class VolunteerProfileService {
     public List<VolunteerProfileDTO> getTopVolunteersByHours(int limit) {
         System.out.println("Fetching top " + limit + " volunteers by hours");
 
-        List<VolunteerProfile> profiles = volunteerProfileRepository.findTopVolunteersByHours();
+        List<VolunteerProfile> profiles = volunteerProfileRepository
+                .findTopVolunteersByHours(PageRequest.of(0, Math.max(1, limit)));
 
         return profiles.stream()
-                .limit(limit)
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
@@ -623,10 +661,10 @@ public class VolunteerProfileService {
     public List<VolunteerProfileDTO> getMostActiveVolunteers(int limit) {
         System.out.println("Fetching top " + limit + " most active volunteers");
 
-        List<VolunteerProfile> profiles = volunteerProfileRepository.findMostActiveVolunteers();
+        List<VolunteerProfile> profiles = volunteerProfileRepository
+                .findMostActiveVolunteers(PageRequest.of(0, Math.max(1, limit)));
 
         return profiles.stream()
-                .limit(limit)
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
@@ -704,26 +742,44 @@ public class VolunteerProfileService {
     }
 
     /**
-     * Get volunteer profile completion rate
+     * Get volunteer profile completion rate (one aggregate over the stored completeness score)
      */
+    @Transactional(readOnly = true)
     public ProfileCompletionStats getProfileCompletionStats() {
-        System.out.println("Calculating profile completion statistics");
-
-        List<VolunteerProfile> allProfiles = volunteerProfileRepository.findAll();
-
-        long totalProfiles = allProfiles.size();
-        long completeProfiles = allProfiles.stream()
-                .mapToLong(profile -> isProfileComplete(profile) ? 1L : 0L)
-                .sum();
+        Object[] row = volunteerProfileRepository.getCompletenessStats(ProfileCompleteness.COMPLETE_SCORE).get(0);
+        long totalProfiles = ((Number) row[0]).longValue();
+        long completeProfiles = ((Number) row[1]).longValue();
 
         ProfileCompletionStats stats = new ProfileCompletionStats();
         stats.setTotalProfiles(totalProfiles);
         stats.setCompleteProfiles(completeProfiles);
         stats.setCompletionRate(totalProfiles > 0 ? (completeProfiles * 100.0 / totalProfiles) : 0.0);
+        stats.setAverageScore(row[2] != null ? ((Number) row[2]).doubleValue() : 0.0);
 
         return stats;
     }
 
+    /**
+     * Get volunteer profiles with a completeness score in [minScore, maxScore] (Admin only)
+     */
+    @Transactional(readOnly = true)
+    public Page<IncompleteProfileDTO> getIncompleteProfiles(int minScore, int maxScore, Pageable pageable) {
+        ProfileCompleteness.checkScoreBand(minScore, maxScore);
+        return volunteerProfileRepository.findByCompletenessBand(minScore, maxScore, pageable)
+                .map(profile -> {
+                    IncompleteProfileDTO dto = new IncompleteProfileDTO();
+                    dto.setProfileId(profile.getId());
+                    dto.setUserId(profile.getUser().getId());
+                    dto.setProfileType("VOLUNTEER");
+                    dto.setName(profile.getFullName());
+                    dto.setEmail(profile.getUser().getEmail());
+                    dto.setCompletenessScore(profile.getProfileCompleteness());
+                    dto.setMissingFields(ProfileCompleteness.missingFields(ProfileCompleteness.VOLUNTEER_RULES, profile));
+                    dto.setUpdatedAt(profile.getUpdatedAt());
+                    return dto;
+                });
+    }
+
     /**
      * Get individual volunteer statistics
      */
@@ -739,62 +795,37 @@ public class VolunteerProfileService {
         IndividualVolunteerStats stats = new IndividualVolunteerStats();
         stats.setTotalHours(profile.getTotalVolunteerHours() != null ? profile.getTotalVolunteerHours() : 0);
         stats.setEventsParticipated(profile.getEventsParticipated() != null ? profile.getEventsParticipated() : 0);
-        stats.setProfileCompleteness(calculateProfileCompleteness(profile));
+        stats.setProfileCompleteness(profile.getProfileCompleteness());
         stats.setMemberSince(profile.getCreatedAt());
         stats.setIsAvailable(profile.getIsAvailable());
 
         // Calculate ranking
-        List<VolunteerProfile> allVolunteers = volunteerProfileRepository.findTopVolunteersByHours();
-        int ranking = -1;
-        for (int i = 0; i < allVolunteers.size(); i++) {
-            if (allVolunteers.get(i).getId().equals(profile.getId())) {
-                ranking = i + 1;
-                break;
-            }
-        }
+        int hours = profile.getTotalVolunteerHours() != null ? profile.getTotalVolunteerHours() : 0;
+        int ranking = (int) volunteerProfileRepository.countVolunteersWithMoreHours(hours) + 1;
         stats.setHoursRanking(ranking);
 
         return stats;
     }
 
-    // ==========================================
-    // HELPER METHODS
-    // ==========================================
+    /**
+     * Hours credited to a volunteer in [from, to), summed from the hours ledger
+     */
+    @Transactional(readOnly = true)
+    public VolunteerHoursPeriod getHoursForPeriod(Long userId, LocalDateTime from, LocalDateTime to) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
 
-    private boolean isProfileComplete(VolunteerProfile profile) {
-        return profile.getFirstName() != null && !profile.getFirstName().trim().isEmpty() &&
-                profile.getLastName() != null && !profile.getLastName().trim().isEmpty() &&
-                profile.getBio() != null && !profile.getBio().trim().isEmpty() &&
-                profile.getLocation() != null && !profile.getLocation().trim().isEmpty();
-    }
+        VolunteerProfile profile = volunteerProfileRepository.findByUser(user)
+                .orElseThrow(() -> new RuntimeException("Volunteer profile not found"));
 
-    private int calculateProfileCompleteness(VolunteerProfile profile) {
-        int completeness = 0;
-        int totalFields = 9; // firstName, lastName, bio, location, phone, profileImage, availability,
-                             // skills, interests
-
-        if (profile.getFirstName() != null && !profile.getFirstName().trim().isEmpty())
-            completeness++;
-        if (profile.getLastName() != null && !profile.getLastName().trim().isEmpty())
-            completeness++;
-        if (profile.getBio() != null && !profile.getBio().trim().isEmpty())
-            completeness++;
-        if (profile.getLocation() != null && !profile.getLocation().trim().isEmpty())
-            completeness++;
-        if (profile.getPhoneNumber() != null && !profile.getPhoneNumber().trim().isEmpty())
-            completeness++;
-        if (profile.getProfileImageUrl() != null && !profile.getProfileImageUrl().trim().isEmpty())
-            completeness++;
-        if (profile.getIsAvailable() != null)
-            completeness++;
-        if (profile.getSkills() != null && !profile.getSkills().trim().isEmpty())
-            completeness++;
-        if (profile.getInterests() != null && !profile.getInterests().trim().isEmpty())
-            completeness++;
-
-        return (completeness * 100) / totalFields;
+        return new VolunteerHoursPeriod(from, to,
+                volunteerHoursLedgerService.getHoursBetween(profile.getId(), from, to));
     }
 
+    // ==========================================
+    // HELPER METHODS
+    // ==========================================
+
     private VolunteerProfileDTO convertToDTO(VolunteerProfile profile) {
         VolunteerProfileDTO dto = new VolunteerProfileDTO();
 
@@ -807,6 +838,8 @@ public class VolunteerProfileService {
         dto.setLocation(profile.getLocation());
         dto.setPhoneNumber(profile.getPhoneNumber());
         dto.setProfileImageUrl(profile.getProfileImageUrl());
+        dto.setProfileImageThumbnailUrl(
+                ImageStorageService.variantUrl(profile.getProfileImageUrl(), ImageVariant.THUMBNAIL));
         dto.setTotalVolunteerHours(profile.getTotalVolunteerHours());
         dto.setEventsParticipated(profile.getEventsParticipated());
         dto.setIsAvailable(profile.getIsAvailable());
@@ -860,6 +893,8 @@ public class VolunteerProfileService {
         profile.setUpdatedAt(LocalDateTime.now());
 
         VolunteerProfile savedProfile = volunteerProfileRepository.save(profile);
+        suggestService.onFollowChanged(organizationId, true);
+        homeFeedService.onFollowChanged(userId, organizationId, true);
         System.out.println("Successfully followed organization. Total followed: " +
                 savedProfile.getFollowedOrganizationsCount());
 
@@ -887,6 +922,8 @@ public class VolunteerProfileService {
         profile.setUpdatedAt(LocalDateTime.now());
 
         VolunteerProfile savedProfile = volunteerProfileRepository.save(profile);
+        suggestService.onFollowChanged(organizationId, false);
+        homeFeedService.onFollowChanged(userId, organizationId, false);
         System.out.println("Successfully unfollowed organization. Total followed: " +
                 savedProfile.getFollowedOrganizationsCount());
 
@@ -915,10 +952,14 @@ public class VolunteerProfileService {
         if (wasFollowing) {
             profile.unfollowOrganization(organizationId);
             updatedProfile = convertToDTO(volunteerProfileRepository.save(profile));
+            suggestService.onFollowChanged(organizationId, false);
+            homeFeedService.onFollowChanged(userId, organizationId, false);
             return new FollowStatusResponse(false, "Unfollowed organization", updatedProfile);
         } else {
             profile.followOrganization(organizationId);
             updatedProfile = convertToDTO(volunteerProfileRepository.save(profile));
+            suggestService.onFollowChanged(organizationId, true);
+            homeFeedService.onFollowChanged(userId, organizationId, true);
             return new FollowStatusResponse(true, "Following organization", updatedProfile);
         }
     }
@@ -1371,6 +1412,7 @@ public class VolunteerProfileService {
         private Long totalProfiles;
         private Long completeProfiles;
         private Double completionRate;
+        private Double averageScore;
 
         // Getters and setters
         public Long getTotalProfiles() {
@@ -1396,6 +1438,38 @@ public class VolunteerProfileService {
         public void setCompletionRate(Double completionRate) {
             this.completionRate = completionRate;
         }
+
+        public Double getAverageScore() {
+            return averageScore;
+        }
+
+        public void setAverageScore(Double averageScore) {
+            this.averageScore = averageScore;
+        }
+    }
+
+    public static class VolunteerHoursPeriod {
+        private LocalDateTime from;
+        private LocalDateTime to;
+        private long hours;
+
+        public VolunteerHoursPeriod(LocalDateTime from, LocalDateTime to, long hours) {
+            this.from = from;
+            this.to = to;
+            this.hours = hours;
+        }
+
+        public LocalDateTime getFrom() {
+            return from;
+        }
+
+        public LocalDateTime getTo() {
+            return to;
+        }
+
+        public long getHours() {
+            return hours;
+        }
     }
 
     public static class IndividualVolunteerStats {
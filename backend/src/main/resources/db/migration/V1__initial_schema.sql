@@ -0,0 +1,170 @@
+-- Initial schema: the tables previously generated by Hibernate (ddl-auto=create-drop)
+
+create table applications (
+    hours_completed integer,
+    applied_at timestamp(6),
+    completed_at timestamp(6),
+    event_id bigint not null,
+    id bigint generated by default as identity,
+    responded_at timestamp(6),
+    volunteer_id bigint not null,
+    message varchar(1000),
+    organization_notes varchar(1000),
+    status enum ('ACCEPTED','ATTENDED','NO_SHOW','PENDING','REJECTED','WITHDRAWN'),
+    primary key (id)
+);
+
+create table badges (
+    is_featured boolean,
+    progress_value integer,
+    created_at timestamp(6),
+    earned_at timestamp(6),
+    id bigint generated by default as identity,
+    updated_at timestamp(6),
+    user_id bigint not null,
+    notes varchar(255),
+    badge_type enum ('COMMUNITY_BUILDER','COMMUNITY_CHAMPION','DEDICATED_HELPER','EARLY_ADOPTER','EVENT_ENTHUSIAST','EVENT_ORGANIZER','EVENT_STARTER','FIRST_EVENT','FIRST_VOLUNTEER','HELPING_HAND','REGULAR_VOLUNTEER','SKILL_SHARER','SOCIAL_BUTTERFLY','VOLUNTEER_HERO') not null,
+    primary key (id)
+);
+
+create table events (
+    current_volunteers integer,
+    estimated_hours integer,
+    has_flexible_timing boolean,
+    is_recurring boolean,
+    is_virtual boolean,
+    is_weekdays_only boolean,
+    is_weekends_only boolean,
+    max_volunteers integer,
+    created_at timestamp(6),
+    end_date timestamp(6),
+    id bigint generated by default as identity,
+    organization_id bigint not null,
+    start_date timestamp(6) not null,
+    updated_at timestamp(6),
+    requirements varchar(1000),
+    description varchar(2000),
+    address varchar(255),
+    city varchar(255),
+    contact_email varchar(255),
+    contact_phone varchar(255),
+    image_url varchar(255),
+    location varchar(255),
+    recurrence_pattern varchar(255),
+    state varchar(255),
+    time_of_day varchar(255),
+    title varchar(255) not null,
+    virtual_meeting_link varchar(255),
+    zip_code varchar(255),
+    duration_category enum ('FULL_DAY','MEDIUM','MONTHLY_COMMITMENT','MULTI_DAY','ONGOING_LONG_TERM','SHORT','WEEKLY_COMMITMENT'),
+    event_type enum ('ADMINISTRATIVE_SUPPORT','ADVOCACY_AWARENESS','ANIMAL_CARE','ARTS_CULTURE','BLOOD_DRIVE','COMMUNITY_CLEANUP','CONSTRUCTION_BUILDING','CRISIS_SUPPORT','DISASTER_RELIEF','ENVIRONMENTAL_CONSERVATION','EVENT_PLANNING','FESTIVAL_FAIR','FOOD_SERVICE','FUNDRAISING','GARDENING','HEALTHCARE_SUPPORT','OTHER','RESEARCH_DATA','SENIOR_SUPPORT','SPORTS_RECREATION','TECHNOLOGY_SUPPORT','TRANSPORTATION','TUTORING_EDUCATION','WORKSHOP_TRAINING','YOUTH_MENTORING'),
+    skill_level_required enum ('BEGINNER_FRIENDLY','EXPERIENCED_VOLUNTEERS','NO_EXPERIENCE_REQUIRED','SOME_EXPERIENCE_PREFERRED','SPECIALIZED_SKILLS_REQUIRED','TRAINING_PROVIDED'),
+    status enum ('ACTIVE','CANCELLED','COMPLETED','DRAFT','FULL'),
+    primary key (id)
+);
+
+create table organization_profiles (
+    employee_count integer,
+    founded_year integer,
+    funding_goal integer,
+    funding_raised integer,
+    is_verified boolean,
+    number_of_volunteers integer,
+    total_events_hosted integer,
+    created_at timestamp(6),
+    id bigint generated by default as identity,
+    updated_at timestamp(6),
+    user_id bigint not null unique,
+    categories varchar(500),
+    causes varchar(1000),
+    mission_statement varchar(1000),
+    services varchar(1000),
+    description varchar(2000),
+    address varchar(255),
+    city varchar(255),
+    country varchar(255),
+    cover_image_url varchar(255),
+    ein varchar(255),
+    languages_supported varchar(255),
+    organization_name varchar(255) not null,
+    organization_size varchar(255),
+    organization_type varchar(255),
+    phone_number varchar(255),
+    primary_category varchar(255),
+    profile_image_url varchar(255),
+    state varchar(255),
+    tax_exempt_status varchar(255),
+    verification_level varchar(255),
+    website varchar(255),
+    zip_code varchar(255),
+    primary key (id)
+);
+
+create table platform_statistics (
+    stat_value bigint not null,
+    updated_at timestamp(6),
+    stat_key varchar(255) not null,
+    primary key (stat_key)
+);
+
+create table time_series_rollups (
+    bucket_count bigint not null,
+    bucket_start timestamp(6) not null,
+    id bigint generated by default as identity,
+    updated_at timestamp(6),
+    metric varchar(100) not null,
+    granularity enum ('DAY','HOUR','MONTH') not null,
+    primary key (id),
+    constraint uk_rollup_bucket unique (metric, granularity, bucket_start)
+);
+
+create table users (
+    email_verified boolean,
+    is_active boolean,
+    created_at timestamp(6),
+    id bigint generated by default as identity,
+    updated_at timestamp(6),
+    email varchar(255) not null unique,
+    password varchar(255) not null,
+    user_type enum ('ORGANIZATION','VOLUNTEER') not null,
+    primary key (id)
+);
+
+create table volunteer_profiles (
+    events_participated integer,
+    is_available boolean,
+    total_volunteer_hours integer,
+    created_at timestamp(6),
+    id bigint generated by default as identity,
+    updated_at timestamp(6),
+    user_id bigint not null unique,
+    bio varchar(1000),
+    availability_preference varchar(255),
+    first_name varchar(255),
+    followed_organizations varchar(255),
+    interests varchar(255),
+    last_name varchar(255),
+    location varchar(255),
+    phone_number varchar(255),
+    profile_image_url varchar(255),
+    skills varchar(255),
+    primary key (id)
+);
+
+alter table applications
+    add constraint fk_applications_event foreign key (event_id) references events (id);
+
+alter table applications
+    add constraint fk_applications_volunteer foreign key (volunteer_id) references volunteer_profiles (id);
+
+alter table badges
+    add constraint fk_badges_user foreign key (user_id) references users (id);
+
+alter table events
+    add constraint fk_events_organization foreign key (organization_id) references organization_profiles (id);
+
+alter table organization_profiles
+    add constraint fk_organization_profiles_user foreign key (user_id) references users (id);
+
+alter table volunteer_profiles
+    add constraint fk_volunteer_profiles_user foreign key (user_id) references users (id);
@@ -0,0 +1,33 @@
+-- Indexes for the repository query paths (checked by RepositoryQueryPlanTest)
+
+-- events: active/upcoming listings, per-organization lists, calendar windows, creation trends
+create index idx_events_status_start on events (status, start_date);
+create index idx_events_organization on events (organization_id, start_date);
+create index idx_events_start on events (start_date);
+create index idx_events_created on events (created_at);
+
+-- applications: volunteer history (keyset paging), per-event/status rosters,
+-- status queues, submission trends
+create index idx_applications_volunteer_applied on applications (volunteer_id, applied_at);
+create index idx_applications_event_status on applications (event_id, status, applied_at);
+create index idx_applications_status_applied on applications (status, applied_at);
+create index idx_applications_applied on applications (applied_at);
+
+-- badges: per-user ownership checks and earned-at windows
+create index idx_badges_user_type on badges (user_id, badge_type);
+create index idx_badges_earned on badges (earned_at);
+
+-- users: type filters and registration trends (email lookups use uk_users_email_normalized)
+create index idx_users_type on users (user_type);
+create index idx_users_created on users (created_at);
+
+-- organization_profiles: user_id is covered by its unique constraint
+create index idx_organization_profiles_created on organization_profiles (created_at);
+create index idx_organization_profiles_updated on organization_profiles (updated_at);
+create index idx_organization_profiles_events_hosted on organization_profiles (total_events_hosted desc);
+create index idx_organization_profiles_volunteers on organization_profiles (number_of_volunteers desc);
+create index idx_organization_profiles_employees on organization_profiles (employee_count);
+
+-- volunteer_profiles: leaderboards and experience thresholds
+create index idx_volunteer_profiles_hours on volunteer_profiles (total_volunteer_hours desc);
+create index idx_volunteer_profiles_events on volunteer_profiles (events_participated desc);
@@ -0,0 +1,11 @@
+-- Case-normalized email lookup key (findByEmail / existsByEmail go through this column)
+alter table users add column email_normalized varchar(255);
+
+update users set email_normalized = lower(trim(email));
+
+alter table users alter column email_normalized set not null;
+
+alter table users add constraint uk_users_email_normalized unique (email_normalized);
+
+-- One application per volunteer per event
+alter table applications add constraint uk_applications_volunteer_event unique (volunteer_id, event_id);
@@ -0,0 +1,9 @@
+-- Single-row heartbeat written to the primary; reading it back on a replica shows how far
+-- that replica has caught up (used for lag-aware routing of read-only transactions)
+create table replication_heartbeat (
+    id bigint not null,
+    beat_at timestamp(6) not null,
+    primary key (id)
+);
+
+insert into replication_heartbeat (id, beat_at) values (1, current_timestamp);
@@ -0,0 +1,41 @@
+-- Append-only volunteer hours ledger: one row per attendance or manual adjustment.
+-- volunteer_profiles.total_volunteer_hours / events_participated are running totals of it.
+create table volunteer_hours_ledger (
+    events integer not null,
+    hours integer not null,
+    application_id bigint,
+    event_id bigint,
+    id bigint generated by default as identity,
+    recorded_at timestamp(6) not null,
+    volunteer_profile_id bigint not null,
+    note varchar(255),
+    entry_type enum ('ADJUSTMENT','ATTENDANCE') not null,
+    primary key (id),
+    -- An application is credited at most once
+    constraint uk_hours_ledger_application unique (application_id)
+);
+
+alter table volunteer_hours_ledger
+    add constraint fk_hours_ledger_volunteer foreign key (volunteer_profile_id) references volunteer_profiles (id);
+
+-- Per-volunteer date-range sums and the reconciliation pass
+create index idx_hours_ledger_volunteer_recorded on volunteer_hours_ledger (volunteer_profile_id, recorded_at);
+
+-- Backfill: attended applications, then an opening balance for totals they do not explain
+insert into volunteer_hours_ledger (volunteer_profile_id, application_id, event_id, entry_type, hours, events, recorded_at)
+select volunteer_id, id, event_id, 'ATTENDANCE', coalesce(hours_completed, 0), 1,
+       coalesce(completed_at, responded_at, applied_at, current_timestamp)
+from applications
+where status = 'ATTENDED';
+
+insert into volunteer_hours_ledger (volunteer_profile_id, entry_type, hours, events, note, recorded_at)
+select vp.id, 'ADJUSTMENT',
+       coalesce(vp.total_volunteer_hours, 0) - coalesce(l.hours, 0),
+       coalesce(vp.events_participated, 0) - coalesce(l.events, 0),
+       'Opening balance', current_timestamp
+from volunteer_profiles vp
+left join (select volunteer_profile_id, sum(hours) as hours, sum(events) as events
+           from volunteer_hours_ledger group by volunteer_profile_id) l
+       on l.volunteer_profile_id = vp.id
+where coalesce(vp.total_volunteer_hours, 0) <> coalesce(l.hours, 0)
+   or coalesce(vp.events_participated, 0) <> coalesce(l.events, 0);
@@ -0,0 +1,18 @@
+-- Stored first responses for Idempotency-Key retries (see IdempotencyService).
+-- A row without status_code is a claim held by the request still executing.
+create table idempotency_keys (
+    status_code integer,
+    created_at timestamp(6) not null,
+    expires_at timestamp(6) not null,
+    id bigint generated by default as identity,
+    user_id bigint not null,
+    request_hash varchar(64) not null,
+    scope varchar(100) not null,
+    idempotency_key varchar(255) not null,
+    response_body clob,
+    primary key (id),
+    constraint uk_idempotency_user_key unique (user_id, idempotency_key)
+);
+
+-- Expiry purge
+create index idx_idempotency_expires on idempotency_keys (expires_at);
@@ -0,0 +1,8 @@
+-- Weighted profile completeness score (0-100), maintained by the entities on every write.
+-- Existing rows start at 0 and are scored by ProfileCompletenessService on startup.
+alter table volunteer_profiles add column profile_completeness integer default 0 not null;
+alter table organization_profiles add column profile_completeness integer default 0 not null;
+
+-- Completion stats and score-band listings
+create index idx_volunteer_profiles_completeness on volunteer_profiles (profile_completeness);
+create index idx_organization_profiles_completeness on organization_profiles (profile_completeness);
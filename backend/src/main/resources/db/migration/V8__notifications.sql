@@ -0,0 +1,49 @@
+-- Transactional outbox: one row per published event, written with the event and fanned out
+-- to followers asynchronously. fanout_cursor is the last volunteer profile id already notified.
+create table notification_outbox (
+    attempts integer not null,
+    recipients integer not null,
+    created_at timestamp(6) not null,
+    event_id bigint not null,
+    fanout_cursor bigint not null,
+    id bigint generated by default as identity,
+    next_attempt_at timestamp(6) not null,
+    organization_id bigint not null,
+    processed_at timestamp(6),
+    title varchar(255) not null,
+    message varchar(1000),
+    last_error varchar(1000),
+    status enum ('DONE','FAILED','PENDING') not null,
+    type enum ('NEW_EVENT') not null,
+    primary key (id)
+);
+
+create index idx_notification_outbox_due on notification_outbox (status, next_attempt_at);
+
+-- Per-user inbox; delivery_status/next_attempt_at drive channel delivery and retries
+create table notifications (
+    delivery_attempts integer not null,
+    created_at timestamp(6) not null,
+    delivered_at timestamp(6),
+    event_id bigint,
+    id bigint generated by default as identity,
+    next_attempt_at timestamp(6),
+    organization_id bigint,
+    outbox_id bigint,
+    read_at timestamp(6),
+    user_id bigint not null,
+    title varchar(255) not null,
+    message varchar(1000),
+    delivery_status enum ('FAILED','PENDING','SENT') not null,
+    type enum ('NEW_EVENT') not null,
+    primary key (id),
+    -- A follower is notified once per outbox record, even if a fan-out batch is retried
+    constraint uk_notifications_outbox_user unique (outbox_id, user_id)
+);
+
+alter table notifications
+    add constraint fk_notifications_user foreign key (user_id) references users (id);
+
+-- Inbox listing / unread counts, and the delivery queue
+create index idx_notifications_user_created on notifications (user_id, created_at);
+create index idx_notifications_delivery on notifications (delivery_status, next_attempt_at);
@@ -0,0 +1,7 @@
+-- Indexes for queries RepositoryQueryPlanTest used to allow as scans
+
+-- badges: progress leaderboard (findBadgesWithMinProgress orders by progress_value desc)
+create index idx_badges_progress on badges (progress_value desc);
+
+-- organization_profiles: highly verified listing (findHighlyVerifiedOrganizations)
+create index idx_organization_profiles_verification on organization_profiles (verification_level, is_verified);
@@ -0,0 +1,237 @@
+package com.volunteersync.backend;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarFile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Native smoke tests - boots the packaged application (native executable, AOT jar on the JVM, plain JVM)
+ * in separate processes, runs auth, search and event registration against each, and reports startup
+ * time and resident memory side by side.
+ *
+ * Runs only when asked, after packaging:
+ *   mvn -Pnative -DskipTests package
+ *   mvn test -Dtest=NativeSmokeTest -Dnative.smoke=true
+ * Builds that are not there (no GraalVM, no AOT-processed jar) are skipped. The report is also
+ * written to target/native-smoke-report.txt.
+ */
+@EnabledIfSystemProperty(named = "native.smoke", matches = "true")
+class NativeSmokeTest {
+
+    private static final Duration BOOT_TIMEOUT = Duration.ofMinutes(5);
+    private static final String PASSWORD = "SmokeTest123!";
+
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path workDir;
+
+    @Test
+    void smokeTestBuilds() throws Exception {
+        Path target = Path.of("target").toAbsolutePath();
+        Path executable = target.resolve("volunteersync-backend");
+        Path jar = target.resolve("backend-0.0.1-SNAPSHOT.jar");
+        List<RunResult> results = new ArrayList<>();
+
+        if (Files.isExecutable(executable)) {
+            results.add(run("native", List.of(executable.toString())));
+        }
+        if (Files.exists(jar)) {
+            if (isAotProcessed(jar)) {
+                results.add(run("JVM, AOT", List.of(javaExecutable(), "-Dspring.aot.enabled=true", "-jar",
+                        jar.toString())));
+            }
+            results.add(run("JVM", List.of(javaExecutable(), "-jar", jar.toString())));
+        }
+        assertFalse(results.isEmpty(), "Nothing to test - package the application first (mvn -Pnative package)");
+
+        List<String> report = new ArrayList<>();
+        report.add(String.format("%-10s %10s %10s %10s %10s", "Build", "live", "ready", "smoke", "RSS"));
+        for (RunResult result : results) {
+            report.add(String.format("%-10s %8dms %8dms %8dms %8dMB", result.build(), result.liveMillis(),
+                    result.readyMillis(), result.smokeMillis(), result.rssKilobytes() / 1024));
+        }
+        Files.write(target.resolve("native-smoke-report.txt"), report);
+        System.out.println();
+        report.forEach(System.out::println);
+    }
+
+    // ==========================================
+    // SMOKE TESTS
+    // ==========================================
+
+    /**
+     * Register a volunteer, log in, search events and register for the first open one - twice, the
+     * second is refused, so the first was stored
+     */
+    private void smokeTest(String build, String base) throws Exception {
+        String email = "smoke-" + UUID.randomUUID() + "@example.com";
+        HttpResponse<String> registered = post(base + "/api/auth/register", null, """
+                {"email": "%s", "password": "%s", "confirmPassword": "%s", "userType": "VOLUNTEER",
+                 "firstName": "Smoke", "lastName": "Test"}""".formatted(email, PASSWORD, PASSWORD));
+        assertEquals(201, registered.statusCode(), build + ": register returned " + registered.body());
+
+        HttpResponse<String> login = post(base + "/api/auth/login", null,
+                "{\"email\": \"%s\", \"password\": \"%s\"}".formatted(email, PASSWORD));
+        assertEquals(200, login.statusCode(), build + ": login returned " + login.body());
+        String token = objectMapper.readTree(login.body()).path("token").asText();
+        assertFalse(token.isEmpty(), build + ": login returned no token");
+
+        HttpResponse<String> search = post(base + "/api/events/search", null, "{\"searchTerm\": \"\"}");
+        assertEquals(200, search.statusCode(), build + ": search returned " + search.body());
+        JsonNode events = objectMapper.readTree(search.body());
+        assertTrue(events.isArray() && events.size() > 0, build + ": search found no events");
+
+        Long eventId = null;
+        for (JsonNode event : events) {
+            int max = event.path("maxVolunteers").asInt(Integer.MAX_VALUE);
+            if ("ACTIVE".equals(event.path("status").asText()) && event.path("currentVolunteers").asInt() < max) {
+                eventId = event.path("id").asLong();
+                break;
+            }
+        }
+        assertTrue(eventId != null, build + ": no open event to register for");
+        HttpResponse<String> registration = post(base + "/api/events/" + eventId + "/register", token, "");
+        assertEquals(200, registration.statusCode(), build + ": event registration returned " + registration.body());
+
+        HttpResponse<String> again = post(base + "/api/events/" + eventId + "/register", token, "");
+        assertEquals(400, again.statusCode(), build + ": second registration returned " + again.body());
+        assertTrue(again.body().contains("Already registered"), build + ": second registration returned " + again.body());
+    }
+
+    // ==========================================
+    // HELPER METHODS
+    // ==========================================
+
+    private RunResult run(String build, List<String> launch) throws Exception {
+        Path directory = workDir.resolve(build.replaceAll("\\W+", "-"));
+        Files.createDirectories(directory);
+        int port = freePort();
+        List<String> command = new ArrayList<>(launch);
+        command.add("--server.port=" + port);
+        command.add("--spring.datasource.url=jdbc:h2:file:" + directory.resolve("volunteersync"));
+        command.add("--app.images.storage-dir=" + directory.resolve("images"));
+        command.add("--app.notifications.file.path=" + directory.resolve("notifications.ndjson"));
+
+        Path log = directory.resolve("run.log");
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            String base = "http://localhost:" + port;
+            long live = awaitOk(process, base + "/actuator/health/liveness", started, log);
+            long ready = awaitOk(process, base + "/actuator/health/readiness", started, log);
+            long smokeStarted = System.nanoTime();
+            smokeTest(build, base);
+            long smoke = elapsedMillis(smokeStarted);
+            return new RunResult(build, live, ready, smoke, residentKilobytes(process.pid()));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private long awaitOk(Process process, String url, long started, Path log) throws Exception {
+        long deadline = started + BOOT_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                fail("Application exited with " + process.exitValue() + " before " + url + " - see " + log);
+            }
+            try {
+                if (send(HttpRequest.newBuilder(URI.create(url))).statusCode() == 200) {
+                    return elapsedMillis(started);
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(50);
+        }
+        fail("No 200 from " + url + " within " + BOOT_TIMEOUT + " - see " + log);
+        return -1;
+    }
+
+    private HttpResponse<String> post(String url, String token, String json) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return send(request);
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return http.send(request.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * The parent POM's native profile marks the jars it AOT-processes
+     */
+    private boolean isAotProcessed(Path jar) throws IOException {
+        try (JarFile jarFile = new JarFile(jar.toFile())) {
+            return jarFile.getManifest() != null
+                    && "true".equals(jarFile.getManifest().getMainAttributes().getValue("Spring-Boot-Native-Processed"));
+        }
+    }
+
+    /**
+     * VmRSS from /proc (Linux); 0 elsewhere
+     */
+    private long residentKilobytes(long pid) throws IOException {
+        Path status = Path.of("/proc", String.valueOf(pid), "status");
+        if (!Files.exists(status)) {
+            return 0;
+        }
+        for (String line : Files.readAllLines(status)) {
+            if (line.startsWith("VmRSS:")) {
+                return Long.parseLong(line.replaceAll("\\D+", ""));
+            }
+        }
+        return 0;
+    }
+
+    private String javaExecutable() {
+        return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    }
+
+    private int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private long elapsedMillis(long started) {
+        return (System.nanoTime() - started) / 1_000_000;
+    }
+
+    private record RunResult(String build, long liveMillis, long readyMillis, long smokeMillis, long rssKilobytes) {
+    }
+}
@@ -0,0 +1,165 @@
+package com.volunteersync.backend;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Startup benchmark - boots the application in separate JVMs and reports, from process start, the
+ * time to liveness (context refreshed, Tomcat up), to readiness (seeding and ready jobs done) and to
+ * the first served API request, for the default and fast-startup modes.
+ *
+ * Several full boots, so it only runs when asked:
+ *   mvn test -Dtest=StartupBenchmarkTest -Dstartup.benchmark=true
+ * After `mvn -Pcds package` it also boots the extracted jar in target/cds with the AppCDS archive.
+ */
+@EnabledIfSystemProperty(named = "startup.benchmark", matches = "true")
+class StartupBenchmarkTest {
+
+    private static final Duration BOOT_TIMEOUT = Duration.ofMinutes(5);
+    private static final String FIRST_REQUEST = "/api/suggest?prefix=comm";
+
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    @TempDir
+    Path workDir;
+
+    @Test
+    void reportStartupTimes() throws Exception {
+        Path snapshot = workDir.resolve("seed-snapshot.sql.gz");
+        List<String> fastStartup = List.of("--spring.profiles.active=fast-startup",
+                "--app.database.snapshot.path=" + snapshot);
+        List<BootTimes> results = new ArrayList<>();
+
+        results.add(boot("default (reset and seed)", classpathCommand(), workDir.resolve("default"), List.of()));
+        results.add(boot("fast-startup, empty database", classpathCommand(), workDir.resolve("fast-seed"),
+                fastStartup));
+        assertTrue(Files.exists(snapshot), "Seeding in fast-startup mode should write the seed snapshot");
+        results.add(boot("fast-startup, snapshot restore", classpathCommand(), workDir.resolve("fast-restore"),
+                fastStartup));
+        results.add(boot("fast-startup, existing data", classpathCommand(), workDir.resolve("fast-restore"),
+                fastStartup));
+
+        Path cds = Path.of("target", "cds").toAbsolutePath();
+        Path archive = cds.resolve("application.jsa");
+        Path jar = cds.resolve("backend-0.0.1-SNAPSHOT.jar");
+        if (Files.exists(archive) && Files.exists(jar)) {
+            List<String> command = List.of(javaExecutable(), "-XX:SharedArchiveFile=" + archive, "-Xshare:auto",
+                    "-jar", jar.toString());
+            results.add(boot("fast-startup, snapshot restore, AppCDS", command, workDir.resolve("fast-cds"),
+                    fastStartup));
+        }
+
+        System.out.println();
+        System.out.println(String.format("%-42s %10s %10s %14s %12s", "Startup mode", "live", "ready",
+                "first request", "request"));
+        for (BootTimes times : results) {
+            System.out.println(String.format("%-42s %8dms %8dms %12dms %10dms", times.mode(), times.liveMillis(),
+                    times.readyMillis(), times.firstRequestMillis(), times.firstRequestMillis() - times.readyMillis()));
+        }
+    }
+
+    // ==========================================
+    // HELPER METHODS
+    // ==========================================
+
+    /**
+     * Start the application on a fresh port with its database under directory, wait until it serves a request, stop it
+     */
+    private BootTimes boot(String mode, List<String> launch, Path directory, List<String> arguments)
+            throws Exception {
+        Files.createDirectories(directory);
+        int port = freePort();
+        List<String> command = new ArrayList<>(launch);
+        command.add("--server.port=" + port);
+        command.add("--spring.datasource.url=jdbc:h2:file:" + directory.resolve("volunteersync"));
+        command.add("--app.images.storage-dir=" + directory.resolve("images"));
+        command.add("--app.notifications.file.path=" + directory.resolve("notifications.ndjson"));
+        command.addAll(arguments);
+
+        Path log = directory.resolve("boot-" + System.nanoTime() + ".log");
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            String base = "http://localhost:" + port;
+            long live = awaitOk(process, base + "/actuator/health/liveness", started, log);
+            long ready = awaitOk(process, base + "/actuator/health/readiness", started, log);
+            HttpResponse<String> response = get(base + FIRST_REQUEST);
+            long firstRequest = elapsedMillis(started);
+            assertEquals(200, response.statusCode(), mode + ": " + FIRST_REQUEST + " returned " + response.body());
+            return new BootTimes(mode, live, ready, firstRequest);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private long awaitOk(Process process, String url, long started, Path log) throws Exception {
+        long deadline = started + BOOT_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                fail("Application exited with " + process.exitValue() + " before " + url + " - see " + log);
+            }
+            try {
+                if (get(url).statusCode() == 200) {
+                    return elapsedMillis(started);
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(50);
+        }
+        fail("No 200 from " + url + " within " + BOOT_TIMEOUT + " - see " + log);
+        return -1;
+    }
+
+    private HttpResponse<String> get(String url) throws IOException, InterruptedException {
+        return http.send(HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(30)).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private List<String> classpathCommand() {
+        // devtools is on the test classpath; its restart classloader is not part of a real start
+        return List.of(javaExecutable(), "-Dspring.devtools.restart.enabled=false", "-cp",
+                System.getProperty("java.class.path"), VolunteerSyncBackendApplication.class.getName());
+    }
+
+    private String javaExecutable() {
+        return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    }
+
+    private int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private long elapsedMillis(long started) {
+        return (System.nanoTime() - started) / 1_000_000;
+    }
+
+    private record BootTimes(String mode, long liveMillis, long readyMillis, long firstRequestMillis) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.volunteersync.backend.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The profiling endpoints only open to the management credential; the recording is real
+ * (continuous profiling starts once the test application is ready)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:profiling-test;DB_CLOSE_DELAY=-1",
+        "app.profiling.username=ops",
+        "app.profiling.password=test-secret" })
+@AutoConfigureMockMvc
+class ProfilingEndpointSecurityTest {
+
+    // Every .jfr file starts with "FLR\0"
+    private static final byte[] JFR_MAGIC = { 'F', 'L', 'R', 0 };
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void theManagementCredentialGetsARecording() throws Exception {
+        byte[] recording = mockMvc.perform(get("/actuator/jfr").param("minutes", "1").with(httpBasic("ops", "test-secret")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertArrayEquals(JFR_MAGIC, Arrays.copyOf(recording, JFR_MAGIC.length),
+                new String(Arrays.copyOf(recording, Math.min(recording.length, 80)), StandardCharsets.ISO_8859_1));
+
+        mockMvc.perform(get("/actuator/hotspots").with(httpBasic("ops", "test-secret")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.running").value(true));
+    }
+
+    @Test
+    void anyoneElseIsTurnedAway() throws Exception {
+        mockMvc.perform(get("/actuator/jfr"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/jfr").with(httpBasic("ops", "wrong")))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/hotspots").with(httpBasic("someone", "test-secret")))
+                .andExpect(status().isUnauthorized());
+
+        // A signed-in volunteer or organization is not enough
+        mockMvc.perform(get("/actuator/jfr").with(user("volunteer@example.com").roles("VOLUNTEER")))
+                .andExpect(status().isForbidden());
+
+        // Health stays public
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,162 @@
+package com.volunteersync.backend.config;
+
+import com.volunteersync.backend.config.ReplicaRoutingDataSource.Replica;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Routing against two H2 databases: the replica only receives the primary's rows when
+ * catchUp() runs, so anything written after the last catch-up is "in the lag window".
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private JdbcDataSource primary;
+    private JdbcDataSource replicaDataSource;
+    private ReplicaRoutingDataSource routing;
+    private Replica replica;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        primary = h2("primary");
+        replicaDataSource = h2("replica");
+        for (DataSource dataSource : List.of(primary, replicaDataSource)) {
+            new JdbcTemplate(dataSource).execute("CREATE TABLE notes (id INT PRIMARY KEY, author VARCHAR(50))");
+        }
+
+        routing = new ReplicaRoutingDataSource(primary, Map.of("replica-1", replicaDataSource));
+        routing.afterPropertiesSet();
+        replica = routing.getReplicas().get(0);
+        replica.setHealthy(true);
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        readOnly = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        readOnly.setReadOnly(true);
+
+        catchUp();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        for (DataSource dataSource : List.of(primary, replicaDataSource)) {
+            new JdbcTemplate(dataSource).execute("SHUTDOWN");
+        }
+    }
+
+    @Test
+    void readOnlyTransactionsReadFromTheReplica() throws Exception {
+        new JdbcTemplate(primary).update("INSERT INTO notes VALUES (1, 'seed')");
+
+        assertEquals(0, countNotes(readOnly), "read-only reads go to the replica, which has not caught up");
+        assertEquals(1, countNotes(readWrite), "read-write transactions use the primary");
+
+        catchUp();
+        assertEquals(1, countNotes(readOnly));
+    }
+
+    @Test
+    void usersReadTheirOwnWritesWithinTheLagWindow() throws Exception {
+        signIn("alice");
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("INSERT INTO notes VALUES (1, 'alice')"));
+
+        assertEquals(1, countNotes(readOnly), "the writer reads from the primary until the replica catches up");
+        signIn("bob");
+        assertEquals(0, countNotes(readOnly), "other users keep reading from the lagging replica");
+
+        catchUp();
+        routing.pruneCaughtUpWrites();
+        signIn("alice");
+        assertEquals(1, countNotes(readOnly));
+        assertEquals(0, routing.getPendingWriteCount());
+    }
+
+    @Test
+    void readWriteTransactionsThatChangeNothingDoNotPinTheUser() {
+        new JdbcTemplate(primary).update("INSERT INTO notes VALUES (1, 'seed')");
+        signIn("alice");
+
+        readWrite.executeWithoutResult(status -> {
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notes", Integer.class);
+            jdbcTemplate.update("UPDATE notes SET author = 'nobody' WHERE id = 42");
+        });
+
+        assertEquals(0, routing.getPendingWriteCount());
+        assertEquals(0, countNotes(readOnly), "alice still reads from the replica");
+    }
+
+    @Test
+    void rolledBackWritesDoNotPinTheUser() {
+        signIn("alice");
+
+        readWrite.executeWithoutResult(status -> {
+            jdbcTemplate.update("INSERT INTO notes VALUES (1, 'alice')");
+            status.setRollbackOnly();
+        });
+
+        assertEquals(0, routing.getPendingWriteCount());
+    }
+
+    @Test
+    void unavailableReplicaFallsBackToThePrimary() {
+        new JdbcTemplate(primary).update("INSERT INTO notes VALUES (1, 'seed')");
+
+        replica.setSyncing(true);
+        assertEquals(1, countNotes(readOnly));
+
+        replica.setSyncing(false);
+        replica.markDown();
+        assertEquals(1, countNotes(readOnly));
+        assertFalse(replica.isAvailable());
+    }
+
+    private int countNotes(TransactionTemplate transactionTemplate) {
+        return transactionTemplate.execute(status ->
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notes", Integer.class));
+    }
+
+    /**
+     * Copy the primary into the replica and record how far it has replicated
+     */
+    private void catchUp() throws InterruptedException {
+        Thread.sleep(2);
+        long snapshotAt = System.currentTimeMillis();
+        List<Map<String, Object>> rows = new JdbcTemplate(primary).queryForList("SELECT id, author FROM notes");
+        JdbcTemplate replicaTemplate = new JdbcTemplate(replicaDataSource);
+        replicaTemplate.update("DELETE FROM notes");
+        for (Map<String, Object> row : rows) {
+            replicaTemplate.update("INSERT INTO notes VALUES (?, ?)", row.get("ID"), row.get("AUTHOR"));
+        }
+        replica.setReplicatedUpTo(snapshotAt);
+    }
+
+    private void signIn(String username) {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(username, null, "ROLE_VOLUNTEER"));
+    }
+
+    private static JdbcDataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:routing-" + name + "-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        return dataSource;
+    }
+}
@@ -0,0 +1,104 @@
+package com.volunteersync.backend.config;
+
+import com.volunteersync.backend.config.TokenBuckets.Bucket;
+import com.volunteersync.backend.config.TokenBuckets.Decision;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * GCRA bucket arithmetic on an explicit clock (nanoseconds), plus the striped map around it
+ */
+class TokenBucketsTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void newBucketAllowsExactlyTheBurst() {
+        Bucket bucket = new Bucket(0L);
+
+        for (int expectedRemaining = 4; expectedRemaining >= 0; expectedRemaining--) {
+            Decision decision = bucket.tryConsume(0L, 5, 1.0);
+            assertTrue(decision.allowed());
+            assertEquals(expectedRemaining, decision.remaining());
+        }
+
+        Decision denied = bucket.tryConsume(0L, 5, 1.0);
+        assertFalse(denied.allowed());
+        assertEquals(0, denied.remaining());
+        assertEquals(SECOND, denied.retryAfterNanos(), "next token is one refill interval away");
+        assertEquals(5 * SECOND, denied.resetNanos(), "bucket is full again after five intervals");
+    }
+
+    @Test
+    void deniedRequestsDoNotConsume() {
+        Bucket bucket = new Bucket(0L);
+        bucket.tryConsume(0L, 1, 1.0);
+
+        for (int i = 0; i < 10; i++) {
+            assertFalse(bucket.tryConsume(0L, 1, 1.0).allowed());
+        }
+        assertTrue(bucket.tryConsume(SECOND, 1, 1.0).allowed(), "refill is not pushed back by denials");
+    }
+
+    @Test
+    void tokensRefillOnePerInterval() {
+        Bucket bucket = new Bucket(0L);
+        for (int i = 0; i < 3; i++) {
+            bucket.tryConsume(0L, 3, 2.0);
+        }
+
+        long halfInterval = SECOND / 4;
+        Decision early = bucket.tryConsume(halfInterval, 3, 2.0);
+        assertFalse(early.allowed());
+        assertEquals(halfInterval, early.retryAfterNanos());
+
+        Decision refilled = bucket.tryConsume(SECOND / 2, 3, 2.0);
+        assertTrue(refilled.allowed());
+        assertEquals(0, refilled.remaining());
+        assertFalse(bucket.tryConsume(SECOND / 2, 3, 2.0).allowed());
+    }
+
+    @Test
+    void idleTimeNeverBanksMoreThanTheBurst() {
+        Bucket bucket = new Bucket(0L);
+        long later = 3600 * SECOND;
+
+        int allowed = 0;
+        while (bucket.tryConsume(later, 4, 1.0).allowed()) {
+            allowed++;
+        }
+        assertEquals(4, allowed);
+    }
+
+    @Test
+    void fullSinceCountsFromWhenTheBucketRefilled() {
+        Bucket bucket = new Bucket(0L);
+        bucket.tryConsume(0L, 2, 1.0);
+        bucket.tryConsume(0L, 2, 1.0);
+
+        assertTrue(bucket.fullSince(SECOND) < 0, "still refilling");
+        assertEquals(0L, bucket.fullSince(2 * SECOND));
+        assertEquals(3 * SECOND, bucket.fullSince(5 * SECOND));
+    }
+
+    @Test
+    void keysHaveIndependentBucketsAndIdleOnesAreEvicted() throws InterruptedException {
+        TokenBuckets buckets = new TokenBuckets(4);
+
+        assertTrue(buckets.tryConsume("alice", 1, 10.0).allowed());
+        assertFalse(buckets.tryConsume("alice", 1, 10.0).allowed());
+        assertTrue(buckets.tryConsume("bob", 1, 0.001).allowed());
+        assertEquals(2, buckets.size());
+
+        // alice refills after 100ms, bob only after 1000s
+        Thread.sleep(150);
+        assertEquals(1, buckets.evictIdle(0L));
+        assertEquals(1, buckets.size());
+        assertFalse(buckets.tryConsume("bob", 1, 0.001).allowed());
+        assertTrue(buckets.tryConsume("alice", 1, 10.0).allowed());
+    }
+}
@@ -0,0 +1,178 @@
+package com.volunteersync.backend.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The three batch multi-get endpoints through MockMvc: request order, duplicates, missing ids,
+ * the id cap and the one-query load, against freshly inserted rows on an in-memory database
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:controller-test;DB_CLOSE_DELAY=-1",
+        "app.images.storage-dir=target/test-images",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.volunteersync.backend.controller.SqlStatementRecorder" })
+@AutoConfigureMockMvc
+class BatchEndpointsTest {
+
+    private static final String EVENTS = "/api/events/batch";
+    private static final String ORGANIZATIONS = "/api/organizations/batch";
+    private static final String VOLUNTEERS = "/api/volunteer-profiles/batch";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long viewerUserId;
+
+    // endpoint -> two existing ids, in insertion order
+    private Map<String, List<Long>> existing;
+
+    @BeforeEach
+    void setUp() {
+        String run = String.valueOf(System.nanoTime());
+        viewerUserId = insertUser("batch-viewer-" + run, "VOLUNTEER");
+
+        Long firstOrganization = insertOrganization("batch-org-a-" + run, "Batch Org A");
+        Long secondOrganization = insertOrganization("batch-org-b-" + run, "Batch Org B");
+        Long firstEvent = insertEvent(firstOrganization, "Batch Event A");
+        Long secondEvent = insertEvent(secondOrganization, "Batch Event B");
+        Long firstVolunteer = insertVolunteer("batch-volunteer-a-" + run, "Ada");
+        Long secondVolunteer = insertVolunteer("batch-volunteer-b-" + run, "Grace");
+
+        existing = Map.of(
+                EVENTS, List.of(firstEvent, secondEvent),
+                ORGANIZATIONS, List.of(firstOrganization, secondOrganization),
+                VOLUNTEERS, List.of(firstVolunteer, secondVolunteer));
+    }
+
+    @Test
+    void itemsFollowRequestOrderWithDuplicatesAndMissingIds() throws Exception {
+        for (String endpoint : existing.keySet()) {
+            Long first = existing.get(endpoint).get(0);
+            Long second = existing.get(endpoint).get(1);
+            Long missing = second + 1_000_000;
+
+            mockMvc.perform(get(endpoint).param("ids", ids(second, missing, first, second)).with(viewer()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.requested").value(4))
+                    .andExpect(jsonPath("$.found").value(3))
+                    .andExpect(jsonPath("$.items.length()").value(4))
+                    .andExpect(jsonPath("$.items[0].id").value(second))
+                    .andExpect(jsonPath("$.items[0].found").value(true))
+                    .andExpect(jsonPath("$.items[0].data.id").value(second))
+                    .andExpect(jsonPath("$.items[1].id").value(missing))
+                    .andExpect(jsonPath("$.items[1].found").value(false))
+                    .andExpect(jsonPath("$.items[1].data").value(nullValue()))
+                    .andExpect(jsonPath("$.items[2].id").value(first))
+                    .andExpect(jsonPath("$.items[2].data.id").value(first))
+                    .andExpect(jsonPath("$.items[3].id").value(second))
+                    .andExpect(jsonPath("$.items[3].found").value(true))
+                    .andExpect(jsonPath("$.items[3].data.id").value(second));
+        }
+    }
+
+    @Test
+    void eachBatchLoadsInOneStatement() throws Exception {
+        for (String endpoint : existing.keySet()) {
+            Long first = existing.get(endpoint).get(0);
+            Long second = existing.get(endpoint).get(1);
+
+            List<String> statements = SqlStatementRecorder.record(() -> mockMvc
+                    .perform(get(endpoint).param("ids", ids(first, second, first, second + 1_000_000)).with(viewer()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.found").value(3)));
+
+            assertEquals(1, statements.size(), endpoint + " ran " + statements);
+        }
+    }
+
+    @Test
+    void batchesOverTheCapAreRejected() throws Exception {
+        String tooMany = LongStream.rangeClosed(1, 101).mapToObj(String::valueOf).collect(Collectors.joining(","));
+        String atCap = LongStream.rangeClosed(1, 100).mapToObj(String::valueOf).collect(Collectors.joining(","));
+
+        for (String endpoint : existing.keySet()) {
+            mockMvc.perform(get(endpoint).param("ids", tooMany).with(viewer()))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error").value("At most 100 ids per batch, got 101"));
+            mockMvc.perform(get(endpoint).param("ids", atCap).with(viewer()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.requested").value(100));
+        }
+    }
+
+    @Test
+    void emptyBlankAndMissingIdsAreRejected() throws Exception {
+        for (String endpoint : existing.keySet()) {
+            mockMvc.perform(get(endpoint).param("ids", "").with(viewer()))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get(endpoint).param("ids", "1,,2").with(viewer()))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error").value("Ids must be numbers"));
+            mockMvc.perform(get(endpoint).param("ids", "1,abc").with(viewer()))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get(endpoint).with(viewer()))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    private static String ids(Long... ids) {
+        return Arrays.stream(ids).map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    private RequestPostProcessor viewer() {
+        return user(viewerUserId.toString()).roles("VOLUNTEER");
+    }
+
+    private Long insertOrganization(String name, String organizationName) {
+        Long userId = insertUser(name, "ORGANIZATION");
+        jdbcTemplate.update("INSERT INTO organization_profiles (user_id, organization_name) VALUES (?, ?)",
+                userId, organizationName);
+        return jdbcTemplate.queryForObject(
+                "SELECT id FROM organization_profiles WHERE user_id = ?", Long.class, userId);
+    }
+
+    private Long insertEvent(Long organizationId, String title) {
+        jdbcTemplate.update("INSERT INTO events (organization_id, title, start_date) "
+                + "VALUES (?, ?, TIMESTAMP '2030-05-01 09:00:00')", organizationId, title);
+        return jdbcTemplate.queryForObject(
+                "SELECT MAX(id) FROM events WHERE organization_id = ?", Long.class, organizationId);
+    }
+
+    private Long insertVolunteer(String name, String firstName) {
+        Long userId = insertUser(name, "VOLUNTEER");
+        jdbcTemplate.update("INSERT INTO volunteer_profiles (user_id, first_name, last_name, total_volunteer_hours, "
+                + "events_participated) VALUES (?, ?, 'Batch', 0, 0)", userId, firstName);
+        return jdbcTemplate.queryForObject(
+                "SELECT id FROM volunteer_profiles WHERE user_id = ?", Long.class, userId);
+    }
+
+    private Long insertUser(String name, String userType) {
+        String email = name + "@volunteersync.example.com";
+        jdbcTemplate.update("INSERT INTO users (email, email_normalized, password, user_type, created_at) "
+                + "VALUES (?, ?, 'x', ?, CURRENT_TIMESTAMP)", email, email, userType);
+        return jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", Long.class, email);
+    }
+}
@@ -0,0 +1,204 @@
+package com.volunteersync.backend.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.volunteersync.backend.service.ExportService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Export downloads end to end through MockMvc's async dispatch, on a throwaway in-memory
+ * database with one organization whose volunteer has spreadsheet-hostile names
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:controller-test;DB_CLOSE_DELAY=-1",
+        "app.images.storage-dir=target/test-images",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.volunteersync.backend.controller.SqlStatementRecorder" })
+@AutoConfigureMockMvc
+class ExportControllerTest {
+
+    private static final String FORMULA_NAME = "=HYPERLINK(\"http://example.com\")";
+    private static final String COMMA_NAME = "Smith, Jr.";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Long organizationUserId;
+    private Long volunteerUserId;
+    private Long eventId;
+
+    @BeforeEach
+    void setUp() {
+        String run = String.valueOf(System.nanoTime());
+        organizationUserId = insertUser("export-org-" + run, "ORGANIZATION");
+        jdbcTemplate.update("INSERT INTO organization_profiles (user_id, organization_name) VALUES (?, 'Export Org')",
+                organizationUserId);
+        Long organizationId = jdbcTemplate.queryForObject(
+                "SELECT id FROM organization_profiles WHERE user_id = ?", Long.class, organizationUserId);
+        jdbcTemplate.update("INSERT INTO events (organization_id, title, start_date) "
+                + "VALUES (?, 'Export Event', TIMESTAMP '2030-05-01 09:00:00')", organizationId);
+        eventId = jdbcTemplate.queryForObject(
+                "SELECT MAX(id) FROM events WHERE organization_id = ?", Long.class, organizationId);
+
+        volunteerUserId = insertUser("export-volunteer-" + run, "VOLUNTEER");
+        jdbcTemplate.update("INSERT INTO volunteer_profiles (user_id, first_name, last_name, total_volunteer_hours, "
+                + "events_participated) VALUES (?, ?, ?, 0, 0)", volunteerUserId, FORMULA_NAME, COMMA_NAME);
+        Long profileId = jdbcTemplate.queryForObject(
+                "SELECT id FROM volunteer_profiles WHERE user_id = ?", Long.class, volunteerUserId);
+        jdbcTemplate.update("INSERT INTO applications (event_id, volunteer_id, status, applied_at, hours_completed) "
+                + "VALUES (?, ?, 'ACCEPTED', TIMESTAMP '2030-04-01 10:30:00', 3)", eventId, profileId);
+    }
+
+    @Test
+    void csvEscapesFormulasAndQuotesDelimiters() throws Exception {
+        MvcResult result = export(get("/api/exports/organization/events/" + eventId + "/roster")
+                .with(user(organizationUserId.toString()).roles("ORGANIZATION")));
+
+        assertEquals("text/csv", result.getResponse().getContentType());
+        assertTrue(result.getResponse().getHeader("Content-Disposition").contains("event-" + eventId + "-roster-"));
+        List<String> lines = lines(result.getResponse().getContentAsString(StandardCharsets.UTF_8));
+        assertEquals(2, lines.size());
+        assertEquals("volunteer_id,first_name,last_name,email,phone,status,applied_at,hours_completed", lines.get(0));
+        assertTrue(lines.get(1).contains(",\"'=HYPERLINK(\"\"http://example.com\"\")\",\"Smith, Jr.\","), lines.get(1));
+        assertTrue(lines.get(1).endsWith(",ACCEPTED,2030-04-01T10:30,3"), lines.get(1));
+    }
+
+    @Test
+    void gzipRoundTripsToThePlainExport() throws Exception {
+        String path = "/api/exports/organization/applications";
+        byte[] plain = export(get(path).with(user(organizationUserId.toString()).roles("ORGANIZATION")))
+                .getResponse().getContentAsByteArray();
+        MvcResult compressed = export(get(path).param("gzip", "true")
+                .with(user(organizationUserId.toString()).roles("ORGANIZATION")));
+
+        assertEquals("application/gzip", compressed.getResponse().getContentType());
+        assertTrue(compressed.getResponse().getHeader("Content-Disposition").endsWith(".csv.gz\""));
+        try (GZIPInputStream input = new GZIPInputStream(
+                new ByteArrayInputStream(compressed.getResponse().getContentAsByteArray()))) {
+            assertEquals(new String(plain, StandardCharsets.UTF_8),
+                    new String(input.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void ndjsonWritesOneTypedObjectPerLine() throws Exception {
+        MvcResult result = export(get("/api/exports/organization/applications").param("format", "ndjson")
+                .with(user(organizationUserId.toString()).roles("ORGANIZATION")));
+
+        assertEquals("application/x-ndjson", result.getResponse().getContentType());
+        String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertTrue(body.endsWith("\n"));
+        List<String> lines = lines(body);
+        assertEquals(1, lines.size());
+
+        JsonNode row = objectMapper.readTree(lines.get(0));
+        List<String> fields = new ArrayList<>();
+        row.fieldNames().forEachRemaining(fields::add);
+        assertEquals(List.of("application_id", "event_id", "event_title", "event_start", "volunteer_id",
+                "first_name", "last_name", "email", "status", "applied_at", "responded_at", "hours_completed"), fields);
+        assertEquals(eventId.longValue(), row.get("event_id").asLong());
+        assertTrue(row.get("event_id").isNumber());
+        assertEquals(FORMULA_NAME, row.get("first_name").asText(), "NDJSON keeps values verbatim");
+        assertEquals("2030-05-01T09:00", row.get("event_start").asText());
+        assertTrue(row.get("responded_at").isNull());
+        assertEquals(3, row.get("hours_completed").asInt());
+    }
+
+    @Test
+    void onlyTheOrganizerAndAdminsCanExport() throws Exception {
+        mockMvc.perform(asyncDispatch(started(get("/api/exports/organization/applications")
+                        .with(user(volunteerUserId.toString()).roles("VOLUNTEER")))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Only organizations can export organization reports"));
+
+        Long otherEvent = jdbcTemplate.queryForObject("SELECT MIN(id) FROM events WHERE id <> ?", Long.class, eventId);
+        mockMvc.perform(asyncDispatch(started(get("/api/exports/organization/events/" + otherEvent + "/roster")
+                        .with(user(organizationUserId.toString()).roles("ORGANIZATION")))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("You can only export rosters for events you organized"));
+
+        mockMvc.perform(asyncDispatch(started(get("/api/exports/admin/users")
+                        .with(user(organizationUserId.toString()).roles("ORGANIZATION")))))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.error").value("Only administrators can export users"));
+
+        MvcResult users = export(get("/api/exports/admin/users").with(user("admin").roles("ADMIN")));
+        assertTrue(users.getResponse().getContentAsString().startsWith("user_id,email,user_type,"));
+    }
+
+    @Test
+    void exportsBeyondTheConcurrencyCapAreTurnedAway() throws Exception {
+        int held = 0;
+        while (exportService.tryStartExport()) {
+            held++;
+        }
+        try {
+            mockMvc.perform(asyncDispatch(started(get("/api/exports/organization/hours")
+                            .with(user(organizationUserId.toString()).roles("ORGANIZATION")))))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().exists("Retry-After"));
+        } finally {
+            for (int i = 0; i < held; i++) {
+                exportService.finishExport();
+            }
+        }
+        export(get("/api/exports/organization/hours").with(user(organizationUserId.toString()).roles("ORGANIZATION")));
+    }
+
+    private MvcResult export(MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(asyncDispatch(started(request)))
+                .andExpect(status().isOk())
+                .andReturn();
+    }
+
+    private MvcResult started(MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(request).andExpect(request().asyncStarted()).andReturn();
+    }
+
+    private List<String> lines(String body) {
+        List<String> lines = new ArrayList<>(List.of(body.split("\r?\n")));
+        lines.removeIf(String::isEmpty);
+        return lines;
+    }
+
+    private Long insertUser(String name, String userType) {
+        String email = name + "@volunteersync.example.com";
+        jdbcTemplate.update("INSERT INTO users (email, email_normalized, password, user_type, created_at) "
+                + "VALUES (?, ?, 'x', ?, CURRENT_TIMESTAMP)", email, email, userType);
+        return jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", Long.class, email);
+    }
+}
@@ -0,0 +1,210 @@
+package com.volunteersync.backend.controller;
+
+import com.volunteersync.backend.enums.ImageVariant;
+import com.volunteersync.backend.service.ImageStorageService;
+import com.volunteersync.backend.service.ImageStorageService.StoredImage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.head;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Conditional and range requests against a stored original, and upload validation, through
+ * MockMvc (no sendfile, so bodies take the FileChannel path)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:controller-test;DB_CLOSE_DELAY=-1",
+        "app.images.storage-dir=target/test-images",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.volunteersync.backend.controller.SqlStatementRecorder" })
+@AutoConfigureMockMvc
+class ImageControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ImageStorageService imageStorageService;
+
+    private byte[] original;
+    private String url;
+    private String etag;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        original = png(new BufferedImage(40, 30, BufferedImage.TYPE_INT_RGB));
+        StoredImage stored = imageStorageService.store(
+                new MockMultipartFile("file", "original.png", "image/png", original), 1L);
+        url = "/api/images/" + stored.hash();
+        etag = "\"" + stored.hash() + "\"";
+    }
+
+    @Test
+    void wholeFileWithValidators() throws Exception {
+        mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(header().string("Accept-Ranges", "bytes"))
+                .andExpect(header().string("Cache-Control", "public, max-age=31536000, immutable"))
+                .andExpect(header().longValue("Content-Length", original.length))
+                .andExpect(content().contentType("image/png"))
+                .andExpect(content().bytes(original));
+    }
+
+    @Test
+    void singleRanges() throws Exception {
+        int length = original.length;
+        mockMvc.perform(get(url).header("Range", "bytes=0-0"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string("Content-Range", "bytes 0-0/" + length))
+                .andExpect(header().longValue("Content-Length", 1))
+                .andExpect(content().bytes(Arrays.copyOfRange(original, 0, 1)));
+
+        mockMvc.perform(get(url).header("Range", "bytes=-10"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string("Content-Range", "bytes " + (length - 10) + "-" + (length - 1) + "/" + length))
+                .andExpect(content().bytes(Arrays.copyOfRange(original, length - 10, length)));
+
+        mockMvc.perform(get(url).header("Range", "bytes=20-"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string("Content-Range", "bytes 20-" + (length - 1) + "/" + length))
+                .andExpect(content().bytes(Arrays.copyOfRange(original, 20, length)));
+
+        // An end past the file is clamped to the last byte
+        mockMvc.perform(get(url).header("Range", "bytes=5-" + (length + 100)))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().bytes(Arrays.copyOfRange(original, 5, length)));
+    }
+
+    @Test
+    void unsatisfiableRangesGet416() throws Exception {
+        int length = original.length;
+        for (String range : new String[] { "bytes=" + length + "-", "bytes=" + (length + 5) + "-" + (length + 9), "bytes=-0" }) {
+            mockMvc.perform(get(url).header("Range", range))
+                    .andExpect(status().isRequestedRangeNotSatisfiable())
+                    .andExpect(header().string("Content-Range", "bytes */" + length))
+                    .andExpect(content().bytes(new byte[0]));
+        }
+    }
+
+    @Test
+    void multipleOrMalformedRangesGetTheWholeFile() throws Exception {
+        for (String range : new String[] { "bytes=0-1,4-5", "bytes=abc-def", "items=0-1", "bytes=9-3" }) {
+            mockMvc.perform(get(url).header("Range", range))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist("Content-Range"))
+                    .andExpect(content().bytes(original));
+        }
+    }
+
+    @Test
+    void ifRangeOnlyHonoursTheCurrentEtag() throws Exception {
+        mockMvc.perform(get(url).header("Range", "bytes=0-3").header("If-Range", "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(original));
+
+        mockMvc.perform(get(url).header("Range", "bytes=0-3").header("If-Range", etag))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().bytes(Arrays.copyOfRange(original, 0, 4)));
+    }
+
+    @Test
+    void ifNoneMatchGets304() throws Exception {
+        for (String ifNoneMatch : new String[] { etag, "W/" + etag, "\"other\", " + etag, "*" }) {
+            mockMvc.perform(get(url).header("If-None-Match", ifNoneMatch))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", etag))
+                    .andExpect(content().bytes(new byte[0]));
+        }
+
+        mockMvc.perform(get(url).header("If-None-Match", "\"other\""))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(original));
+    }
+
+    @Test
+    void headSendsHeadersWithoutABody() throws Exception {
+        mockMvc.perform(head(url))
+                .andExpect(status().isOk())
+                .andExpect(header().longValue("Content-Length", original.length))
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().bytes(new byte[0]));
+
+        mockMvc.perform(head(url).header("Range", "bytes=0-9"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().longValue("Content-Length", 10))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    void uploadsThatAreNotAcceptableImagesAreRejected() throws Exception {
+        mockMvc.perform(multipart("/api/images")
+                        .file(new MockMultipartFile("file", "notes.png", "image/png",
+                                "not an image at all".getBytes(StandardCharsets.UTF_8)))
+                        .with(user("1").roles("VOLUNTEER")))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Unsupported image format - upload a JPEG, PNG, GIF or BMP image"));
+
+        // 7000x6000 is over the 40M pixel default; one bit per pixel keeps the file small
+        byte[] huge = png(new BufferedImage(7000, 6000, BufferedImage.TYPE_BYTE_BINARY));
+        mockMvc.perform(multipart("/api/images")
+                        .file(new MockMultipartFile("file", "huge.png", "image/png", huge))
+                        .with(user("1").roles("VOLUNTEER")))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Image dimensions 7000x6000 are too large"));
+
+        mockMvc.perform(multipart("/api/images")
+                        .file(new MockMultipartFile("file", "small.png", "image/png", png(
+                                new BufferedImage(3, 2, BufferedImage.TYPE_INT_RGB))))
+                        .with(user("1").roles("VOLUNTEER")))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.width").value(3))
+                .andExpect(jsonPath("$.height").value(2));
+    }
+
+    @Test
+    void traversalShapedHashesNeverReachTheFileSystem() throws Exception {
+        String traversal = "../../../../etc/passwd";
+        String padded = "../" + "a".repeat(61);
+        for (String hash : new String[] { traversal, padded, "A".repeat(64), "a".repeat(63) }) {
+            assertTrue(imageStorageService.findOriginal(hash).isEmpty(), hash);
+            assertTrue(imageStorageService.findDerivative(hash, ImageVariant.THUMBNAIL).isEmpty(), hash);
+        }
+
+        mockMvc.perform(get("/api/images/" + "g".repeat(64)))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Image not found"));
+        mockMvc.perform(get("/api/images/..%2F..%2Fetc%2Fpasswd"))
+                .andExpect(result -> assertTrue(result.getResponse().getStatus() >= 400,
+                        "status " + result.getResponse().getStatus()));
+        assertArrayEquals(original, mockMvc.perform(get(url)).andReturn().getResponse().getContentAsByteArray());
+    }
+
+    private static byte[] png(BufferedImage image) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        return output.toByteArray();
+    }
+}
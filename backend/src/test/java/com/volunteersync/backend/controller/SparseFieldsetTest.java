@@ -0,0 +1,213 @@
+package com.volunteersync.backend.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.volunteersync.backend.dto.EventDTO;
+import com.volunteersync.backend.dto.OrganizationProfileDTO;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * ?fields= end to end: the column projection of the verified-organization list, the full-DTO
+ * fallback for computed fields, and which response bodies SparseFieldsetAdvice leaves alone
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:controller-test;DB_CLOSE_DELAY=-1",
+        "app.images.storage-dir=target/test-images",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.volunteersync.backend.controller.SqlStatementRecorder" })
+@AutoConfigureMockMvc
+class SparseFieldsetTest {
+
+    // Every field OrganizationProfileService can answer from a column projection
+    private static final List<String> PROJECTED_FIELDS = List.of(
+            "id", "userId", "organizationName", "description", "missionStatement", "website", "phoneNumber",
+            "address", "city", "state", "zipCode", "country", "profileImageUrl", "profileImageThumbnailUrl",
+            "coverImageUrl", "coverImageCardUrl", "isVerified", "verificationLevel", "totalEventsHosted",
+            "totalVolunteersServed", "categories", "primaryCategory", "organizationType", "organizationSize",
+            "employeeCount", "languagesSupported", "foundedYear", "taxExemptStatus", "fundingGoal",
+            "fundingRaised", "ein", "createdAt", "updatedAt");
+
+    private static final String IMAGE_HASH = "ab".repeat(32);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Long viewerUserId;
+    private Long organizationId;
+
+    @BeforeEach
+    void setUp() {
+        String run = String.valueOf(System.nanoTime());
+        viewerUserId = insertUser("fields-viewer-" + run, "VOLUNTEER");
+        Long organizationUserId = insertUser("fields-org-" + run, "ORGANIZATION");
+        jdbcTemplate.update("INSERT INTO organization_profiles (user_id, organization_name, description, "
+                + "mission_statement, website, phone_number, address, city, state, zip_code, country, "
+                + "profile_image_url, cover_image_url, is_verified, verification_level, total_events_hosted, "
+                + "number_of_volunteers, categories, primary_category, organization_type, organization_size, "
+                + "employee_count, languages_supported, founded_year, tax_exempt_status, funding_goal, "
+                + "funding_raised, ein, created_at, updated_at) VALUES (?, 'Fields Org', 'Feeds people', "
+                + "'No one hungry', 'https://fields.example.org', '555-0100', '1 Main St', 'Springfield', 'IL', "
+                + "'62701', 'USA', ?, ?, TRUE, 'VERIFIED', 12, 340, 'Food,Housing', 'Food', 'NONPROFIT', "
+                + "'SMALL', 9, 'English,Spanish', 1998, '501(c)(3)', 50000, 12500, '12-3456789', "
+                + "TIMESTAMP '2024-01-02 03:04:05.123456', TIMESTAMP '2024-06-07 08:09:10.654321')",
+                organizationUserId, "/api/images/" + IMAGE_HASH, "/api/images/" + "cd".repeat(32));
+        organizationId = jdbcTemplate.queryForObject(
+                "SELECT id FROM organization_profiles WHERE user_id = ?", Long.class, organizationUserId);
+    }
+
+    @Test
+    void eachProjectedFieldMatchesTheFullResponse() throws Exception {
+        JsonNode full = ownOrganization(json(get("/api/organizations")));
+        assertEquals(340, full.get("totalVolunteersServed").asInt(), "number_of_volunteers feeds totalVolunteersServed");
+        assertEquals("/api/images/" + IMAGE_HASH + "/thumbnail", full.get("profileImageThumbnailUrl").asText());
+
+        for (String field : PROJECTED_FIELDS) {
+            List<String> statements = new ArrayList<>();
+            JsonNode projected = ownOrganization(json(get("/api/organizations").param("fields", field), statements));
+
+            assertEquals(field.equals("id") ? Set.of("id") : Set.of("id", field), names(projected), field);
+            assertEquals(full.get(field), projected.get(field), field);
+            assertEquals(field.equals("missionStatement"), readsMissionStatement(statements),
+                    field + " should be served from the projection " + statements);
+        }
+    }
+
+    @Test
+    void computedFieldsFallBackToTheFullDtoAndAreTrimmed() throws Exception {
+        JsonNode full = ownOrganization(json(get("/api/organizations")));
+
+        List<String> statements = new ArrayList<>();
+        JsonNode trimmed = ownOrganization(json(get("/api/organizations")
+                .param("fields", "organizationName,fullAddress"), statements));
+
+        assertEquals(Set.of("id", "organizationName", "fullAddress"), names(trimmed));
+        assertEquals(full.get("organizationName"), trimmed.get("organizationName"));
+        assertEquals(full.get("fullAddress"), trimmed.get("fullAddress"));
+        assertTrue(readsMissionStatement(statements), "computed fields load the whole profile " + statements);
+    }
+
+    @Test
+    void idIsAlwaysWritten() throws Exception {
+        JsonNode trimmed = ownOrganization(json(get("/api/organizations").param("fields", " city, ,state ")));
+        assertEquals(Set.of("id", "city", "state"), names(trimmed));
+
+        JsonNode unknown = ownOrganization(json(get("/api/organizations").param("fields", "noSuchField")));
+        assertEquals(Set.of("id"), names(unknown));
+    }
+
+    @Test
+    void wrappersAndErrorBodiesAreNotTrimmed() throws Exception {
+        JsonNode batch = json(get("/api/organizations/batch").param("ids", organizationId.toString())
+                .param("fields", "city"));
+        assertEquals(Set.of("requested", "found", "items"), names(batch));
+        assertEquals(Set.of("id", "found", "data"), names(batch.get("items").get(0)));
+        assertEquals(Set.of("id", "city"), names(batch.get("items").get(0).get("data")));
+        assertEquals("Springfield", batch.get("items").get(0).get("data").get("city").asText());
+
+        JsonNode organizationError = error(get("/api/organizations/batch").param("ids", "1,,2")
+                .param("fields", "city"));
+        assertEquals("Ids must be numbers", organizationError.get("error").asText());
+
+        JsonNode eventError = error(get("/api/events/batch").param("ids", "1,,2").param("fields", "title"));
+        assertEquals(Set.of("error", "timestamp"), names(eventError));
+        assertEquals("Ids must be numbers", eventError.get("error").asText());
+    }
+
+    @Test
+    void withoutFieldsEveryPropertyIsWritten() throws Exception {
+        assertEquals(serializableProperties(OrganizationProfileDTO.class), names(objectMapper.readTree(
+                objectMapper.writeValueAsString(new OrganizationProfileDTO()))));
+        assertEquals(serializableProperties(EventDTO.class), names(objectMapper.readTree(
+                objectMapper.writeValueAsString(new EventDTO()))));
+
+        JsonNode full = ownOrganization(json(get("/api/organizations").param("fields", "")));
+        assertEquals(serializableProperties(OrganizationProfileDTO.class), names(full));
+    }
+
+    private JsonNode json(MockHttpServletRequestBuilder request) throws Exception {
+        return json(request, new ArrayList<>());
+    }
+
+    private JsonNode json(MockHttpServletRequestBuilder request, List<String> statements) throws Exception {
+        String[] body = new String[1];
+        statements.addAll(SqlStatementRecorder.record(() -> body[0] = mockMvc.perform(request.with(viewer()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()));
+        return objectMapper.readTree(body[0]);
+    }
+
+    private JsonNode error(MockHttpServletRequestBuilder request) throws Exception {
+        return objectMapper.readTree(mockMvc.perform(request.with(viewer()))
+                .andExpect(status().isBadRequest())
+                .andReturn().getResponse().getContentAsString());
+    }
+
+    private JsonNode ownOrganization(JsonNode organizations) {
+        for (JsonNode organization : organizations) {
+            if (organization.get("id").asLong() == organizationId) {
+                return organization;
+            }
+        }
+        throw new AssertionError("organization " + organizationId + " missing from " + organizations);
+    }
+
+    private static boolean readsMissionStatement(List<String> statements) {
+        assertFalse(statements.isEmpty());
+        return statements.stream().anyMatch(sql -> sql.contains("mission_statement"));
+    }
+
+    private Set<String> serializableProperties(Class<?> type) {
+        return objectMapper.getSerializationConfig()
+                .introspect(objectMapper.constructType(type))
+                .findProperties().stream()
+                .filter(BeanPropertyDefinition::couldSerialize)
+                .map(BeanPropertyDefinition::getName)
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private static Set<String> names(JsonNode node) {
+        Set<String> names = new TreeSet<>();
+        node.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+
+    private RequestPostProcessor viewer() {
+        return user(viewerUserId.toString()).roles("VOLUNTEER");
+    }
+
+    private Long insertUser(String name, String userType) {
+        String email = name + "@volunteersync.example.com";
+        jdbcTemplate.update("INSERT INTO users (email, email_normalized, password, user_type, created_at) "
+                + "VALUES (?, ?, 'x', ?, CURRENT_TIMESTAMP)", email, email, userType);
+        return jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", Long.class, email);
+    }
+}
@@ -0,0 +1,42 @@
+package com.volunteersync.backend.controller;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hibernate statement inspector that records the SQL a test thread sends, so query-count
+ * claims can be asserted without scheduled jobs on other threads leaking into the count
+ */
+public class SqlStatementRecorder implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> RECORDED = new ThreadLocal<>();
+
+    /**
+     * Run the block on this thread and return every statement Hibernate prepared for it
+     */
+    static List<String> record(ThrowingRunnable block) throws Exception {
+        List<String> statements = new ArrayList<>();
+        RECORDED.set(statements);
+        try {
+            block.run();
+        } finally {
+            RECORDED.remove();
+        }
+        return statements;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = RECORDED.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+
+    interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
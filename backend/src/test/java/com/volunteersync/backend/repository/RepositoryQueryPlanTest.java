@@ -0,0 +1,255 @@
+package com.volunteersync.backend.repository;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs EXPLAIN for every @Query in the repository package against H2 and fails on
+ * full table scans. Queries that scan by nature (global aggregates, substring
+ * search) are listed in EXPECTED_SCANS with the reason; an entry whose query no longer
+ * scans fails too, so the list only holds queries that cannot use an index.
+ */
+@SpringBootTest
+class RepositoryQueryPlanTest {
+
+    private static final String REPOSITORY_PACKAGE = "com.volunteersync.backend.repository";
+
+    private static final int PAGE_SIZE = 20;
+
+    private static final Map<String, String> EXPECTED_SCANS = Map.ofEntries(
+            Map.entry("BadgeRepository.findTopBadgeEarners", "whole-table aggregate"),
+            Map.entry("BadgeRepository.getBadgeDistributionStats", "whole-table aggregate"),
+            Map.entry("BadgeRepository.getBadgePopularityStats", "whole-table aggregate"),
+            Map.entry("EventRepository.getComprehensiveEventStatistics", "whole-table aggregate"),
+            Map.entry("EventRepository.getDurationStatistics", "whole-table aggregate"),
+            Map.entry("EventRepository.getEventTypeStatistics", "whole-table aggregate"),
+            Map.entry("EventRepository.getSkillLevelDistribution", "whole-table aggregate"),
+            Map.entry("EventRepository.getSkillLevelStatistics", "whole-table aggregate"),
+            Map.entry("EventRepository.getTimeOfDayStatistics", "whole-table aggregate"),
+            Map.entry("OrganizationProfileRepository.getCategoryStatistics", "whole-table aggregate"),
+            Map.entry("OrganizationProfileRepository.getComprehensiveStatistics", "whole-table aggregate"),
+            Map.entry("OrganizationProfileRepository.getGeographicDistribution", "whole-table aggregate"),
+            Map.entry("OrganizationProfileRepository.getLocationStatistics", "whole-table aggregate"),
+            Map.entry("OrganizationProfileRepository.getOrganizationSizeStatistics", "whole-table aggregate"),
+            Map.entry("OrganizationProfileRepository.getOrganizationTypeStatistics", "whole-table aggregate"),
+            Map.entry("OrganizationProfileRepository.getTotalImpactStats", "whole-table aggregate"),
+            Map.entry("VolunteerProfileRepository.findMostFollowedOrganizations", "whole-table aggregate"),
+            Map.entry("EventRepository.countStatisticGroups", "whole-table aggregate (statistics reconciliation)"),
+            Map.entry("OrganizationProfileRepository.countStatisticGroups", "whole-table aggregate (statistics reconciliation)"),
+            Map.entry("UserRepository.countStatisticGroups", "whole-table aggregate (statistics reconciliation)"),
+            Map.entry("OrganizationProfileRepository.findByCategoryContaining", "substring search (LIKE '%term%')"),
+            Map.entry("OrganizationProfileRepository.findByEinContaining", "substring search (LIKE '%term%')"),
+            Map.entry("OrganizationProfileRepository.findByKeyword", "substring search (LIKE '%term%')"),
+            Map.entry("OrganizationProfileRepository.findByLanguageSupport", "substring search (LIKE '%term%')"),
+            Map.entry("OrganizationProfileRepository.findByLocationContaining", "substring search (LIKE '%term%')"),
+            Map.entry("OrganizationProfileRepository.findByMultipleCategories", "substring search (LIKE '%term%')"),
+            Map.entry("OrganizationProfileRepository.findInternationalOrganizations", "substring search (LIKE '%term%')"),
+            Map.entry("OrganizationProfileRepository.findNonProfitOrganizations", "substring search (LIKE '%term%')"),
+            Map.entry("OrganizationProfileRepository.findVerifiedByLocation", "substring search (LIKE '%term%')"),
+            Map.entry("OrganizationProfileRepository.findWithAdvancedFilters", "substring search (LIKE '%term%')"),
+            Map.entry("OrganizationProfileRepository.searchWithFilters", "substring search (LIKE '%term%')"),
+            Map.entry("VolunteerProfileRepository.countVolunteersFollowingOrganization", "substring search (LIKE '%term%') on a CSV column"),
+            Map.entry("VolunteerProfileRepository.findVolunteersFollowingOrganization", "substring search (LIKE '%term%') on a CSV column"),
+            Map.entry("VolunteerProfileRepository.findByBioContaining", "substring search (LIKE '%term%')"),
+            Map.entry("EventRepository.findEventsNeedingReview", "data-quality sweep: OR of NULL checks across columns"),
+            Map.entry("EventRepository.findEventsWithInconsistentData", "data-quality sweep: OR of NULL checks across columns"),
+            Map.entry("OrganizationProfileRepository.findOrganizationsNeedingReview", "data-quality sweep: OR of NULL checks across columns"),
+            Map.entry("VolunteerProfileRepository.findVolunteersWithFollowedOrganizations", "every profile with a follow list; not selective"),
+            Map.entry("VolunteerProfileRepository.findAllVolunteerProgress", "hours ledger reconciliation reads every profile"),
+            Map.entry("VolunteerProfileRepository.findAllFollowedOrganizationLists", "home feed follower counts read every follower list"),
+            Map.entry("OrganizationProfileRepository.findPotentialDuplicates", "LOWER() on every column; H2 has no expression indexes"),
+            Map.entry("OrganizationProfileRepository.findByCountryIn", "LOWER() comparison; H2 has no expression indexes"),
+            Map.entry("OrganizationProfileRepository.findSmallOrganizations", "OR across two columns; H2 cannot union index lookups"),
+            Map.entry("OrganizationProfileRepository.findMediumOrganizations", "OR across two columns; H2 cannot union index lookups"),
+            Map.entry("OrganizationProfileRepository.findLargeOrganizations", "OR across two columns; H2 cannot union index lookups"),
+            Map.entry("OrganizationProfileRepository.findEnterpriseOrganizations", "OR across two columns; H2 cannot union index lookups")
+    );
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void repositoryQueriesDoNotScanFullTables() throws Exception {
+        List<String> failures = new ArrayList<>();
+        Set<String> scanning = new HashSet<>();
+        int checked = 0;
+
+        for (Class<?> repository : repositoryInterfaces()) {
+            for (Method method : repository.getDeclaredMethods()) {
+                Query query = method.getAnnotation(Query.class);
+                if (query == null) {
+                    continue;
+                }
+                String name = repository.getSimpleName() + "." + method.getName();
+                String plan;
+                try {
+                    String sql = query.nativeQuery()
+                            ? query.value().replaceAll("(?<![:\\w]):\\w+", "?")
+                            : translate(method, query.value());
+                    plan = explain(sql);
+                } catch (Exception e) {
+                    failures.add(name + " could not be planned: " + e.getMessage());
+                    continue;
+                }
+                checked++;
+
+                if (plan.contains(".tableScan")) {
+                    scanning.add(name);
+                    if (!EXPECTED_SCANS.containsKey(name)) {
+                        failures.add(name + "\n" + plan);
+                    }
+                }
+            }
+        }
+
+        for (String name : new TreeSet<>(EXPECTED_SCANS.keySet())) {
+            if (!scanning.contains(name)) {
+                failures.add(name + " is listed in EXPECTED_SCANS but no longer scans - remove it");
+            }
+        }
+
+        assertTrue(checked > 0, "No @Query methods found in " + REPOSITORY_PACKAGE);
+        assertTrue(failures.isEmpty(), failures.size() + " query plan problems:\n\n"
+                + String.join("\n\n", failures));
+    }
+
+    /**
+     * Repository interfaces declared in this project (unwrapped from their proxies)
+     */
+    private Collection<Class<?>> repositoryInterfaces() {
+        TreeSet<Class<?>> interfaces = new TreeSet<>(Comparator.comparing(Class::getName));
+        for (Object bean : applicationContext.getBeansOfType(Repository.class).values()) {
+            for (Class<?> type : AopProxyUtils.proxiedUserInterfaces(bean)) {
+                if (type.getPackageName().equals(REPOSITORY_PACKAGE)) {
+                    interfaces.add(type);
+                }
+            }
+        }
+        return interfaces;
+    }
+
+    /**
+     * Execute the JPQL once with sample arguments (rolled back) and capture the SQL Hibernate sends
+     */
+    private String translate(Method method, String jpql) {
+        List<String> statements = new ArrayList<>();
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+
+        try (Session session = sessionFactory.withOptions()
+                .statementInspector(sql -> {
+                    statements.add(sql);
+                    return sql;
+                })
+                .openSession()) {
+            session.beginTransaction();
+            try {
+                org.hibernate.query.Query<?> query = session.createQuery(jpql);
+                for (Parameter parameter : method.getParameters()) {
+                    Param param = parameter.getAnnotation(Param.class);
+                    if (param != null) {
+                        query.setParameter(param.value(), sampleValue(parameter, session));
+                    } else if (parameter.getType() == Pageable.class) {
+                        // Paged queries run with a row limit, which lets an ordered index stop early
+                        query.setMaxResults(PAGE_SIZE);
+                    }
+                }
+                if (method.isAnnotationPresent(Modifying.class)) {
+                    query.executeUpdate();
+                } else {
+                    query.getResultList();
+                }
+            } finally {
+                session.getTransaction().rollback();
+            }
+        }
+
+        if (statements.isEmpty()) {
+            throw new IllegalStateException("No SQL captured for " + method);
+        }
+        // Later statements are lazy/eager association loads, not the query itself
+        return statements.get(0);
+    }
+
+    private Object sampleValue(Parameter parameter, Session session) {
+        Class<?> type = parameter.getType();
+        if (Collection.class.isAssignableFrom(type)) {
+            Class<?> elementType = (Class<?>) ((ParameterizedType) parameter.getParameterizedType())
+                    .getActualTypeArguments()[0];
+            return List.of(sampleValue(elementType, session));
+        }
+        return sampleValue(type, session);
+    }
+
+    private Object sampleValue(Class<?> type, Session session) {
+        if (type == String.class) return "x";
+        if (type == Long.class || type == long.class) return 1L;
+        if (type == Integer.class || type == int.class) return 1;
+        if (type == Double.class || type == double.class) return 1.0;
+        if (type == Boolean.class || type == boolean.class) return true;
+        if (type == LocalDateTime.class) return LocalDateTime.now();
+        if (type == LocalDate.class) return LocalDate.now();
+        if (type.isEnum()) return type.getEnumConstants()[0];
+        if (type.isAnnotationPresent(Entity.class)) return session.getReference(type, 1L);
+        throw new IllegalArgumentException("No sample value for parameter type " + type.getName());
+    }
+
+    /**
+     * H2 query plan with every parameter bound to NULL (plans do not depend on values)
+     */
+    private String explain(String sql) throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            int parameters = statement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameters; i++) {
+                statement.setNull(i, Types.NULL);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                StringBuilder plan = new StringBuilder();
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1));
+                }
+                return plan.toString();
+            }
+        }
+    }
+}
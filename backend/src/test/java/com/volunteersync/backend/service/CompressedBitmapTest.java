@@ -0,0 +1,187 @@
+package com.volunteersync.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Property tests against java.util.BitSet: random bitmaps mixing sparse (array), dense
+ * (bitmap) and run-heavy containers across a few high keys, combined every which way
+ */
+class CompressedBitmapTest {
+
+    private static final int HIGH_KEYS = 3;
+    private static final int ROUNDS = 150;
+
+    private final Random random = new Random(38);
+
+    @Test
+    void setOperationsMatchBitSetAcrossContainerTypes() {
+        for (int round = 0; round < ROUNDS; round++) {
+            BitSet leftExpected = new BitSet();
+            BitSet rightExpected = new BitSet();
+            CompressedBitmap left = randomBitmap(leftExpected);
+            CompressedBitmap right = randomBitmap(rightExpected);
+
+            BitSet and = (BitSet) leftExpected.clone();
+            and.and(rightExpected);
+            BitSet or = (BitSet) leftExpected.clone();
+            or.or(rightExpected);
+            BitSet andNot = (BitSet) leftExpected.clone();
+            andNot.andNot(rightExpected);
+
+            assertSame(and, left.and(right), "and, round " + round);
+            assertSame(or, left.or(right), "or, round " + round);
+            assertSame(andNot, left.andNot(right), "andNot, round " + round);
+            assertEquals(and.cardinality(), left.andCardinality(right), "andCardinality, round " + round);
+
+            // Inputs are left untouched
+            assertSame(leftExpected, left, "left, round " + round);
+            assertSame(rightExpected, right, "right, round " + round);
+        }
+    }
+
+    @Test
+    void mutationsMatchBitSetBeforeAndAfterRunOptimize() {
+        for (int round = 0; round < 40; round++) {
+            BitSet expected = new BitSet();
+            CompressedBitmap bitmap = randomBitmap(expected);
+
+            // Enough edits to split and join runs and push containers across the array/bitmap limit
+            for (int edit = 0; edit < 3000; edit++) {
+                int value = randomValue();
+                if (random.nextBoolean()) {
+                    bitmap.add(value);
+                    expected.set(value);
+                } else {
+                    bitmap.remove(value);
+                    expected.clear(value);
+                }
+                if (edit % 1000 == 0) {
+                    bitmap.runOptimize();
+                }
+            }
+            assertSame(expected, bitmap, "round " + round);
+            assertEquals(expected.isEmpty(), bitmap.isEmpty());
+        }
+    }
+
+    @Test
+    void runsSplitAndJoinOnSingleValueEdits() {
+        CompressedBitmap bitmap = range(100, 200);
+        bitmap.runOptimize();
+
+        bitmap.remove(150);
+        bitmap.remove(100);
+        bitmap.remove(199);
+        assertEquals(97, bitmap.cardinality());
+        assertFalse(bitmap.contains(150));
+        assertTrue(bitmap.contains(149) && bitmap.contains(151));
+
+        bitmap.add(150);
+        bitmap.add(100);
+        bitmap.add(199);
+        bitmap.add(200);
+        assertArrayEquals(range(100, 201).toArray(), bitmap.toArray());
+    }
+
+    @Test
+    void runOptimizeKeepsValuesAndEmptiedContainersDisappear() {
+        CompressedBitmap dense = range(0, 70_000);
+        CompressedBitmap copy = dense.copy();
+        dense.runOptimize();
+        assertSame(toBitSet(copy), dense, "optimized");
+        assertEquals(70_000, dense.andCardinality(copy));
+
+        CompressedBitmap emptied = dense.andNot(copy);
+        assertTrue(emptied.isEmpty());
+        assertEquals(0, emptied.cardinality());
+    }
+
+    @Test
+    void negativeValuesAreRejectedOrIgnored() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        assertThrows(IllegalArgumentException.class, () -> bitmap.add(-1));
+        assertFalse(bitmap.contains(-1));
+        bitmap.remove(-1);
+        assertTrue(bitmap.isEmpty());
+    }
+
+    /**
+     * Each high key gets a random container shape; about half the bitmaps are run-optimized
+     */
+    private CompressedBitmap randomBitmap(BitSet expected) {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int high = 0; high < HIGH_KEYS; high++) {
+            int base = high << 16;
+            switch (random.nextInt(4)) {
+                case 0 -> {
+                    // Empty container
+                }
+                case 1 -> {
+                    for (int i = random.nextInt(3000); i > 0; i--) {
+                        set(bitmap, expected, base + random.nextInt(1 << 16));
+                    }
+                }
+                case 2 -> {
+                    for (int i = 6000 + random.nextInt(30_000); i > 0; i--) {
+                        set(bitmap, expected, base + random.nextInt(1 << 16));
+                    }
+                }
+                default -> {
+                    int start = random.nextInt(1000);
+                    for (int run = random.nextInt(40); run > 0 && start < 1 << 16; run--) {
+                        int end = Math.min(1 << 16, start + 1 + random.nextInt(4000));
+                        for (int value = start; value < end; value++) {
+                            set(bitmap, expected, base + value);
+                        }
+                        start = end + 1 + random.nextInt(2000);
+                    }
+                }
+            }
+        }
+        if (random.nextBoolean()) {
+            bitmap.runOptimize();
+        }
+        return bitmap;
+    }
+
+    private int randomValue() {
+        return (random.nextInt(HIGH_KEYS) << 16) + random.nextInt(1 << 16);
+    }
+
+    private static void set(CompressedBitmap bitmap, BitSet expected, int value) {
+        bitmap.add(value);
+        expected.set(value);
+    }
+
+    private static CompressedBitmap range(int from, int to) {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int value = from; value < to; value++) {
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+
+    private static BitSet toBitSet(CompressedBitmap bitmap) {
+        BitSet bits = new BitSet();
+        bitmap.forEach(bits::set);
+        return bits;
+    }
+
+    private static void assertSame(BitSet expected, CompressedBitmap actual, String message) {
+        assertArrayEquals(expected.stream().toArray(), actual.toArray(), message);
+        assertEquals(expected.cardinality(), actual.cardinality(), message);
+        for (int probe = 0; probe < 200; probe++) {
+            int value = (int) (Math.random() * (HIGH_KEYS << 16));
+            assertEquals(expected.get(value), actual.contains(value), message + " contains " + value);
+        }
+    }
+}
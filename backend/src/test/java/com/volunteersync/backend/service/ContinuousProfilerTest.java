@@ -0,0 +1,27 @@
+package com.volunteersync.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Settings checked up front, before any recording starts
+ */
+class ContinuousProfilerTest {
+
+    @Test
+    void summaryWindowsUnderAMinuteAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> profiler(Duration.ofSeconds(30)));
+        assertThrows(IllegalArgumentException.class, () -> profiler(Duration.ZERO));
+
+        ContinuousProfiler oneMinute = profiler(Duration.ofMinutes(1));
+        assertFalse(oneMinute.isRunning());
+    }
+
+    private static ContinuousProfiler profiler(Duration summaryWindow) {
+        return new ContinuousProfiler(true, "default", Duration.ofMinutes(30), 64, summaryWindow, Duration.ofMillis(20));
+    }
+}
@@ -0,0 +1,90 @@
+package com.volunteersync.backend.service;
+
+import com.volunteersync.backend.entity.Event;
+import com.volunteersync.backend.enums.EventStatus;
+import com.volunteersync.backend.enums.EventType;
+import com.volunteersync.backend.service.EventFacetIndex.Facet;
+import com.volunteersync.backend.service.EventFacetIndex.FacetResult;
+import com.volunteersync.backend.service.UpcomingEventIndex.EventSnapshot;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Paging and disjunctive counts, fed through the listener hooks directly
+ */
+class EventFacetIndexTest {
+
+    private final LocalDateTime base = LocalDateTime.of(2030, 1, 7, 9, 0);
+
+    private EventFacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new EventFacetIndex();
+        index.onClear();
+    }
+
+    @Test
+    void pagesFollowStartOrderWithIdBreakingTies() {
+        // Inserted out of order, with start times repeating so ids decide ties
+        List<Long> expected = new ArrayList<>();
+        for (long id = 1; id <= 40; id++) {
+            expected.add(id);
+        }
+        for (long id = 40; id >= 1; id--) {
+            index.onPut(snapshot(id, base.plusHours((id - 1) / 3), id % 2 == 0));
+        }
+
+        List<Long> paged = new ArrayList<>();
+        for (int offset = 0; offset < 40; offset += 7) {
+            FacetResult result = index.search(Map.of(), null, offset, 7);
+            assertEquals(40, result.total());
+            paged.addAll(ids(result));
+        }
+        assertEquals(expected, paged);
+
+        assertEquals(List.of(), ids(index.search(Map.of(), null, 40, 7)));
+        assertEquals(List.of(), ids(index.search(Map.of(), null, Integer.MAX_VALUE, 100)));
+        assertEquals(List.of(39L, 40L), ids(index.search(Map.of(), null, 38, 100)));
+    }
+
+    @Test
+    void filteredPagesAndCountsIgnoreTheFacetsOwnSelection() {
+        for (long id = 1; id <= 10; id++) {
+            index.onPut(snapshot(id, base.plusDays(id), id <= 4));
+        }
+        index.onRemove(2L);
+
+        Map<Facet, Set<String>> virtualOnly = Map.of(Facet.FORMAT, Set.of("VIRTUAL"));
+        FacetResult result = index.search(virtualOnly, snapshot -> snapshot.id() != 3L, 1, 5);
+
+        assertEquals(2, result.total());
+        assertEquals(List.of(4L), ids(result));
+        assertEquals(Map.of("VIRTUAL", 2, "IN_PERSON", 6), result.counts().get(Facet.FORMAT));
+        assertEquals(2, result.counts().get(Facet.EVENT_TYPE).get(EventType.FOOD_SERVICE.name()));
+    }
+
+    private static EventSnapshot snapshot(Long id, LocalDateTime startDate, boolean virtual) {
+        Event event = new Event();
+        event.setId(id);
+        event.setTitle("Event " + id);
+        event.setStartDate(startDate);
+        event.setStatus(EventStatus.ACTIVE);
+        event.setEventType(EventType.FOOD_SERVICE);
+        event.setIsVirtual(virtual);
+        return EventSnapshot.from(event);
+    }
+
+    private static List<Long> ids(FacetResult result) {
+        return result.events().stream().map(EventSnapshot::id).toList();
+    }
+}
@@ -0,0 +1,177 @@
+package com.volunteersync.backend.service;
+
+import com.volunteersync.backend.entity.Event;
+import com.volunteersync.backend.entity.OrganizationProfile;
+import com.volunteersync.backend.entity.VolunteerProfile;
+import com.volunteersync.backend.repository.EventRepository;
+import com.volunteersync.backend.repository.VolunteerProfileRepository;
+import com.volunteersync.backend.service.HomeFeedService.FeedPage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Merge order and duplicates across pushed timelines, pulled popular organizations and the
+ * database fallback. The repositories answer from in-memory maps; recent-event lists hold
+ * fewer events than each organization has, so deep pages reach the fallback.
+ */
+class HomeFeedServiceTest {
+
+    private static final int TIMELINE_SIZE = 4;
+    private static final int POPULAR_THRESHOLD = 2;
+
+    private static final long POPULAR = 10L;
+    private static final long SMALL = 20L;
+    private static final long TINY = 30L;
+    private static final long UNFOLLOWED = 40L;
+
+    // Event id -> organization id, and user id -> followed_organizations
+    private final Map<Long, Long> events = new HashMap<>();
+    private final Map<Long, String> follows = new HashMap<>();
+
+    private HomeFeedService homeFeedService;
+
+    @BeforeEach
+    void setUp() {
+        long[] organizations = { POPULAR, SMALL, TINY, UNFOLLOWED };
+        for (long id = 1; id <= 40; id++) {
+            events.put(id, organizations[(int) (id % organizations.length)]);
+        }
+        follows.put(1L, POPULAR + "," + SMALL + "," + TINY);
+        follows.put(2L, String.valueOf(POPULAR));
+        follows.put(3L, String.valueOf(POPULAR));
+        follows.put(4L, String.valueOf(SMALL));
+        follows.put(5L, "");
+
+        EventRepository eventRepository = mock(EventRepository.class);
+        when(eventRepository.findRecentIdsByOrganization(anyLong(), any(Pageable.class))).thenAnswer(invocation ->
+                eventIds(Set.of(invocation.<Long>getArgument(0)), Long.MAX_VALUE, invocation.getArgument(1)));
+        when(eventRepository.findIdsByOrganizationsBefore(any(), anyLong(), any(Pageable.class))).thenAnswer(invocation ->
+                eventIds(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+
+        VolunteerProfileRepository volunteerProfileRepository = mock(VolunteerProfileRepository.class);
+        when(volunteerProfileRepository.findByUserId(anyLong())).thenAnswer(invocation -> {
+            VolunteerProfile profile = new VolunteerProfile();
+            profile.setFollowedOrganizations(follows.get(invocation.<Long>getArgument(0)));
+            return Optional.of(profile);
+        });
+        when(volunteerProfileRepository.findAllFollowedOrganizationLists())
+                .thenAnswer(invocation -> new ArrayList<>(follows.values()));
+
+        homeFeedService = new HomeFeedService(TIMELINE_SIZE, POPULAR_THRESHOLD, 1L << 20);
+        ReflectionTestUtils.setField(homeFeedService, "eventRepository", eventRepository);
+        ReflectionTestUtils.setField(homeFeedService, "volunteerProfileRepository", volunteerProfileRepository);
+        ReflectionTestUtils.setField(homeFeedService, "transactionManager", mock(PlatformTransactionManager.class));
+        homeFeedService.recountFollowers();
+    }
+
+    @Test
+    void pagesMergePushedAndPulledOrganizationsNewestFirst() {
+        assertEquals(1, homeFeedService.getStats().popularOrganizations());
+
+        for (int limit : new int[] { 1, 3, 7, 100 }) {
+            assertEquals(expectedFeed(1L), readFeed(1L, limit), "limit " + limit);
+        }
+
+        // New events land on top whether their organization is pushed or pulled
+        create(41L, POPULAR);
+        create(42L, SMALL);
+        create(43L, UNFOLLOWED);
+        create(44L, TINY);
+        List<Long> firstPage = homeFeedService.getTimeline(1L, null, 3).eventIds();
+        assertEquals(List.of(44L, 42L, 41L), firstPage);
+        assertEquals(expectedFeed(1L), readFeed(1L, 5));
+    }
+
+    @Test
+    void crossingTheThresholdEitherWayKeepsTheFeedCompleteAndUnduplicated() {
+        // Both readers start with SMALL pushed into their cached timelines
+        assertEquals(expectedFeed(1L), readFeed(1L, 3));
+        assertEquals(expectedFeed(4L), readFeed(4L, 3));
+
+        // A third follower makes SMALL popular: it moves to pull at read time
+        follow(5L, SMALL, true);
+        assertEquals(2, homeFeedService.getStats().popularOrganizations());
+        create(41L, SMALL);
+        create(42L, TINY);
+        assertEquals(expectedFeed(1L), readFeed(1L, 3));
+        assertEquals(expectedFeed(4L), readFeed(4L, 2));
+        assertEquals(expectedFeed(5L), readFeed(5L, 4));
+
+        // And back below the threshold; timelines already pulling it keep doing so
+        follow(5L, SMALL, false);
+        assertEquals(1, homeFeedService.getStats().popularOrganizations());
+        create(43L, SMALL);
+        assertEquals(expectedFeed(1L), readFeed(1L, 3));
+        assertEquals(expectedFeed(4L), readFeed(4L, 100));
+        assertEquals(List.of(), readFeed(5L, 3));
+    }
+
+    private void follow(Long userId, long organizationId, boolean following) {
+        follows.put(userId, following ? String.valueOf(organizationId) : "");
+        homeFeedService.onFollowChanged(userId, organizationId, following);
+    }
+
+    private void create(long eventId, long organizationId) {
+        events.put(eventId, organizationId);
+        OrganizationProfile organization = new OrganizationProfile();
+        organization.setId(organizationId);
+        Event event = new Event();
+        event.setId(eventId);
+        event.setOrganization(organization);
+        homeFeedService.onEventCreated(event);
+    }
+
+    /**
+     * Every page in turn, following the cursor
+     */
+    private List<Long> readFeed(Long userId, int limit) {
+        List<Long> feed = new ArrayList<>();
+        Long cursor = null;
+        do {
+            FeedPage page = homeFeedService.getTimeline(userId, cursor, limit);
+            feed.addAll(page.eventIds());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return feed;
+    }
+
+    private List<Long> expectedFeed(Long userId) {
+        String followed = follows.get(userId);
+        Set<Long> organizationIds = new HashSet<>();
+        for (String id : followed.split(",")) {
+            if (!id.isBlank()) {
+                organizationIds.add(Long.parseLong(id));
+            }
+        }
+        return eventIds(organizationIds, Long.MAX_VALUE, Pageable.unpaged());
+    }
+
+    private List<Long> eventIds(Collection<Long> organizationIds, long beforeId, Pageable pageable) {
+        return events.entrySet().stream()
+                .filter(entry -> organizationIds.contains(entry.getValue()) && entry.getKey() < beforeId)
+                .map(Map.Entry::getKey)
+                .sorted(Comparator.reverseOrder())
+                .limit(pageable.isPaged() ? pageable.getPageSize() : Long.MAX_VALUE)
+                .toList();
+    }
+}
@@ -0,0 +1,227 @@
+package com.volunteersync.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.volunteersync.backend.repository.IdempotencyRecordRepository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Replay, key reuse and concurrent duplicates against a throwaway in-memory database. Each
+ * test builds its own services with short waits; two services on one database stand in for
+ * two instances sharing the idempotency_keys table.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:service-test;DB_CLOSE_DELAY=-1")
+class IdempotencyServiceTest {
+
+    private static final long MAX_WAIT_MS = 300;
+    private static final long LEASE_MS = 60_000;
+    private static final AtomicLong USER_IDS = new AtomicLong(500_000);
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private IdempotencyService idempotencyService;
+    private ExecutorService executor;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = newInstance();
+        executor = Executors.newFixedThreadPool(8);
+        userId = USER_IDS.incrementAndGet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void retriesReplayTheStoredResponseWithoutRunningTheWrite() {
+        AtomicInteger writes = new AtomicInteger();
+
+        ResponseEntity<?> first = idempotencyService.execute("test.create", userId, "key-1", Map.of("name", "a"),
+                () -> ResponseEntity.status(HttpStatus.CREATED).body(Map.of("id", writes.incrementAndGet())));
+        ResponseEntity<?> retry = idempotencyService.execute("test.create", userId, " key-1 ", Map.of("name", "a"),
+                () -> ResponseEntity.status(HttpStatus.CREATED).body(Map.of("id", writes.incrementAndGet())));
+
+        assertEquals(1, writes.get());
+        assertEquals(HttpStatus.CREATED, first.getStatusCode());
+        assertNull(first.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER));
+        assertEquals(HttpStatus.CREATED, retry.getStatusCode());
+        assertEquals("true", retry.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER));
+        assertEquals("{\"id\":1}", retry.getBody());
+
+        // Another instance without the in-memory copy replays from the table
+        ResponseEntity<?> elsewhere = newInstance().execute("test.create", userId, "key-1", Map.of("name", "a"),
+                () -> ResponseEntity.ok(writes.incrementAndGet()));
+        assertEquals(HttpStatus.CREATED, elsewhere.getStatusCode());
+        assertEquals("{\"id\":1}", elsewhere.getBody());
+        assertEquals(1, writes.get());
+    }
+
+    @Test
+    void failedWritesAreNotStored() {
+        AtomicInteger writes = new AtomicInteger();
+
+        ResponseEntity<?> failed = idempotencyService.execute("test.create", userId, "key-2", "request", () -> {
+            writes.incrementAndGet();
+            return ResponseEntity.badRequest().body("nope");
+        });
+        ResponseEntity<?> retried = idempotencyService.execute("test.create", userId, "key-2", "request", () -> {
+            writes.incrementAndGet();
+            return ResponseEntity.ok("done");
+        });
+
+        assertEquals(HttpStatus.BAD_REQUEST, failed.getStatusCode());
+        assertEquals(HttpStatus.OK, retried.getStatusCode());
+        assertEquals(2, writes.get());
+    }
+
+    @Test
+    void reusingAKeyForADifferentRequestIsRejectedWith422() throws Exception {
+        idempotencyService.execute("test.create", userId, "key-3", Map.of("name", "a"), () -> ResponseEntity.ok("a"));
+
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, idempotencyService.execute("test.create", userId, "key-3",
+                Map.of("name", "b"), () -> ResponseEntity.ok("b")).getStatusCode());
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, idempotencyService.execute("test.other", userId, "key-3",
+                Map.of("name", "a"), () -> ResponseEntity.ok("a")).getStatusCode(), "scope is part of the fingerprint");
+
+        // Also while the first request is still running, on this instance and on another
+        CountDownLatch release = new CountDownLatch(1);
+        Future<ResponseEntity<?>> running = executor.submit(() -> idempotencyService.execute("test.create", userId,
+                "key-4", Map.of("name", "a"), () -> {
+                    await(release);
+                    return ResponseEntity.ok("a");
+                }));
+        awaitClaim("key-4");
+
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, idempotencyService.execute("test.create", userId, "key-4",
+                Map.of("name", "b"), () -> ResponseEntity.ok("b")).getStatusCode());
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, newInstance().execute("test.create", userId, "key-4",
+                Map.of("name", "b"), () -> ResponseEntity.ok("b")).getStatusCode());
+
+        release.countDown();
+        assertEquals(HttpStatus.OK, running.get(5, TimeUnit.SECONDS).getStatusCode());
+    }
+
+    @Test
+    void concurrentDuplicatesRunTheWriteOnce() throws Exception {
+        IdempotencyService otherInstance = newInstance();
+        AtomicInteger writes = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<ResponseEntity<?>>> callers = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            IdempotencyService instance = i % 2 == 0 ? idempotencyService : otherInstance;
+            callers.add(executor.submit(() -> instance.execute("test.create", userId, "key-5", "request", () -> {
+                writes.incrementAndGet();
+                await(release);
+                return ResponseEntity.ok(Map.of("created", true));
+            })));
+        }
+        awaitClaim("key-5");
+        Thread.sleep(50);
+        release.countDown();
+
+        int replayed = 0;
+        for (Future<ResponseEntity<?>> caller : callers) {
+            ResponseEntity<?> response = caller.get(5, TimeUnit.SECONDS);
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            replayed += "true".equals(response.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER)) ? 1 : 0;
+        }
+        assertEquals(1, writes.get());
+        assertEquals(5, replayed);
+    }
+
+    @Test
+    void duplicatesGiveUpWith409WhileTheLeaseOutlivesTheWait() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<ResponseEntity<?>> running = executor.submit(() -> idempotencyService.execute("test.slow", userId,
+                "key-6", "request", () -> {
+                    await(release);
+                    return ResponseEntity.ok("slow");
+                }));
+        awaitClaim("key-6");
+
+        assertEquals(HttpStatus.CONFLICT, idempotencyService.execute("test.slow", userId, "key-6", "request",
+                () -> ResponseEntity.ok("again")).getStatusCode());
+        assertEquals(HttpStatus.CONFLICT, newInstance().execute("test.slow", userId, "key-6", "request",
+                () -> ResponseEntity.ok("again")).getStatusCode());
+
+        // The claim is leased well past max-wait and renewed while the write runs
+        LocalDateTime leaseEnd = claimExpiresAt("key-6");
+        assertTrue(leaseEnd.isAfter(LocalDateTime.now().plusSeconds(30)), "lease is " + leaseEnd);
+        Thread.sleep(20);
+        idempotencyService.renewClaims();
+        assertTrue(claimExpiresAt("key-6").isAfter(leaseEnd));
+
+        release.countDown();
+        assertEquals(HttpStatus.OK, running.get(5, TimeUnit.SECONDS).getStatusCode());
+    }
+
+    private IdempotencyService newInstance() {
+        IdempotencyService service = new IdempotencyService(100, 60_000, MAX_WAIT_MS, LEASE_MS);
+        ReflectionTestUtils.setField(service, "idempotencyRecordRepository", idempotencyRecordRepository);
+        ReflectionTestUtils.setField(service, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(service, "transactionManager", transactionManager);
+        return service;
+    }
+
+    private void awaitClaim(String key) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (idempotencyRecordRepository.findByUserIdAndIdempotencyKey(userId, key).isEmpty()
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue(idempotencyRecordRepository.findByUserIdAndIdempotencyKey(userId, key).isPresent());
+    }
+
+    private LocalDateTime claimExpiresAt(String key) {
+        return jdbcTemplate.queryForObject("SELECT expires_at FROM idempotency_keys WHERE user_id = ? AND idempotency_key = ?",
+                Timestamp.class, userId, key).toLocalDateTime();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
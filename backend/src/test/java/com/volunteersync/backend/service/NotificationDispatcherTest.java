@@ -0,0 +1,188 @@
+package com.volunteersync.backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.volunteersync.backend.entity.NotificationOutbox;
+import com.volunteersync.backend.enums.NotificationType;
+import com.volunteersync.backend.repository.NotificationOutboxRepository;
+import com.volunteersync.backend.repository.VolunteerProfileRepository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.AdditionalAnswers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Fan-out and delivery end to end through the file sink, against the throwaway in-memory
+ * database. The dispatcher bean gets small batches, short backoffs, a follower query that fails
+ * once mid fan-out and a channel that fails once for one follower; all are put back afterwards.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:service-test;DB_CLOSE_DELAY=-1")
+class NotificationDispatcherTest {
+
+    private static final AtomicLong ORGANIZATION_IDS = new AtomicLong(700_000);
+    private static final int FOLLOWERS = 7;
+
+    @Autowired
+    private NotificationDispatcher dispatcher;
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private VolunteerProfileRepository volunteerProfileRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    Path tempDir;
+
+    private final Map<String, Object> originals = new HashMap<>();
+    private FileNotificationChannel fileChannel;
+
+    @BeforeEach
+    void setUp() {
+        for (String field : List.of("channel", "volunteerProfileRepository", "fanoutBatchSize", "backoffInitialMillis",
+                "backoffMaxMillis")) {
+            originals.put(field, ReflectionTestUtils.getField(dispatcher, field));
+        }
+        fileChannel = new FileNotificationChannel(tempDir.resolve("notifications.ndjson").toString());
+        ReflectionTestUtils.setField(fileChannel, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(dispatcher, "fanoutBatchSize", 3);
+        ReflectionTestUtils.setField(dispatcher, "backoffInitialMillis", 20L);
+        ReflectionTestUtils.setField(dispatcher, "backoffMaxMillis", 100L);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        originals.forEach((field, value) -> ReflectionTestUtils.setField(dispatcher, field, value));
+        fileChannel.close();
+    }
+
+    @Test
+    void retriedFanOutAndDeliveryReachEachFollowerOnce() throws Exception {
+        long organizationId = ORGANIZATION_IDS.incrementAndGet();
+        List<Long> followers = new ArrayList<>();
+        for (int i = 0; i < FOLLOWERS; i++) {
+            followers.add(volunteer("1," + organizationId));
+        }
+        // Matched as a whole id, so neither of these is a follower
+        volunteer(organizationId + "0");
+        volunteer("");
+        Long flaky = followers.get(4);
+
+        // The second follower batch fails once after the first committed; the retry resumes at the cursor
+        AtomicInteger followerQueries = new AtomicInteger();
+        VolunteerProfileRepository failingOnce = mock(VolunteerProfileRepository.class,
+                AdditionalAnswers.delegatesTo(volunteerProfileRepository));
+        doAnswer(invocation -> {
+            if (followerQueries.incrementAndGet() == 2) {
+                throw new IllegalStateException("follower query timed out");
+            }
+            return volunteerProfileRepository.findFollowerIdsAfter(invocation.getArgument(0), invocation.getArgument(1),
+                    invocation.getArgument(2));
+        }).when(failingOnce).findFollowerIdsAfter(anyLong(), anyLong(), any(Pageable.class));
+        ReflectionTestUtils.setField(dispatcher, "volunteerProfileRepository", failingOnce);
+
+        Set<Long> failedOnce = ConcurrentHashMap.newKeySet();
+        ReflectionTestUtils.setField(dispatcher, "channel", new NotificationChannel() {
+            @Override
+            public String getName() {
+                return fileChannel.getName();
+            }
+
+            @Override
+            public void send(OutgoingNotification notification) throws IOException {
+                if (notification.userId().equals(flaky) && failedOnce.add(flaky)) {
+                    throw new IOException("connection reset");
+                }
+                fileChannel.send(notification);
+            }
+        });
+
+        NotificationOutbox outbox = outboxRepository.save(new NotificationOutbox(NotificationType.NEW_EVENT,
+                organizationId, 1L, "New event", "Beach cleanup"));
+        // Overlapping triggers, as when a publish and the poller fire together
+        dispatcher.requestFanout();
+        dispatcher.requestFanout();
+        dispatcher.poll();
+
+        long deadline = System.currentTimeMillis() + 15_000;
+        while (!finished(outbox.getId()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            dispatcher.poll();
+        }
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT status, recipients, attempts FROM notification_outbox WHERE id = ?", outbox.getId());
+        assertEquals("DONE", row.get("STATUS"));
+        assertEquals(FOLLOWERS, ((Number) row.get("RECIPIENTS")).intValue());
+        assertEquals(1, ((Number) row.get("ATTEMPTS")).intValue(), "one failed fan-out attempt");
+
+        assertEquals(followers, jdbcTemplate.queryForList(
+                "SELECT user_id FROM notifications WHERE outbox_id = ? ORDER BY user_id", Long.class, outbox.getId()));
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "SELECT delivery_attempts FROM notifications WHERE outbox_id = ? AND user_id = ?", Integer.class,
+                outbox.getId(), flaky));
+
+        // One line in the sink per follower, the flaky one included
+        List<Long> delivered = new ArrayList<>();
+        for (String line : Files.readAllLines(fileChannel.getPath())) {
+            JsonNode json = objectMapper.readTree(line);
+            if (json.get("title").asText().equals("New event") && followers.contains(json.get("userId").asLong())) {
+                delivered.add(json.get("userId").asLong());
+            }
+        }
+        assertEquals(followers, delivered.stream().sorted().toList());
+        assertTrue(failedOnce.contains(flaky));
+    }
+
+    private boolean finished(Long outboxId) {
+        return "DONE".equals(jdbcTemplate.queryForObject("SELECT status FROM notification_outbox WHERE id = ?",
+                String.class, outboxId))
+                && jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notifications WHERE outbox_id = ? "
+                        + "AND delivery_status <> 'SENT'", Integer.class, outboxId) == 0;
+    }
+
+    /**
+     * A volunteer with the given followed_organizations; returns the user id
+     */
+    private Long volunteer(String followedOrganizations) {
+        String email = "follower-" + System.nanoTime() + "@volunteersync.example.com";
+        jdbcTemplate.update("INSERT INTO users (email, email_normalized, password, user_type) VALUES (?, ?, 'x', 'VOLUNTEER')",
+                email, email);
+        Long userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", Long.class, email);
+        jdbcTemplate.update("INSERT INTO volunteer_profiles (user_id, total_volunteer_hours, events_participated, "
+                + "followed_organizations) VALUES (?, 0, 0, ?)", userId, followedOrganizations);
+        return userId;
+    }
+}
@@ -0,0 +1,111 @@
+package com.volunteersync.backend.service;
+
+import com.volunteersync.backend.repository.BadgeRepository;
+import com.volunteersync.backend.repository.EventRepository;
+import com.volunteersync.backend.repository.OrganizationProfileRepository;
+import com.volunteersync.backend.repository.UserRepository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The grouped recount against the per-entity key functions the write hooks use, on the seeded
+ * throwaway in-memory database
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:service-test;DB_CLOSE_DELAY=-1")
+class PlatformStatisticsServiceTest {
+
+    @Autowired
+    private PlatformStatisticsService statisticsService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OrganizationProfileRepository organizationProfileRepository;
+
+    @Autowired
+    private BadgeRepository badgeRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void groupedRecountMatchesCountingEveryEntity() {
+        statisticsService.reconcile();
+
+        Map<String, Long> expected = perEntityCounts();
+        assertTrue(expected.get(PlatformStatisticsService.USERS_TOTAL) > 0, "seeded users");
+        Map<String, Long> stored = storedCounts();
+        expected.forEach((key, count) -> assertEquals(count, stored.get(key), key));
+        stored.forEach((key, count) -> assertEquals(expected.getOrDefault(key, 0L), count, key));
+        expected.forEach((key, count) -> assertEquals(count, snapshot(key), "snapshot " + key));
+    }
+
+    @Test
+    void driftAndMissingRowsAreRepaired() {
+        statisticsService.reconcile();
+        Map<String, Long> expected = perEntityCounts();
+
+        jdbcTemplate.update("UPDATE platform_statistics SET stat_value = stat_value + 7 WHERE stat_key = ?",
+                PlatformStatisticsService.EVENTS_TOTAL);
+        jdbcTemplate.update("DELETE FROM platform_statistics WHERE stat_key = ?", PlatformStatisticsService.USERS_TOTAL);
+        jdbcTemplate.update("INSERT INTO platform_statistics (stat_key, stat_value, updated_at) "
+                + "VALUES ('badges.type:NO_SUCH_BADGE', 3, CURRENT_TIMESTAMP)");
+
+        statisticsService.reconcile();
+
+        Map<String, Long> stored = storedCounts();
+        assertEquals(expected.get(PlatformStatisticsService.EVENTS_TOTAL), stored.get(PlatformStatisticsService.EVENTS_TOTAL));
+        assertEquals(expected.get(PlatformStatisticsService.USERS_TOTAL), stored.get(PlatformStatisticsService.USERS_TOTAL));
+        assertEquals(0L, stored.get("badges.type:NO_SUCH_BADGE"), "keys that no longer occur go to zero");
+        assertEquals(expected.get(PlatformStatisticsService.USERS_TOTAL),
+                statisticsService.getCount(PlatformStatisticsService.USERS_TOTAL));
+    }
+
+    private Map<String, Long> perEntityCounts() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template.execute(status -> {
+            Map<String, Long> counts = new HashMap<>();
+            for (List<?> entities : List.of(userRepository.findAll(), organizationProfileRepository.findAll(),
+                    badgeRepository.findAll(), eventRepository.findAll())) {
+                for (Object entity : entities) {
+                    statisticsService.keysFor(entity).forEach(key -> counts.merge(key, 1L, Long::sum));
+                }
+            }
+            return counts;
+        });
+    }
+
+    private Map<String, Long> storedCounts() {
+        Map<String, Long> stored = new HashMap<>();
+        jdbcTemplate.query("SELECT stat_key, stat_value FROM platform_statistics",
+                (RowCallbackHandler) row -> stored.put(row.getString(1), row.getLong(2)));
+        return stored;
+    }
+
+    private long snapshot(String key) {
+        int separator = key.indexOf(':');
+        return separator < 0 ? statisticsService.getCount(key)
+                : statisticsService.getCount(key.substring(0, separator), key.substring(separator + 1));
+    }
+}
@@ -0,0 +1,221 @@
+package com.volunteersync.backend.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Coalescing under real threads: the leader's loader blocks on a latch until every other
+ * caller is waiting on it
+ */
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight singleFlight;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight();
+        ReflectionTestUtils.setField(singleFlight, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(singleFlight, "maxWaitMillis", 10_000L);
+        ReflectionTestUtils.setField(singleFlight, "lingerMillis", 0L);
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Object result = new Object();
+
+        List<Future<Object>> callers = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            callers.add(executor.submit(() -> singleFlight.execute("test.load", () -> {
+                loads.incrementAndGet();
+                await(release);
+                return result;
+            }, " Key ")));
+        }
+        awaitCount("shared", CALLERS - 1);
+        release.countDown();
+
+        for (Future<Object> caller : callers) {
+            assertSame(result, caller.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1.0, count("executed"));
+        assertEquals(0, singleFlight.getInFlightCount());
+    }
+
+    @Test
+    void argumentsAreNormalizedAndDistinctArgumentsLoadSeparately() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        Future<Object> first = executor.submit(() -> singleFlight.execute("test.args", () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "seattle";
+        }, "Seattle"));
+        awaitInFlight(1);
+        Future<Object> sameKey = executor.submit(() -> singleFlight.execute("test.args", () -> "never", "  SEATTLE "));
+        awaitCount("shared", 1);
+
+        assertEquals("tacoma", singleFlight.execute("test.args", () -> "tacoma", "Tacoma"));
+        release.countDown();
+
+        assertEquals("seattle", first.get(5, TimeUnit.SECONDS));
+        assertEquals("seattle", sameKey.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void finishedResultsAreNotReused() {
+        AtomicInteger loads = new AtomicInteger();
+
+        singleFlight.execute("test.sequential", loads::incrementAndGet);
+        int second = singleFlight.execute("test.sequential", loads::incrementAndGet);
+
+        assertEquals(2, second, "a call after the first finished must load again");
+        assertEquals(0, singleFlight.getInFlightCount());
+    }
+
+    @Test
+    void lingeringResultsAreReusedUntilAWriteCommits() {
+        ReflectionTestUtils.setField(singleFlight, "lingerMillis", 60_000L);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals(1, singleFlight.execute("test.linger", loads::incrementAndGet));
+        assertEquals(1, singleFlight.execute("test.linger", loads::incrementAndGet));
+        assertEquals(1.0, count("lingered"));
+
+        // A write inside a transaction retires the result only once it commits
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            singleFlight.invalidateAfterCommit("test.linger");
+            assertEquals(1, singleFlight.execute("test.linger", loads::incrementAndGet));
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(2, singleFlight.execute("test.linger", loads::incrementAndGet));
+
+        // Other reads keep their lingering results
+        assertEquals("other", singleFlight.execute("test.other", () -> "other"));
+        singleFlight.invalidateAfterCommit("test.linger");
+        assertEquals("other", singleFlight.execute("test.other", () -> "reloaded"));
+    }
+
+    @Test
+    void loadsStartedBeforeACommittedWriteAreNotJoined() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<Object> before = executor.submit(() -> singleFlight.execute("test.write", () -> {
+            await(release);
+            return "before write";
+        }));
+        awaitInFlight(1);
+        singleFlight.invalidateAfterCommit("test.write");
+
+        assertEquals("after write", singleFlight.execute("test.write", () -> "after write"));
+        release.countDown();
+        assertEquals("before write", before.get(5, TimeUnit.SECONDS));
+        assertEquals(0.0, count("shared"));
+    }
+
+    @Test
+    void failuresReachEveryWaiterAndAreNotCached() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<Object>> callers = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            callers.add(executor.submit(() -> singleFlight.execute("test.failure", () -> {
+                await(release);
+                throw new IllegalStateException("boom");
+            })));
+        }
+        awaitCount("shared", CALLERS - 1);
+        release.countDown();
+
+        for (Future<Object> caller : callers) {
+            Exception e = assertThrows(Exception.class, () -> caller.get(5, TimeUnit.SECONDS));
+            assertTrue(e.getCause() instanceof IllegalStateException);
+            assertEquals("boom", e.getCause().getMessage());
+        }
+        assertEquals("recovered", singleFlight.execute("test.failure", () -> "recovered"));
+    }
+
+    @Test
+    void waitersLoadIndependentlyAfterMaxWait() throws Exception {
+        ReflectionTestUtils.setField(singleFlight, "maxWaitMillis", 50L);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<Object> leader = executor.submit(() -> singleFlight.execute("test.slow", () -> {
+            await(release);
+            return "leader";
+        }));
+        awaitInFlight(1);
+
+        assertEquals("own", singleFlight.execute("test.slow", () -> "own"));
+        release.countDown();
+        assertEquals("leader", leader.get(5, TimeUnit.SECONDS));
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.find("singleflight.calls").tag("outcome", outcome).counters().stream()
+                .mapToDouble(counter -> counter.count())
+                .sum();
+    }
+
+    private void awaitCount(String outcome, int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (count(outcome) < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, count(outcome));
+    }
+
+    private void awaitInFlight(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (singleFlight.getInFlightCount() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, singleFlight.getInFlightCount());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
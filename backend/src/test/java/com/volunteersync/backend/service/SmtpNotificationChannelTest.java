@@ -0,0 +1,122 @@
+package com.volunteersync.backend.service;
+
+import com.volunteersync.backend.enums.NotificationType;
+import com.volunteersync.backend.service.NotificationChannel.OutgoingNotification;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Subject encoding, checked on its own and through a one-message SMTP relay on a local port
+ */
+class SmtpNotificationChannelTest {
+
+    private static final Pattern ENCODED_WORD = Pattern.compile("=\\?UTF-8\\?B\\?([A-Za-z0-9+/=]*)\\?=");
+
+    @Test
+    void asciiSubjectsAreSentAsTheyAre() {
+        assertEquals("Beach cleanup: bring gloves", SmtpNotificationChannel.encodeHeader("Beach cleanup: bring gloves"));
+        assertEquals("Two lines", SmtpNotificationChannel.encodeHeader("Two\r\nlines"));
+    }
+
+    @Test
+    void nonAsciiSubjectsAreFoldedEncodedWordsThatDecodeBack() {
+        // Two-, three- and four-byte characters, long enough to need several words
+        String subject = "Café très cher: 募集中のボランティア 🌱 in Zürich, São Paulo and Kraków";
+
+        String encoded = SmtpNotificationChannel.encodeHeader(subject);
+
+        assertEquals(subject, decode(encoded));
+        String[] lines = encoded.split("\r\n");
+        assertTrue(lines.length > 1, "folded: " + encoded);
+        for (int i = 0; i < lines.length; i++) {
+            String line = i == 0 ? "Subject: " + lines[i] : lines[i];
+            assertTrue(line.length() <= 76, "line too long: " + line);
+            assertTrue(line.chars().allMatch(c -> c < 0x7f), "not ASCII: " + line);
+            if (i > 0) {
+                assertTrue(line.startsWith(" "), "continuation lines start with whitespace");
+            }
+        }
+    }
+
+    @Test
+    void theRelayReceivesTheEncodedSubject() throws Exception {
+        try (ServerSocket server = new ServerSocket(0)) {
+            CompletableFuture<List<String>> received = CompletableFuture.supplyAsync(() -> relay(server));
+            SmtpNotificationChannel channel = new SmtpNotificationChannel("localhost", server.getLocalPort(),
+                    "no-reply@volunteersync.local", 5000);
+
+            channel.send(new OutgoingNotification(1L, 2L, "volunteer@example.com", NotificationType.NEW_EVENT,
+                    "Nouvel événement", "Hello\n.\nBye", 3L));
+
+            List<String> data = received.get(5, TimeUnit.SECONDS);
+            String subject = data.stream().filter(line -> line.startsWith("Subject: ")).findFirst().orElseThrow();
+            assertEquals("Nouvel événement", decode(subject.substring("Subject: ".length())));
+            assertTrue(data.contains(".."), "dot-stuffed body line");
+        }
+    }
+
+    private static String decode(String header) {
+        Matcher matcher = ENCODED_WORD.matcher(header);
+        ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+        boolean encoded = false;
+        while (matcher.find()) {
+            decoded.writeBytes(Base64.getDecoder().decode(matcher.group(1)));
+            encoded = true;
+        }
+        return encoded ? decoded.toString(StandardCharsets.UTF_8) : header;
+    }
+
+    /**
+     * Accepts one message and returns its DATA lines
+     */
+    private static List<String> relay(ServerSocket server) {
+        List<String> data = new ArrayList<>();
+        try (Socket socket = server.accept()) {
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+            reply(out, "220 test");
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.equals("DATA")) {
+                    reply(out, "354 go ahead");
+                    while (!(line = in.readLine()).equals(".")) {
+                        data.add(line);
+                    }
+                    reply(out, "250 queued");
+                } else if (line.equals("QUIT")) {
+                    reply(out, "221 bye");
+                    break;
+                } else {
+                    reply(out, "250 ok");
+                }
+            }
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+        return data;
+    }
+
+    private static void reply(Writer out, String line) throws Exception {
+        out.write(line + "\r\n");
+        out.flush();
+    }
+}
@@ -0,0 +1,91 @@
+package com.volunteersync.backend.service;
+
+import com.volunteersync.backend.entity.OrganizationProfile;
+import com.volunteersync.backend.repository.ApplicationRepository;
+import com.volunteersync.backend.repository.EventRepository;
+import com.volunteersync.backend.repository.OrganizationProfileRepository;
+import com.volunteersync.backend.repository.VolunteerProfileRepository;
+import com.volunteersync.backend.service.SuggestService.SuggestType;
+import com.volunteersync.backend.service.SuggestTrie.Suggestion;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Reads during a rebuild and the replay of hooks that ran while it was building, with the
+ * repositories mocked (no transaction is active, so hooks apply immediately)
+ */
+class SuggestServiceTest {
+
+    private OrganizationProfileRepository organizationProfileRepository;
+    private SuggestService suggestService;
+
+    @BeforeEach
+    void setUp() {
+        organizationProfileRepository = mock(OrganizationProfileRepository.class);
+        EventRepository eventRepository = mock(EventRepository.class);
+        when(eventRepository.findUpcomingActiveEvents(any())).thenReturn(List.of());
+
+        suggestService = new SuggestService();
+        ReflectionTestUtils.setField(suggestService, "organizationProfileRepository", organizationProfileRepository);
+        ReflectionTestUtils.setField(suggestService, "volunteerProfileRepository", mock(VolunteerProfileRepository.class));
+        ReflectionTestUtils.setField(suggestService, "eventRepository", eventRepository);
+        ReflectionTestUtils.setField(suggestService, "applicationRepository", mock(ApplicationRepository.class));
+        ReflectionTestUtils.setField(suggestService, "transactionManager", mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(suggestService, "topK", 5);
+        suggestService.initEmptyTries();
+    }
+
+    @Test
+    void suggestionsAreEmptyRatherThanFailingBeforeTheFirstBuild() {
+        assertFalse(suggestService.isReady());
+        assertEquals(List.of(), suggestService.suggest(SuggestType.ORGANIZATION, "sea", 5));
+
+        suggestService.onOrganizationSaved(organization(1L, "Seattle Food Bank"));
+        assertEquals(List.of("Seattle Food Bank"), texts(SuggestType.ORGANIZATION, "sea"));
+    }
+
+    @Test
+    void readsUseThePreviousTriesWhileARebuildRunsAndHooksAreReplayed() {
+        when(organizationProfileRepository.findAll()).thenReturn(List.of(organization(1L, "Seattle Food Bank")));
+        suggestService.rebuild();
+        assertTrue(suggestService.isReady());
+
+        when(organizationProfileRepository.findAll()).thenAnswer(invocation -> {
+            // A save and a follow commit mid-build: reads still see the previous tries...
+            suggestService.onOrganizationSaved(organization(2L, "Seattle Parks"));
+            suggestService.onFollowChanged(2L, true);
+            assertEquals(List.of("Seattle Parks", "Seattle Food Bank"), texts(SuggestType.ORGANIZATION, "seattle"));
+            // ...and the build itself read the database before they committed
+            return List.of(organization(1L, "Seattle Food Bank"));
+        });
+        suggestService.rebuild();
+
+        assertEquals(List.of("Seattle Parks", "Seattle Food Bank"), texts(SuggestType.ORGANIZATION, "seattle"));
+        assertEquals(1L, suggestService.suggest(SuggestType.ORGANIZATION, "seattle p", 5).get(0).weight());
+    }
+
+    private List<String> texts(SuggestType type, String prefix) {
+        return suggestService.suggest(type, prefix, 5).stream().map(Suggestion::text).toList();
+    }
+
+    private static OrganizationProfile organization(Long id, String name) {
+        OrganizationProfile organization = new OrganizationProfile();
+        organization.setId(id);
+        organization.setOrganizationName(name);
+        organization.setCity("Seattle");
+        organization.setState("WA");
+        return organization;
+    }
+}
@@ -0,0 +1,169 @@
+package com.volunteersync.backend.service;
+
+import com.volunteersync.backend.service.SuggestTrie.Suggestion;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Completions and per-node top-K, checked against a brute-force scan of every entry
+ */
+class SuggestTrieTest {
+
+    private static final int TOP_K = 3;
+
+    @Test
+    void completesFullTextAndWordStarts() {
+        SuggestTrie trie = new SuggestTrie(TOP_K);
+        trie.upsert("org:1", "Seattle Food Bank", 5, 1L);
+        trie.upsert("org:2", "Food Lifeline", 3, 2L);
+
+        assertEquals(List.of("org:1", "org:2"), keys(trie.complete("foo", 10)));
+        assertEquals(List.of("org:1"), keys(trie.complete("  BANK ", 10)));
+        assertEquals(List.of("org:1"), keys(trie.complete("seattle   food", 10)));
+        assertEquals(List.of(), keys(trie.complete("ood", 10)), "only word starts match");
+        assertEquals(List.of(), keys(trie.complete("", 10)));
+        assertEquals(List.of("org:1"), keys(trie.complete("foo", 1)));
+    }
+
+    @Test
+    void eachNodeKeepsOnlyTheTopKOfItsSubtree() {
+        SuggestTrie trie = new SuggestTrie(TOP_K);
+        trie.upsert("a", "car", 1, null);
+        trie.upsert("b", "cart", 4, null);
+        trie.upsert("c", "carbon", 2, null);
+        trie.upsert("d", "cargo", 3, null);
+        trie.upsert("e", "cat", 5, null);
+
+        assertEquals(List.of("e", "b", "d"), keys(trie.complete("c", 10)));
+        assertEquals(List.of("b", "d", "c"), keys(trie.complete("car", 10)), "K best of car*, not of c*");
+        assertEquals(List.of("c"), keys(trie.complete("carb", 10)));
+
+        // Dropping a top entry pulls the next best up from the subtree
+        trie.remove("e");
+        assertEquals(List.of("b", "d", "c"), keys(trie.complete("c", 10)));
+        trie.remove("b");
+        assertEquals(List.of("d", "c", "a"), keys(trie.complete("ca", 10)));
+    }
+
+    @Test
+    void weightChangesReorderAndTiesBreakByText() {
+        SuggestTrie trie = new SuggestTrie(TOP_K);
+        trie.upsert("x", "Beach Cleanup", 1, null);
+        trie.upsert("y", "beach Walk", 1, null);
+        trie.upsert("z", "Beacon Hill", 1, null);
+
+        assertEquals(List.of("x", "y", "z"), keys(trie.complete("bea", 10)));
+
+        trie.upsert("y", "beach Walk", 7, null);
+        assertEquals(List.of("y", "x", "z"), keys(trie.complete("bea", 10)));
+
+        // Renaming moves the entry to its new terms and out of the old ones
+        trie.upsert("z", "Harbor Hill", 1, null);
+        assertEquals(List.of("y", "x"), keys(trie.complete("bea", 10)));
+        assertEquals(List.of("z"), keys(trie.complete("harb", 10)));
+        assertEquals(List.of("z"), keys(trie.complete("hill", 10)));
+    }
+
+    @Test
+    void blankTextRemovesTheEntry() {
+        SuggestTrie trie = new SuggestTrie(TOP_K);
+        trie.upsert("k", "Tutoring", 2, 9L);
+        trie.upsert("k", "   ", 2, 9L);
+
+        assertNull(trie.get("k"));
+        assertEquals(0, trie.size());
+        assertEquals(List.of(), trie.complete("t", 10));
+    }
+
+    @Test
+    void randomUpdatesMatchABruteForceScanAtEveryPrefix() {
+        Random random = new Random(42);
+        String[] words = {"food", "foods", "fork", "forest", "park", "parks", "pantry", "seattle", "sea", "tacoma"};
+        SuggestTrie trie = new SuggestTrie(TOP_K);
+        Map<String, Suggestion> oracle = new HashMap<>();
+
+        for (int step = 0; step < 2000; step++) {
+            String key = "k" + random.nextInt(40);
+            if (random.nextInt(5) == 0) {
+                trie.remove(key);
+                oracle.remove(key);
+            } else {
+                String text = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)];
+                long weight = random.nextInt(6);
+                trie.upsert(key, text, weight, null);
+                oracle.put(key, new Suggestion(key, text, weight, null));
+            }
+
+            if (step % 50 == 0) {
+                assertMatchesOracle(trie, oracle);
+            }
+        }
+        assertMatchesOracle(trie, oracle);
+        assertEquals(oracle.size(), trie.size());
+    }
+
+    @Test
+    void normalizeLowercasesTrimsAndCollapsesWhitespace() {
+        assertEquals("seattle food bank", SuggestTrie.normalize("  Seattle \t Food\n\nBANK "));
+        assertEquals("", SuggestTrie.normalize(null));
+        assertEquals("", SuggestTrie.normalize("   "));
+    }
+
+    /**
+     * Every prefix of every indexed term must return exactly the K best matching entries
+     */
+    private static void assertMatchesOracle(SuggestTrie trie, Map<String, Suggestion> oracle) {
+        Set<String> prefixes = new TreeSet<>();
+        for (Suggestion suggestion : oracle.values()) {
+            for (String term : terms(suggestion.text())) {
+                for (int length = 1; length <= term.length(); length++) {
+                    prefixes.add(term.substring(0, length));
+                }
+            }
+        }
+
+        for (String prefix : prefixes) {
+            // Lookups normalize too, so "food " matches like "food"
+            String term = SuggestTrie.normalize(prefix);
+            List<String> expected = oracle.values().stream()
+                    .filter(suggestion -> terms(suggestion.text()).stream().anyMatch(text -> text.startsWith(term)))
+                    .sorted(Comparator.comparingLong(Suggestion::weight).reversed()
+                            .thenComparing(Suggestion::text, String.CASE_INSENSITIVE_ORDER)
+                            .thenComparing(Suggestion::key))
+                    .limit(TOP_K)
+                    .map(Suggestion::key)
+                    .toList();
+            assertEquals(expected, keys(trie.complete(prefix, TOP_K)), "prefix '" + prefix + "'");
+        }
+        assertTrue(trie.complete("zzz", TOP_K).isEmpty());
+    }
+
+    private static List<String> terms(String text) {
+        String normalized = SuggestTrie.normalize(text);
+        List<String> terms = new ArrayList<>();
+        terms.add(normalized);
+        for (int i = 1; i < normalized.length(); i++) {
+            if (normalized.charAt(i - 1) == ' ') {
+                terms.add(normalized.substring(i));
+            }
+        }
+        return terms;
+    }
+
+    private static List<String> keys(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::key).toList();
+    }
+}
@@ -0,0 +1,90 @@
+package com.volunteersync.backend.service;
+
+import com.volunteersync.backend.entity.User;
+import com.volunteersync.backend.enums.RollupGranularity;
+import com.volunteersync.backend.repository.UserRepository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * The hourly grouped backfill against truncating every registration time, on the seeded
+ * throwaway in-memory database
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:service-test;DB_CLOSE_DELAY=-1")
+class TimeSeriesRollupServiceTest {
+
+    @Autowired
+    private TimeSeriesRollupService rollupService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void backfillMatchesTruncatingEveryTimestamp() {
+        TimeSeriesRollupService.BackfillResult result = rollupService.rebuildAll();
+
+        Map<String, Long> expected = expectedUserBuckets();
+        assertFalse(expected.isEmpty(), "seeded users");
+        assertEquals(expected, storedUserBuckets());
+        assertEquals(result.getRowsScanned(), jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(bucket_count), 0) FROM time_series_rollups WHERE granularity = 'HOUR'",
+                Long.class));
+    }
+
+    @Test
+    void driftMissingAndStaleBucketsAreRepaired() {
+        rollupService.rebuildAll();
+        Map<String, Long> expected = expectedUserBuckets();
+
+        jdbcTemplate.update("UPDATE time_series_rollups SET bucket_count = bucket_count + 5 "
+                + "WHERE metric = ? AND granularity = 'MONTH'", TimeSeriesRollupService.USERS_REGISTERED);
+        jdbcTemplate.update("DELETE FROM time_series_rollups WHERE metric = ? AND granularity = 'DAY'",
+                TimeSeriesRollupService.USERS_REGISTERED);
+        LocalDateTime emptyHour = RollupGranularity.MONTH.truncate(LocalDateTime.now());
+        while (expected.containsKey(RollupGranularity.HOUR.name() + " " + emptyHour)) {
+            emptyHour = RollupGranularity.HOUR.next(emptyHour);
+        }
+        jdbcTemplate.update("INSERT INTO time_series_rollups (metric, granularity, bucket_start, bucket_count) "
+                + "VALUES (?, 'HOUR', ?, 3)", TimeSeriesRollupService.USERS_REGISTERED, emptyHour);
+
+        rollupService.rebuildAll();
+
+        assertEquals(expected, storedUserBuckets());
+    }
+
+    private Map<String, Long> expectedUserBuckets() {
+        Map<String, Long> expected = new HashMap<>();
+        for (User user : userRepository.findAll()) {
+            if (user.getCreatedAt() == null) {
+                continue;
+            }
+            for (RollupGranularity granularity : RollupGranularity.values()) {
+                expected.merge(granularity.name() + " " + granularity.truncate(user.getCreatedAt()), 1L, Long::sum);
+            }
+        }
+        return expected;
+    }
+
+    private Map<String, Long> storedUserBuckets() {
+        Map<String, Long> stored = new HashMap<>();
+        jdbcTemplate.query("SELECT granularity, bucket_start, bucket_count FROM time_series_rollups WHERE metric = ?",
+                (RowCallbackHandler) row -> stored.put(row.getString(1) + " "
+                        + row.getTimestamp(2).toLocalDateTime(), row.getLong(3)),
+                TimeSeriesRollupService.USERS_REGISTERED);
+        return stored;
+    }
+}
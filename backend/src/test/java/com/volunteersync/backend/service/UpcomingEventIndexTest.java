@@ -0,0 +1,189 @@
+package com.volunteersync.backend.service;
+
+import com.volunteersync.backend.entity.Event;
+import com.volunteersync.backend.enums.EventStatus;
+import com.volunteersync.backend.repository.EventRepository;
+import com.volunteersync.backend.service.UpcomingEventIndex.EventSnapshot;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Index ordering, windows and write hooks, with the repository mocked (no transaction is
+ * active, so hooks apply immediately)
+ */
+class UpcomingEventIndexTest {
+
+    private final LocalDateTime base = LocalDateTime.now().plusDays(1).withNano(0);
+
+    private EventRepository eventRepository;
+    private UpcomingEventIndex index;
+    private final List<String> notifications = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = mock(EventRepository.class);
+        index = new UpcomingEventIndex();
+        ReflectionTestUtils.setField(index, "eventRepository", eventRepository);
+        ReflectionTestUtils.setField(index, "transactionManager", mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(index, "singleFlight", new SingleFlight());
+        index.addListener(new UpcomingEventIndex.Listener() {
+            @Override
+            public void onPut(EventSnapshot snapshot) {
+                notifications.add("put " + snapshot.id());
+            }
+
+            @Override
+            public void onRemove(Long id) {
+                notifications.add("remove " + id);
+            }
+
+            @Override
+            public void onClear() {
+                notifications.add("clear");
+            }
+        });
+    }
+
+    @Test
+    void upcomingIsInStartOrderWithIdBreakingTies() {
+        load(event(3L, base.plusHours(2)), event(2L, base), event(1L, base), event(4L, base.plusHours(1)));
+
+        assertEquals(List.of(1L, 2L, 4L, 3L), ids(index.upcoming(snapshot -> true, 0)));
+        assertEquals(List.of(1L, 2L), ids(index.upcoming(snapshot -> true, 2)));
+        assertEquals(List.of(2L, 4L), ids(index.upcoming(snapshot -> snapshot.id() % 2 == 0 || snapshot.id() == 3L, 2)));
+        assertEquals(List.of("clear", "put 3", "put 2", "put 1", "put 4"), notifications);
+    }
+
+    @Test
+    void windowIncludesFromAndExcludesTo() {
+        load(event(1L, base), event(2L, base.plusHours(1)), event(3L, base.plusHours(2)), event(4L, base.plusHours(3)));
+
+        assertEquals(List.of(2L, 3L), ids(index.window(base.plusHours(1), base.plusHours(3), snapshot -> true, 0)));
+        assertEquals(List.of(1L), ids(index.window(base, base.plusMinutes(59), snapshot -> true, 0)));
+        assertEquals(List.of(), ids(index.window(base.plusHours(2), base.plusHours(2), snapshot -> true, 0)));
+        assertEquals(List.of(), ids(index.window(base.plusHours(3), base, snapshot -> true, 0)));
+    }
+
+    @Test
+    void windowNeverReturnsEventsThatAlreadyStarted() {
+        LocalDateTime past = LocalDateTime.now().minusHours(1);
+        load(event(1L, past), event(2L, base));
+
+        assertEquals(List.of(2L), ids(index.window(past.minusHours(1), base.plusHours(1), snapshot -> true, 0)));
+        assertEquals(List.of(2L), ids(index.upcoming(snapshot -> true, 0)));
+
+        index.trimStarted();
+        assertEquals(1, index.size());
+        assertTrue(notifications.contains("remove 1"));
+    }
+
+    @Test
+    void savedEventsAreAddedMovedAndRemoved() {
+        load(event(1L, base), event(2L, base.plusHours(1)));
+
+        index.onEventSaved(event(3L, base.plusMinutes(30)));
+        assertEquals(List.of(1L, 3L, 2L), ids(index.upcoming(snapshot -> true, 0)));
+
+        // Rescheduling moves the entry instead of leaving the old key behind
+        index.onEventSaved(event(1L, base.plusHours(2)));
+        assertEquals(List.of(3L, 2L, 1L), ids(index.upcoming(snapshot -> true, 0)));
+        assertEquals(3, index.size());
+
+        Event cancelled = event(2L, base.plusHours(1));
+        cancelled.setStatus(EventStatus.CANCELLED);
+        index.onEventSaved(cancelled);
+        index.onEventSaved(event(3L, LocalDateTime.now().minusMinutes(1)));
+        assertEquals(List.of(1L), ids(index.upcoming(snapshot -> true, 0)));
+    }
+
+    @Test
+    void volunteerCountAdjustmentsClampAtZero() {
+        Event event = event(1L, base);
+        event.setCurrentVolunteers(2);
+        load(event);
+
+        index.onVolunteerCountsAdjusted(List.of(1L, 99L), 3);
+        assertEquals(5, index.upcoming(snapshot -> true, 0).get(0).currentVolunteers());
+
+        index.onVolunteerCountsAdjusted(List.of(1L), -10);
+        assertEquals(0, index.upcoming(snapshot -> true, 0).get(0).currentVolunteers());
+    }
+
+    @Test
+    void loadRetriesWhenAWriteRacesIt() {
+        AtomicInteger calls = new AtomicInteger();
+        when(eventRepository.findUpcomingActiveEvents(any())).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() == 1) {
+                index.onEventSaved(event(9L, base));
+            }
+            return List.of(event(1L, base), event(9L, base));
+        });
+
+        assertTrue(index.load());
+        assertTrue(index.isReady());
+        assertEquals(List.of(1L, 9L), ids(index.upcoming(snapshot -> true, 0)));
+        verify(eventRepository, times(2)).findUpcomingActiveEvents(any());
+    }
+
+    @Test
+    void loadGivesUpAfterMaxAttemptsAndKeepsTheCurrentState() {
+        when(eventRepository.findUpcomingActiveEvents(any())).thenAnswer(invocation -> {
+            index.onEventSaved(event(9L, base));
+            return List.of(event(1L, base));
+        });
+
+        assertFalse(index.load());
+        assertFalse(index.isReady(), "reads stay on the database until a load succeeds");
+        assertEquals(0, index.size());
+        verify(eventRepository, times(UpcomingEventIndex.MAX_LOAD_ATTEMPTS)).findUpcomingActiveEvents(any());
+
+        when(eventRepository.findUpcomingActiveEvents(any())).thenReturn(List.of(event(1L, base), event(9L, base)));
+        index.reload();
+        assertTrue(index.isReady());
+
+        // Once loaded, a reload that keeps racing leaves the hook-maintained index in place
+        when(eventRepository.findUpcomingActiveEvents(any())).thenAnswer(invocation -> {
+            index.onEventSaved(event(10L, base.plusHours(1)));
+            return List.of();
+        });
+        assertFalse(index.load());
+        assertEquals(List.of(1L, 9L, 10L), ids(index.upcoming(snapshot -> true, 0)));
+    }
+
+    private void load(Event... events) {
+        when(eventRepository.findUpcomingActiveEvents(any())).thenReturn(List.of(events));
+        assertTrue(index.load());
+    }
+
+    private static Event event(Long id, LocalDateTime startDate) {
+        Event event = new Event();
+        event.setId(id);
+        event.setTitle("Event " + id);
+        event.setStartDate(startDate);
+        event.setStatus(EventStatus.ACTIVE);
+        event.setMaxVolunteers(10);
+        event.setCurrentVolunteers(0);
+        return event;
+    }
+
+    private static List<Long> ids(List<EventSnapshot> snapshots) {
+        return snapshots.stream().map(EventSnapshot::id).toList();
+    }
+}
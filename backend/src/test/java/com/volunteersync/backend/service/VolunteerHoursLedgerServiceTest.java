@@ -0,0 +1,152 @@
+package com.volunteersync.backend.service;
+
+import com.volunteersync.backend.service.VolunteerHoursLedgerService.Attendance;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Ledger idempotency and reconciliation against a throwaway in-memory database (Flyway
+ * migrates it on startup), so commits and concurrent duplicates behave as in production
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:service-test;DB_CLOSE_DELAY=-1")
+class VolunteerHoursLedgerServiceTest {
+
+    private static final AtomicLong APPLICATION_IDS = new AtomicLong(900_000);
+
+    @Autowired
+    private VolunteerHoursLedgerService ledgerService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long profileId;
+
+    @BeforeEach
+    void setUp() {
+        String email = "ledger-" + System.nanoTime() + "@volunteersync.example.com";
+        jdbcTemplate.update("INSERT INTO users (email, email_normalized, password, user_type) VALUES (?, ?, 'x', 'VOLUNTEER')",
+                email, email);
+        Long userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", Long.class, email);
+        jdbcTemplate.update("INSERT INTO volunteer_profiles (user_id, total_volunteer_hours, events_participated) "
+                + "VALUES (?, 0, 0)", userId);
+        profileId = jdbcTemplate.queryForObject("SELECT id FROM volunteer_profiles WHERE user_id = ?", Long.class, userId);
+    }
+
+    @Test
+    void attendanceIsCreditedOncePerApplication() {
+        long first = APPLICATION_IDS.incrementAndGet();
+        long second = APPLICATION_IDS.incrementAndGet();
+
+        assertTrue(ledgerService.recordAttendance(profileId, first, null, 4));
+        assertFalse(ledgerService.recordAttendance(profileId, first, null, 4), "same application again");
+
+        // Already-credited and repeated applications inside one batch are skipped too
+        int credited = ledgerService.recordAttendances(List.of(
+                new Attendance(profileId, first, null, 4),
+                new Attendance(profileId, second, null, 3),
+                new Attendance(profileId, second, null, 3)));
+
+        assertEquals(1, credited);
+        assertEquals(List.of(7, 2), totals());
+        assertEquals(1, ledgerRows(first));
+        assertEquals(1, ledgerRows(second));
+    }
+
+    @Test
+    void concurrentDuplicatesAreCreditedOnce() throws Exception {
+        long applicationId = APPLICATION_IDS.incrementAndGet();
+        int callers = 6;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                Callable<Boolean> credit = () -> {
+                    start.await(5, TimeUnit.SECONDS);
+                    try {
+                        return ledgerService.recordAttendance(profileId, applicationId, null, 5);
+                    } catch (DataIntegrityViolationException e) {
+                        // Passed the existence check together with the winner; the unique key stops it
+                        return false;
+                    }
+                };
+                results.add(executor.submit(credit));
+            }
+            start.countDown();
+
+            int winners = 0;
+            for (Future<Boolean> result : results) {
+                winners += result.get(30, TimeUnit.SECONDS) ? 1 : 0;
+            }
+            assertEquals(1, winners);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(List.of(5, 1), totals());
+        assertEquals(1, ledgerRows(applicationId));
+    }
+
+    @Test
+    void reconciliationRebuildsTotalsFromTheLedger() {
+        Random random = new Random(40);
+        for (int i = 0; i < 25; i++) {
+            if (random.nextInt(4) == 0) {
+                ledgerService.recordAdjustment(profileId, random.nextInt(11) - 5, random.nextInt(3) - 1, "test");
+            } else {
+                ledgerService.recordAttendance(profileId, APPLICATION_IDS.incrementAndGet(), null, 1 + random.nextInt(8));
+            }
+        }
+        List<Integer> running = totals();
+        assertEquals(ledgerSums(), running, "running totals track the ledger");
+
+        // A write that bypassed the ledger is repaired back to the ledger sums
+        jdbcTemplate.update("UPDATE volunteer_profiles SET total_volunteer_hours = 999, events_participated = 0 WHERE id = ?",
+                profileId);
+        ledgerService.reconcile();
+        assertEquals(running, totals());
+
+        // A consistent profile is left alone
+        ledgerService.reconcile();
+        assertEquals(running, totals());
+    }
+
+    private List<Integer> totals() {
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT total_volunteer_hours, events_participated FROM volunteer_profiles WHERE id = ?", profileId);
+        return List.of(((Number) row.get("TOTAL_VOLUNTEER_HOURS")).intValue(),
+                ((Number) row.get("EVENTS_PARTICIPATED")).intValue());
+    }
+
+    private List<Integer> ledgerSums() {
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT COALESCE(SUM(hours), 0) AS hours, COALESCE(SUM(events), 0) AS events "
+                        + "FROM volunteer_hours_ledger WHERE volunteer_profile_id = ?", profileId);
+        return List.of(((Number) row.get("HOURS")).intValue(), ((Number) row.get("EVENTS")).intValue());
+    }
+
+    private int ledgerRows(long applicationId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM volunteer_hours_ledger WHERE application_id = ?",
+                Integer.class, applicationId);
+    }
+}
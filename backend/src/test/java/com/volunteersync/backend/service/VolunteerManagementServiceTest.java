@@ -0,0 +1,132 @@
+package com.volunteersync.backend.service;
+
+import com.volunteersync.backend.enums.ApplicationStatus;
+import com.volunteersync.backend.service.VolunteerManagementService.VolunteerInfo;
+import com.volunteersync.backend.service.VolunteerManagementService.VolunteerManagementResponse;
+import com.volunteersync.backend.service.VolunteerManagementService.VolunteerSearchRequest;
+import com.volunteersync.backend.service.VolunteerManagementService.VolunteerSearchResponse;
+import com.volunteersync.backend.service.VolunteerManagementService.VolunteerSearchResult;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Roster pages and volunteer search with every filter in the database, on the throwaway
+ * in-memory database
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:service-test;DB_CLOSE_DELAY=-1")
+class VolunteerManagementServiceTest {
+
+    @Autowired
+    private VolunteerManagementService volunteerManagementService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long organizationUserId;
+
+    @BeforeEach
+    void setUp() {
+        String run = String.valueOf(System.nanoTime());
+        organizationUserId = insertUser("org-" + run, "ORGANIZATION");
+        jdbcTemplate.update("INSERT INTO organization_profiles (user_id, organization_name) VALUES (?, 'Roster Org')",
+                organizationUserId);
+        Long organizationId = jdbcTemplate.queryForObject(
+                "SELECT id FROM organization_profiles WHERE user_id = ?", Long.class, organizationUserId);
+        jdbcTemplate.update("INSERT INTO events (organization_id, title, start_date) "
+                + "VALUES (?, 'Roster Event', CURRENT_TIMESTAMP)", organizationId);
+        Long eventId = jdbcTemplate.queryForObject(
+                "SELECT MAX(id) FROM events WHERE organization_id = ?", Long.class, organizationId);
+
+        apply(eventId, run, "Vol0", "First Aid,Cooking", ApplicationStatus.PENDING);
+        apply(eventId, run, "Vol1", "Cooking, Driving", ApplicationStatus.ACCEPTED);
+        apply(eventId, run, "Vol2", "Driving", ApplicationStatus.PENDING);
+        apply(eventId, run, "Vol3", "Tutoring", ApplicationStatus.ACCEPTED);
+        apply(eventId, run, "Vol4", "First Aid", ApplicationStatus.REJECTED);
+        apply(eventId, run, "Vol5", "Cooking", ApplicationStatus.PENDING);
+        apply(eventId, run, "Vol6", "FirstXAid", ApplicationStatus.PENDING);
+    }
+
+    @Test
+    void rosterReturnsTheSamePageOfEveryStatus() {
+        VolunteerManagementResponse first = volunteerManagementService.getOrganizationVolunteers(organizationUserId,
+                PageRequest.of(0, 2, VolunteerManagementService.rosterSort("firstName", "asc")));
+
+        assertEquals(4, first.getStatusCounts().get(ApplicationStatus.PENDING));
+        assertEquals(List.of("Vol0", "Vol2"), names(first, ApplicationStatus.PENDING));
+        assertEquals(List.of("Vol1", "Vol3"), names(first, ApplicationStatus.ACCEPTED));
+        assertEquals(List.of("Vol4"), names(first, ApplicationStatus.REJECTED));
+        assertEquals(List.of(), names(first, ApplicationStatus.WITHDRAWN));
+
+        VolunteerManagementResponse second = volunteerManagementService.getOrganizationVolunteers(organizationUserId,
+                PageRequest.of(1, 2, VolunteerManagementService.rosterSort("firstName", "desc")));
+
+        assertEquals(List.of("Vol2", "Vol0"), names(second, ApplicationStatus.PENDING));
+        assertEquals(List.of(), names(second, ApplicationStatus.ACCEPTED));
+        assertEquals(List.of(), names(second, ApplicationStatus.REJECTED));
+    }
+
+    @Test
+    void skillsAreMatchedAsWholeEntriesAndPagedInTheDatabase() {
+        VolunteerSearchRequest request = new VolunteerSearchRequest();
+        request.setSkills(List.of("Cooking", "Driving"));
+
+        VolunteerSearchResponse first = search(request, 0);
+        assertEquals(4, first.getTotalElements());
+        assertEquals(List.of("Vol0", "Vol1"), names(first));
+        assertEquals(List.of("Vol2", "Vol5"), names(search(request, 1)));
+
+        request.setSkills(List.of("First Aid"));
+        assertEquals(List.of("Vol0", "Vol4"), names(search(request, 0)));
+
+        request.setStatus(ApplicationStatus.PENDING);
+        assertEquals(List.of("Vol0"), names(search(request, 0)));
+
+        request.setStatus(null);
+        request.setSkills(List.of("Aid", "First_Aid", "%"));
+        assertEquals(0, search(request, 0).getTotalElements());
+    }
+
+    private VolunteerSearchResponse search(VolunteerSearchRequest request, int page) {
+        return volunteerManagementService.searchVolunteers(request, organizationUserId,
+                PageRequest.of(page, 2, VolunteerManagementService.searchSort("firstName", "asc")));
+    }
+
+    private List<String> names(VolunteerManagementResponse response, ApplicationStatus status) {
+        return response.getVolunteersByStatus().get(status).stream()
+                .map(VolunteerInfo::getFirstName)
+                .collect(Collectors.toList());
+    }
+
+    private List<String> names(VolunteerSearchResponse response) {
+        return response.getVolunteers().stream()
+                .map(VolunteerSearchResult::getFirstName)
+                .collect(Collectors.toList());
+    }
+
+    private void apply(Long eventId, String run, String firstName, String skills, ApplicationStatus status) {
+        Long userId = insertUser(firstName.toLowerCase() + "-" + run, "VOLUNTEER");
+        jdbcTemplate.update("INSERT INTO volunteer_profiles (user_id, first_name, skills, total_volunteer_hours, "
+                + "events_participated) VALUES (?, ?, ?, 0, 0)", userId, firstName, skills);
+        Long profileId = jdbcTemplate.queryForObject(
+                "SELECT id FROM volunteer_profiles WHERE user_id = ?", Long.class, userId);
+        jdbcTemplate.update("INSERT INTO applications (event_id, volunteer_id, status, applied_at) "
+                + "VALUES (?, ?, ?, CURRENT_TIMESTAMP)", eventId, profileId, status.name());
+    }
+
+    private Long insertUser(String name, String userType) {
+        String email = name + "@volunteersync.example.com";
+        jdbcTemplate.update("INSERT INTO users (email, email_normalized, password, user_type, created_at) "
+                + "VALUES (?, ?, 'x', ?, CURRENT_TIMESTAMP)", email, email, userType);
+        return jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", Long.class, email);
+    }
+}